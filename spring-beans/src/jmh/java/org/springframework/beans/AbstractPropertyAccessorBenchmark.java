@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import org.openjdk.jmh.annotations.State;
 
 import org.springframework.beans.propertyeditors.CustomNumberEditor;
 import org.springframework.beans.propertyeditors.StringTrimmerEditor;
+import org.springframework.core.convert.support.DefaultConversionService;
 
 /**
  * Benchmark for {@link AbstractPropertyAccessor} use on beans.
@@ -38,7 +39,8 @@ public class AbstractPropertyAccessorBenchmark {
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
-		@Param({"DirectFieldAccessor", "BeanWrapper"})
+		@Param({"DirectFieldAccessor", "BeanWrapper", "CompiledBeanWrapper",
+				"BeanWrapperWithConversionService", "CompiledBeanWrapperWithConversionService"})
 		public String accessor;
 
 		@Param({"none", "stringTrimmer", "numberOnPath", "numberOnNestedPath", "numberOnType"})
@@ -46,6 +48,8 @@ public class AbstractPropertyAccessorBenchmark {
 
 		public int[] input;
 
+		public String name;
+
 		public PrimitiveArrayBean target;
 
 		public AbstractPropertyAccessor propertyAccessor;
@@ -54,11 +58,27 @@ public class AbstractPropertyAccessorBenchmark {
 		public void setup() {
 			this.target = new PrimitiveArrayBean();
 			this.input = new int[1024];
-			if (this.accessor.equals("DirectFieldAccessor")) {
-				this.propertyAccessor = new DirectFieldAccessor(this.target);
-			}
-			else {
-				this.propertyAccessor = new BeanWrapperImpl(this.target);
+			this.name = "name";
+			switch (this.accessor) {
+				case "DirectFieldAccessor" -> this.propertyAccessor = new DirectFieldAccessor(this.target);
+				case "BeanWrapper" -> this.propertyAccessor = new BeanWrapperImpl(this.target);
+				case "CompiledBeanWrapper" -> {
+					BeanWrapperImpl beanWrapper = new BeanWrapperImpl(this.target);
+					beanWrapper.setCompiledPropertyAccess(true);
+					this.propertyAccessor = beanWrapper;
+				}
+				// BeanWrapper as set up by a DataBinder with a ConversionService
+				case "BeanWrapperWithConversionService" -> {
+					BeanWrapperImpl beanWrapper = new BeanWrapperImpl(this.target);
+					beanWrapper.setConversionService(new DefaultConversionService());
+					this.propertyAccessor = beanWrapper;
+				}
+				case "CompiledBeanWrapperWithConversionService" -> {
+					BeanWrapperImpl beanWrapper = new BeanWrapperImpl(this.target);
+					beanWrapper.setCompiledPropertyAccess(true);
+					beanWrapper.setConversionService(new DefaultConversionService());
+					this.propertyAccessor = beanWrapper;
+				}
 			}
 			switch (this.customEditor) {
 				case "stringTrimmer" ->
@@ -80,11 +100,24 @@ public class AbstractPropertyAccessorBenchmark {
 		return state.target;
 	}
 
+	@Benchmark
+	public PrimitiveArrayBean setStringPropertyValue(BenchmarkState state) {
+		state.propertyAccessor.setPropertyValue("name", state.name);
+		return state.target;
+	}
+
+	@Benchmark
+	public Object getPropertyValue(BenchmarkState state) {
+		return state.propertyAccessor.getPropertyValue("name");
+	}
+
 	@SuppressWarnings("unused")
 	private static class PrimitiveArrayBean {
 
 		private int[] array;
 
+		private String name;
+
 		public int[] getArray() {
 			return this.array;
 		}
@@ -92,6 +125,14 @@ public class AbstractPropertyAccessorBenchmark {
 		public void setArray(int[] array) {
 			this.array = array;
 		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
 	}
 
 }
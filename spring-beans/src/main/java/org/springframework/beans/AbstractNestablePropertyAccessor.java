@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -454,8 +454,8 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 							}
 						}
 					}
-					valueToApply = convertForProperty(
-							tokens.canonicalName, oldValue, originalValue, ph.toTypeDescriptor());
+					valueToApply = (ph.isDirectlyAssignable(tokens.canonicalName, originalValue) ? originalValue :
+							convertForProperty(tokens.canonicalName, oldValue, originalValue, ph.toTypeDescriptor()));
 				}
 				pv.getOriginalPropertyValue().conversionNecessary = (valueToApply != originalValue);
 			}
@@ -1046,6 +1046,19 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		@Nullable
 		public abstract TypeDescriptor nested(int level);
 
+		/**
+		 * Determine whether the given value can be applied to this property as-is,
+		 * with type conversion known to leave it unchanged.
+		 * <p>The default implementation returns {@code false}, always going through
+		 * {@link #convertForProperty}.
+		 * @param propertyName the canonical name of the property
+		 * @param value the value to apply
+		 * @since 6.1
+		 */
+		public boolean isDirectlyAssignable(String propertyName, @Nullable Object value) {
+			return false;
+		}
+
 		@Nullable
 		public abstract Object getValue() throws Exception;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,18 @@
 package org.springframework.beans;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.Property;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -64,6 +70,8 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	@Nullable
 	private CachedIntrospectionResults cachedIntrospectionResults;
 
+	private boolean compiledPropertyAccess = false;
+
 
 	/**
 	 * Create a new empty BeanWrapperImpl. Wrapped instance needs to be set afterwards.
@@ -120,6 +128,37 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	 */
 	private BeanWrapperImpl(Object object, String nestedPath, BeanWrapperImpl parent) {
 		super(object, nestedPath, parent);
+		this.compiledPropertyAccess = parent.compiledPropertyAccess;
+	}
+
+
+	/**
+	 * Set whether to access bean properties through accessor functions compiled
+	 * once per bean class, rather than through reflective method invocation.
+	 * <p>This also applies a per-property shortcut for type conversion: a value
+	 * of the exact property type gets applied as-is when there is no custom editor
+	 * for the property, without going through the full {@link TypeConverterDelegate}
+	 * algorithm. With a {@link #setConversionService ConversionService}, e.g. as
+	 * set up by a {@code DataBinder}, the shortcut requires a
+	 * {@link GenericConversionService} that would pass such a value through as-is
+	 * (see {@link GenericConversionService#canBypassConvert}), as resolved once
+	 * per source and property type in its converter cache; with any other
+	 * {@code ConversionService}, values always go through regular conversion.
+	 * <p>Default is "false". Switch this flag to "true" for repeated binding of
+	 * many properties on the same bean classes, e.g. for form data binding.
+	 * Nested property accessors inherit this setting.
+	 * @since 6.1
+	 */
+	public void setCompiledPropertyAccess(boolean compiledPropertyAccess) {
+		this.compiledPropertyAccess = compiledPropertyAccess;
+	}
+
+	/**
+	 * Return whether bean properties are accessed through compiled accessor functions.
+	 * @since 6.1
+	 */
+	public boolean isCompiledPropertyAccess() {
+		return this.compiledPropertyAccess;
 	}
 
 
@@ -177,17 +216,21 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	 */
 	@Nullable
 	public Object convertForProperty(@Nullable Object value, String propertyName) throws TypeMismatchException {
-		CachedIntrospectionResults cachedIntrospectionResults = getCachedIntrospectionResults();
-		PropertyDescriptor pd = cachedIntrospectionResults.getPropertyDescriptor(propertyName);
+		PropertyDescriptor pd = getCachedIntrospectionResults().getPropertyDescriptor(propertyName);
 		if (pd == null) {
 			throw new InvalidPropertyException(getRootClass(), getNestedPath() + propertyName,
 					"No property '" + propertyName + "' found");
 		}
+		return convertForProperty(propertyName, null, value, typeDescriptor(pd));
+	}
+
+	private TypeDescriptor typeDescriptor(PropertyDescriptor pd) {
+		CachedIntrospectionResults cachedIntrospectionResults = getCachedIntrospectionResults();
 		TypeDescriptor td = cachedIntrospectionResults.getTypeDescriptor(pd);
 		if (td == null) {
 			td = cachedIntrospectionResults.addTypeDescriptor(pd, new TypeDescriptor(property(pd)));
 		}
-		return convertForProperty(propertyName, null, value, td);
+		return td;
 	}
 
 	private Property property(PropertyDescriptor pd) {
@@ -248,7 +291,7 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 
 		@Override
 		public TypeDescriptor toTypeDescriptor() {
-			return new TypeDescriptor(property(this.pd));
+			return typeDescriptor(this.pd);
 		}
 
 		@Override
@@ -257,10 +300,36 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 			return TypeDescriptor.nested(property(this.pd), level);
 		}
 
+		@Override
+		public boolean isDirectlyAssignable(String propertyName, @Nullable Object value) {
+			if (!compiledPropertyAccess || value == null ||
+					!(this.pd instanceof GenericTypeAwarePropertyDescriptor typeAwarePd) ||
+					value.getClass() != typeAwarePd.getDirectlyAssignableType() ||
+					findCustomEditor(getPropertyType(), propertyName) != null) {
+				return false;
+			}
+			ConversionService conversionService = getConversionService();
+			return (conversionService == null ||
+					(conversionService instanceof GenericConversionService genericConversionService &&
+							genericConversionService.canBypassConvert(
+									typeAwarePd.getDirectlyAssignableTypeDescriptor(), toTypeDescriptor())));
+		}
+
 		@Override
 		@Nullable
 		public Object getValue() throws Exception {
 			Method readMethod = this.pd.getReadMethod();
+			Function<Object, Object> accessor = (compiledPropertyAccess &&
+					this.pd instanceof GenericTypeAwarePropertyDescriptor typeAwarePd ?
+					typeAwarePd.getReadAccessor() : null);
+			if (accessor != null) {
+				try {
+					return accessor.apply(getWrappedInstance());
+				}
+				catch (Throwable ex) {
+					throw new InvocationTargetException(ex);
+				}
+			}
 			ReflectionUtils.makeAccessible(readMethod);
 			return readMethod.invoke(getWrappedInstance(), (Object[]) null);
 		}
@@ -269,6 +338,19 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		public void setValue(@Nullable Object value) throws Exception {
 			Method writeMethod = (this.pd instanceof GenericTypeAwarePropertyDescriptor typeAwarePd ?
 					typeAwarePd.getWriteMethodForActualAccess() : this.pd.getWriteMethod());
+			BiConsumer<Object, Object> accessor = (compiledPropertyAccess &&
+					this.pd instanceof GenericTypeAwarePropertyDescriptor typeAwarePd &&
+					ClassUtils.isAssignableValue(typeAwarePd.getWriteMethodParameter().getParameterType(), value) ?
+					typeAwarePd.getWriteAccessor() : null);
+			if (accessor != null) {
+				try {
+					accessor.accept(getWrappedInstance(), value);
+					return;
+				}
+				catch (Throwable ex) {
+					throw new InvocationTargetException(ex);
+				}
+			}
 			ReflectionUtils.makeAccessible(writeMethod);
 			writeMethod.invoke(getWrappedInstance(), value);
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,15 +18,26 @@ package org.springframework.beans;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -43,6 +54,10 @@ import org.springframework.util.StringUtils;
  */
 final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 
+	/** Marker for methods that cannot be bound to a generated accessor. */
+	private static final Object NO_ACCESSOR = new Object();
+
+
 	private final Class<?> beanClass;
 
 	@Nullable
@@ -63,6 +78,18 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	@Nullable
 	private final Class<?> propertyEditorClass;
 
+	@Nullable
+	private final Class<?> directlyAssignableType;
+
+	@Nullable
+	private volatile TypeDescriptor directlyAssignableTypeDescriptor;
+
+	@Nullable
+	private volatile Object readAccessor;
+
+	@Nullable
+	private volatile Object writeAccessor;
+
 
 	public GenericTypeAwarePropertyDescriptor(Class<?> beanClass, String propertyName,
 			@Nullable Method readMethod, @Nullable Method writeMethod,
@@ -114,6 +141,12 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		}
 
 		this.propertyEditorClass = propertyEditorClass;
+
+		// Values of the exact (non-container) property type need no conversion
+		this.directlyAssignableType = (this.propertyType != null &&
+				!this.propertyType.isInterface() && !this.propertyType.isArray() &&
+				!Collection.class.isAssignableFrom(this.propertyType) && !Map.class.isAssignableFrom(this.propertyType) ?
+				ClassUtils.resolvePrimitiveIfNecessary(this.propertyType) : null);
 	}
 
 
@@ -145,6 +178,71 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		return this.writeMethod;
 	}
 
+	/**
+	 * Return the class that a value needs to be an exact instance of in order to
+	 * be applicable to this property without type conversion (as long as no custom
+	 * editor is involved and a conversion service, if any, passes such a value
+	 * through as-is), or {@code null} if none.
+	 * <p>This is the wrapper type for a primitive property type, and {@code null}
+	 * for interface, array, collection and map types.
+	 * @since 6.1
+	 */
+	@Nullable
+	public Class<?> getDirectlyAssignableType() {
+		return this.directlyAssignableType;
+	}
+
+	/**
+	 * Return a {@link TypeDescriptor} for the {@linkplain #getDirectlyAssignableType()
+	 * directly assignable type}, lazily created on first access.
+	 * @since 6.1
+	 */
+	@Nullable
+	public TypeDescriptor getDirectlyAssignableTypeDescriptor() {
+		TypeDescriptor typeDescriptor = this.directlyAssignableTypeDescriptor;
+		if (typeDescriptor == null && this.directlyAssignableType != null) {
+			typeDescriptor = TypeDescriptor.valueOf(this.directlyAssignableType);
+			this.directlyAssignableTypeDescriptor = typeDescriptor;
+		}
+		return typeDescriptor;
+	}
+
+	/**
+	 * Return a generated accessor function for the read method,
+	 * lazily created on first access.
+	 * @return the read accessor, or {@code null} if there is no read method
+	 * or if no accessor can be generated for it
+	 * @since 6.1
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public Function<Object, Object> getReadAccessor() {
+		Object accessor = this.readAccessor;
+		if (accessor == null) {
+			accessor = generateAccessor(this.readMethod, false);
+			this.readAccessor = accessor;
+		}
+		return (accessor != NO_ACCESSOR ? (Function<Object, Object>) accessor : null);
+	}
+
+	/**
+	 * Return a generated accessor function for the write method,
+	 * lazily created on first access.
+	 * @return the write accessor, or {@code null} if there is no write method
+	 * or if no accessor can be generated for it
+	 * @since 6.1
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public BiConsumer<Object, Object> getWriteAccessor() {
+		Object accessor = this.writeAccessor;
+		if (accessor == null) {
+			accessor = generateAccessor(this.writeMethod, true);
+			this.writeAccessor = accessor;
+		}
+		return (accessor != NO_ACCESSOR ? (BiConsumer<Object, Object>) accessor : null);
+	}
+
 	public MethodParameter getWriteMethodParameter() {
 		Assert.state(this.writeMethodParameter != null, "No write method available");
 		return this.writeMethodParameter;
@@ -163,6 +261,34 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	}
 
 
+	/**
+	 * Generate a {@link Function} or {@link BiConsumer} directly invoking the given
+	 * read or write method, defined within the declaring class of the method
+	 * (and therefore not pinning it from a shared class loader).
+	 */
+	private static Object generateAccessor(@Nullable Method method, boolean writer) {
+		if (method == null || Modifier.isStatic(method.getModifiers())) {
+			return NO_ACCESSOR;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+			MethodHandle target = lookup.unreflect(method);
+			CallSite callSite = (writer ?
+					LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+							MethodType.methodType(void.class, Object.class, Object.class), target,
+							target.type().wrap().changeReturnType(void.class)) :
+					LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+							MethodType.methodType(Object.class, Object.class), target, target.type().wrap()));
+			return callSite.getTarget().invoke();
+		}
+		catch (Throwable ex) {
+			LogFactory.getLog(GenericTypeAwarePropertyDescriptor.class).debug(
+					"Cannot generate accessor for bean property method [" + method + "]", ex);
+			return NO_ACCESSOR;
+		}
+	}
+
+
 	@Override
 	public boolean equals(@Nullable Object other) {
 		if (this == other) {
@@ -633,12 +633,31 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 		}
 	}
 
+	/**
+	 * Create a cached method argument or field value for the given autowired bean.
+	 * <p>A singleton target is referenced directly, to be obtained from the factory
+	 * without going through dependency resolution again. Any other target is
+	 * referenced through a {@link ShortcutDependencyDescriptor}, exposing the
+	 * injection point to the creation of the target bean.
+	 */
+	private Object createShortcut(DependencyDescriptor descriptor, String autowiredBeanName, Class<?> requiredType) {
+		Assert.state(this.beanFactory != null, "No BeanFactory available");
+		if (this.beanFactory.isSingleton(autowiredBeanName)) {
+			return new SingletonBeanReference(autowiredBeanName, requiredType);
+		}
+		return new ShortcutDependencyDescriptor(descriptor, autowiredBeanName, requiredType);
+	}
+
 	/**
 	 * Resolve the specified cached method argument or field value.
 	 */
 	@Nullable
 	private Object resolvedCachedArgument(@Nullable String beanName, @Nullable Object cachedArgument) {
-		if (cachedArgument instanceof DependencyDescriptor descriptor) {
+		if (cachedArgument instanceof SingletonBeanReference reference) {
+			Assert.state(this.beanFactory != null, "No BeanFactory available");
+			return this.beanFactory.getBean(reference.beanName(), reference.requiredType());
+		}
+		else if (cachedArgument instanceof DependencyDescriptor descriptor) {
 			Assert.state(this.beanFactory != null, "No BeanFactory available");
 			return this.beanFactory.resolveDependency(descriptor, beanName, null, null);
 		}
@@ -722,8 +741,7 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 							String autowiredBeanName = autowiredBeanNames.iterator().next();
 							if (beanFactory.containsBean(autowiredBeanName) &&
 									beanFactory.isTypeMatch(autowiredBeanName, field.getType())) {
-								cachedFieldValue = new ShortcutDependencyDescriptor(
-										desc, autowiredBeanName, field.getType());
+								cachedFieldValue = createShortcut(desc, autowiredBeanName, field.getType());
 							}
 						}
 					}
@@ -821,7 +839,7 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 			synchronized (this) {
 				if (!this.cached) {
 					if (arguments != null) {
-						DependencyDescriptor[] cachedMethodArguments = Arrays.copyOf(descriptors, arguments.length);
+						Object[] cachedMethodArguments = Arrays.copyOf(descriptors, arguments.length, Object[].class);
 						registerDependentBeans(beanName, autowiredBeans);
 						if (autowiredBeans.size() == argumentCount) {
 							Iterator<String> it = autowiredBeans.iterator();
@@ -830,7 +848,7 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 								String autowiredBeanName = it.next();
 								if (beanFactory.containsBean(autowiredBeanName) &&
 										beanFactory.isTypeMatch(autowiredBeanName, paramTypes[i])) {
-									cachedMethodArguments[i] = new ShortcutDependencyDescriptor(
+									cachedMethodArguments[i] = createShortcut(
 											descriptors[i], autowiredBeanName, paramTypes[i]);
 								}
 							}
@@ -848,6 +866,13 @@ public class AutowiredAnnotationBeanPostProcessor implements SmartInstantiationA
 	}
 
 
+	/**
+	 * Pre-resolved reference to a singleton target bean.
+	 */
+	private record SingletonBeanReference(String beanName, Class<?> requiredType) {
+	}
+
+
 	/**
 	 * DependencyDescriptor variant with a pre-resolved target bean name.
 	 */
@@ -17,6 +17,7 @@
 package org.springframework.beans.factory.config;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ListableBeanFactory;
@@ -152,6 +153,32 @@ public interface ConfigurableListableBeanFactory
 	 */
 	boolean isConfigurationFrozen();
 
+	/**
+	 * Specify an {@link Executor} for pre-instantiating singletons in parallel.
+	 * <p>If set, {@link #preInstantiateSingletons()} creates groups of singletons
+	 * which do not depend on each other concurrently, instead of creating all
+	 * singletons one after the other. Singletons are grouped by the dependencies
+	 * determinable from their definitions and bean classes: "depends-on" names,
+	 * factory beans and bean references in their definitions, as well as the
+	 * candidates for autowired properties, constructor and factory method
+	 * parameters and {@code @Autowired} fields and methods. Dependencies which
+	 * cannot be determined upfront, e.g. custom injection annotations or lookups
+	 * at runtime, are coordinated between threads, with each singleton still
+	 * being created exactly once.
+	 * <p>Default is none, pre-instantiating all singletons in the calling thread.
+	 * @since 6.1
+	 * @see #preInstantiateSingletons()
+	 */
+	void setBootstrapExecutor(@Nullable Executor executor);
+
+	/**
+	 * Return the {@link Executor} for pre-instantiating singletons in parallel,
+	 * if any.
+	 * @since 6.1
+	 */
+	@Nullable
+	Executor getBootstrapExecutor();
+
 	/**
 	 * Ensure that all non-lazy-init singletons are instantiated, also considering
 	 * {@link org.springframework.beans.factory.FactoryBean FactoryBeans}.
@@ -983,45 +983,53 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 					(mbd.getFactoryBeanName() != null && isSingletonCurrentlyInCreation(mbd.getFactoryBeanName()))) {
 				return null;
 			}
-
-			Object instance;
+			if (!reserveSingletonCreation(beanName)) {
+				// Currently in creation by another thread...
+				return null;
+			}
 			try {
-				// Mark this bean as currently in creation, even if just partially.
-				beforeSingletonCreation(beanName);
-				// Give BeanPostProcessors a chance to return a proxy instead of the target bean instance.
-				instance = resolveBeforeInstantiation(beanName, mbd);
-				if (instance == null) {
-					bw = createBeanInstance(beanName, mbd, null);
-					instance = bw.getWrappedInstance();
+				Object instance;
+				try {
+					// Mark this bean as currently in creation, even if just partially.
+					beforeSingletonCreation(beanName);
+					// Give BeanPostProcessors a chance to return a proxy instead of the target bean instance.
+					instance = resolveBeforeInstantiation(beanName, mbd);
+					if (instance == null) {
+						bw = createBeanInstance(beanName, mbd, null);
+						instance = bw.getWrappedInstance();
+					}
 				}
-			}
-			catch (UnsatisfiedDependencyException ex) {
-				// Don't swallow, probably misconfiguration...
-				throw ex;
-			}
-			catch (BeanCreationException ex) {
-				// Don't swallow a linkage error since it contains a full stacktrace on
-				// first occurrence... and just a plain NoClassDefFoundError afterwards.
-				if (ex.contains(LinkageError.class)) {
+				catch (UnsatisfiedDependencyException ex) {
+					// Don't swallow, probably misconfiguration...
 					throw ex;
 				}
-				// Instantiation failure, maybe too early...
-				if (logger.isDebugEnabled()) {
-					logger.debug("Bean creation exception on singleton FactoryBean type check: " + ex);
+				catch (BeanCreationException ex) {
+					// Don't swallow a linkage error since it contains a full stacktrace on
+					// first occurrence... and just a plain NoClassDefFoundError afterwards.
+					if (ex.contains(LinkageError.class)) {
+						throw ex;
+					}
+					// Instantiation failure, maybe too early...
+					if (logger.isDebugEnabled()) {
+						logger.debug("Bean creation exception on singleton FactoryBean type check: " + ex);
+					}
+					onSuppressedException(ex);
+					return null;
+				}
+				finally {
+					// Finished partial creation of this bean.
+					afterSingletonCreation(beanName);
 				}
-				onSuppressedException(ex);
-				return null;
+
+				FactoryBean<?> fb = getFactoryBean(beanName, instance);
+				if (bw != null) {
+					this.factoryBeanInstanceCache.put(beanName, bw);
+				}
+				return fb;
 			}
 			finally {
-				// Finished partial creation of this bean.
-				afterSingletonCreation(beanName);
-			}
-
-			FactoryBean<?> fb = getFactoryBean(beanName, instance);
-			if (bw != null) {
-				this.factoryBeanInstanceCache.put(beanName, bw);
+				releaseSingletonCreation(beanName);
 			}
-			return fb;
 		}
 	}
 
@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Supplier;
 
 import org.springframework.beans.BeanMetadataAttributeAccessor;
@@ -137,6 +138,9 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	public static final String INFER_METHOD = "(inferred)";
 
+	private static final AtomicReferenceFieldUpdater<AbstractBeanDefinition, MethodOverrides> methodOverridesUpdater =
+			AtomicReferenceFieldUpdater.newUpdater(AbstractBeanDefinition.class, MethodOverrides.class, "methodOverrides");
+
 
 	@Nullable
 	private volatile Object beanClass;
@@ -160,7 +164,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 
 	private boolean primary = false;
 
-	private final Map<String, AutowireCandidateQualifier> qualifiers = new LinkedHashMap<>();
+	@Nullable
+	private Map<String, AutowireCandidateQualifier> qualifiers;
 
 	@Nullable
 	private Supplier<?> instanceSupplier;
@@ -181,7 +186,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	@Nullable
 	private MutablePropertyValues propertyValues;
 
-	private MethodOverrides methodOverrides = new MethodOverrides();
+	@Nullable
+	private volatile MethodOverrides methodOverrides;
 
 	@Nullable
 	private String[] initMethodNames;
@@ -703,14 +709,19 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * @see AutowireCandidateQualifier#getTypeName()
 	 */
 	public void addQualifier(AutowireCandidateQualifier qualifier) {
-		this.qualifiers.put(qualifier.getTypeName(), qualifier);
+		Map<String, AutowireCandidateQualifier> qualifiers = this.qualifiers;
+		if (qualifiers == null) {
+			qualifiers = new LinkedHashMap<>();
+			this.qualifiers = qualifiers;
+		}
+		qualifiers.put(qualifier.getTypeName(), qualifier);
 	}
 
 	/**
 	 * Return whether this bean has the specified qualifier.
 	 */
 	public boolean hasQualifier(String typeName) {
-		return this.qualifiers.containsKey(typeName);
+		return (this.qualifiers != null && this.qualifiers.containsKey(typeName));
 	}
 
 	/**
@@ -718,7 +729,7 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	@Nullable
 	public AutowireCandidateQualifier getQualifier(String typeName) {
-		return this.qualifiers.get(typeName);
+		return (this.qualifiers != null ? this.qualifiers.get(typeName) : null);
 	}
 
 	/**
@@ -726,7 +737,7 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * @return the Set of {@link AutowireCandidateQualifier} objects.
 	 */
 	public Set<AutowireCandidateQualifier> getQualifiers() {
-		return new LinkedHashSet<>(this.qualifiers.values());
+		return (this.qualifiers != null ? new LinkedHashSet<>(this.qualifiers.values()) : new LinkedHashSet<>());
 	}
 
 	/**
@@ -735,7 +746,11 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 */
 	public void copyQualifiersFrom(AbstractBeanDefinition source) {
 		Assert.notNull(source, "Source must not be null");
-		this.qualifiers.putAll(source.qualifiers);
+		if (source.qualifiers != null) {
+			for (AutowireCandidateQualifier qualifier : source.qualifiers.values()) {
+				addQualifier(qualifier);
+			}
+		}
 	}
 
 	/**
@@ -911,7 +926,13 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * <p>Never returns {@code null}.
 	 */
 	public MethodOverrides getMethodOverrides() {
-		return this.methodOverrides;
+		MethodOverrides overrides = this.methodOverrides;
+		if (overrides == null) {
+			// Lazily created: make sure that concurrent callers end up with the same instance
+			methodOverridesUpdater.compareAndSet(this, null, new MethodOverrides());
+			overrides = this.methodOverrides;
+		}
+		return overrides;
 	}
 
 	/**
@@ -919,7 +940,8 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 	 * @since 5.0.2
 	 */
 	public boolean hasMethodOverrides() {
-		return !this.methodOverrides.isEmpty();
+		MethodOverrides overrides = this.methodOverrides;
+		return (overrides != null && !overrides.isEmpty());
 	}
 
 	/**
@@ -1224,13 +1246,13 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 				this.dependencyCheck == that.dependencyCheck &&
 				Arrays.equals(this.dependsOn, that.dependsOn) &&
 				this.autowireCandidate == that.autowireCandidate &&
-				ObjectUtils.nullSafeEquals(this.qualifiers, that.qualifiers) &&
+				equalsQualifiers(that) &&
 				this.primary == that.primary &&
 				this.nonPublicAccessAllowed == that.nonPublicAccessAllowed &&
 				this.lenientConstructorResolution == that.lenientConstructorResolution &&
 				equalsConstructorArgumentValues(that) &&
 				equalsPropertyValues(that) &&
-				ObjectUtils.nullSafeEquals(this.methodOverrides, that.methodOverrides) &&
+				equalsMethodOverrides(that) &&
 				ObjectUtils.nullSafeEquals(this.factoryBeanName, that.factoryBeanName) &&
 				ObjectUtils.nullSafeEquals(this.factoryMethodName, that.factoryMethodName) &&
 				ObjectUtils.nullSafeEquals(this.initMethodNames, that.initMethodNames) &&
@@ -1242,6 +1264,20 @@ public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccess
 				super.equals(other));
 	}
 
+	private boolean equalsQualifiers(AbstractBeanDefinition other) {
+		if (this.qualifiers == null || this.qualifiers.isEmpty()) {
+			return (other.qualifiers == null || other.qualifiers.isEmpty());
+		}
+		return this.qualifiers.equals(other.qualifiers);
+	}
+
+	private boolean equalsMethodOverrides(AbstractBeanDefinition other) {
+		if (!hasMethodOverrides()) {
+			return !other.hasMethodOverrides();
+		}
+		return ObjectUtils.nullSafeEquals(this.methodOverrides, other.methodOverrides);
+	}
+
 	private boolean equalsConstructorArgumentValues(AbstractBeanDefinition other) {
 		if (!hasConstructorArgumentValues()) {
 			return !other.hasConstructorArgumentValues();
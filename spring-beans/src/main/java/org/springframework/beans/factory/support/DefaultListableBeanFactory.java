@@ -16,6 +16,7 @@
 
 package org.springframework.beans.factory.support;
 
+import java.beans.PropertyDescriptor;
 import java.io.IOException;
 import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
@@ -25,19 +26,28 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -45,7 +55,9 @@ import java.util.stream.Stream;
 
 import jakarta.inject.Provider;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -62,13 +74,18 @@ import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.SmartFactoryBean;
 import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.BeanReference;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
+import org.springframework.core.MethodParameter;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.MergedAnnotation;
@@ -82,6 +99,7 @@ import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.CompositeIterator;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -166,10 +184,16 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private final Map<String, BeanDefinitionHolder> mergedBeanDefinitionHolders = new ConcurrentHashMap<>(256);
 
 	/** Map of singleton and non-singleton bean names, keyed by dependency type. */
-	private final Map<Class<?>, String[]> allBeanNamesByType = new ConcurrentHashMap<>(64);
+	private final Map<Class<?>, BeanNamesByType> allBeanNamesByType = new ConcurrentHashMap<>(64);
 
 	/** Map of singleton-only bean names, keyed by dependency type. */
-	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
+	private final Map<Class<?>, BeanNamesByType> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
+
+	/** Map of singleton and non-singleton bean names, keyed by generic dependency type. */
+	private final Map<ResolvableType, BeanNamesByType> allBeanNamesByGenericType = new ConcurrentHashMap<>(64);
+
+	/** Map of singleton-only bean names, keyed by generic dependency type. */
+	private final Map<ResolvableType, BeanNamesByType> singletonBeanNamesByGenericType = new ConcurrentHashMap<>(64);
 
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
@@ -184,6 +208,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Whether bean definition metadata may be cached for all beans. */
 	private volatile boolean configurationFrozen;
 
+	/** Executor for parallel pre-instantiation of singletons, if any. */
+	@Nullable
+	private Executor bootstrapExecutor;
+
 
 	/**
 	 * Create a new DefaultListableBeanFactory.
@@ -516,9 +544,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		if (resolved != null && !type.hasGenerics()) {
 			return getBeanNamesForType(resolved, includeNonSingletons, allowEagerInit);
 		}
-		else {
+		if (!allowEagerInit || !isCacheSafe(type)) {
 			return doGetBeanNamesForType(type, includeNonSingletons, allowEagerInit);
 		}
+		return getBeanNamesForType(
+				(includeNonSingletons ? this.allBeanNamesByGenericType : this.singletonBeanNamesByGenericType),
+				type, type, includeNonSingletons);
 	}
 
 	@Override
@@ -528,27 +559,83 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	@Override
 	public String[] getBeanNamesForType(@Nullable Class<?> type, boolean includeNonSingletons, boolean allowEagerInit) {
-		if (!isConfigurationFrozen() || type == null || !allowEagerInit) {
+		if (type == null || !allowEagerInit || !ClassUtils.isCacheSafe(type, getBeanClassLoader())) {
 			return doGetBeanNamesForType(ResolvableType.forRawClass(type), includeNonSingletons, allowEagerInit);
 		}
-		Map<Class<?>, String[]> cache =
-				(includeNonSingletons ? this.allBeanNamesByType : this.singletonBeanNamesByType);
-		String[] resolvedBeanNames = cache.get(type);
-		if (resolvedBeanNames != null) {
-			return resolvedBeanNames;
+		return getBeanNamesForType(
+				(includeNonSingletons ? this.allBeanNamesByType : this.singletonBeanNamesByType),
+				type, ResolvableType.forRawClass(type), includeNonSingletons);
+	}
+
+	/**
+	 * Obtain the bean names for the given type (allowing for eager init) from
+	 * the given by-type cache, also before the configuration is frozen.
+	 * <p>A cached result covers the bean definitions registered at the time;
+	 * it is extended with matches among bean definitions registered later on,
+	 * checking those bean definitions only. Any other change to the bean
+	 * definitions or to the manually registered singletons clears the cache.
+	 * @param cache the by-type cache to use
+	 * @param cacheKey the key for the given type
+	 * @param type the type to match
+	 * @param includeNonSingletons whether to include prototype or scoped beans too
+	 * @see #clearByTypeCache()
+	 */
+	private <K> String[] getBeanNamesForType(
+			Map<K, BeanNamesByType> cache, K cacheKey, ResolvableType type, boolean includeNonSingletons) {
+
+		List<String> beanDefinitionNames = this.beanDefinitionNames;
+		int beanDefinitionCount = beanDefinitionNames.size();
+		BeanNamesByType cached = cache.get(cacheKey);
+		if (cached != null && cached.beanDefinitionCount() == beanDefinitionCount) {
+			return cached.beanNames();
+		}
+
+		BeanNamesByType resolved;
+		if (cached != null && cached.beanDefinitionCount() < beanDefinitionCount) {
+			// Only check bean definitions registered since the cached lookup.
+			List<String> addedBeanNames = new ArrayList<>(
+					beanDefinitionNames.subList(cached.beanDefinitionCount(), beanDefinitionCount));
+			List<String> addedMatches = new ArrayList<>();
+			if (!matchBeanDefinitions(type, includeNonSingletons, true, addedBeanNames, addedMatches)) {
+				return doGetBeanNamesForType(type, includeNonSingletons, true);
+			}
+			resolved = cached.withBeanDefinitionMatches(addedMatches, beanDefinitionCount);
 		}
-		resolvedBeanNames = doGetBeanNamesForType(ResolvableType.forRawClass(type), includeNonSingletons, true);
-		if (ClassUtils.isCacheSafe(type, getBeanClassLoader())) {
-			cache.put(type, resolvedBeanNames);
+		else {
+			List<String> result = new ArrayList<>();
+			boolean complete = matchBeanDefinitions(type, includeNonSingletons, true,
+					beanDefinitionNames.subList(0, beanDefinitionCount), result);
+			int beanDefinitionMatchCount = result.size();
+			complete &= matchManualSingletons(type, includeNonSingletons, result);
+			if (!complete) {
+				// Provisional result, e.g. with a parent or factory bean definition missing.
+				return StringUtils.toStringArray(result);
+			}
+			resolved = new BeanNamesByType(
+					StringUtils.toStringArray(result), beanDefinitionMatchCount, beanDefinitionCount);
 		}
-		return resolvedBeanNames;
+		cache.put(cacheKey, resolved);
+		return resolved.beanNames();
 	}
 
 	private String[] doGetBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
 		List<String> result = new ArrayList<>();
+		matchBeanDefinitions(type, includeNonSingletons, allowEagerInit, this.beanDefinitionNames, result);
+		matchManualSingletons(type, includeNonSingletons, result);
+		return StringUtils.toStringArray(result);
+	}
+
+	/**
+	 * Add the names of the given bean definitions matching the given type.
+	 * @return {@code true} if all bean definitions could be checked, {@code false}
+	 * if some had to be ignored for the time being
+	 */
+	private boolean matchBeanDefinitions(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit,
+			List<String> beanDefinitionNames, List<String> result) {
 
+		boolean complete = true;
 		// Check all bean definitions.
-		for (String beanName : this.beanDefinitionNames) {
+		for (String beanName : beanDefinitionNames) {
 			// Only consider bean as eligible if the bean name is not defined as alias for some other bean.
 			if (!isAlias(beanName)) {
 				try {
@@ -596,13 +683,24 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 					logger.trace(message, ex);
 					// Register exception, in case the bean was accidentally unresolvable.
 					onSuppressedException(ex);
+					complete = false;
 				}
 				catch (NoSuchBeanDefinitionException ex) {
 					// Bean definition got removed while we were iterating -> ignore.
+					complete = false;
 				}
 			}
 		}
+		return complete;
+	}
 
+	/**
+	 * Add the names of the manually registered singletons matching the given type.
+	 * @return {@code true} if all singletons could be checked, {@code false}
+	 * if some had to be ignored
+	 */
+	private boolean matchManualSingletons(ResolvableType type, boolean includeNonSingletons, List<String> result) {
+		boolean complete = true;
 		// Check manually registered singletons too.
 		for (String beanName : this.manualSingletonNames) {
 			try {
@@ -625,10 +723,23 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 				// Shouldn't happen - probably a result of circular reference resolution...
 				logger.trace(LogMessage.format(
 						"Failed to check manually registered singleton with name '%s'", beanName), ex);
+				complete = false;
 			}
 		}
+		return complete;
+	}
 
-		return StringUtils.toStringArray(result);
+	private boolean isCacheSafe(ResolvableType type) {
+		Class<?> resolved = type.resolve();
+		if (resolved == null || !ClassUtils.isCacheSafe(resolved, getBeanClassLoader())) {
+			return false;
+		}
+		for (ResolvableType generic : type.getGenerics()) {
+			if (!isCacheSafe(generic)) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	private boolean isSingleton(String beanName, RootBeanDefinition mbd, @Nullable BeanDefinitionHolder dbd) {
@@ -903,6 +1014,19 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return iterator;
 	}
 
+	@Override
+	public void addBeanPostProcessor(BeanPostProcessor beanPostProcessor) {
+		super.addBeanPostProcessor(beanPostProcessor);
+		// Type predictions may change through SmartInstantiationAwareBeanPostProcessors
+		clearByTypeCache();
+	}
+
+	@Override
+	public void addBeanPostProcessors(Collection<? extends BeanPostProcessor> beanPostProcessors) {
+		super.addBeanPostProcessors(beanPostProcessors);
+		clearByTypeCache();
+	}
+
 	@Override
 	protected void clearMergedBeanDefinition(String beanName) {
 		super.clearMergedBeanDefinition(beanName);
@@ -918,9 +1042,36 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	@Override
 	public void freezeConfiguration() {
+		StartupStep freeze = getApplicationStartup().start("spring.beans.freeze-configuration");
 		clearMetadataCache();
 		this.configurationFrozen = true;
 		this.frozenBeanDefinitionNames = StringUtils.toStringArray(this.beanDefinitionNames);
+		freeze.tag("beanDefinitionCount", () -> String.valueOf(this.frozenBeanDefinitionNames.length));
+		freeze.tag("beanDefinitionContentCounts", this::describeBeanDefinitionContentCounts);
+		freeze.end();
+	}
+
+	/**
+	 * Count how many of the registered bean definitions carry
+	 * constructor arguments, property values and method overrides.
+	 */
+	private String describeBeanDefinitionContentCounts() {
+		int constructorArguments = 0;
+		int propertyValues = 0;
+		int methodOverrides = 0;
+		for (BeanDefinition bd : this.beanDefinitionMap.values()) {
+			if (bd.hasConstructorArgumentValues()) {
+				constructorArguments++;
+			}
+			if (bd.hasPropertyValues()) {
+				propertyValues++;
+			}
+			if (bd instanceof AbstractBeanDefinition abd && abd.hasMethodOverrides()) {
+				methodOverrides++;
+			}
+		}
+		return "constructorArguments=" + constructorArguments + ", propertyValues=" + propertyValues +
+				", methodOverrides=" + methodOverrides;
 	}
 
 	@Override
@@ -928,6 +1079,17 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.configurationFrozen;
 	}
 
+	@Override
+	public void setBootstrapExecutor(@Nullable Executor bootstrapExecutor) {
+		this.bootstrapExecutor = bootstrapExecutor;
+	}
+
+	@Override
+	@Nullable
+	public Executor getBootstrapExecutor() {
+		return this.bootstrapExecutor;
+	}
+
 	/**
 	 * Considers all beans as eligible for metadata caching
 	 * if the factory's configuration has been marked as frozen.
@@ -960,20 +1122,21 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		List<String> beanNames = new ArrayList<>(this.beanDefinitionNames);
 
 		// Trigger initialization of all non-lazy singleton beans...
-		for (String beanName : beanNames) {
-			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
-			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
-				if (isFactoryBean(beanName)) {
-					Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
-					if (bean instanceof SmartFactoryBean<?> smartFactoryBean && smartFactoryBean.isEagerInit()) {
-						getBean(beanName);
-					}
-				}
-				else {
-					getBean(beanName);
+		StartupStep preInstantiate = this.getApplicationStartup().start("spring.beans.pre-instantiate-singletons");
+		try {
+			Executor executor = this.bootstrapExecutor;
+			if (executor != null) {
+				preInstantiateSingletonsInParallel(beanNames, executor);
+			}
+			else {
+				for (String beanName : beanNames) {
+					preInstantiateSingleton(beanName);
 				}
 			}
 		}
+		finally {
+			preInstantiate.end();
+		}
 
 		// Trigger post-initialization callback for all applicable beans...
 		for (String beanName : beanNames) {
@@ -987,6 +1150,239 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	private void preInstantiateSingleton(String beanName) {
+		RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+		if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+			if (isFactoryBean(beanName)) {
+				Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
+				if (bean instanceof SmartFactoryBean<?> smartFactoryBean && smartFactoryBean.isEagerInit()) {
+					getBean(beanName);
+				}
+			}
+			else {
+				getBean(beanName);
+			}
+		}
+	}
+
+	/**
+	 * Pre-instantiate groups of singletons without known dependencies on each
+	 * other in parallel, with each group being instantiated in registration order.
+	 * <p>Dependencies which are not detected upfront, e.g. through custom injection
+	 * annotations, may still cross groups: Such singletons are created by the first
+	 * thread requesting them, with other threads waiting for their completion.
+	 * @param beanNames the bean names to pre-instantiate, in registration order
+	 * @param executor the bootstrap executor to instantiate the groups with
+	 * @see #setBootstrapExecutor
+	 */
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		Collection<List<String>> groups = groupSingletonsByDeclaredDependencies(beanNames);
+		if (groups.size() < 2) {
+			for (String beanName : beanNames) {
+				preInstantiateSingleton(beanName);
+			}
+			return;
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Pre-instantiating " + groups.size() + " independent groups of singletons in parallel");
+		}
+		setConcurrentSingletonCreation(true);
+		try {
+			CompletableFuture<?>[] futures = new CompletableFuture<?>[groups.size()];
+			int i = 0;
+			for (List<String> group : groups) {
+				futures[i++] = CompletableFuture.runAsync(() -> group.forEach(this::preInstantiateSingleton), executor);
+			}
+			CompletableFuture.allOf(futures).join();
+		}
+		catch (CompletionException ex) {
+			Throwable cause = ex;
+			while (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+		finally {
+			setConcurrentSingletonCreation(false);
+		}
+	}
+
+	/**
+	 * Group the non-lazy singletons among the given bean names by the dependencies
+	 * declared in their merged bean definitions: "depends-on" names, factory beans
+	 * and bean references in constructor arguments and property values, as well as
+	 * the candidates for autowired properties, constructor and factory method
+	 * parameters and {@link Autowired @Autowired} fields and methods.
+	 * <p>Other injection points, e.g. through custom annotations, are not detected
+	 * here: the corresponding beans get created by the first thread requesting them.
+	 * @param beanNames the bean names, in registration order
+	 * @return the groups of connected singletons, each in registration order
+	 */
+	private Collection<List<String>> groupSingletonsByDeclaredDependencies(List<String> beanNames) {
+		Map<String, String> groupRoots = new HashMap<>();
+		List<String> singletonNames = new ArrayList<>(beanNames.size());
+		for (String beanName : beanNames) {
+			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+				singletonNames.add(beanName);
+				Set<String> dependencies = new LinkedHashSet<>();
+				collectDeclaredDependencies(bd, dependencies);
+				collectAutowiredDependencies(bd, dependencies);
+				for (String dependency : dependencies) {
+					String root = findGroupRoot(groupRoots, beanName);
+					String dependencyRoot = findGroupRoot(groupRoots, canonicalName(dependency));
+					if (!root.equals(dependencyRoot)) {
+						groupRoots.put(dependencyRoot, root);
+					}
+				}
+			}
+		}
+		Map<String, List<String>> groups = new LinkedHashMap<>();
+		for (String beanName : singletonNames) {
+			groups.computeIfAbsent(findGroupRoot(groupRoots, beanName), root -> new ArrayList<>()).add(beanName);
+		}
+		return groups.values();
+	}
+
+	private static String findGroupRoot(Map<String, String> groupRoots, String beanName) {
+		String root = beanName;
+		String parent;
+		while ((parent = groupRoots.get(root)) != null) {
+			root = parent;
+		}
+		if (!root.equals(beanName)) {
+			groupRoots.put(beanName, root);
+		}
+		return root;
+	}
+
+	private void collectAutowiredDependencies(RootBeanDefinition bd, Set<String> dependencies) {
+		if (!bd.hasBeanClass()) {
+			return;
+		}
+		Class<?> beanClass = bd.getBeanClass();
+		int autowireMode = bd.getResolvedAutowireMode();
+		if (autowireMode == AUTOWIRE_BY_NAME || autowireMode == AUTOWIRE_BY_TYPE) {
+			for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(beanClass)) {
+				if (pd.getWriteMethod() != null && !BeanUtils.isSimpleProperty(pd.getPropertyType())) {
+					if (autowireMode == AUTOWIRE_BY_NAME) {
+						if (containsBeanDefinition(pd.getName())) {
+							dependencies.add(pd.getName());
+						}
+					}
+					else {
+						collectCandidateNames(ResolvableType.forMethodParameter(pd.getWriteMethod(), 0), dependencies);
+					}
+				}
+			}
+		}
+		Method factoryMethod = bd.getResolvedFactoryMethod();
+		if (factoryMethod != null) {
+			collectParameterCandidateNames(factoryMethod, dependencies);
+		}
+		else if (bd.getFactoryMethodName() == null && !bd.hasConstructorArgumentValues()) {
+			Constructor<?>[] constructors = beanClass.getDeclaredConstructors();
+			if (autowireMode == AUTOWIRE_CONSTRUCTOR || constructors.length == 1) {
+				for (Constructor<?> constructor : constructors) {
+					collectParameterCandidateNames(constructor, dependencies);
+				}
+			}
+		}
+		ReflectionUtils.doWithFields(beanClass,
+				field -> collectCandidateNames(ResolvableType.forField(field), dependencies),
+				field -> !Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(Autowired.class));
+		ReflectionUtils.doWithMethods(beanClass,
+				method -> collectParameterCandidateNames(method, dependencies),
+				method -> !Modifier.isStatic(method.getModifiers()) && method.isAnnotationPresent(Autowired.class));
+	}
+
+	private void collectParameterCandidateNames(Executable executable, Set<String> dependencies) {
+		for (int i = 0; i < executable.getParameterCount(); i++) {
+			collectCandidateNames(ResolvableType.forMethodParameter(MethodParameter.forExecutable(executable, i)),
+					dependencies);
+		}
+	}
+
+	private void collectCandidateNames(ResolvableType type, Set<String> dependencies) {
+		Class<?> rawType = type.resolve();
+		if (rawType == null || ObjectProvider.class == rawType || Provider.class == rawType) {
+			// Unresolvable or lazily resolved dependency
+			return;
+		}
+		if (rawType.isArray()) {
+			type = type.getComponentType();
+		}
+		else if (Collection.class.isAssignableFrom(rawType) || Optional.class == rawType) {
+			type = type.getGeneric(0);
+		}
+		else if (Map.class.isAssignableFrom(rawType)) {
+			type = type.getGeneric(1);
+		}
+		Class<?> candidateType = type.resolve();
+		if (candidateType != null && candidateType != Object.class && !BeanUtils.isSimpleProperty(candidateType)) {
+			Collections.addAll(dependencies, getBeanNamesForType(candidateType, true, false));
+		}
+	}
+
+	private static void collectDeclaredDependencies(BeanDefinition bd, Set<String> dependencies) {
+		String[] dependsOn = bd.getDependsOn();
+		if (dependsOn != null) {
+			Collections.addAll(dependencies, dependsOn);
+		}
+		if (bd.getFactoryBeanName() != null) {
+			dependencies.add(bd.getFactoryBeanName());
+		}
+		if (bd.hasPropertyValues()) {
+			for (PropertyValue pv : bd.getPropertyValues().getPropertyValues()) {
+				collectBeanReferences(pv.getValue(), dependencies);
+			}
+		}
+		if (bd.hasConstructorArgumentValues()) {
+			ConstructorArgumentValues cav = bd.getConstructorArgumentValues();
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cav.getIndexedArgumentValues().values()) {
+				collectBeanReferences(valueHolder.getValue(), dependencies);
+			}
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cav.getGenericArgumentValues()) {
+				collectBeanReferences(valueHolder.getValue(), dependencies);
+			}
+		}
+	}
+
+	private static void collectBeanReferences(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof BeanReference beanReference) {
+			dependencies.add(beanReference.getBeanName());
+		}
+		else if (value instanceof BeanDefinitionHolder holder) {
+			collectDeclaredDependencies(holder.getBeanDefinition(), dependencies);
+		}
+		else if (value instanceof BeanDefinition innerBd) {
+			collectDeclaredDependencies(innerBd, dependencies);
+		}
+		else if (value instanceof Collection<?> collection) {
+			for (Object element : collection) {
+				collectBeanReferences(element, dependencies);
+			}
+		}
+		else if (value instanceof Map<?, ?> map) {
+			map.forEach((key, element) -> {
+				collectBeanReferences(key, dependencies);
+				collectBeanReferences(element, dependencies);
+			});
+		}
+		else if (value instanceof Object[] array) {
+			for (Object element : array) {
+				collectBeanReferences(element, dependencies);
+			}
+		}
+	}
+
 
 	//---------------------------------------------------------------------
 	// Implementation of BeanDefinitionRegistry interface
@@ -1079,9 +1475,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		if (existingDefinition != null || containsSingleton(beanName)) {
 			resetBeanDefinition(beanName);
 		}
-		else if (isConfigurationFrozen()) {
-			clearByTypeCache();
-		}
+		// Otherwise, cached by-type lookups will check the new bean definition on demand.
 	}
 
 	@Override
@@ -1226,6 +1620,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private void clearByTypeCache() {
 		this.allBeanNamesByType.clear();
 		this.singletonBeanNamesByType.clear();
+		this.allBeanNamesByGenericType.clear();
+		this.singletonBeanNamesByGenericType.clear();
 	}
 
 
@@ -1914,6 +2310,35 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	}
 
 
+	/**
+	 * Cached result of a by-type lookup: the names of the matching bean definitions
+	 * (among the given number of bean definitions registered at the time), followed
+	 * by the names of the matching manually registered singletons.
+	 */
+	private record BeanNamesByType(String[] beanNames, int beanDefinitionMatchCount, int beanDefinitionCount) {
+
+		/**
+		 * Create a new result with the given bean definition matches appended.
+		 * @param addedMatches the matches among the bean definitions registered since
+		 * @param beanDefinitionCount the number of bean definitions covered now
+		 */
+		BeanNamesByType withBeanDefinitionMatches(List<String> addedMatches, int beanDefinitionCount) {
+			if (addedMatches.isEmpty()) {
+				return new BeanNamesByType(this.beanNames, this.beanDefinitionMatchCount, beanDefinitionCount);
+			}
+			String[] beanNames = new String[this.beanNames.length + addedMatches.size()];
+			System.arraycopy(this.beanNames, 0, beanNames, 0, this.beanDefinitionMatchCount);
+			int index = this.beanDefinitionMatchCount;
+			for (String addedMatch : addedMatches) {
+				beanNames[index++] = addedMatch;
+			}
+			System.arraycopy(this.beanNames, this.beanDefinitionMatchCount, beanNames, index,
+					this.beanNames.length - this.beanDefinitionMatchCount);
+			return new BeanNamesByType(beanNames, index, beanDefinitionCount);
+		}
+	}
+
+
 	/**
 	 * Minimal id reference to the factory.
 	 * Resolved to the actual factory instance on deserialization.
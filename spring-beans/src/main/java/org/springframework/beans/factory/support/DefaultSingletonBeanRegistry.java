@@ -16,15 +16,18 @@
 
 package org.springframework.beans.factory.support;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCreationNotAllowedException;
@@ -32,6 +35,7 @@ import org.springframework.beans.factory.BeanCurrentlyInCreationException;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.SimpleAliasRegistry;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -49,6 +53,13 @@ import org.springframework.util.StringUtils;
  * to be destroyed on shutdown of the registry. Dependencies between
  * beans can be registered to enforce an appropriate shutdown order.
  *
+ * <p>All changes to the singleton caches happen within the full singleton
+ * lock (see {@link #getSingletonMutex()}), and so does singleton creation.
+ * Only for parallel pre-instantiation, while
+ * {@link #setConcurrentSingletonCreation concurrent creation} is switched on,
+ * is each singleton created under a creation lock for its bean name instead,
+ * with other threads requesting the same singleton waiting for its completion.
+ *
  * <p>This class mainly serves as base class for
  * {@link org.springframework.beans.factory.BeanFactory} implementations,
  * factoring out the common management of singleton bean instances. Note that
@@ -94,12 +105,24 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	private final Set<String> inCreationCheckExclusions =
 			Collections.newSetFromMap(new ConcurrentHashMap<>(16));
 
+	/** Per-bean creation locks for parallel pre-instantiation: bean name to creating thread. */
+	private final Map<String, Thread> singletonCreationThreads = new ConcurrentHashMap<>(16);
+
+	/** Threads waiting for a singleton created by another thread: waiting thread to bean name. */
+	private final Map<Thread, String> singletonWaitingThreads = new HashMap<>(16);
+
+	/** Number of threads waiting for a singleton created by another thread. */
+	private final AtomicInteger singletonWaitingCount = new AtomicInteger();
+
+	/** Whether singletons may currently be created by several threads concurrently. */
+	private volatile boolean concurrentSingletonCreation;
+
 	/** Collection of suppressed Exceptions, available for associating related causes. */
-	@Nullable
-	private Set<Exception> suppressedExceptions;
+	private final ThreadLocal<Set<Exception>> suppressedExceptions =
+			new NamedThreadLocal<>("Suppressed exceptions of current singleton creation");
 
 	/** Flag that indicates whether we're currently within destroySingletons. */
-	private boolean singletonsCurrentlyInDestruction = false;
+	private volatile boolean singletonsCurrentlyInDestruction = false;
 
 	/** Disposable bean instances: bean name to disposable instance. */
 	private final Map<String, Object> disposableBeans = new LinkedHashMap<>();
@@ -181,26 +204,40 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		// Quick check for existing instance without full singleton lock
 		Object singletonObject = this.singletonObjects.get(beanName);
 		if (singletonObject == null && isSingletonCurrentlyInCreation(beanName)) {
+			if (isSingletonCurrentlyInCreationByOtherThread(beanName)) {
+				// Do not expose an incomplete instance from another thread's creation process.
+				return null;
+			}
 			singletonObject = this.earlySingletonObjects.get(beanName);
 			if (singletonObject == null && allowEarlyReference) {
-				synchronized (this.singletonObjects) {
-					// Consistent creation of early reference within full singleton lock
-					singletonObject = this.singletonObjects.get(beanName);
-					if (singletonObject == null) {
-						singletonObject = this.earlySingletonObjects.get(beanName);
-						if (singletonObject == null) {
-							ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
-							if (singletonFactory != null) {
-								singletonObject = singletonFactory.getObject();
-								this.earlySingletonObjects.put(beanName, singletonObject);
-								this.singletonFactories.remove(beanName);
-							}
-						}
+				singletonObject = getEarlySingletonReference(beanName);
+			}
+		}
+		return singletonObject;
+	}
+
+	/**
+	 * Obtain an early reference for the specified singleton from the early
+	 * singleton cache or its singleton factory, if any.
+	 */
+	@Nullable
+	private Object getEarlySingletonReference(String beanName) {
+		synchronized (this.singletonObjects) {
+			// Consistent creation of early reference within full singleton lock
+			Object singletonObject = this.singletonObjects.get(beanName);
+			if (singletonObject == null) {
+				singletonObject = this.earlySingletonObjects.get(beanName);
+				if (singletonObject == null) {
+					ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
+					if (singletonFactory != null) {
+						singletonObject = singletonFactory.getObject();
+						this.earlySingletonObjects.put(beanName, singletonObject);
+						this.singletonFactories.remove(beanName);
 					}
 				}
 			}
+			return singletonObject;
 		}
-		return singletonObject;
 	}
 
 	/**
@@ -213,55 +250,255 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(beanName, "Bean name must not be null");
+		if (this.concurrentSingletonCreation) {
+			// Parallel pre-instantiation: only hold the full singleton lock while waiting
+			// for another thread's creation, not while running the singleton factory.
+			Object singletonObject = this.singletonObjects.get(beanName);
+			return (singletonObject != null ? singletonObject : getOrCreateSingleton(beanName, singletonFactory));
+		}
 		synchronized (this.singletonObjects) {
+			if (!this.singletonCreationThreads.isEmpty()) {
+				// Creation by another thread possibly left over from parallel pre-instantiation
+				return getOrCreateSingleton(beanName, singletonFactory);
+			}
 			Object singletonObject = this.singletonObjects.get(beanName);
 			if (singletonObject == null) {
-				if (this.singletonsCurrentlyInDestruction) {
-					throw new BeanCreationNotAllowedException(beanName,
-							"Singleton bean creation not allowed while singletons of this factory are in destruction " +
-							"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
-				}
-				if (logger.isDebugEnabled()) {
-					logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
+				singletonObject = createSingleton(beanName, singletonFactory);
+			}
+			return singletonObject;
+		}
+	}
+
+	/**
+	 * Acquire the creation lock for the specified singleton and create it,
+	 * unless it has been completed by another thread in the meantime.
+	 */
+	private Object getOrCreateSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+		Object singletonObject;
+		Thread currentThread = Thread.currentThread();
+		Thread creationThread;
+		while ((creationThread = this.singletonCreationThreads.putIfAbsent(beanName, currentThread)) != null &&
+				creationThread != currentThread) {
+			synchronized (this.singletonObjects) {
+				singletonObject = awaitSingletonCreationByOtherThread(beanName, currentThread);
+			}
+			if (singletonObject != null) {
+				return singletonObject;
+			}
+		}
+		try {
+			// Singleton may have been completed before acquiring its creation lock.
+			singletonObject = this.singletonObjects.get(beanName);
+			if (singletonObject == null) {
+				singletonObject = createSingleton(beanName, singletonFactory);
+			}
+			return singletonObject;
+		}
+		finally {
+			if (creationThread == null) {
+				releaseSingletonCreation(beanName);
+			}
+		}
+	}
+
+	private Object createSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+		if (this.singletonsCurrentlyInDestruction) {
+			throw new BeanCreationNotAllowedException(beanName,
+					"Singleton bean creation not allowed while singletons of this factory are in destruction " +
+					"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
+		}
+		beforeSingletonCreation(beanName);
+		Object singletonObject;
+		boolean newSingleton = false;
+		boolean recordSuppressedExceptions = (this.suppressedExceptions.get() == null);
+		if (recordSuppressedExceptions) {
+			this.suppressedExceptions.set(new LinkedHashSet<>());
+		}
+		try {
+			singletonObject = singletonFactory.getObject();
+			newSingleton = true;
+		}
+		catch (IllegalStateException ex) {
+			// Has the singleton object implicitly appeared in the meantime ->
+			// if yes, proceed with it since the exception indicates that state.
+			singletonObject = this.singletonObjects.get(beanName);
+			if (singletonObject == null) {
+				throw ex;
+			}
+		}
+		catch (BeanCreationException ex) {
+			if (recordSuppressedExceptions) {
+				Set<Exception> suppressed = this.suppressedExceptions.get();
+				if (suppressed != null) {
+					for (Exception suppressedException : suppressed) {
+						ex.addRelatedCause(suppressedException);
+					}
 				}
-				beforeSingletonCreation(beanName);
-				boolean newSingleton = false;
-				boolean recordSuppressedExceptions = (this.suppressedExceptions == null);
-				if (recordSuppressedExceptions) {
-					this.suppressedExceptions = new LinkedHashSet<>();
+			}
+			throw ex;
+		}
+		finally {
+			if (recordSuppressedExceptions) {
+				this.suppressedExceptions.remove();
+			}
+			afterSingletonCreation(beanName);
+		}
+		if (newSingleton) {
+			addSingleton(beanName, singletonObject);
+		}
+		return singletonObject;
+	}
+
+	/**
+	 * Wait for another thread that is currently creating the specified singleton,
+	 * resolving circular references between threads through early references
+	 * while {@link #setConcurrentSingletonCreation concurrent creation} is on.
+	 * <p>To be called within the full singleton lock, which is released while
+	 * waiting.
+	 * @return the singleton object created by the other thread, an early reference
+	 * to it in case of a circular reference, or {@code null} if the current thread
+	 * may proceed with creating the singleton itself
+	 */
+	@Nullable
+	private Object awaitSingletonCreationByOtherThread(String beanName, Thread currentThread) {
+		boolean waiting = false;
+		this.singletonWaitingCount.incrementAndGet();
+		try {
+			while (true) {
+				Object singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject != null) {
+					return singletonObject;
 				}
-				try {
-					singletonObject = singletonFactory.getObject();
-					newSingleton = true;
+				Thread creationThread = this.singletonCreationThreads.get(beanName);
+				if (creationThread == null || creationThread == currentThread) {
+					return null;
 				}
-				catch (IllegalStateException ex) {
-					// Has the singleton object implicitly appeared in the meantime ->
-					// if yes, proceed with it since the exception indicates that state.
-					singletonObject = this.singletonObjects.get(beanName);
-					if (singletonObject == null) {
-						throw ex;
+				List<Thread> waitCycle = findWaitCycle(creationThread, currentThread);
+				if (waitCycle != null) {
+					if (!this.concurrentSingletonCreation) {
+						// Creation left over from a concurrent phase: no early exposure
+						// of an incomplete singleton outside of that phase.
+						throw new BeanCurrentlyInCreationException(beanName);
 					}
-				}
-				catch (BeanCreationException ex) {
-					if (recordSuppressedExceptions) {
-						for (Exception suppressedException : this.suppressedExceptions) {
-							ex.addRelatedCause(suppressedException);
-						}
+					// The other thread (indirectly) waits for a singleton in creation by the
+					// current thread: a circular reference spread across several threads.
+					singletonObject = getEarlySingletonReference(beanName);
+					if (singletonObject != null) {
+						return singletonObject;
 					}
-					throw ex;
-				}
-				finally {
-					if (recordSuppressedExceptions) {
-						this.suppressedExceptions = null;
+					if (!isEarlySingletonReferenceAwaited(waitCycle)) {
+						throw new BeanCurrentlyInCreationException(beanName);
 					}
-					afterSingletonCreation(beanName);
+					// Another thread in the cycle is able to proceed with an early reference.
+				}
+				if (!waiting) {
+					this.singletonWaitingThreads.put(currentThread, beanName);
+					waiting = true;
+					// Let other waiting threads re-check for a circular reference through this thread.
+					this.singletonObjects.notifyAll();
+				}
+				try {
+					this.singletonObjects.wait();
 				}
-				if (newSingleton) {
-					addSingleton(beanName, singletonObject);
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new BeanCreationException(beanName,
+							"Interrupted while waiting for singleton creation in thread '" + creationThread.getName() + "'");
 				}
 			}
-			return singletonObject;
 		}
+		finally {
+			if (waiting) {
+				this.singletonWaitingThreads.remove(currentThread);
+			}
+			this.singletonWaitingCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Follow the chain of threads waiting for singletons in creation by other
+	 * threads, starting at the given creation thread.
+	 * @return the threads in the chain if it leads back to the current thread,
+	 * or {@code null} if there is no such wait cycle
+	 */
+	@Nullable
+	private List<Thread> findWaitCycle(Thread creationThread, Thread currentThread) {
+		List<Thread> chain = new ArrayList<>();
+		Thread thread = creationThread;
+		while (thread != null && !chain.contains(thread)) {
+			if (thread == currentThread) {
+				return chain;
+			}
+			chain.add(thread);
+			String awaitedBeanName = this.singletonWaitingThreads.get(thread);
+			if (awaitedBeanName == null) {
+				return null;
+			}
+			thread = this.singletonCreationThreads.get(awaitedBeanName);
+		}
+		return null;
+	}
+
+	private boolean isEarlySingletonReferenceAwaited(List<Thread> waitCycle) {
+		for (Thread thread : waitCycle) {
+			String awaitedBeanName = this.singletonWaitingThreads.get(thread);
+			if (awaitedBeanName != null && (this.earlySingletonObjects.containsKey(awaitedBeanName) ||
+					this.singletonFactories.containsKey(awaitedBeanName))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Switch concurrent creation of singletons by several threads on or off,
+	 * for the duration of a parallel pre-instantiation phase.
+	 * <p>While switched off (the default), singleton creation is performed
+	 * within the full singleton lock. While switched on, each singleton is
+	 * created by a single thread, with other threads requesting the same
+	 * singleton waiting for its completion, and circular references between
+	 * threads are resolved through early singleton references.
+	 * @param concurrentSingletonCreation whether to allow concurrent creation
+	 * @since 6.1
+	 * @see org.springframework.beans.factory.config.ConfigurableListableBeanFactory#setBootstrapExecutor
+	 */
+	protected void setConcurrentSingletonCreation(boolean concurrentSingletonCreation) {
+		this.concurrentSingletonCreation = concurrentSingletonCreation;
+	}
+
+	/**
+	 * Acquire the creation lock of the specified singleton for the current
+	 * thread, e.g. for a partial creation outside of
+	 * {@link #getSingleton(String, ObjectFactory)}.
+	 * @param beanName the name of the bean
+	 * @return {@code false} if another thread is currently creating the singleton
+	 * @see #releaseSingletonCreation
+	 */
+	boolean reserveSingletonCreation(String beanName) {
+		return (this.singletonCreationThreads.putIfAbsent(beanName, Thread.currentThread()) == null);
+	}
+
+	/**
+	 * Release the creation lock of the specified singleton held by the current
+	 * thread, notifying other threads waiting for it (if any).
+	 * @param beanName the name of the bean
+	 * @see #reserveSingletonCreation
+	 */
+	void releaseSingletonCreation(String beanName) {
+		if (this.singletonCreationThreads.remove(beanName, Thread.currentThread()) &&
+				this.singletonWaitingCount.get() > 0) {
+			synchronized (this.singletonObjects) {
+				this.singletonObjects.notifyAll();
+			}
+		}
+	}
+
+	private boolean isSingletonCurrentlyInCreationByOtherThread(String beanName) {
+		Thread creationThread = this.singletonCreationThreads.get(beanName);
+		return (creationThread != null && creationThread != Thread.currentThread());
 	}
 
 	/**
@@ -274,10 +511,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @see BeanCreationException#getRelatedCauses()
 	 */
 	protected void onSuppressedException(Exception ex) {
-		synchronized (this.singletonObjects) {
-			if (this.suppressedExceptions != null && this.suppressedExceptions.size() < SUPPRESSED_EXCEPTIONS_LIMIT) {
-				this.suppressedExceptions.add(ex);
-			}
+		Set<Exception> suppressed = this.suppressedExceptions.get();
+		if (suppressed != null && suppressed.size() < SUPPRESSED_EXCEPTIONS_LIMIT) {
+			suppressed.add(ex);
 		}
 	}
 
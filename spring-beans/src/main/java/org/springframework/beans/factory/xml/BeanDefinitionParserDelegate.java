@@ -518,8 +518,12 @@ public class BeanDefinitionParserDelegate {
 			bd.setDescription(DomUtils.getChildElementValueByTagName(ele, DESCRIPTION_ELEMENT));
 
 			parseMetaElements(ele, bd);
-			parseLookupOverrideSubElements(ele, bd.getMethodOverrides());
-			parseReplacedMethodSubElements(ele, bd.getMethodOverrides());
+			MethodOverrides overrides = new MethodOverrides();
+			parseLookupOverrideSubElements(ele, overrides);
+			parseReplacedMethodSubElements(ele, overrides);
+			if (!overrides.isEmpty()) {
+				bd.setMethodOverrides(overrides);
+			}
 
 			parseConstructorArgElements(ele, bd);
 			parsePropertyElements(ele, bd);
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.propertyeditors.StringTrimmerEditor;
+import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * {@link BeanWrapperImpl} tests with {@link BeanWrapperImpl#setCompiledPropertyAccess
+ * compiled property access} switched on, running the full {@link BeanWrapperTests} suite.
+ *
+ * @author agent
+ * @since 6.1
+ */
+class BeanWrapperCompiledPropertyAccessTests extends BeanWrapperTests {
+
+	@Override
+	protected BeanWrapperImpl createAccessor(Object target) {
+		BeanWrapperImpl accessor = new BeanWrapperImpl(target);
+		accessor.setCompiledPropertyAccess(true);
+		return accessor;
+	}
+
+
+	@Test
+	void accessorsGeneratedForBeanProperties() {
+		CachedIntrospectionResults results = CachedIntrospectionResults.forClass(TestBean.class);
+		for (String propertyName : new String[] {"name", "age", "spouse", "touchy"}) {
+			GenericTypeAwarePropertyDescriptor pd =
+					(GenericTypeAwarePropertyDescriptor) results.getPropertyDescriptor(propertyName);
+			assertThat(pd.getReadAccessor()).as(propertyName).isNotNull();
+			assertThat(pd.getWriteAccessor()).as(propertyName).isNotNull();
+		}
+		TestBean target = new TestBean("tom", 42);
+		GenericTypeAwarePropertyDescriptor pd =
+				(GenericTypeAwarePropertyDescriptor) results.getPropertyDescriptor("age");
+		assertThat(pd.getReadAccessor().apply(target)).isEqualTo(42);
+		pd.getWriteAccessor().accept(target, 43);
+		assertThat(target.getAge()).isEqualTo(43);
+	}
+
+	@Test
+	void conversionStillAppliesToNonAssignableValues() {
+		TestBean target = new TestBean();
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.setPropertyValue("age", "42");
+		accessor.setPropertyValue("spouse", new TestBean("kerry"));
+		accessor.setPropertyValue("spouse.age", "35");
+		assertThat(target.getAge()).isEqualTo(42);
+		assertThat(target.getSpouse().getAge()).isEqualTo(35);
+		assertThat(((BeanWrapperImpl) accessor.getPropertyAccessorForPropertyPath("spouse.age"))
+				.isCompiledPropertyAccess()).isTrue();
+	}
+
+	@Test
+	void customEditorAndConversionServiceStillApplyToAssignableValues() {
+		TestBean target = new TestBean();
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.registerCustomEditor(String.class, "name", new StringTrimmerEditor(true));
+		accessor.setPropertyValue("name", " tom ");
+		accessor.setPropertyValue("touchy", " tom ");
+		assertThat(target.getName()).isEqualTo("tom");
+		assertThat(target.getTouchy()).isEqualTo(" tom ");
+
+		GenericConversionService conversionService = new GenericConversionService();
+		conversionService.addConverter(String.class, String.class, String::toUpperCase);
+		accessor.setConversionService(conversionService);
+		accessor.setPropertyValue("touchy", "tom");
+		assertThat(target.getTouchy()).isEqualTo("TOM");
+	}
+
+	@Test
+	void conversionServiceBypassedForAssignableValues() {
+		List<TypeDescriptor> convertedTypes = new ArrayList<>();
+		DefaultConversionService conversionService = new DefaultConversionService() {
+			@Override
+			@Nullable
+			public Object convert(@Nullable Object source, @Nullable TypeDescriptor sourceType, TypeDescriptor targetType) {
+				convertedTypes.add(targetType);
+				return super.convert(source, sourceType, targetType);
+			}
+		};
+		TestBean target = new TestBean();
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.setConversionService(conversionService);
+		accessor.setPropertyValue("name", "tom");
+		accessor.setPropertyValue("age", "42");
+		assertThat(target.getName()).isEqualTo("tom");
+		assertThat(target.getAge()).isEqualTo(42);
+		assertThat(convertedTypes).singleElement().satisfies(typeDescriptor ->
+				assertThat(typeDescriptor.getType()).isEqualTo(int.class));
+	}
+
+	@Test
+	void setterExceptionExposedAsMethodInvocationException() {
+		BeanWrapperImpl accessor = createAccessor(new TestBean());
+		assertThatExceptionOfType(MethodInvocationException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("touchy", "1.2"))
+				.satisfies(ex -> assertThat(ex.getCause()).hasMessage("Can't contain a ."));
+		assertThatExceptionOfType(TypeMismatchException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("age", "x"));
+	}
+
+}
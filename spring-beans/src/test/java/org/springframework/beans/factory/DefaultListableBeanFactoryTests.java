@@ -35,6 +35,8 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -85,6 +87,7 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.testfixture.io.SerializationTestUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringValueResolver;
@@ -1498,6 +1501,36 @@ class DefaultListableBeanFactoryTests {
 		assertThat(bean.getBeanName()).isEqualTo("bd1");
 	}
 
+	@Test
+	void getBeanNamesForTypeWithLateRegistration() {
+		ResolvableType stringList = ResolvableType.forClassWithGenerics(List.class, String.class);
+		RootBeanDefinition bd1 = new RootBeanDefinition(ArrayList.class);
+		bd1.setTargetType(stringList);
+		lbf.registerBeanDefinition("bd1", bd1);
+		lbf.registerBeanDefinition("bd2", new RootBeanDefinition(TestBean.class));
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd2");
+		assertThat(lbf.getBeanNamesForType(stringList)).containsExactly("bd1");
+
+		lbf.registerSingleton("singleton", new TestBean());
+		RootBeanDefinition bd3 = new RootBeanDefinition(ArrayList.class);
+		bd3.setTargetType(stringList);
+		lbf.registerBeanDefinition("bd3", bd3);
+		lbf.registerBeanDefinition("bd4", new RootBeanDefinition(TestBean.class));
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd2", "bd4", "singleton");
+		assertThat(lbf.getBeanNamesForType(stringList)).containsExactly("bd1", "bd3");
+
+		lbf.registerBeanDefinition("bd5", new RootBeanDefinition(TestBean.class));
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd2", "bd4", "bd5", "singleton");
+		lbf.removeBeanDefinition("bd4");
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd2", "bd5", "singleton");
+		lbf.registerBeanDefinition("bd1", new RootBeanDefinition(TestBean.class));
+		assertThat(lbf.getBeanNamesForType(stringList)).containsExactly("bd3");
+
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(TestBean.class)).containsExactly("bd1", "bd2", "bd5", "singleton");
+		assertThat(lbf.getBeanNamesForType(stringList)).containsExactly("bd3");
+	}
+
 	@Test
 	void getBeanByTypeDefinedInParent() {
 		DefaultListableBeanFactory parent = new DefaultListableBeanFactory();
@@ -2786,6 +2819,61 @@ class DefaultListableBeanFactoryTests {
 		assertThat(holder.getNonPublicEnum()).isEqualTo(NonPublicEnum.VALUE_1);
 	}
 
+	@Test
+	void preInstantiateSingletonsWithBootstrapExecutor() {
+		lbf.setBootstrapExecutor(new SimpleAsyncTaskExecutor());
+		for (int i = 0; i < 10; i++) {
+			RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+			bd.getPropertyValues().add("name", "tb" + i);
+			if (i % 2 == 1) {
+				bd.getPropertyValues().add("spouse", new RuntimeBeanReference("tb" + (i - 1)));
+			}
+			lbf.registerBeanDefinition("tb" + i, bd);
+		}
+		lbf.preInstantiateSingletons();
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(lbf.containsSingleton("tb" + i)).isTrue();
+		}
+		assertThat(lbf.getBean("tb3", TestBean.class).getSpouse()).isSameAs(lbf.getBean("tb2"));
+		assertThat(lbf.getBootstrapExecutor()).isInstanceOf(SimpleAsyncTaskExecutor.class);
+	}
+
+	@Test
+	void preInstantiateSingletonsWithBootstrapExecutorAndCircularReference() {
+		lbf.setBootstrapExecutor(new SimpleAsyncTaskExecutor());
+		RootBeanDefinition bd1 = new RootBeanDefinition(TestBean.class);
+		bd1.getPropertyValues().add("spouse", new RuntimeBeanReference("tb2"));
+		lbf.registerBeanDefinition("tb1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(TestBean.class);
+		bd2.getPropertyValues().add("spouse", new RuntimeBeanReference("tb1"));
+		lbf.registerBeanDefinition("tb2", bd2);
+		lbf.registerBeanDefinition("other", new RootBeanDefinition(NestedTestBean.class));
+		lbf.preInstantiateSingletons();
+
+		TestBean tb1 = lbf.getBean("tb1", TestBean.class);
+		TestBean tb2 = lbf.getBean("tb2", TestBean.class);
+		assertThat(tb1.getSpouse()).isSameAs(tb2);
+		assertThat(tb2.getSpouse()).isSameAs(tb1);
+	}
+
+	@Test
+	void preInstantiateSingletonsWithBootstrapExecutorAndCircularReferenceAcrossThreads() {
+		lbf.setBootstrapExecutor(new SimpleAsyncTaskExecutor());
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		lbf.registerBeanDefinition("bean1", new RootBeanDefinition(CrossThreadReferenceBean.class,
+				() -> new CrossThreadReferenceBean("bean2", barrier)));
+		lbf.registerBeanDefinition("bean2", new RootBeanDefinition(CrossThreadReferenceBean.class,
+				() -> new CrossThreadReferenceBean("bean1", barrier)));
+		lbf.preInstantiateSingletons();
+
+		CrossThreadReferenceBean bean1 = lbf.getBean("bean1", CrossThreadReferenceBean.class);
+		CrossThreadReferenceBean bean2 = lbf.getBean("bean2", CrossThreadReferenceBean.class);
+		assertThat(bean1.creationThread).isNotSameAs(bean2.creationThread);
+		assertThat(bean1.other).isSameAs(bean2);
+		assertThat(bean2.other).isSameAs(bean1);
+	}
+
 
 	private int registerBeanDefinitions(Properties p) {
 		return registerBeanDefinitions(p, null);
@@ -3296,6 +3384,40 @@ class DefaultListableBeanFactoryTests {
 	}
 
 
+	/**
+	 * Bean which obtains another bean from the factory once another instance
+	 * has been initialized up to the same point, forcing a circular reference
+	 * between two concurrently initialized beans.
+	 */
+	static class CrossThreadReferenceBean implements BeanFactoryAware {
+
+		private final String otherBeanName;
+
+		private final CyclicBarrier barrier;
+
+		Thread creationThread;
+
+		Object other;
+
+		CrossThreadReferenceBean(String otherBeanName, CyclicBarrier barrier) {
+			this.otherBeanName = otherBeanName;
+			this.barrier = barrier;
+		}
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) {
+			this.creationThread = Thread.currentThread();
+			try {
+				this.barrier.await(10, TimeUnit.SECONDS);
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+			this.other = beanFactory.getBean(this.otherBeanName);
+		}
+	}
+
+
 	static class NonPublicEnumHolder {
 
 		final NonPublicEnum nonPublicEnum;
@@ -130,6 +130,33 @@ public class AutowiredAnnotationBeanPostProcessorTests {
 		assertThat(bean.getTestBean2()).isSameAs(tb);
 	}
 
+	@Test
+	void resourceInjectionWithRecreatedSingletonTarget() {
+		RootBeanDefinition bd = new RootBeanDefinition(ResourceInjectionBean.class);
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		bf.registerBeanDefinition("annotatedBean", bd);
+		bf.registerBeanDefinition("testBean", new RootBeanDefinition(TestBean.class));
+
+		ResourceInjectionBean bean = (ResourceInjectionBean) bf.getBean("annotatedBean");
+		TestBean tb = bf.getBean("testBean", TestBean.class);
+		assertThat(bean.getTestBean()).isSameAs(tb);
+		assertThat(bean.getTestBean2()).isSameAs(tb);
+
+		bf.destroySingleton("testBean");
+		bean = (ResourceInjectionBean) bf.getBean("annotatedBean");
+		TestBean tb2 = bf.getBean("testBean", TestBean.class);
+		assertThat(tb2).isNotSameAs(tb);
+		assertThat(bean.getTestBean()).isSameAs(tb2);
+		assertThat(bean.getTestBean2()).isSameAs(tb2);
+
+		bf.removeBeanDefinition("testBean");
+		TestBean tb3 = new TestBean();
+		bf.registerSingleton("otherTestBean", tb3);
+		bean = (ResourceInjectionBean) bf.getBean("annotatedBean");
+		assertThat(bean.getTestBean()).isSameAs(tb3);
+		assertThat(bean.getTestBean2()).isSameAs(tb3);
+	}
+
 	@Test
 	void extendedResourceInjection() {
 		RootBeanDefinition bd = new RootBeanDefinition(TypedExtendedResourceInjectionBean.class);
@@ -114,6 +114,26 @@ public class BeanDefinitionTests {
 		assertThat(bd.hashCode()).isEqualTo(otherBd.hashCode());
 	}
 
+	@Test
+	public void beanDefinitionEqualityWithQualifiersAndMethodOverrides() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		RootBeanDefinition otherBd = new RootBeanDefinition(TestBean.class);
+		assertThat(otherBd.getQualifiers()).isEmpty();
+		assertThat(otherBd.getMethodOverrides().isEmpty()).isTrue();
+		assertThat(bd.hasMethodOverrides()).isFalse();
+		assertThat(bd.equals(otherBd)).isTrue();
+		assertThat(otherBd.equals(bd)).isTrue();
+		otherBd.addQualifier(new AutowireCandidateQualifier("myQualifier"));
+		otherBd.getMethodOverrides().addOverride(new LookupOverride("getName", "name"));
+		assertThat(bd.equals(otherBd)).isFalse();
+		assertThat(otherBd.equals(bd)).isFalse();
+		RootBeanDefinition copy = new RootBeanDefinition(otherBd);
+		assertThat(copy.hasQualifier("myQualifier")).isTrue();
+		assertThat(copy.hasMethodOverrides()).isTrue();
+		assertThat(copy.equals(otherBd)).isTrue();
+		assertThat(copy.hashCode()).isEqualTo(otherBd.hashCode());
+	}
+
 	@Test
 	public void genericBeanDefinitionEquality() {
 		GenericBeanDefinition bd = new GenericBeanDefinition();
@@ -189,4 +209,22 @@ public class BeanDefinitionTests {
 		assertThat(bd.getQualifiedElement()).isEqualTo(getClass());
 	}
 
+	@Test
+	public void beanClassNameIsInterned() {
+		RootBeanDefinition bd = new RootBeanDefinition();
+		bd.setBeanClassName(new String("org.springframework.beans.testfixture.beans.TestBean"));
+		assertThat(bd.getBeanClassName()).isSameAs("org.springframework.beans.testfixture.beans.TestBean");
+	}
+
+	@Test
+	public void methodOverridesAreCreatedOnce() {
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		assertThat(bd.hasMethodOverrides()).isFalse();
+		MethodOverrides overrides = bd.getMethodOverrides();
+		assertThat(bd.getMethodOverrides()).isSameAs(overrides);
+		assertThat(bd.hasMethodOverrides()).isFalse();
+		overrides.addOverride(new LookupOverride("getSpouse", "spouse"));
+		assertThat(bd.hasMethodOverrides()).isTrue();
+	}
+
 }
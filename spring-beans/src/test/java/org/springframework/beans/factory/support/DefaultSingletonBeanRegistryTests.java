@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,11 @@
 
 package org.springframework.beans.factory.support;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.testfixture.beans.DerivedTestBean;
@@ -76,6 +81,59 @@ public class DefaultSingletonBeanRegistryTests {
 		assertThat(tb.wasDestroyed()).isTrue();
 	}
 
+	@Test
+	public void testSingletonCreationByOtherThread() throws Exception {
+		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
+		beanRegistry.setConcurrentSingletonCreation(true);
+		CountDownLatch creationStarted = new CountDownLatch(1);
+		CountDownLatch creationReleased = new CountDownLatch(1);
+		AtomicInteger creationCount = new AtomicInteger();
+
+		CompletableFuture<Object> creation = CompletableFuture.supplyAsync(() ->
+				beanRegistry.getSingleton("tb", () -> {
+					creationStarted.countDown();
+					try {
+						creationReleased.await(10, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					creationCount.incrementAndGet();
+					return new TestBean();
+				}));
+		assertThat(creationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(beanRegistry.getSingleton("tb")).isNull();
+		beanRegistry.registerSingleton("other", new TestBean());
+
+		CompletableFuture<Object> lookup = CompletableFuture.supplyAsync(() ->
+				beanRegistry.getSingleton("tb", () -> {
+					creationCount.incrementAndGet();
+					return new TestBean();
+				}));
+		creationReleased.countDown();
+
+		Object tb = creation.get(10, TimeUnit.SECONDS);
+		assertThat(lookup.get(10, TimeUnit.SECONDS)).isSameAs(tb);
+		assertThat(beanRegistry.getSingleton("tb")).isSameAs(tb);
+		assertThat(creationCount.get()).isEqualTo(1);
+		assertThat(beanRegistry.getSingletonNames()).containsExactly("other", "tb");
+	}
+
+	@Test
+	public void testSingletonRegistrationWithinSingletonMutex() throws Exception {
+		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
+		CompletableFuture<Void> registration;
+		synchronized (beanRegistry.getSingletonMutex()) {
+			registration = CompletableFuture.runAsync(() -> beanRegistry.registerSingleton("tb", new TestBean()));
+			Thread.sleep(100);
+			assertThat(registration).isNotDone();
+			assertThat(beanRegistry.containsSingleton("tb")).isFalse();
+		}
+		registration.get(10, TimeUnit.SECONDS);
+		assertThat(beanRegistry.containsSingleton("tb")).isTrue();
+		assertThat(beanRegistry.getSingletonNames()).containsExactly("tb");
+	}
+
 	@Test
 	public void testDependentRegistration() {
 		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
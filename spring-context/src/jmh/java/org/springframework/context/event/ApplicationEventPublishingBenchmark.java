@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Benchmark for publishing application events and payload events
+ * to programmatic and annotated listeners.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ApplicationEventPublishingBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		public GenericApplicationContext context;
+
+		public CountingListener listener;
+
+		public AnnotatedListener annotatedListener;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.context = new GenericApplicationContext();
+			AnnotationConfigUtils.registerAnnotationConfigProcessors(this.context);
+			this.context.registerBeanDefinition("listener", new RootBeanDefinition(CountingListener.class));
+			this.context.registerBeanDefinition("annotatedListener", new RootBeanDefinition(AnnotatedListener.class));
+			this.context.refresh();
+			this.listener = this.context.getBean(CountingListener.class);
+			this.annotatedListener = this.context.getBean(AnnotatedListener.class);
+		}
+
+		@TearDown(Level.Trial)
+		public void teardown() {
+			this.context.close();
+		}
+	}
+
+	@Benchmark
+	public void publishApplicationEvent(BenchmarkState state, Blackhole bh) {
+		state.context.publishEvent(new DomainEvent(state, 42));
+		bh.consume(state.listener.count);
+	}
+
+	@Benchmark
+	public void publishPayloadEvent(BenchmarkState state, Blackhole bh) {
+		state.context.publishEvent("payload");
+		bh.consume(state.annotatedListener.payloadCount);
+	}
+
+	@Benchmark
+	public void publishPayloadEventWithCondition(BenchmarkState state, Blackhole bh) {
+		state.context.publishEvent(42);
+		bh.consume(state.annotatedListener.conditionalCount);
+	}
+
+
+	@SuppressWarnings("serial")
+	public static class DomainEvent extends ApplicationEvent {
+
+		private final int value;
+
+		public DomainEvent(Object source, int value) {
+			super(source);
+			this.value = value;
+		}
+
+		public int getValue() {
+			return this.value;
+		}
+	}
+
+
+	public static class CountingListener implements ApplicationListener<DomainEvent> {
+
+		public long count;
+
+		@Override
+		public void onApplicationEvent(DomainEvent event) {
+			this.count += event.getValue();
+		}
+	}
+
+
+	public static class AnnotatedListener {
+
+		public long payloadCount;
+
+		public long conditionalCount;
+
+		@EventListener
+		public void onPayload(String payload) {
+			this.payloadCount++;
+		}
+
+		@EventListener(condition = "#p0 > 10")
+		public void onConditionalPayload(Integer value) {
+			this.conditionalCount += value;
+		}
+	}
+
+}
@@ -61,6 +61,15 @@ public interface ConfigurableApplicationContext extends ApplicationContext, Life
 	 */
 	String CONVERSION_SERVICE_BEAN_NAME = "conversionService";
 
+	/**
+	 * Name of the bootstrap Executor bean in the factory. If such a bean is
+	 * supplied, non-lazy singletons without declared dependencies on each other
+	 * will be pre-instantiated in parallel on this Executor.
+	 * @since 6.1
+	 * @see org.springframework.beans.factory.config.ConfigurableListableBeanFactory#setBootstrapExecutor
+	 */
+	String BOOTSTRAP_EXECUTOR_BEAN_NAME = "bootstrapExecutor";
+
 	/**
 	 * Name of the LoadTimeWeaver bean in the factory. If such a bean is supplied,
 	 * the context will use a temporary ClassLoader for type matching, in order
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,14 @@
 
 package org.springframework.context;
 
+import java.util.Map;
 import java.util.function.Consumer;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.ResolvableTypeProvider;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * An {@link ApplicationEvent} that carries an arbitrary payload.
@@ -37,8 +39,12 @@ import org.springframework.util.Assert;
 @SuppressWarnings("serial")
 public class PayloadApplicationEvent<T> extends ApplicationEvent implements ResolvableTypeProvider {
 
+	private static final Map<Class<?>, ResolvableType> eventTypeCache = new ConcurrentReferenceHashMap<>(64);
+
+
 	private final T payload;
 
+	@Nullable
 	private final ResolvableType payloadType;
 
 	/**
@@ -52,7 +58,7 @@ public class PayloadApplicationEvent<T> extends ApplicationEvent implements Reso
 		super(source);
 		Assert.notNull(payload, "Payload must not be null");
 		this.payload = payload;
-		this.payloadType = (payloadType != null) ? payloadType : ResolvableType.forInstance(payload);
+		this.payloadType = payloadType;
 	}
 
 	/**
@@ -67,7 +73,14 @@ public class PayloadApplicationEvent<T> extends ApplicationEvent implements Reso
 
 	@Override
 	public ResolvableType getResolvableType() {
-		return ResolvableType.forClassWithGenerics(getClass(), this.payloadType);
+		if (this.payloadType == null && getClass() == PayloadApplicationEvent.class &&
+				!(this.payload instanceof ResolvableTypeProvider)) {
+			// Type derived from the payload class only -> share it per payload class
+			return eventTypeCache.computeIfAbsent(this.payload.getClass(),
+					payloadClass -> ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, payloadClass));
+		}
+		return ResolvableType.forClassWithGenerics(getClass(),
+				(this.payloadType != null ? this.payloadType : ResolvableType.forInstance(this.payload)));
 	}
 
 	/**
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarFile;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * File-based cache for the outcome of classpath scanning, for internal use
+ * within {@link ClassPathScanningCandidateComponentProvider}.
+ *
+ * <p>For every scan, the names of the classes matching the include filters are
+ * stored along with a fingerprint of the archives containing the base package
+ * and of all other archives on the classpath. On a subsequent start with an
+ * unchanged fingerprint, only the cached classes need to be read, instead of
+ * every class below the base package. Packages in directories are not cached.
+ * Exclude filters and {@link Conditional @Conditional} annotations are still
+ * evaluated against the cached classes since they may depend on runtime state.
+ *
+ * @author agent
+ * @since 6.1
+ * @see ClassPathScanningCandidateComponentProvider#setScanCacheLocation
+ */
+final class CandidateComponentsScanCache {
+
+	private static final String FINGERPRINT_SUFFIX = ".fingerprint";
+
+	private static final String CANDIDATES_SUFFIX = ".candidates";
+
+	private static final PathMatcher pathMatcher = new AntPathMatcher();
+
+	private static final Log logger = LogFactory.getLog(CandidateComponentsScanCache.class);
+
+	private static final ConcurrentMap<Path, CandidateComponentsScanCache> caches =
+			new ConcurrentReferenceHashMap<>(4);
+
+
+	private final Path location;
+
+	private final Properties entries = new Properties();
+
+
+	private CandidateComponentsScanCache(Path location) {
+		this.location = location;
+		if (Files.isRegularFile(location)) {
+			try (InputStream is = Files.newInputStream(location)) {
+				this.entries.load(is);
+			}
+			catch (IOException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring unreadable scan cache at " + location + ": " + ex);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Return the cache stored at the given file location.
+	 * <p>Instances are shared per location but only softly referenced: once
+	 * no longer in use, a cache may be reclaimed and is then reloaded from
+	 * its file on the next access.
+	 * @param location the location of the cache file
+	 */
+	static CandidateComponentsScanCache forLocation(Path location) {
+		return caches.computeIfAbsent(location.toAbsolutePath().normalize(), CandidateComponentsScanCache::new);
+	}
+
+	/**
+	 * Return the candidate types cached for the given scan.
+	 * @param scanKey the key identifying the scan (search path and filters)
+	 * @param fingerprint the current fingerprint of the classpath roots
+	 * @return the cached candidate type names, or {@code null} if none cached
+	 * for the given fingerprint
+	 */
+	@Nullable
+	synchronized Set<String> getCandidateTypes(String scanKey, String fingerprint) {
+		if (!fingerprint.equals(this.entries.getProperty(scanKey + FINGERPRINT_SUFFIX))) {
+			return null;
+		}
+		String candidates = this.entries.getProperty(scanKey + CANDIDATES_SUFFIX);
+		return (candidates != null ? StringUtils.commaDelimitedListToSet(candidates) : null);
+	}
+
+	/**
+	 * Store the candidate types found for the given scan, writing the cache file.
+	 * <p>A failure to write the cache file is logged and otherwise ignored.
+	 * @param scanKey the key identifying the scan (search path and filters)
+	 * @param fingerprint the current fingerprint of the classpath roots
+	 * @param candidateTypes the candidate type names found
+	 */
+	synchronized void putCandidateTypes(String scanKey, String fingerprint, Collection<String> candidateTypes) {
+		this.entries.setProperty(scanKey + FINGERPRINT_SUFFIX, fingerprint);
+		this.entries.setProperty(scanKey + CANDIDATES_SUFFIX,
+				StringUtils.collectionToCommaDelimitedString(candidateTypes));
+		try {
+			Path parent = this.location.getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			Path tempFile = Files.createTempFile(parent, this.location.getFileName().toString(), ".tmp");
+			try (OutputStream os = Files.newOutputStream(tempFile)) {
+				this.entries.store(os, "Spring component scan cache");
+			}
+			Files.move(tempFile, this.location, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to write scan cache to " + this.location + ": " + ex);
+			}
+		}
+	}
+
+
+	/**
+	 * Compute a fingerprint for all archives on the classpath: size and
+	 * last-modified timestamp of each archive, as found through their
+	 * {@code META-INF/MANIFEST.MF} entries.
+	 * <p>This covers the classes outside of the base package that type filters
+	 * may introspect as well, such as superclasses, interfaces and
+	 * meta-annotations. It is meant to be computed once per classpath.
+	 * @param resourcePatternResolver the resolver to find the archives with
+	 * @return the fingerprint, or {@code null} if an archive cannot be
+	 * fingerprinted (in which case the cache is not to be used)
+	 */
+	@Nullable
+	static String fingerprintClassPath(ResourcePatternResolver resourcePatternResolver) throws IOException {
+		Resource[] manifests = resourcePatternResolver.getResources(
+				ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + JarFile.MANIFEST_NAME);
+		Set<String> parts = new TreeSet<>();
+		for (Resource manifest : manifests) {
+			URL url = manifest.getURL();
+			if (ResourceUtils.isJarURL(url)) {
+				String part = fingerprintArchive(url);
+				if (part == null) {
+					return null;
+				}
+				parts.add(part);
+			}
+		}
+		return DigestUtils.md5DigestAsHex(String.join("\n", parts).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Compute a fingerprint for the classpath roots of the given package path,
+	 * combined with the given fingerprint of all archives on the classpath.
+	 * <p>Only packages in archives are supported: checking the files below a
+	 * package directory would cost about as much as scanning them. Note that
+	 * directories on the classpath are not covered by the fingerprint either,
+	 * so a change to a class in a directory outside of the base package (for
+	 * example, a superclass in an IDE project) may not be detected.
+	 * @param resourcePatternResolver the resolver to find the classpath roots with
+	 * @param packagePath the resource path of the base package
+	 * @param classPathFingerprint the fingerprint of all archives on the classpath
+	 * @return the fingerprint, or {@code null} if the package path is a pattern
+	 * or its classpath roots cannot be fingerprinted (in which case the cache is
+	 * not to be used)
+	 * @see #fingerprintClassPath
+	 */
+	@Nullable
+	static String fingerprint(ResourcePatternResolver resourcePatternResolver, String packagePath,
+			String classPathFingerprint) throws IOException {
+
+		if (pathMatcher.isPattern(packagePath)) {
+			return null;
+		}
+		Resource[] roots = resourcePatternResolver.getResources(
+				ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + packagePath + '/');
+		List<String> parts = new ArrayList<>(roots.length + 1);
+		for (Resource root : roots) {
+			URL url = root.getURL();
+			String part = (ResourceUtils.isJarURL(url) ? fingerprintArchive(url) : null);
+			if (part == null) {
+				return null;
+			}
+			parts.add(part);
+		}
+		parts.add(classPathFingerprint);
+		return DigestUtils.md5DigestAsHex(String.join("\n", parts).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Nullable
+	private static String fingerprintArchive(URL jarUrl) throws IOException {
+		URL archiveUrl = ResourceUtils.extractArchiveURL(jarUrl);
+		URLConnection con = archiveUrl.openConnection();
+		long lastModified = con.getLastModified();
+		long contentLength = con.getContentLengthLong();
+		if (lastModified <= 0 || contentLength < 0) {
+			return null;
+		}
+		return archiveUrl + "=" + contentLength + ":" + lastModified;
+	}
+
+}
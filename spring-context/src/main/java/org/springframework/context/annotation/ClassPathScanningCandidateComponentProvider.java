@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,10 @@ package org.springframework.context.annotation;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -36,6 +39,7 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.index.CandidateComponentsIndex;
 import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.EnvironmentCapable;
@@ -49,6 +53,7 @@ import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.filter.AbstractTypeHierarchyTraversingFilter;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.TypeFilter;
@@ -60,6 +65,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * A component provider that provides candidate components from a base package. Can
@@ -70,6 +76,11 @@ import org.springframework.util.ClassUtils;
  * supported: if any other include filter is specified, the index is ignored and
  * classpath scanning is used instead.
  *
+ * <p>The outcome of classpath scanning can be cached in a file between restarts,
+ * see {@link #setScanCacheLocation}. On a subsequent start with unchanged classpath
+ * roots for the base package, only the classes matching the include filters on the
+ * previous start are read, instead of every class below the base package.
+ *
  * <p>This implementation is based on Spring's
  * {@link org.springframework.core.type.classreading.MetadataReader MetadataReader}
  * facility, backed by an ASM {@link org.springframework.asm.ClassReader ClassReader}.
@@ -90,6 +101,16 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	static final String DEFAULT_RESOURCE_PATTERN = "**/*.class";
 
+	/**
+	 * System property that specifies the default file location for caching
+	 * the outcome of classpath scanning between restarts, e.g. a file in a
+	 * work directory of the application: "spring.context.scan-cache".
+	 * <p>By default, no scan cache is used.
+	 * @since 6.1
+	 * @see #setScanCacheLocation
+	 */
+	public static final String SCAN_CACHE_LOCATION_PROPERTY_NAME = "spring.context.scan-cache";
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -114,6 +135,12 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Nullable
 	private CandidateComponentsIndex componentsIndex;
 
+	@Nullable
+	private CandidateComponentsScanCache scanCache = initScanCache();
+
+	@Nullable
+	private String scanCacheClassPathFingerprint;
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -163,6 +190,31 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		this.resourcePattern = resourcePattern;
 	}
 
+	/**
+	 * Set the file location for caching the outcome of classpath scanning
+	 * between restarts, or {@code null} for no scan cache.
+	 * <p>For every scan, the names of the classes matching the include filters
+	 * are stored along with a fingerprint of the archives containing the base
+	 * package and of all other archives on the classpath. Exclude filters and
+	 * {@link Conditional @Conditional} annotations are still evaluated on every
+	 * start. Scans of packages in classpath directories and scans with include
+	 * filters other than plain {@link AnnotationTypeFilter} and
+	 * {@link AssignableTypeFilter} instances are not cached.
+	 * <p>The default is the value of the
+	 * {@value #SCAN_CACHE_LOCATION_PROPERTY_NAME} system property, if any.
+	 * @since 6.1
+	 * @see #SCAN_CACHE_LOCATION_PROPERTY_NAME
+	 */
+	public void setScanCacheLocation(@Nullable Path scanCacheLocation) {
+		this.scanCache = (scanCacheLocation != null ? CandidateComponentsScanCache.forLocation(scanCacheLocation) : null);
+	}
+
+	@Nullable
+	private static CandidateComponentsScanCache initScanCache() {
+		String location = SpringProperties.getProperty(SCAN_CACHE_LOCATION_PROPERTY_NAME);
+		return (StringUtils.hasText(location) ? CandidateComponentsScanCache.forLocation(Paths.get(location)) : null);
+	}
+
 	/**
 	 * Add an include type filter to the <i>end</i> of the inclusion list.
 	 */
@@ -266,6 +318,7 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		this.resourcePatternResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
 		this.metadataReaderFactory = new CachingMetadataReaderFactory(resourceLoader);
 		this.componentsIndex = CandidateComponentsIndexLoader.loadIndex(this.resourcePatternResolver.getClassLoader());
+		this.scanCacheClassPathFingerprint = null;
 	}
 
 	/**
@@ -382,43 +435,65 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 				}
 				types.addAll(index.getCandidateTypes(basePackage, stereotype));
 			}
-			boolean traceEnabled = logger.isTraceEnabled();
-			boolean debugEnabled = logger.isDebugEnabled();
-			for (String type : types) {
-				MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(type);
-				if (isCandidateComponent(metadataReader)) {
-					ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
-					sbd.setSource(metadataReader.getResource());
-					if (isCandidateComponent(sbd)) {
-						if (debugEnabled) {
-							logger.debug("Using candidate component class from index: " + type);
-						}
-						candidates.add(sbd);
-					}
-					else {
-						if (debugEnabled) {
-							logger.debug("Ignored because not a concrete top-level class: " + type);
-						}
+			addCandidateComponents(candidates, types, "index");
+		}
+		catch (IOException ex) {
+			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
+		}
+		return candidates;
+	}
+
+	private void addCandidateComponents(Set<BeanDefinition> candidates, Collection<String> types, String origin)
+			throws IOException {
+
+		boolean traceEnabled = logger.isTraceEnabled();
+		boolean debugEnabled = logger.isDebugEnabled();
+		for (String type : types) {
+			MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(type);
+			if (isCandidateComponent(metadataReader)) {
+				ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
+				sbd.setSource(metadataReader.getResource());
+				if (isCandidateComponent(sbd)) {
+					if (debugEnabled) {
+						logger.debug("Using candidate component class from " + origin + ": " + type);
 					}
+					candidates.add(sbd);
 				}
 				else {
-					if (traceEnabled) {
-						logger.trace("Ignored because matching an exclude filter: " + type);
+					if (debugEnabled) {
+						logger.debug("Ignored because not a concrete top-level class: " + type);
 					}
 				}
 			}
+			else {
+				if (traceEnabled) {
+					logger.trace("Ignored because matching an exclude filter: " + type);
+				}
+			}
 		}
-		catch (IOException ex) {
-			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
-		}
-		return candidates;
 	}
 
 	private Set<BeanDefinition> scanCandidateComponents(String basePackage) {
 		Set<BeanDefinition> candidates = new LinkedHashSet<>();
 		try {
+			String resolvedBasePackage = resolveBasePackage(basePackage);
 			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
-					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
+					resolvedBasePackage + '/' + this.resourcePattern;
+
+			// Use the outcome of a previous scan of the same classpath roots, if possible.
+			CandidateComponentsScanCache scanCache = this.scanCache;
+			String scanKey = (scanCache != null ? getScanCacheKey(packageSearchPath) : null);
+			String fingerprint = (scanKey != null ? getScanCacheFingerprint(resolvedBasePackage) : null);
+			Set<String> includedTypes = null;
+			if (scanCache != null && scanKey != null && fingerprint != null) {
+				Set<String> cachedTypes = scanCache.getCandidateTypes(scanKey, fingerprint);
+				if (cachedTypes != null) {
+					addCandidateComponents(candidates, cachedTypes, "scan cache");
+					return candidates;
+				}
+				includedTypes = new LinkedHashSet<>();
+			}
+
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPath);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
@@ -433,6 +508,9 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 				}
 				try {
 					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					if (includedTypes != null && matchesIncludeFilter(metadataReader)) {
+						includedTypes.add(metadataReader.getClassMetadata().getClassName());
+					}
 					if (isCandidateComponent(metadataReader)) {
 						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 						sbd.setSource(resource);
@@ -464,6 +542,9 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 							"Failed to read candidate component class: " + resource, ex);
 				}
 			}
+			if (scanCache != null && includedTypes != null) {
+				scanCache.putCandidateTypes(scanKey, fingerprint, includedTypes);
+			}
 		}
 		catch (IOException ex) {
 			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
@@ -472,6 +553,60 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	}
 
 
+	/**
+	 * Build the key for caching the outcome of a scan of the given search path,
+	 * identifying the include filters applied.
+	 * <p>Only plain {@link AnnotationTypeFilter} and {@link AssignableTypeFilter}
+	 * instances can be described by a key: subclasses may override the matching.
+	 * @return the key, or {@code null} if the include filters are not supported
+	 * for caching
+	 * @see #setScanCacheLocation
+	 */
+	@Nullable
+	private String getScanCacheKey(String packageSearchPath) {
+		StringBuilder key = new StringBuilder(packageSearchPath);
+		for (TypeFilter includeFilter : this.includeFilters) {
+			key.append('|').append(includeFilter.getClass().getName()).append(':');
+			if (includeFilter.getClass() == AnnotationTypeFilter.class) {
+				AnnotationTypeFilter annotationTypeFilter = (AnnotationTypeFilter) includeFilter;
+				key.append(annotationTypeFilter.getAnnotationType().getName())
+						.append(",meta=").append(annotationTypeFilter.isConsiderMetaAnnotations());
+			}
+			else if (includeFilter.getClass() == AssignableTypeFilter.class) {
+				key.append(((AssignableTypeFilter) includeFilter).getTargetType().getName());
+			}
+			else {
+				return null;
+			}
+			AbstractTypeHierarchyTraversingFilter hierarchyFilter = (AbstractTypeHierarchyTraversingFilter) includeFilter;
+			key.append(",inherited=").append(hierarchyFilter.isConsiderInherited())
+					.append(",interfaces=").append(hierarchyFilter.isConsiderInterfaces());
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Compute the fingerprint for caching the outcome of a scan of the given
+	 * base package, reusing the fingerprint of the classpath archives across
+	 * scans with the same resource loader.
+	 * @return the fingerprint, or {@code null} if the classpath roots are not
+	 * supported for caching
+	 * @see CandidateComponentsScanCache#fingerprint
+	 */
+	@Nullable
+	private String getScanCacheFingerprint(String basePackagePath) throws IOException {
+		String classPathFingerprint = this.scanCacheClassPathFingerprint;
+		if (classPathFingerprint == null) {
+			classPathFingerprint = CandidateComponentsScanCache.fingerprintClassPath(getResourcePatternResolver());
+			if (classPathFingerprint == null) {
+				return null;
+			}
+			this.scanCacheClassPathFingerprint = classPathFingerprint;
+		}
+		return CandidateComponentsScanCache.fingerprint(
+				getResourcePatternResolver(), basePackagePath, classPathFingerprint);
+	}
+
 	/**
 	 * Resolve the specified base package into a pattern specification for
 	 * the package search path.
@@ -504,6 +639,20 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return false;
 	}
 
+	/**
+	 * Determine whether the given class matches at least one include filter,
+	 * independent of exclude filters and conditions.
+	 * @param metadataReader the ASM ClassReader for the class
+	 */
+	private boolean matchesIncludeFilter(MetadataReader metadataReader) throws IOException {
+		for (TypeFilter tf : this.includeFilters) {
+			if (tf.match(metadataReader, getMetadataReaderFactory())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Determine whether the given class is a candidate component based on any
 	 * {@code @Conditional} annotations.
@@ -18,6 +18,7 @@ package org.springframework.context.event;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +40,7 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -68,6 +70,9 @@ public abstract class AbstractApplicationEventMulticaster
 
 	final Map<ListenerCacheKey, CachedListenerRetriever> retrieverCache = new ConcurrentHashMap<>(64);
 
+	private final Map<ApplicationListener<?>, String> listenerBeanNames =
+			new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
 	@Nullable
 	private ClassLoader beanClassLoader;
 
@@ -136,6 +141,7 @@ public abstract class AbstractApplicationEventMulticaster
 			this.defaultRetriever.applicationListenerBeans.remove(listenerBeanName);
 			this.retrieverCache.clear();
 		}
+		this.listenerBeanNames.values().removeIf(listenerBeanName::equals);
 	}
 
 	@Override
@@ -152,6 +158,7 @@ public abstract class AbstractApplicationEventMulticaster
 			this.defaultRetriever.applicationListenerBeans.removeIf(predicate);
 			this.retrieverCache.clear();
 		}
+		this.listenerBeanNames.values().removeIf(predicate);
 	}
 
 	@Override
@@ -161,6 +168,7 @@ public abstract class AbstractApplicationEventMulticaster
 			this.defaultRetriever.applicationListenerBeans.clear();
 			this.retrieverCache.clear();
 		}
+		this.listenerBeanNames.clear();
 	}
 
 
@@ -260,8 +268,7 @@ public abstract class AbstractApplicationEventMulticaster
 			for (String listenerBeanName : listenerBeans) {
 				try {
 					if (supportsEvent(beanFactory, listenerBeanName, eventType)) {
-						ApplicationListener<?> listener =
-								beanFactory.getBean(listenerBeanName, ApplicationListener.class);
+						ApplicationListener<?> listener = getListenerBean(beanFactory, listenerBeanName);
 						if (!allListeners.contains(listener) && supportsEvent(listener, eventType, sourceType)) {
 							if (retriever != null) {
 								if (beanFactory.isSingleton(listenerBeanName)) {
@@ -306,6 +313,33 @@ public abstract class AbstractApplicationEventMulticaster
 		return allListeners;
 	}
 
+	/**
+	 * Obtain the listener bean of the given name, remembering the bean name
+	 * for the returned listener instance.
+	 * @see #getListenerBeanName
+	 */
+	private ApplicationListener<?> getListenerBean(BeanFactory beanFactory, String listenerBeanName) {
+		ApplicationListener<?> listener = beanFactory.getBean(listenerBeanName, ApplicationListener.class);
+		this.listenerBeanNames.put(listener, listenerBeanName);
+		return listener;
+	}
+
+	/**
+	 * Return the name of the listener bean that the given listener instance
+	 * has been obtained from, if any.
+	 * <p>This allows for identifying all instances of a non-singleton listener
+	 * bean, e.g. a prototype bean with a new instance for every event.
+	 * @param listener the listener instance
+	 * @return the name of the listener bean, or {@code null} if the listener
+	 * has not been obtained by bean name
+	 * @since 6.1
+	 * @see #addApplicationListenerBean
+	 */
+	@Nullable
+	protected String getListenerBeanName(ApplicationListener<?> listener) {
+		return this.listenerBeanNames.get(listener);
+	}
+
 	/**
 	 * Filter a bean-defined listener early through checking its generically declared
 	 * event type before trying to instantiate it.
@@ -447,6 +481,9 @@ public abstract class AbstractApplicationEventMulticaster
 		@Nullable
 		public volatile Set<String> applicationListenerBeans;
 
+		@Nullable
+		private volatile Collection<ApplicationListener<?>> singletonListeners;
+
 		@Nullable
 		public Collection<ApplicationListener<?>> getApplicationListeners() {
 			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
@@ -456,24 +493,30 @@ public abstract class AbstractApplicationEventMulticaster
 				return null;
 			}
 
+			if (applicationListenerBeans.isEmpty()) {
+				// Singleton listeners only -> reuse the same pre-sorted list for every event
+				Collection<ApplicationListener<?>> singletonListeners = this.singletonListeners;
+				if (singletonListeners == null) {
+					singletonListeners = Collections.unmodifiableList(new ArrayList<>(applicationListeners));
+					this.singletonListeners = singletonListeners;
+				}
+				return singletonListeners;
+			}
+
 			List<ApplicationListener<?>> allListeners = new ArrayList<>(
 					applicationListeners.size() + applicationListenerBeans.size());
 			allListeners.addAll(applicationListeners);
-			if (!applicationListenerBeans.isEmpty()) {
-				BeanFactory beanFactory = getBeanFactory();
-				for (String listenerBeanName : applicationListenerBeans) {
-					try {
-						allListeners.add(beanFactory.getBean(listenerBeanName, ApplicationListener.class));
-					}
-					catch (NoSuchBeanDefinitionException ex) {
-						// Singleton listener instance (without backing bean definition) disappeared -
-						// probably in the middle of the destruction phase
-					}
+			BeanFactory beanFactory = getBeanFactory();
+			for (String listenerBeanName : applicationListenerBeans) {
+				try {
+					allListeners.add(getListenerBean(beanFactory, listenerBeanName));
+				}
+				catch (NoSuchBeanDefinitionException ex) {
+					// Singleton listener instance (without backing bean definition) disappeared -
+					// probably in the middle of the destruction phase
 				}
 			}
-			if (!applicationListenerBeans.isEmpty()) {
-				AnnotationAwareOrderComparator.sort(allListeners);
-			}
+			AnnotationAwareOrderComparator.sort(allListeners);
 			return allListeners;
 		}
 	}
@@ -496,8 +539,7 @@ public abstract class AbstractApplicationEventMulticaster
 				BeanFactory beanFactory = getBeanFactory();
 				for (String listenerBeanName : this.applicationListenerBeans) {
 					try {
-						ApplicationListener<?> listener =
-								beanFactory.getBean(listenerBeanName, ApplicationListener.class);
+						ApplicationListener<?> listener = getListenerBean(beanFactory, listenerBeanName);
 						if (!allListeners.contains(listener)) {
 							allListeners.add(listener);
 						}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Variant of the standard {@link ApplicationListener} interface for listeners
+ * that are able to handle several events at once.
+ *
+ * <p>With {@linkplain SimpleApplicationEventMulticaster#setOrderedDelivery
+ * ordered asynchronous delivery}, events queued up for such a listener get
+ * passed in batches of up to the multicaster's
+ * {@linkplain SimpleApplicationEventMulticaster#setMaxBatchSize maximum batch size},
+ * in publication order. Otherwise, each event is passed as a single-element batch.
+ *
+ * @author agent
+ * @since 6.1
+ * @param <E> the specific {@code ApplicationEvent} subclass to listen to
+ * @see SimpleApplicationEventMulticaster#setMaxBatchSize
+ */
+public interface BatchApplicationListener<E extends ApplicationEvent> extends ApplicationListener<E> {
+
+	/**
+	 * Handle the given application events.
+	 * @param events the events to respond to, in publication order
+	 */
+	void onApplicationEvents(List<E> events);
+
+	/**
+	 * Handle a single application event as a single-element batch.
+	 * @param event the event to respond to
+	 */
+	@Override
+	default void onApplicationEvent(E event) {
+		onApplicationEvents(Collections.singletonList(event));
+	}
+
+}
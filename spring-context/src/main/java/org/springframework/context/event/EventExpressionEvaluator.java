@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,7 +26,11 @@ import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.context.expression.CachedExpressionEvaluator;
 import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.SpringProperties;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 
 /**
@@ -42,6 +46,19 @@ class EventExpressionEvaluator extends CachedExpressionEvaluator {
 	private final Map<ExpressionKey, Expression> conditionCache = new ConcurrentHashMap<>(64);
 
 
+	/**
+	 * Create a new evaluator, compiling frequently evaluated conditions in
+	 * {@link SpelCompilerMode#MIXED} mode unless a compiler mode has been
+	 * configured globally.
+	 * @see SpelParserConfiguration#SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME
+	 */
+	EventExpressionEvaluator() {
+		super(new SpelExpressionParser(SpringProperties.getProperty(
+				SpelParserConfiguration.SPRING_EXPRESSION_COMPILER_MODE_PROPERTY_NAME) != null ?
+				new SpelParserConfiguration() : new SpelParserConfiguration(SpelCompilerMode.MIXED, null)));
+	}
+
+
 	/**
 	 * Determine if the condition defined by the specified expression evaluates
 	 * to {@code true}.
@@ -16,7 +16,18 @@
 
 package org.springframework.context.event;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -26,7 +37,11 @@ import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.PayloadApplicationEvent;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ErrorHandler;
 
 /**
@@ -42,6 +57,15 @@ import org.springframework.util.ErrorHandler;
  * but adds minimal overhead. Specify an alternative task executor to have
  * listeners executed in different threads, for example from a thread pool.
  *
+ * <p>With a task executor, {@linkplain #setOrderedDelivery ordered delivery}
+ * queues up the events for each listener (or for each listener and
+ * {@linkplain #setOrderingKeyResolver ordering key}), delivering them one
+ * after the other in publication order, optionally in
+ * {@linkplain #setMaxBatchSize batches} to a {@link BatchApplicationListener}.
+ * Such queues may be {@linkplain #setQueueCapacity bounded}, with a
+ * corresponding {@linkplain #setOverflowPolicy overflow policy}, and expose
+ * their current state through {@link #getListenerQueueMetrics()}.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @author Stephane Nicoll
@@ -59,6 +83,24 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 	@Nullable
 	private volatile Log lazyLogger;
 
+	private boolean orderedDelivery = false;
+
+	@Nullable
+	private Function<? super ApplicationEvent, ?> orderingKeyResolver;
+
+	private int maxBatchSize = 1;
+
+	private int queueCapacity = Integer.MAX_VALUE;
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	private final Map<Class<?>, ResolvableType> eventTypeCache = new ConcurrentReferenceHashMap<>(64);
+
+	private final Map<ListenerQueueKey, ListenerEventQueue> listenerQueues = new ConcurrentHashMap<>(16);
+
+	/** Event counters per listener bean name or, if not obtained by name, per listener instance. */
+	final Map<Object, ListenerEventCounters> listenerEventCounters = new ConcurrentHashMap<>(16);
+
 
 	/**
 	 * Create a new SimpleApplicationEventMulticaster.
@@ -126,6 +168,148 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		return this.errorHandler;
 	}
 
+	/**
+	 * Specify whether to deliver events to each listener in publication order
+	 * when a {@linkplain #setTaskExecutor task executor} has been specified.
+	 * <p>Default is "false", submitting every single listener invocation to the
+	 * task executor, with no ordering guarantees between events. Switch this flag
+	 * to "true" for queueing up the events per listener instead, with a single
+	 * task at a time draining the queue of each listener through the executor.
+	 * A slow listener does not stall the publisher then, and still receives
+	 * all of its events in order.
+	 * <p>A listener queue gets discarded once it has been drained, as well as
+	 * when its listener gets removed, to be recreated for further events.
+	 * This flag has no effect without a task executor.
+	 * @since 6.1
+	 * @see #setOrderingKeyResolver
+	 * @see #setMaxBatchSize
+	 * @see #setQueueCapacity
+	 */
+	public void setOrderedDelivery(boolean orderedDelivery) {
+		this.orderedDelivery = orderedDelivery;
+	}
+
+	/**
+	 * Set a function resolving an ordering key for each event, e.g. the
+	 * identifier of the aggregate that a domain event refers to.
+	 * <p>With {@linkplain #setOrderedDelivery ordered delivery}, events are
+	 * then queued up per listener and key: events with the same key are
+	 * delivered to a listener in publication order, whereas events with
+	 * different keys may be delivered concurrently. Events resolving to a
+	 * {@code null} key share the common queue of the listener.
+	 * <p>Default is none, with a single queue per listener.
+	 * @since 6.1
+	 */
+	public void setOrderingKeyResolver(@Nullable Function<? super ApplicationEvent, ?> orderingKeyResolver) {
+		this.orderingKeyResolver = orderingKeyResolver;
+	}
+
+	/**
+	 * Set the maximum number of queued events to pass to a
+	 * {@link BatchApplicationListener} at once.
+	 * <p>Default is 1, delivering every event on its own. A higher value allows
+	 * batch listeners to catch up with a backlog of events in larger steps.
+	 * Only applies to {@linkplain #setOrderedDelivery ordered delivery}.
+	 * @since 6.1
+	 * @see BatchApplicationListener#onApplicationEvents
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than 0");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Set the maximum number of pending events per listener queue.
+	 * <p>Default is unbounded. With a bounded queue, the
+	 * {@linkplain #setOverflowPolicy overflow policy} determines what happens
+	 * when an event gets published to a full queue.
+	 * Only applies to {@linkplain #setOrderedDelivery ordered delivery}.
+	 * @since 6.1
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Set the policy to apply when an event gets published to a full
+	 * listener queue.
+	 * <p>Default is {@link OverflowPolicy#BLOCK}, making the publisher wait
+	 * for the listener to catch up. Note that this may deadlock if a listener
+	 * publishes further events to its own full queue.
+	 * @since 6.1
+	 * @see #setQueueCapacity
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Return a snapshot of the current state of all active listener queues
+	 * for {@linkplain #setOrderedDelivery ordered delivery}.
+	 * <p>Queues that have been drained are discarded and therefore not included.
+	 * The delivered and dropped event counts are kept per listener though,
+	 * accumulating across all queues of the listener until it gets removed.
+	 * For a listener bean, the counts are kept per bean name, also covering all
+	 * instances of a non-singleton listener bean.
+	 * @since 6.1
+	 */
+	public List<ListenerQueueMetrics> getListenerQueueMetrics() {
+		List<ListenerQueueMetrics> metrics = new ArrayList<>(this.listenerQueues.size());
+		for (ListenerEventQueue queue : this.listenerQueues.values()) {
+			metrics.add(queue.getMetrics());
+		}
+		return metrics;
+	}
+
+	@Override
+	public void removeApplicationListener(ApplicationListener<?> listener) {
+		super.removeApplicationListener(listener);
+		discardListenerQueues(queueListener -> queueListener == listener);
+	}
+
+	@Override
+	public void removeApplicationListeners(Predicate<ApplicationListener<?>> predicate) {
+		super.removeApplicationListeners(predicate);
+		discardListenerQueues(predicate);
+	}
+
+	@Override
+	public void removeApplicationListenerBean(String listenerBeanName) {
+		super.removeApplicationListenerBean(listenerBeanName);
+		this.listenerEventCounters.remove(listenerBeanName);
+	}
+
+	@Override
+	public void removeApplicationListenerBeans(Predicate<String> predicate) {
+		super.removeApplicationListenerBeans(predicate);
+		this.listenerEventCounters.keySet().removeIf(key -> key instanceof String beanName && predicate.test(beanName));
+	}
+
+	@Override
+	public void removeAllListeners() {
+		super.removeAllListeners();
+		discardListenerQueues(queueListener -> true);
+		this.listenerEventCounters.clear();
+	}
+
+	/**
+	 * Discard the queues of the listeners matching the given predicate,
+	 * dropping their pending events.
+	 * <p>Queues of removed listener beans are not discarded here but once
+	 * they have been drained.
+	 */
+	private void discardListenerQueues(Predicate<ApplicationListener<?>> predicate) {
+		for (ListenerEventQueue queue : this.listenerQueues.values()) {
+			if (predicate.test(queue.queueKey.listener())) {
+				queue.discard();
+			}
+		}
+		this.listenerEventCounters.keySet().removeIf(
+				key -> key instanceof ApplicationListener<?> listener && predicate.test(listener));
+	}
+
 	@Override
 	public void multicastEvent(ApplicationEvent event) {
 		multicastEvent(event, resolveDefaultEventType(event));
@@ -136,7 +320,10 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		ResolvableType type = (eventType != null ? eventType : resolveDefaultEventType(event));
 		Executor executor = getTaskExecutor();
 		for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
-			if (executor != null) {
+			if (executor != null && this.orderedDelivery) {
+				enqueueEvent(executor, listener, event);
+			}
+			else if (executor != null) {
 				executor.execute(() -> invokeListener(listener, event));
 			}
 			else {
@@ -146,7 +333,62 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 	}
 
 	private ResolvableType resolveDefaultEventType(ApplicationEvent event) {
-		return ResolvableType.forInstance(event);
+		if (event instanceof ResolvableTypeProvider) {
+			return ResolvableType.forInstance(event);
+		}
+		// Plain event class: share the type per class, also for quick cache key matching
+		return this.eventTypeCache.computeIfAbsent(event.getClass(), ResolvableType::forClass);
+	}
+
+	private void enqueueEvent(Executor executor, ApplicationListener<?> listener, ApplicationEvent event) {
+		Function<? super ApplicationEvent, ?> keyResolver = this.orderingKeyResolver;
+		ListenerQueueKey queueKey = new ListenerQueueKey(listener, (keyResolver != null ? keyResolver.apply(event) : null));
+		while (true) {
+			ListenerEventQueue queue = this.listenerQueues.computeIfAbsent(queueKey,
+					key -> new ListenerEventQueue(key, executor, this.queueCapacity, this.overflowPolicy,
+							getListenerEventCounters(listener)));
+			if (queue.offer(event)) {
+				return;
+			}
+			// Queue got drained or discarded in the meantime -> retry with a new queue for the same key.
+		}
+	}
+
+	private ListenerEventCounters getListenerEventCounters(ApplicationListener<?> listener) {
+		// Share the counters of all instances of a listener bean, e.g. a prototype
+		String listenerBeanName = getListenerBeanName(listener);
+		Object counterKey = (listenerBeanName != null ? listenerBeanName : listener);
+		return this.listenerEventCounters.computeIfAbsent(counterKey, key -> new ListenerEventCounters());
+	}
+
+	/**
+	 * Invoke the given listener with the given events, passing them on as a
+	 * batch in case of a {@link BatchApplicationListener}.
+	 * @param listener the ApplicationListener to invoke
+	 * @param events the queued events to propagate, in publication order
+	 * @since 6.1
+	 * @see #invokeListener(ApplicationListener, ApplicationEvent)
+	 */
+	protected void invokeListener(ApplicationListener<?> listener, List<ApplicationEvent> events) {
+		if (listener instanceof BatchApplicationListener<?> batchListener) {
+			ErrorHandler errorHandler = getErrorHandler();
+			if (errorHandler != null) {
+				try {
+					doInvokeListener(batchListener, events);
+				}
+				catch (Throwable err) {
+					errorHandler.handleError(err);
+				}
+			}
+			else {
+				doInvokeListener(batchListener, events);
+			}
+		}
+		else {
+			for (ApplicationEvent event : events) {
+				invokeListener(listener, event);
+			}
+		}
 	}
 
 	/**
@@ -176,25 +418,42 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 			listener.onApplicationEvent(event);
 		}
 		catch (ClassCastException ex) {
-			String msg = ex.getMessage();
-			if (msg == null || matchesClassCastMessage(msg, event.getClass()) ||
-					(event instanceof PayloadApplicationEvent payloadEvent &&
-							matchesClassCastMessage(msg, payloadEvent.getPayload().getClass()))) {
-				// Possibly a lambda-defined listener which we could not resolve the generic event type for
-				// -> let's suppress the exception.
-				Log loggerToUse = this.lazyLogger;
-				if (loggerToUse == null) {
-					loggerToUse = LogFactory.getLog(getClass());
-					this.lazyLogger = loggerToUse;
-				}
-				if (loggerToUse.isTraceEnabled()) {
-					loggerToUse.trace("Non-matching event type for listener: " + listener, ex);
-				}
+			handleClassCastException(ex, listener, List.of(event));
+		}
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private void doInvokeListener(BatchApplicationListener listener, List<ApplicationEvent> events) {
+		try {
+			listener.onApplicationEvents(events);
+		}
+		catch (ClassCastException ex) {
+			handleClassCastException(ex, listener, events);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private void handleClassCastException(
+			ClassCastException ex, ApplicationListener<?> listener, List<ApplicationEvent> events) {
+
+		String msg = ex.getMessage();
+		if (msg == null || events.stream().anyMatch(event -> matchesClassCastMessage(msg, event.getClass()) ||
+				(event instanceof PayloadApplicationEvent payloadEvent &&
+						matchesClassCastMessage(msg, payloadEvent.getPayload().getClass())))) {
+			// Possibly a lambda-defined listener which we could not resolve the generic event type for
+			// -> let's suppress the exception.
+			Log loggerToUse = this.lazyLogger;
+			if (loggerToUse == null) {
+				loggerToUse = LogFactory.getLog(getClass());
+				this.lazyLogger = loggerToUse;
 			}
-			else {
-				throw ex;
+			if (loggerToUse.isTraceEnabled()) {
+				loggerToUse.trace("Non-matching event type for listener: " + listener, ex);
 			}
 		}
+		else {
+			throw ex;
+		}
 	}
 
 	private boolean matchesClassCastMessage(String classCastMessage, Class<?> eventClass) {
@@ -215,4 +474,292 @@ public class SimpleApplicationEventMulticaster extends AbstractApplicationEventM
 		return false;
 	}
 
+
+	/**
+	 * Policy for publishing an event to a full listener queue.
+	 * @since 6.1
+	 * @see #setOverflowPolicy
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Block the publisher until the listener queue has room again.
+		 */
+		BLOCK,
+
+		/**
+		 * Discard the oldest pending event in the listener queue,
+		 * making room for the newly published event.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Discard the newly published event for the listener.
+		 */
+		DROP_NEWEST,
+
+		/**
+		 * Reject the newly published event, throwing a
+		 * {@link TaskRejectedException} to the publisher.
+		 */
+		REJECT
+	}
+
+
+	/**
+	 * Snapshot of the state of a listener queue.
+	 * @param listener the listener that the queue delivers events to
+	 * @param orderingKey the ordering key of the queue, if any
+	 * @param pendingEvents the number of events waiting to be delivered
+	 * @param deliveredEvents the number of events delivered to the listener so far,
+	 * across all of its queues
+	 * @param droppedEvents the number of events dropped for the listener so far,
+	 * due to overflow or removal of the listener
+	 * @param lag the time that the oldest pending event has been waiting for
+	 * (zero if no events pending)
+	 * @since 6.1
+	 * @see #getListenerQueueMetrics()
+	 */
+	public record ListenerQueueMetrics(ApplicationListener<?> listener, @Nullable Object orderingKey,
+			int pendingEvents, long deliveredEvents, long droppedEvents, Duration lag) {
+	}
+
+
+	/**
+	 * Key for a listener queue: the listener plus the ordering key, if any.
+	 */
+	private record ListenerQueueKey(ApplicationListener<?> listener, @Nullable Object orderingKey) {
+	}
+
+
+	/**
+	 * Event queue for a specific listener, drained by one task
+	 * at a time on the given executor.
+	 */
+	private class ListenerEventQueue {
+
+		private final ListenerQueueKey queueKey;
+
+		private final Executor executor;
+
+		private final int capacity;
+
+		private final OverflowPolicy overflowPolicy;
+
+		private final ArrayDeque<QueuedEvent> events = new ArrayDeque<>();
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Condition notFull = this.lock.newCondition();
+
+		private final ListenerEventCounters counters;
+
+		private boolean draining;
+
+		/** Whether this queue has been drained and is not to accept further events. */
+		private boolean idle;
+
+		/** Whether this queue has been discarded along with its listener. */
+		private boolean discarded;
+
+		public ListenerEventQueue(ListenerQueueKey queueKey, Executor executor, int capacity,
+				OverflowPolicy overflowPolicy, ListenerEventCounters counters) {
+
+			this.queueKey = queueKey;
+			this.executor = executor;
+			this.capacity = capacity;
+			this.overflowPolicy = overflowPolicy;
+			this.counters = counters;
+		}
+
+		/**
+		 * Add the given event to this queue, scheduling a drain task if necessary.
+		 * @return {@code true} if handled, {@code false} if this queue has been
+		 * drained or discarded in the meantime
+		 */
+		public boolean offer(ApplicationEvent event) {
+			boolean scheduleDrain;
+			this.lock.lock();
+			try {
+				if (this.idle || this.discarded) {
+					return false;
+				}
+				while (this.events.size() >= this.capacity) {
+					switch (this.overflowPolicy) {
+						case BLOCK -> {
+							try {
+								this.notFull.await();
+							}
+							catch (InterruptedException ex) {
+								Thread.currentThread().interrupt();
+								throw new TaskRejectedException(
+										"Interrupted while waiting for queue of listener " + this.queueKey.listener(), ex);
+							}
+							if (this.discarded) {
+								// Listener removed in the meantime -> drop the event.
+								this.counters.dropped.increment();
+								return true;
+							}
+							if (this.idle) {
+								// Queue drained in the meantime -> retry with a new queue.
+								return false;
+							}
+						}
+						case DROP_OLDEST -> {
+							this.events.poll();
+							this.counters.dropped.increment();
+						}
+						case DROP_NEWEST -> {
+							this.counters.dropped.increment();
+							return true;
+						}
+						case REJECT -> {
+							this.counters.dropped.increment();
+							throw new TaskRejectedException("Queue of listener " + this.queueKey.listener() +
+									" reached its capacity of " + this.capacity + " pending events");
+						}
+					}
+				}
+				this.events.add(new QueuedEvent(event, System.nanoTime()));
+				scheduleDrain = !this.draining;
+				this.draining = true;
+			}
+			finally {
+				this.lock.unlock();
+			}
+			if (scheduleDrain) {
+				schedule();
+			}
+			return true;
+		}
+
+		private void schedule() {
+			try {
+				this.executor.execute(this::drain);
+			}
+			catch (RuntimeException ex) {
+				this.lock.lock();
+				try {
+					this.draining = false;
+				}
+				finally {
+					this.lock.unlock();
+				}
+				throw ex;
+			}
+		}
+
+		private void drain() {
+			try {
+				List<ApplicationEvent> batch;
+				while ((batch = pollBatch()) != null) {
+					invokeListener(this.queueKey.listener(), batch);
+					this.counters.delivered.add(batch.size());
+				}
+			}
+			catch (Throwable ex) {
+				// Listener exception propagating: continue with remaining events in a new task.
+				boolean reschedule;
+				this.lock.lock();
+				try {
+					reschedule = !this.events.isEmpty();
+					if (!reschedule) {
+						markIdle();
+					}
+				}
+				finally {
+					this.lock.unlock();
+				}
+				if (reschedule) {
+					try {
+						schedule();
+					}
+					catch (RuntimeException rescheduleEx) {
+						// Keep the listener exception, remaining events get drained on the next offer.
+						ex.addSuppressed(rescheduleEx);
+					}
+				}
+				throw ex;
+			}
+		}
+
+		@Nullable
+		private List<ApplicationEvent> pollBatch() {
+			this.lock.lock();
+			try {
+				if (this.events.isEmpty()) {
+					markIdle();
+					return null;
+				}
+				int batchSize = (this.queueKey.listener() instanceof BatchApplicationListener ?
+						Math.min(maxBatchSize, this.events.size()) : 1);
+				List<ApplicationEvent> batch = new ArrayList<>(batchSize);
+				for (int i = 0; i < batchSize; i++) {
+					batch.add(this.events.poll().event());
+				}
+				this.notFull.signalAll();
+				return batch;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void markIdle() {
+			// Retire drained queue, to be recreated for further events.
+			this.draining = false;
+			this.idle = true;
+			this.notFull.signalAll();
+			listenerQueues.remove(this.queueKey, this);
+		}
+
+		/**
+		 * Discard this queue along with its pending events,
+		 * releasing any publishers waiting for room in the queue.
+		 */
+		public void discard() {
+			this.lock.lock();
+			try {
+				this.discarded = true;
+				this.counters.dropped.add(this.events.size());
+				this.events.clear();
+				this.notFull.signalAll();
+				listenerQueues.remove(this.queueKey, this);
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		public ListenerQueueMetrics getMetrics() {
+			this.lock.lock();
+			try {
+				long now = System.nanoTime();
+				QueuedEvent oldest = this.events.peek();
+				Duration lag = (oldest != null ? Duration.ofNanos(now - oldest.timestamp()) : Duration.ZERO);
+				return new ListenerQueueMetrics(this.queueKey.listener(), this.queueKey.orderingKey(),
+						this.events.size(), this.counters.delivered.sum(), this.counters.dropped.sum(), lag);
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+
+	private record QueuedEvent(ApplicationEvent event, long timestamp) {
+	}
+
+
+	/**
+	 * Event counters for a specific listener, shared by all of its queues
+	 * and outliving each of them.
+	 */
+	static final class ListenerEventCounters {
+
+		final LongAdder delivered = new LongAdder();
+
+		final LongAdder dropped = new LongAdder();
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.Map;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -94,11 +95,14 @@ public abstract class CachedExpressionEvaluator {
 
 	/**
 	 * Parse the specified {@code expression}.
+	 * <p>As of 6.1, this goes through the {@linkplain SpelExpressionCache#getSharedInstance()
+	 * shared expression cache}, sharing the tokenized expression across evaluators
+	 * while returning a separate expression instance with its own AST for each call.
 	 * @param expression the expression to parse
 	 * @since 5.3.13
 	 */
 	protected Expression parseExpression(String expression) {
-		return getParser().parseExpression(expression);
+		return SpelExpressionCache.getSharedInstance().getExpression(getParser(), expression);
 	}
 
 	private ExpressionKey createKey(AnnotatedElementKey elementKey, String expression) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -53,6 +54,8 @@ class ReschedulingRunnable extends DelegatingErrorHandlingRunnable implements Sc
 
 	private final ScheduledExecutorService executor;
 
+	private final Runnable scheduledTask;
+
 	@Nullable
 	private ScheduledFuture<?> currentFuture;
 
@@ -65,10 +68,23 @@ class ReschedulingRunnable extends DelegatingErrorHandlingRunnable implements Sc
 	public ReschedulingRunnable(Runnable delegate, Trigger trigger, Clock clock,
 			ScheduledExecutorService executor, ErrorHandler errorHandler) {
 
+		this(delegate, trigger, clock, executor, null, errorHandler);
+	}
+
+	/**
+	 * Create a new {@code ReschedulingRunnable} which fires its trigger on the given
+	 * {@code ScheduledExecutorService} but hands off each actual task execution to
+	 * the given target {@code Executor}, rescheduling after the task's completion.
+	 * @since 6.1
+	 */
+	public ReschedulingRunnable(Runnable delegate, Trigger trigger, Clock clock,
+			ScheduledExecutorService executor, @Nullable Executor targetExecutor, ErrorHandler errorHandler) {
+
 		super(delegate, errorHandler);
 		this.trigger = trigger;
 		this.triggerContext = new SimpleTriggerContext(clock);
 		this.executor = executor;
+		this.scheduledTask = (targetExecutor != null ? () -> targetExecutor.execute(this) : this);
 	}
 
 
@@ -80,7 +96,7 @@ class ReschedulingRunnable extends DelegatingErrorHandlingRunnable implements Sc
 				return null;
 			}
 			Duration initialDelay = Duration.between(this.triggerContext.getClock().instant(), this.scheduledExecutionTime);
-			this.currentFuture = this.executor.schedule(this, initialDelay.toMillis(), TimeUnit.MILLISECONDS);
+			this.currentFuture = this.executor.schedule(this.scheduledTask, initialDelay.toMillis(), TimeUnit.MILLISECONDS);
 			return this;
 		}
 	}
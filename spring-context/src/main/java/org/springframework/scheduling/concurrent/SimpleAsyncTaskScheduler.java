@@ -0,0 +1,225 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * A simple implementation of Spring's {@link TaskScheduler} interface, using
+ * a single scheduler thread and executing every scheduled task in an individual
+ * separate thread. This is an attractive choice with virtual threads on JDK 21,
+ * expecting common usage with {@link #setVirtualThreads setVirtualThreads(true)}.
+ *
+ * <p>Supports a graceful shutdown through {@link #setTaskTerminationTimeout},
+ * at the expense of task tracking overhead per execution thread at runtime.
+ * Supports limiting concurrent threads through {@link #setConcurrencyLimit}.
+ * By default, the number of concurrent task executions is unlimited.
+ * This allows for dynamic concurrency of scheduled task executions, in contrast
+ * to {@link ThreadPoolTaskScheduler} which requires a fixed pool size.
+ *
+ * <p><b>NOTE: This implementation does not reuse threads!</b> Consider a
+ * thread-pooling TaskScheduler implementation instead, in particular for
+ * scheduling a large number of short-lived tasks. Alternatively, on JDK 21,
+ * consider setting {@link #setVirtualThreads} to {@code true}.
+ *
+ * <p>Extends {@link SimpleAsyncTaskExecutor} and can serve as a fully capable
+ * replacement for it, e.g. as a single shared instance serving as a
+ * {@link org.springframework.core.task.TaskExecutor} as well as a {@link TaskScheduler}.
+ * This is generally not the case with other executor/scheduler implementations
+ * which tend to have specific constraints for the scheduler thread pool,
+ * requiring a separate thread pool for general executor purposes in practice.
+ *
+ * <p>Fixed-delay and trigger-based tasks are rescheduled after their completion,
+ * whereas fixed-rate tasks are dispatched according to their period regardless
+ * of the completion of previous executions: potentially leading to overlapping
+ * executions of the same task in case of an execution time above the period.
+ *
+ * @author agent
+ * @since 6.1
+ * @see #setVirtualThreads
+ * @see #setTaskTerminationTimeout
+ * @see #setConcurrencyLimit
+ * @see SimpleAsyncTaskExecutor
+ * @see ThreadPoolTaskScheduler
+ */
+@SuppressWarnings("serial")
+public class SimpleAsyncTaskScheduler extends SimpleAsyncTaskExecutor implements TaskScheduler {
+
+	private static final TimeUnit NANO = TimeUnit.NANOSECONDS;
+
+
+	private final ScheduledThreadPoolExecutor scheduledExecutor = createScheduledExecutor();
+
+	@Nullable
+	private ErrorHandler errorHandler;
+
+	private Clock clock = Clock.systemDefaultZone();
+
+
+	/**
+	 * Set a custom {@link ErrorHandler} strategy.
+	 * <p>By default, errors from one-time tasks are logged and propagated
+	 * whereas errors from repeating tasks are logged and suppressed.
+	 * @see TaskUtils#getDefaultErrorHandler
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		Assert.notNull(errorHandler, "ErrorHandler must not be null");
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Set the clock to use for scheduling purposes.
+	 * <p>The default clock is the system clock for the default time zone.
+	 * @see Clock#systemDefaultZone()
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public Clock getClock() {
+		return this.clock;
+	}
+
+
+	private ScheduledThreadPoolExecutor createScheduledExecutor() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+			Thread thread = createThread(task);
+			thread.setName(getThreadNamePrefix() + "scheduler");
+			return thread;
+		});
+		executor.setRemoveOnCancelPolicy(true);
+		executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		return executor;
+	}
+
+	private Runnable scheduledTask(Runnable task, boolean isRepeatingTask) {
+		Runnable errorHandlingTask = TaskUtils.decorateTaskWithErrorHandler(task, this.errorHandler, isRepeatingTask);
+		return () -> execute(errorHandlingTask);
+	}
+
+	private void assertActive(Runnable task) {
+		if (!isActive()) {
+			throw new TaskRejectedException(
+					getClass().getSimpleName() + " has been closed already - did not accept task: " + task);
+		}
+	}
+
+
+	@Override
+	@Nullable
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+		assertActive(task);
+		try {
+			ErrorHandler errorHandler = this.errorHandler;
+			if (errorHandler == null) {
+				errorHandler = TaskUtils.getDefaultErrorHandler(true);
+			}
+			return new ReschedulingRunnable(
+					task, trigger, this.clock, this.scheduledExecutor, this, errorHandler).schedule();
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Scheduler did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		assertActive(task);
+		Duration delay = Duration.between(this.clock.instant(), startTime);
+		try {
+			return this.scheduledExecutor.schedule(scheduledTask(task, false), NANO.convert(delay), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Scheduler did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+		assertActive(task);
+		Duration initialDelay = Duration.between(this.clock.instant(), startTime);
+		try {
+			return this.scheduledExecutor.scheduleAtFixedRate(scheduledTask(task, true),
+					NANO.convert(initialDelay), NANO.convert(period), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Scheduler did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+		assertActive(task);
+		try {
+			return this.scheduledExecutor.scheduleAtFixedRate(scheduledTask(task, true),
+					0, NANO.convert(period), NANO);
+		}
+		catch (RejectedExecutionException ex) {
+			throw new TaskRejectedException("Scheduler did not accept task: " + task, ex);
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+		PeriodicTrigger trigger = new PeriodicTrigger(delay);
+		trigger.setInitialDelay(Duration.between(this.clock.instant(), startTime));
+		return scheduleWithFixedDelay(task, trigger);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+		return scheduleWithFixedDelay(task, new PeriodicTrigger(delay));
+	}
+
+	private ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, PeriodicTrigger trigger) {
+		// Rescheduled after completion on the execution thread, never blocking the scheduler thread
+		ScheduledFuture<?> future = schedule(task, trigger);
+		Assert.state(future != null, "PeriodicTrigger did not provide an initial execution time");
+		return future;
+	}
+
+
+	/**
+	 * Shut down the single scheduler thread, cancelling all pending triggers,
+	 * and then await the termination of currently executing tasks according
+	 * to the {@link #setTaskTerminationTimeout task termination timeout}.
+	 */
+	@Override
+	public void close() {
+		this.scheduledExecutor.shutdownNow();
+		super.close();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.validation;
 import java.io.Serializable;
 
 import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.ConfigurablePropertyAccessor;
 import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.lang.Nullable;
@@ -50,6 +51,8 @@ public class BeanPropertyBindingResult extends AbstractPropertyBindingResult imp
 
 	private final int autoGrowCollectionLimit;
 
+	private boolean compiledPropertyAccess = false;
+
 	@Nullable
 	private transient BeanWrapper beanWrapper;
 
@@ -80,6 +83,25 @@ public class BeanPropertyBindingResult extends AbstractPropertyBindingResult imp
 	}
 
 
+	/**
+	 * Set whether the underlying {@link BeanWrapper} should access bean properties
+	 * through compiled accessor functions rather than through reflection.
+	 * <p>Default is "false". Needs to be set before the first property access.
+	 * @since 6.1
+	 * @see BeanWrapperImpl#setCompiledPropertyAccess
+	 */
+	public void setCompiledPropertyAccess(boolean compiledPropertyAccess) {
+		this.compiledPropertyAccess = compiledPropertyAccess;
+	}
+
+	/**
+	 * Return whether bean properties get accessed through compiled accessor functions.
+	 * @since 6.1
+	 */
+	public boolean isCompiledPropertyAccess() {
+		return this.compiledPropertyAccess;
+	}
+
 	@Override
 	@Nullable
 	public final Object getTarget() {
@@ -98,6 +120,9 @@ public class BeanPropertyBindingResult extends AbstractPropertyBindingResult imp
 			this.beanWrapper.setExtractOldValueForEditor(true);
 			this.beanWrapper.setAutoGrowNestedPaths(this.autoGrowNestedPaths);
 			this.beanWrapper.setAutoGrowCollectionLimit(this.autoGrowCollectionLimit);
+			if (this.compiledPropertyAccess && this.beanWrapper instanceof BeanWrapperImpl beanWrapperImpl) {
+				beanWrapperImpl.setCompiledPropertyAccess(true);
+			}
 		}
 		return this.beanWrapper;
 	}
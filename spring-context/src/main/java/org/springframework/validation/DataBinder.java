@@ -145,6 +145,8 @@ public class DataBinder implements PropertyEditorRegistry, TypeConverter {
 
 	private int autoGrowCollectionLimit = DEFAULT_AUTO_GROW_COLLECTION_LIMIT;
 
+	private boolean compiledPropertyAccess = false;
+
 	@Nullable
 	private String[] allowedFields;
 
@@ -245,6 +247,29 @@ public class DataBinder implements PropertyEditorRegistry, TypeConverter {
 		return this.autoGrowCollectionLimit;
 	}
 
+	/**
+	 * Set whether bean properties should be accessed through accessor functions
+	 * compiled once per bean class, rather than through reflective invocation.
+	 * <p>Default is "false". Only applies to bean property access (DataBinder's
+	 * default mode), not to field access.
+	 * @since 6.1
+	 * @see #initBeanPropertyAccess()
+	 * @see org.springframework.beans.BeanWrapperImpl#setCompiledPropertyAccess
+	 */
+	public void setCompiledPropertyAccess(boolean compiledPropertyAccess) {
+		Assert.state(this.bindingResult == null,
+				"DataBinder is already initialized - call setCompiledPropertyAccess before other configuration methods");
+		this.compiledPropertyAccess = compiledPropertyAccess;
+	}
+
+	/**
+	 * Return whether bean properties get accessed through compiled accessor functions.
+	 * @since 6.1
+	 */
+	public boolean isCompiledPropertyAccess() {
+		return this.compiledPropertyAccess;
+	}
+
 	/**
 	 * Initialize standard JavaBean property access for this DataBinder.
 	 * <p>This is the default; an explicit call just leads to eager initialization.
@@ -265,6 +290,7 @@ public class DataBinder implements PropertyEditorRegistry, TypeConverter {
 	protected AbstractPropertyBindingResult createBeanPropertyBindingResult() {
 		BeanPropertyBindingResult result = new BeanPropertyBindingResult(getTarget(),
 				getObjectName(), isAutoGrowNestedPaths(), getAutoGrowCollectionLimit());
+		result.setCompiledPropertyAccess(isCompiledPropertyAccess());
 
 		if (this.conversionService != null) {
 			result.initConversion(this.conversionService);
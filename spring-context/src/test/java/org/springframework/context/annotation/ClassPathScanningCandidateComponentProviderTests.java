@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,21 @@
 
 package org.springframework.context.annotation;
 
+import java.io.IOException;
+import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -49,16 +57,24 @@ import example.scannable.StubFooDao;
 import example.scannable.sub.BarComponent;
 import org.aspectj.lang.annotation.Aspect;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.testfixture.index.CandidateComponentsTestClassLoader;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Controller;
 import org.springframework.stereotype.Repository;
@@ -80,7 +96,8 @@ class ClassPathScanningCandidateComponentProviderTests {
 	private static final String TEST_BASE_PACKAGE = "example.scannable";
 	private static final String TEST_PROFILE_PACKAGE = "example.profilescan";
 	private static final String TEST_DEFAULT_PROFILE_NAME = "testDefault";
-
+	private static final String SCAN_CACHE_PACKAGE = "scancache";
+	private static final String SCAN_CACHE_COMPONENT = SCAN_CACHE_PACKAGE + ".CachedComponent";
 	private static final ClassLoader TEST_BASE_CLASSLOADER = CandidateComponentsTestClassLoader.index(
 			ClassPathScanningCandidateComponentProviderTests.class.getClassLoader(),
 			new ClassPathResource("spring.components", NamedComponent.class));
@@ -301,6 +318,118 @@ class ClassPathScanningCandidateComponentProviderTests {
 				BarComponent.class, JakartaManagedBeanComponent.class);
 	}
 
+	@Test
+	void scanCacheHitOnSecondScan(@TempDir Path tempDir) throws Exception {
+		Path scanCacheLocation = tempDir.resolve("scan-cache.properties");
+		ClassLoader classLoader = createScanCacheClassLoader(tempDir);
+		CountingResourcePatternResolver resolver = new CountingResourcePatternResolver(classLoader);
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(resolver);
+		provider.setScanCacheLocation(scanCacheLocation);
+		assertThat(provider.findCandidateComponents(SCAN_CACHE_PACKAGE)).extracting(BeanDefinition::getBeanClassName)
+				.containsExactly(SCAN_CACHE_COMPONENT);
+		assertThat(resolver.classSearches).isEqualTo(1);
+		assertThat(scanCacheLocation).isRegularFile();
+
+		resolver = new CountingResourcePatternResolver(classLoader);
+		provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(resolver);
+		provider.setScanCacheLocation(scanCacheLocation);
+		assertThat(provider.findCandidateComponents(SCAN_CACHE_PACKAGE)).extracting(BeanDefinition::getBeanClassName)
+				.containsExactly(SCAN_CACHE_COMPONENT);
+		assertThat(resolver.classSearches).isZero();
+	}
+
+	@Test
+	void scanCacheMissOnChangedIncludeFilter(@TempDir Path tempDir) throws Exception {
+		Path scanCacheLocation = tempDir.resolve("scan-cache.properties");
+		ClassLoader classLoader = createScanCacheClassLoader(tempDir);
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new CountingResourcePatternResolver(classLoader));
+		provider.setScanCacheLocation(scanCacheLocation);
+		provider.findCandidateComponents(SCAN_CACHE_PACKAGE);
+
+		CountingResourcePatternResolver resolver = new CountingResourcePatternResolver(classLoader);
+		provider = new ClassPathScanningCandidateComponentProvider(false);
+		provider.setResourceLoader(resolver);
+		provider.setScanCacheLocation(scanCacheLocation);
+		provider.addIncludeFilter(new AnnotationTypeFilter(Component.class, false));
+		assertThat(provider.findCandidateComponents(SCAN_CACHE_PACKAGE)).extracting(BeanDefinition::getBeanClassName)
+				.containsExactly(SCAN_CACHE_COMPONENT);
+		assertThat(resolver.classSearches).isEqualTo(1);
+
+		resolver = new CountingResourcePatternResolver(classLoader);
+		provider = new ClassPathScanningCandidateComponentProvider(false);
+		provider.setResourceLoader(resolver);
+		provider.setScanCacheLocation(scanCacheLocation);
+		provider.addIncludeFilter(new AnnotationTypeFilter(Service.class));
+		assertThat(provider.findCandidateComponents(SCAN_CACHE_PACKAGE)).isEmpty();
+		assertThat(resolver.classSearches).isEqualTo(1);
+	}
+
+	@Test
+	void excludeFilterWithScanCache(@TempDir Path tempDir) throws Exception {
+		Path scanCacheLocation = tempDir.resolve("scan-cache.properties");
+		ClassLoader classLoader = createScanCacheClassLoader(tempDir);
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new CountingResourcePatternResolver(classLoader));
+		provider.setScanCacheLocation(scanCacheLocation);
+		provider.findCandidateComponents(SCAN_CACHE_PACKAGE);
+
+		CountingResourcePatternResolver resolver = new CountingResourcePatternResolver(classLoader);
+		provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(resolver);
+		provider.setScanCacheLocation(scanCacheLocation);
+		provider.addExcludeFilter(new RegexPatternTypeFilter(Pattern.compile(SCAN_CACHE_PACKAGE + ".*")));
+		assertThat(provider.findCandidateComponents(SCAN_CACHE_PACKAGE)).isEmpty();
+		assertThat(resolver.classSearches).isZero();
+	}
+
+	@Test
+	void scanCacheNotUsedForPackageInDirectory(@TempDir Path tempDir) {
+		Path scanCacheLocation = tempDir.resolve("scan-cache.properties");
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setScanCacheLocation(scanCacheLocation);
+		testDefault(provider, true, false);
+		assertThat(scanCacheLocation).doesNotExist();
+	}
+
+	private ClassLoader createScanCacheClassLoader(Path tempDir) throws IOException {
+		Path jarFile = tempDir.resolve("scan-cache-test.jar");
+		try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			jar.putNextEntry(new JarEntry(SCAN_CACHE_PACKAGE + "/"));
+			jar.closeEntry();
+			jar.putNextEntry(new JarEntry(SCAN_CACHE_COMPONENT.replace('.', '/') + ".class"));
+			jar.write(generateClass(SCAN_CACHE_COMPONENT, Component.class));
+			jar.closeEntry();
+			jar.putNextEntry(new JarEntry(SCAN_CACHE_PACKAGE + "/PlainClass.class"));
+			jar.write(generateClass(SCAN_CACHE_PACKAGE + ".PlainClass", null));
+			jar.closeEntry();
+		}
+		return new URLClassLoader(new URL[] {jarFile.toUri().toURL()},
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader()));
+	}
+
+	private static byte[] generateClass(String className, @Nullable Class<? extends Annotation> annotationType) {
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		cw.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, className.replace('.', '/'),
+				null, "java/lang/Object", null);
+		if (annotationType != null) {
+			cw.visitAnnotation(Type.getDescriptor(annotationType), true).visitEnd();
+		}
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
 	@Test
 	void withNoFilters() {
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
@@ -573,4 +702,24 @@ class ClassPathScanningCandidateComponentProviderTests {
 	@interface DevProfile {
 	}
 
+	/**
+	 * Counts the searches for class files, i.e. the scans not served from a scan cache.
+	 */
+	private static class CountingResourcePatternResolver extends PathMatchingResourcePatternResolver {
+
+		int classSearches;
+
+		CountingResourcePatternResolver(ClassLoader classLoader) {
+			super(classLoader);
+		}
+
+		@Override
+		public Resource[] getResources(String locationPattern) throws IOException {
+			if (locationPattern.endsWith(".class")) {
+				this.classSearches++;
+			}
+			return super.getResources(locationPattern);
+		}
+	}
+
 }
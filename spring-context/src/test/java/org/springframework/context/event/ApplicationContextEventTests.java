@@ -17,9 +17,13 @@
 package org.springframework.context.event;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.jupiter.api.Test;
@@ -47,10 +51,14 @@ import org.springframework.context.testfixture.beans.BeanThatListens;
 import org.springframework.core.Ordered;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.support.TaskUtils;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatRuntimeException;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
@@ -180,6 +188,230 @@ public class ApplicationContextEventTests extends AbstractApplicationEventListen
 		smc.multicastEvent(evt);
 	}
 
+	@Test
+	public void simpleApplicationEventMulticasterWithOrderedDelivery() {
+		List<Runnable> tasks = new ArrayList<>();
+		MyOrderedListener1 listener = new MyOrderedListener1();
+		MyBatchListener batchListener = new MyBatchListener();
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.setOrderedDelivery(true);
+		smc.setMaxBatchSize(2);
+		smc.addApplicationListener(listener);
+		smc.addApplicationListener(batchListener);
+
+		MyEvent event1 = new MyEvent(this);
+		MyEvent event2 = new MyEvent(this);
+		MyEvent event3 = new MyEvent(this);
+		smc.multicastEvent(event1);
+		smc.multicastEvent(event2);
+		smc.multicastEvent(event3);
+		assertThat(tasks).hasSize(2);
+		assertThat(listener.seenEvents).isEmpty();
+		assertThat(smc.getListenerQueueMetrics()).hasSize(2).allSatisfy(metrics ->
+				assertThat(metrics.pendingEvents()).isEqualTo(3));
+
+		tasks.forEach(Runnable::run);
+		assertThat(listener.seenEvents).containsExactly(event1, event2, event3);
+		assertThat(batchListener.batches).containsExactly(List.of(event1, event2), List.of(event3));
+		assertThat(smc.getListenerQueueMetrics()).isEmpty();
+	}
+
+	@Test
+	public void simpleApplicationEventMulticasterWithOrderingKeyAndOverflow() {
+		List<Runnable> tasks = new ArrayList<>();
+		MyOrderedListener1 listener = new MyOrderedListener1();
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.setOrderedDelivery(true);
+		smc.setOrderingKeyResolver(ApplicationEvent::getSource);
+		smc.setQueueCapacity(2);
+		smc.setOverflowPolicy(SimpleApplicationEventMulticaster.OverflowPolicy.DROP_OLDEST);
+		smc.addApplicationListener(listener);
+
+		MyEvent event1 = new MyEvent("key1");
+		MyEvent event2 = new MyEvent("key1");
+		MyEvent event3 = new MyEvent("key1");
+		MyEvent event4 = new MyEvent("key2");
+		smc.multicastEvent(event1);
+		smc.multicastEvent(event2);
+		smc.multicastEvent(event3);
+		smc.multicastEvent(event4);
+		assertThat(tasks).hasSize(2);
+		assertThat(smc.getListenerQueueMetrics()).hasSize(2).anySatisfy(metrics -> {
+			assertThat(metrics.orderingKey()).isEqualTo("key1");
+			assertThat(metrics.pendingEvents()).isEqualTo(2);
+			assertThat(metrics.droppedEvents()).isEqualTo(1);
+		});
+
+		tasks.forEach(Runnable::run);
+		assertThat(listener.seenEvents).containsExactly(event2, event3, event4);
+		assertThat(smc.getListenerQueueMetrics()).isEmpty();
+	}
+
+	@Test
+	public void simpleApplicationEventMulticasterWithOrderedDeliveryAndRemovedListener() {
+		List<Runnable> tasks = new ArrayList<>();
+		MyOrderedListener1 listener = new MyOrderedListener1();
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.setOrderedDelivery(true);
+		smc.addApplicationListener(listener);
+
+		smc.multicastEvent(new MyEvent(this));
+		smc.multicastEvent(new MyEvent(this));
+		assertThat(smc.getListenerQueueMetrics()).singleElement().satisfies(metrics ->
+				assertThat(metrics.pendingEvents()).isEqualTo(2));
+
+		smc.removeApplicationListener(listener);
+		assertThat(smc.getListenerQueueMetrics()).isEmpty();
+		tasks.forEach(Runnable::run);
+		assertThat(listener.seenEvents).isEmpty();
+	}
+
+	@Test
+	public void simpleApplicationEventMulticasterWithOrderedDeliveryAndBlockingOverflow() throws Exception {
+		int eventCount = 1000;
+		List<ApplicationEvent> seenEvents = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch allSeen = new CountDownLatch(eventCount);
+		ApplicationListener<ApplicationEvent> listener = event -> {
+			seenEvents.add(event);
+			allSeen.countDown();
+		};
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		smc.setOrderedDelivery(true);
+		smc.setQueueCapacity(1);
+		smc.setOverflowPolicy(SimpleApplicationEventMulticaster.OverflowPolicy.BLOCK);
+		smc.addApplicationListener(listener);
+
+		List<ApplicationEvent> publishedEvents = new ArrayList<>(eventCount);
+		for (int i = 0; i < eventCount; i++) {
+			MyEvent event = new MyEvent(this);
+			publishedEvents.add(event);
+			smc.multicastEvent(event);
+		}
+		assertThat(allSeen.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(seenEvents).containsExactlyElementsOf(publishedEvents);
+	}
+
+	@Test
+	public void simpleApplicationEventMulticasterWithOrderedDeliveryKeepsCountersOfDrainedQueues() {
+		List<Runnable> tasks = new ArrayList<>();
+		MyOrderedListener1 listener = new MyOrderedListener1();
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.setOrderedDelivery(true);
+		smc.setQueueCapacity(1);
+		smc.setOverflowPolicy(SimpleApplicationEventMulticaster.OverflowPolicy.DROP_NEWEST);
+		smc.addApplicationListener(listener);
+
+		smc.multicastEvent(new MyEvent(this));
+		smc.multicastEvent(new MyEvent(this));
+		tasks.forEach(Runnable::run);
+		tasks.clear();
+		assertThat(smc.getListenerQueueMetrics()).isEmpty();
+
+		smc.multicastEvent(new MyEvent(this));
+		assertThat(smc.getListenerQueueMetrics()).singleElement().satisfies(metrics -> {
+			assertThat(metrics.pendingEvents()).isEqualTo(1);
+			assertThat(metrics.deliveredEvents()).isEqualTo(1);
+			assertThat(metrics.droppedEvents()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	public void simpleApplicationEventMulticasterWithOrderedDeliveryAndPrototypeListener() {
+		StaticApplicationContext context = new StaticApplicationContext();
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster(context.getBeanFactory());
+		smc.setTaskExecutor(Runnable::run);
+		smc.setOrderedDelivery(true);
+		context.getBeanFactory().registerSingleton(APPLICATION_EVENT_MULTICASTER_BEAN_NAME, smc);
+		RootBeanDefinition listener = new RootBeanDefinition(MyNonSingletonListener.class);
+		listener.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		context.registerBeanDefinition("listener", listener);
+		context.refresh();
+
+		for (int i = 0; i < 100; i++) {
+			context.publishEvent(new MyEvent(context));
+		}
+		assertThat(smc.getListenerQueueMetrics()).isEmpty();
+		assertThat(smc.listenerEventCounters).hasSize(1).containsOnlyKeys("listener");
+
+		smc.removeApplicationListenerBean("listener");
+		assertThat(smc.listenerEventCounters).isEmpty();
+		MyNonSingletonListener.seenEvents.clear();
+		context.close();
+	}
+
+	@Test
+	public void simpleApplicationEventMulticasterWithOrderedDeliveryAndRejectedReschedule() {
+		List<Runnable> tasks = new ArrayList<>();
+		List<ApplicationEvent> seenEvents = new ArrayList<>();
+		MyEvent event1 = new MyEvent(this);
+		MyEvent event2 = new MyEvent(this);
+		MyEvent event3 = new MyEvent(this);
+		ApplicationListener<ApplicationEvent> listener = event -> {
+			if (event == event1) {
+				throw new IllegalStateException("listener failure");
+			}
+			seenEvents.add(event);
+		};
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(task -> {
+			if (!tasks.isEmpty()) {
+				throw new TaskRejectedException("executor busy");
+			}
+			tasks.add(task);
+		});
+		smc.setOrderedDelivery(true);
+		smc.addApplicationListener(listener);
+
+		smc.multicastEvent(event1);
+		smc.multicastEvent(event2);
+		assertThatIllegalStateException().isThrownBy(tasks.get(0)::run)
+				.withMessage("listener failure")
+				.satisfies(ex -> assertThat(ex.getSuppressed()).singleElement()
+						.isInstanceOf(TaskRejectedException.class));
+
+		tasks.clear();
+		smc.multicastEvent(event3);
+		tasks.forEach(Runnable::run);
+		assertThat(seenEvents).containsExactly(event2, event3);
+		assertThat(smc.getListenerQueueMetrics()).isEmpty();
+	}
+
+	@Test
+	public void batchLambdaAsListenerWithOrderedDelivery() {
+		List<Runnable> tasks = new ArrayList<>();
+		List<MyEvent> seenEvents = new ArrayList<>();
+		BatchApplicationListener<MyEvent> listener = events -> {
+			for (MyEvent event : events) {
+				seenEvents.add(event);
+			}
+		};
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.setTaskExecutor(tasks::add);
+		smc.setOrderedDelivery(true);
+		smc.setMaxBatchSize(2);
+		smc.addApplicationListener(listener);
+
+		MyEvent event1 = new MyEvent(this);
+		MyEvent event2 = new MyEvent(this);
+		smc.multicastEvent(event1);
+		smc.multicastEvent(new MyOtherEvent(this));
+		smc.multicastEvent(event2);
+		tasks.forEach(Runnable::run);
+		assertThat(seenEvents).containsExactly(event1, event2);
+	}
+
 	@Test
 	public void orderedListeners() {
 		MyOrderedListener1 listener1 = new MyOrderedListener1();
@@ -208,6 +440,29 @@ public class ApplicationContextEventTests extends AbstractApplicationEventListen
 		assertThat(listener1.seenEvents).hasSize(2);
 	}
 
+	@Test
+	public void singletonListenersShareSortedListenerList() {
+		MyOrderedListener1 listener1 = new MyOrderedListener1();
+		MyOrderedListener2 listener2 = new MyOrderedListener2(listener1);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.addApplicationListener(listener2);
+		smc.addApplicationListener(listener1);
+
+		ResolvableType eventType = ResolvableType.forClass(MyEvent.class);
+		assertThat(smc.getApplicationListeners(new MyEvent(this), eventType)).containsExactly(listener1, listener2);
+		Collection<ApplicationListener<?>> listeners = smc.getApplicationListeners(new MyEvent(this), eventType);
+		assertThat(listeners).containsExactly(listener1, listener2);
+		assertThat(smc.getApplicationListeners(new MyEvent(this), eventType)).isSameAs(listeners);
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(listeners::clear);
+
+		MyOrderedListener3 listener3 = new MyOrderedListener3();
+		smc.addApplicationListener(listener3);
+		smc.getApplicationListeners(new MyEvent(this), eventType);
+		assertThat(smc.getApplicationListeners(new MyEvent(this), eventType))
+				.isNotSameAs(listeners).containsExactly(listener1, listener2, listener3);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void proxiedListeners() {
@@ -592,6 +847,17 @@ public class ApplicationContextEventTests extends AbstractApplicationEventListen
 	}
 
 
+	public static class MyBatchListener implements BatchApplicationListener<MyEvent> {
+
+		public final List<List<MyEvent>> batches = new ArrayList<>();
+
+		@Override
+		public void onApplicationEvents(List<MyEvent> events) {
+			this.batches.add(new ArrayList<>(events));
+		}
+	}
+
+
 	@SuppressWarnings("rawtypes")
 	public static class MyPayloadListener implements ApplicationListener<PayloadApplicationEvent> {
 
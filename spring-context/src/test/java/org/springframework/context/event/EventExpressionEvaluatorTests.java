@@ -0,0 +1,98 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link EventExpressionEvaluator}.
+ *
+ * @author agent
+ */
+class EventExpressionEvaluatorTests {
+
+	private final EventExpressionEvaluator evaluator = new EventExpressionEvaluator();
+
+	private final Method method = ReflectionUtils.findMethod(getClass(), "handle", Object.class);
+
+	private final AnnotatedElementKey methodKey = new AnnotatedElementKey(this.method, getClass());
+
+
+	@Test
+	void conditionIsCompiledAfterRepeatedEvaluation() {
+		String condition = "#p0.toString().length() > 3";
+		assertThat(condition(condition, "hello")).isTrue();
+		assertThat(getCompiledCondition()).isNull();
+
+		evaluateRepeatedly(condition, "hello");
+		assertThat(getCompiledCondition()).isNotNull();
+		assertThat(condition(condition, "hi")).isFalse();
+	}
+
+	@Test
+	void compiledConditionFallsBackToInterpretationForOtherArgumentType() {
+		String condition = "#p0.toString().length() >= 4";
+		evaluateRepeatedly(condition, "hello");
+		assertThat(getCompiledCondition()).isNotNull();
+
+		// Compiled against String arguments -> reverts to interpreted mode
+		assertThat(condition(condition, 12345)).isTrue();
+		assertThat(condition(condition, 12)).isFalse();
+		assertThat(getCompiledCondition()).isNull();
+	}
+
+	private void evaluateRepeatedly(String condition, Object value) {
+		for (int i = 0; i < 200; i++) {
+			assertThat(condition(condition, value)).isTrue();
+		}
+	}
+
+	private boolean condition(String condition, Object value) {
+		Object[] args = new Object[] {value};
+		return this.evaluator.condition(condition, new PayloadApplicationEvent<>(this, value),
+				this.method, this.methodKey, args, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object getCompiledCondition() {
+		Field cacheField = ReflectionUtils.findField(EventExpressionEvaluator.class, "conditionCache");
+		ReflectionUtils.makeAccessible(cacheField);
+		Map<?, Expression> cache = (Map<?, Expression>) ReflectionUtils.getField(cacheField, this.evaluator);
+		assertThat(cache).hasSize(1);
+		SpelExpression expression = (SpelExpression) cache.values().iterator().next();
+		Field compiledField = ReflectionUtils.findField(SpelExpression.class, "compiledAst");
+		ReflectionUtils.makeAccessible(compiledField);
+		return ReflectionUtils.getField(compiledField, expression);
+	}
+
+
+	void handle(Object value) {
+	}
+
+}
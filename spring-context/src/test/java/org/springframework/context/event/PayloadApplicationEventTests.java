@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,6 +51,17 @@ class PayloadApplicationEventTests {
 		});
 	}
 
+	@Test
+	void payloadApplicationEventWithNoTypeSharesEventTypePerPayloadClass() {
+		PayloadApplicationEvent<String> event1 = new PayloadApplicationEvent<>(this, "event1");
+		PayloadApplicationEvent<String> event2 = new PayloadApplicationEvent<>(this, "event2");
+		assertThat(event1.getResolvableType()).isSameAs(event2.getResolvableType());
+		assertThat(event1.getResolvableType()).isEqualTo(
+				ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, String.class));
+		assertThat(new PayloadApplicationEvent<>(this, 42).getResolvableType().getGeneric().toClass())
+				.isEqualTo(Integer.class);
+	}
+
 	@Test
 	void payloadApplicationEventWithType() {
 		NumberHolder<Integer> payload = new NumberHolder<>(42);
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.scheduling.concurrent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.support.PeriodicTrigger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author agent
+ * @since 6.1
+ */
+class SimpleAsyncTaskSchedulerTests {
+
+	private final SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+
+
+	@AfterEach
+	void closeScheduler() {
+		this.scheduler.close();
+	}
+
+
+	@Test
+	void scheduleOneTimeTask() throws Exception {
+		this.scheduler.setThreadNamePrefix("test-");
+		CountDownLatch latch = new CountDownLatch(1);
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {
+			threadNames.add(Thread.currentThread().getName());
+			latch.countDown();
+		}, Instant.now());
+		assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(future).isNotNull();
+		assertThat(threadNames).singleElement().asString().startsWith("test-").isNotEqualTo("test-scheduler");
+	}
+
+	@Test
+	void scheduleWithFixedDelay() throws Exception {
+		CountDownLatch latch = new CountDownLatch(3);
+		ScheduledFuture<?> future = this.scheduler.scheduleWithFixedDelay(latch::countDown, Duration.ofMillis(10));
+		assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+		future.cancel(true);
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+	@Test
+	void scheduleAtFixedRate() throws Exception {
+		CountDownLatch latch = new CountDownLatch(3);
+		ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(latch::countDown, Duration.ofMillis(10));
+		assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+		future.cancel(true);
+	}
+
+	@Test
+	void scheduleWithTrigger() throws Exception {
+		CountDownLatch latch = new CountDownLatch(3);
+		ScheduledFuture<?> future = this.scheduler.schedule(latch::countDown, new PeriodicTrigger(Duration.ofMillis(10)));
+		assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(future).isNotNull();
+		future.cancel(true);
+	}
+
+	@Test
+	void rejectsTasksAfterClose() {
+		this.scheduler.close();
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				this.scheduler.schedule(() -> {}, Instant.now()));
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				this.scheduler.execute(() -> {}));
+	}
+
+}
@@ -39,6 +39,7 @@ import java.util.TreeSet;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.InvalidPropertyException;
 import org.springframework.beans.MethodInvocationException;
 import org.springframework.beans.MutablePropertyValues;
@@ -1978,6 +1979,27 @@ class DataBinderTests {
 			.withMessageContaining("DataBinder is already initialized - call setAutoGrowCollectionLimit before other configuration methods");
 	}
 
+	@Test
+	void bindingWithCompiledPropertyAccess() {
+		TestBean testBean = new TestBean();
+		DataBinder binder = new DataBinder(testBean, "testBean");
+		binder.setCompiledPropertyAccess(true);
+
+		MutablePropertyValues mpv = new MutablePropertyValues();
+		mpv.add("name", "Rod");
+		mpv.add("age", "32");
+		mpv.add("spouse.name", "Kerry");
+		binder.bind(mpv);
+		assertThat(testBean.getName()).isEqualTo("Rod");
+		assertThat(testBean.getAge()).isEqualTo(32);
+		assertThat(testBean.getSpouse().getName()).isEqualTo("Kerry");
+		assertThat(((BeanWrapperImpl) binder.getInternalBindingResult().getPropertyAccessor())
+				.isCompiledPropertyAccess()).isTrue();
+		assertThatIllegalStateException().isThrownBy(() ->
+				binder.setCompiledPropertyAccess(false))
+			.withMessageContaining("DataBinder is already initialized - call setCompiledPropertyAccess before other configuration methods");
+	}
+
 	@Test // SPR-15009
 	void setCustomMessageCodesResolverBeforeInitializeBindingResultForBeanPropertyAccess() {
 		TestBean testBean = new TestBean();
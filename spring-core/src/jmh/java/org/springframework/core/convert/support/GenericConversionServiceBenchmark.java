@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,7 @@ import org.springframework.util.CollectionUtils;
 
 /**
  * Benchmarks for {@link GenericConversionService}.
+ * <p>Run with {@code -prof gc} for the allocation rate of scalar conversions.
  *
  * @author Brian Clozel
  */
@@ -102,6 +103,48 @@ public class GenericConversionServiceBenchmark {
 	}
 
 
+	@Benchmark
+	public void convertStringToIntegerWithTargetClass(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.number, Integer.class));
+	}
+
+	@Benchmark
+	public void convertStringToIntegerWithTypeDescriptors(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.number, state.stringTypeDesc, state.integerTypeDesc));
+	}
+
+	@Benchmark
+	public void convertStringToEnumWithTargetClass(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.enumName, Mode.class));
+	}
+
+	@Benchmark
+	public void convertListOfStringToListOfIntegerWithDefaultConversionService(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.numbers, state.numbersTypeDesc, state.integersTypeDesc));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ScalarBenchmarkState {
+
+		DefaultConversionService conversionService = new DefaultConversionService();
+
+		String number = "42";
+
+		String enumName = Mode.Throughput.name();
+
+		TypeDescriptor stringTypeDesc = TypeDescriptor.valueOf(String.class);
+
+		TypeDescriptor integerTypeDesc = TypeDescriptor.valueOf(Integer.class);
+
+		List<String> numbers = List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+
+		TypeDescriptor numbersTypeDesc = TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(String.class));
+
+		TypeDescriptor integersTypeDesc = TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(Integer.class));
+	}
+
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
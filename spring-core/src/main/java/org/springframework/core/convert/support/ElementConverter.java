@@ -0,0 +1,92 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.convert.support;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Converts the elements of a given source collection or array to a target
+ * element type, resolving the narrowed source element type and the converter
+ * once per run of elements of the same class rather than once per element.
+ *
+ * <p>Not thread-safe: to be created for a single collection or array conversion.
+ *
+ * @author agent
+ * @since 6.1
+ */
+final class ElementConverter {
+
+	private final ConversionService conversionService;
+
+	private final TypeDescriptor sourceType;
+
+	private final TypeDescriptor targetElementType;
+
+	@Nullable
+	private Class<?> elementClass;
+
+	@Nullable
+	private TypeDescriptor elementType;
+
+	@Nullable
+	private GenericConversionService.ConversionPlan conversionPlan;
+
+
+	/**
+	 * Create a new {@code ElementConverter}.
+	 * @param conversionService the conversion service to convert elements with
+	 * @param sourceType the type of the source collection or array
+	 * @param targetElementType the target element type
+	 */
+	public ElementConverter(ConversionService conversionService,
+			TypeDescriptor sourceType, TypeDescriptor targetElementType) {
+
+		this.conversionService = conversionService;
+		this.sourceType = sourceType;
+		this.targetElementType = targetElementType;
+	}
+
+
+	/**
+	 * Convert the given source element to the target element type.
+	 * @param sourceElement the source element (may be {@code null})
+	 * @return the converted element
+	 */
+	@Nullable
+	public Object convert(@Nullable Object sourceElement) {
+		if (sourceElement == null) {
+			return this.conversionService.convert(null,
+					this.sourceType.elementTypeDescriptor(null), this.targetElementType);
+		}
+		Class<?> elementClass = sourceElement.getClass();
+		if (elementClass != this.elementClass) {
+			TypeDescriptor elementType = this.sourceType.elementTypeDescriptor(sourceElement);
+			this.conversionPlan = (elementType != null &&
+					this.conversionService instanceof GenericConversionService genericConversionService ?
+					genericConversionService.createConversionPlan(elementType, this.targetElementType) : null);
+			this.elementType = elementType;
+			this.elementClass = elementClass;
+		}
+		if (this.conversionPlan != null) {
+			return this.conversionPlan.convert(sourceElement, this.elementType, this.targetElementType);
+		}
+		return this.conversionService.convert(sourceElement, this.elementType, this.targetElementType);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.core.convert.support;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
@@ -47,6 +48,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -79,6 +81,20 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	private final Map<ConverterCacheKey, ConversionPlan> conversionPlanCache = new ConcurrentReferenceHashMap<>(64);
+
+	// Per source class, then per target class: no lookup key to allocate for every conversion
+	private final Map<Class<?>, Map<Class<?>, ClassPairConversion>> classPairConversionCache =
+			new ConcurrentReferenceHashMap<>(64);
+
+	// Resolved converters may only be kept in conversion plans if the getConverter hook is not overridden
+	private final boolean conversionPlansApplicable =
+			!isOverridden("getConverter", TypeDescriptor.class, TypeDescriptor.class);
+
+	// Conversion plans may only bypass convert(Object, TypeDescriptor, TypeDescriptor) if not overridden
+	private final boolean convertMethodBypassable = (this.conversionPlansApplicable &&
+			!isOverridden("convert", Object.class, TypeDescriptor.class, TypeDescriptor.class));
+
 
 	// ConverterRegistry implementation
 
@@ -172,7 +188,10 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Nullable
 	public <T> T convert(@Nullable Object source, Class<T> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
-		return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
+		if (source == null || !this.convertMethodBypassable) {
+			return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
+		}
+		return (T) getClassPairConversion(source.getClass(), targetType).convert(source);
 	}
 
 	@Override
@@ -187,6 +206,9 @@ public class GenericConversionService implements ConfigurableConversionService {
 			throw new IllegalArgumentException("Source to convert from must be an instance of [" +
 					sourceType + "]; instead it was a [" + source.getClass().getName() + "]");
 		}
+		if (source != null && this.conversionPlansApplicable) {
+			return getConversionPlan(sourceType, targetType).convert(source, sourceType, targetType);
+		}
 		GenericConverter converter = getConverter(sourceType, targetType);
 		if (converter != null) {
 			Object result = ConversionUtils.invokeConverter(converter, source, sourceType, targetType);
@@ -303,8 +325,76 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return generics;
 	}
 
+	/**
+	 * Return the cached conversion for the given source/target class pair,
+	 * reusing the corresponding type descriptors for every conversion.
+	 */
+	private ClassPairConversion getClassPairConversion(Class<?> sourceClass, Class<?> targetClass) {
+		Map<Class<?>, ClassPairConversion> conversions = this.classPairConversionCache.get(sourceClass);
+		if (conversions == null) {
+			conversions = new ConcurrentReferenceHashMap<>(8);
+			Map<Class<?>, ClassPairConversion> existing =
+					this.classPairConversionCache.putIfAbsent(sourceClass, conversions);
+			if (existing != null) {
+				conversions = existing;
+			}
+		}
+		ClassPairConversion conversion = conversions.get(targetClass);
+		if (conversion == null) {
+			// TypeDescriptors for plain classes: no generics or annotations to differ in
+			TypeDescriptor sourceType = TypeDescriptor.valueOf(sourceClass);
+			TypeDescriptor targetType = TypeDescriptor.valueOf(targetClass);
+			conversion = new ClassPairConversion(sourceType, targetType, getConversionPlan(sourceType, targetType));
+			conversions.put(targetClass, conversion);
+		}
+		return conversion;
+	}
+
+	/**
+	 * Return the cached conversion plan for the given source/target type pair,
+	 * resolving the converter once per {@link ConverterCacheKey}.
+	 */
+	private ConversionPlan getConversionPlan(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		ConverterCacheKey key = new ConverterCacheKey(sourceType, targetType);
+		ConversionPlan plan = this.conversionPlanCache.get(key);
+		if (plan == null) {
+			plan = new ConversionPlan(targetType, getConverter(sourceType, targetType));
+			this.conversionPlanCache.put(key, plan);
+		}
+		return plan;
+	}
+
+	/**
+	 * Create a conversion plan for the given source/target type pair,
+	 * e.g. for repeatedly converting elements of the same type.
+	 * @param sourceType the source type to convert from
+	 * @param targetType the target type to convert to
+	 * @return the conversion plan for non-null source objects of the given type,
+	 * or {@code null} if {@link #convert(Object, TypeDescriptor, TypeDescriptor)}
+	 * or {@link #getConverter} is overridden and therefore needs to be called
+	 * for every conversion
+	 * @since 6.1
+	 * @see ElementConverter
+	 */
+	@Nullable
+	ConversionPlan createConversionPlan(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return (this.convertMethodBypassable ?
+				new ConversionPlan(targetType, getConverter(sourceType, targetType)) : null);
+	}
+
+	/**
+	 * Determine whether a subclass overrides the given method of this class,
+	 * in which case conversion plans must not bypass it.
+	 */
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		Method method = ReflectionUtils.findMethod(getClass(), methodName, parameterTypes);
+		return (method == null || method.getDeclaringClass() != GenericConversionService.class);
+	}
+
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.conversionPlanCache.clear();
+		this.classPairConversionCache.clear();
 	}
 
 	@Nullable
@@ -444,6 +534,84 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * The converter resolved upfront for a specific source/target type pair.
+	 * For an adapted {@link Converter} or {@link ConverterFactory}, the
+	 * target-specific {@code Converter} gets invoked directly.
+	 * <p>A plan does not keep the type descriptors that it was resolved for:
+	 * equal {@link ConverterCacheKey cache keys} may still differ in details such
+	 * as the generics of a non-collection type, so the actual type descriptors
+	 * need to be passed in for every conversion, as for {@link #getConverter}.
+	 * @since 6.1
+	 */
+	final class ConversionPlan {
+
+		@Nullable
+		private final GenericConverter converter;
+
+		@Nullable
+		private final Converter<Object, Object> directConverter;
+
+		@SuppressWarnings("unchecked")
+		ConversionPlan(TypeDescriptor targetType, @Nullable GenericConverter converter) {
+			this.converter = converter;
+			if (converter instanceof ConverterAdapter converterAdapter) {
+				this.directConverter = converterAdapter.converter;
+			}
+			else if (converter instanceof ConverterFactoryAdapter factoryAdapter) {
+				this.directConverter = (Converter<Object, Object>)
+						factoryAdapter.converterFactory.getConverter(targetType.getObjectType());
+			}
+			else {
+				this.directConverter = null;
+			}
+		}
+
+		/**
+		 * Convert the given non-null source object, which is expected
+		 * to be an instance of the given source type.
+		 */
+		@Nullable
+		Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+			Object result;
+			if (this.directConverter != null) {
+				try {
+					result = this.directConverter.convert(source);
+				}
+				catch (ConversionFailedException ex) {
+					throw ex;
+				}
+				catch (Throwable ex) {
+					throw new ConversionFailedException(sourceType, targetType, source, ex);
+				}
+			}
+			else if (this.converter == NO_OP_CONVERTER) {
+				return source;
+			}
+			else if (this.converter != null) {
+				result = ConversionUtils.invokeConverter(this.converter, source, sourceType, targetType);
+			}
+			else {
+				return handleConverterNotFound(source, sourceType, targetType);
+			}
+			return handleResult(sourceType, targetType, result);
+		}
+	}
+
+
+	/**
+	 * A conversion plan for a source/target class pair, together with
+	 * the type descriptors for the pair.
+	 */
+	private record ClassPairConversion(TypeDescriptor sourceType, TypeDescriptor targetType, ConversionPlan plan) {
+
+		@Nullable
+		Object convert(Object source) {
+			return this.plan.convert(source, this.sourceType, this.targetType);
+		}
+	}
+
+
 	/**
 	 * Key for use with the converter cache.
 	 */
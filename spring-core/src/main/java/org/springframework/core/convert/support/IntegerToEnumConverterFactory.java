@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,15 +37,16 @@ final class IntegerToEnumConverterFactory implements ConverterFactory<Integer, E
 
 	private static class IntegerToEnum<T extends Enum> implements Converter<Integer, T> {
 
-		private final Class<T> enumType;
+		// Class#getEnumConstants returns a new copy of the array on every call
+		private final T[] enumConstants;
 
 		public IntegerToEnum(Class<T> enumType) {
-			this.enumType = enumType;
+			this.enumConstants = enumType.getEnumConstants();
 		}
 
 		@Override
 		public T convert(Integer source) {
-			return this.enumType.getEnumConstants()[source];
+			return this.enumConstants[source];
 		}
 	}
 
@@ -21,10 +21,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
@@ -233,6 +235,88 @@ public abstract class DataBufferUtils {
 		return position == 0 ? result : skipUntilByteCount(result, position);
 	}
 
+	/**
+	 * Memory-map the given file {@code Path} into a {@code Flux} of read-only
+	 * {@code DataBuffer}s, each wrapping a {@link MappedByteBuffer} of at most
+	 * the given mapping size.
+	 * <p>In contrast to {@link #read(Path, DataBufferFactory, int, OpenOption...)},
+	 * file content is not copied into allocated buffers but served from the
+	 * operating system page cache, which is shared by all readers of the file.
+	 * This is mostly beneficial for large files that are read repeatedly; for
+	 * small files, the cost of establishing a mapping outweighs a plain read.
+	 * <p>The mapped buffers are passed to {@link DataBufferFactory#wrap(ByteBuffer)},
+	 * which does not copy them for {@link DefaultDataBufferFactory} and
+	 * {@link NettyDataBufferFactory}. Note that {@link Netty5DataBufferFactory}
+	 * copies wrapped buffers into newly allocated memory, so the content of
+	 * every mapped region is copied once with that factory.
+	 * @param path the path to map
+	 * @param bufferFactory the factory to wrap the mapped buffers with
+	 * @param mappingSize the maximum size of each mapped region
+	 * @return a Flux of data buffers backed by the mapped file content
+	 * @since 6.1
+	 * @see FileChannel#map(FileChannel.MapMode, long, long)
+	 */
+	public static Flux<DataBuffer> readMapped(Path path, DataBufferFactory bufferFactory, int mappingSize) {
+		return readMapped(path, 0, Long.MAX_VALUE, bufferFactory, mappingSize);
+	}
+
+	/**
+	 * Memory-map the given region of the file {@code Path} into a {@code Flux}
+	 * of read-only {@code DataBuffer}s, each wrapping a {@link MappedByteBuffer}
+	 * of at most the given mapping size. The file channel is closed when the
+	 * Flux is terminated; mapped buffers remain valid until garbage collected.
+	 * <p>See {@link #readMapped(Path, DataBufferFactory, int)} for the data
+	 * buffer factories which wrap the mapped buffers without copying.
+	 * @param path the path to map
+	 * @param position the position within the file to start mapping from
+	 * @param count the maximum number of bytes to map, or {@code Long.MAX_VALUE}
+	 * to map up to the end of the file
+	 * @param bufferFactory the factory to wrap the mapped buffers with
+	 * @param mappingSize the maximum size of each mapped region
+	 * @return a Flux of data buffers backed by the mapped file content
+	 * @since 6.1
+	 * @see #readMapped(Path, DataBufferFactory, int)
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Path path, long position, long count, DataBufferFactory bufferFactory, int mappingSize) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(count >= 0, "'count' must be >= 0");
+		Assert.isTrue(mappingSize > 0, "'mappingSize' must be > 0");
+
+		return Flux.using(() -> FileChannel.open(path, StandardOpenOption.READ),
+				channel -> Flux.generate(new MappedFileGenerator(channel, position, count, bufferFactory, mappingSize)),
+				DataBufferUtils::closeChannel);
+
+		// No doOnDiscard as operators used do not cache
+	}
+
+	/**
+	 * Read the given {@code Resource} into a {@code Flux} of {@code DataBuffer}s,
+	 * memory-mapping its content if it is a file.
+	 * <p>If the resource is a file, it is mapped via
+	 * {@link #readMapped(Path, DataBufferFactory, int)}, or else this method
+	 * falls back on {@link #read(Resource, DataBufferFactory, int)}.
+	 * @param resource the resource to read from
+	 * @param bufferFactory the factory to create or wrap data buffers with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers with the content of the given resource
+	 * @since 6.1
+	 */
+	public static Flux<DataBuffer> readMapped(Resource resource, DataBufferFactory bufferFactory, int bufferSize) {
+		try {
+			if (resource.isFile()) {
+				return readMapped(resource.getFile().toPath(), bufferFactory, bufferSize);
+			}
+		}
+		catch (IOException ignore) {
+			// fallback to read(Resource), below
+		}
+		return read(resource, bufferFactory, bufferSize);
+	}
+
 
 	//---------------------------------------------------------------------
 	// Writing
@@ -934,6 +1018,49 @@ public abstract class DataBufferUtils {
 	}
 
 
+	private static class MappedFileGenerator implements Consumer<SynchronousSink<DataBuffer>> {
+
+		private final FileChannel channel;
+
+		private final DataBufferFactory dataBufferFactory;
+
+		private final int mappingSize;
+
+		private long position;
+
+		private long remaining;
+
+		public MappedFileGenerator(FileChannel channel, long position, long count,
+				DataBufferFactory dataBufferFactory, int mappingSize) {
+
+			this.channel = channel;
+			this.position = position;
+			this.remaining = count;
+			this.dataBufferFactory = dataBufferFactory;
+			this.mappingSize = mappingSize;
+		}
+
+		@Override
+		public void accept(SynchronousSink<DataBuffer> sink) {
+			try {
+				long size = Math.min(this.remaining, this.channel.size() - this.position);
+				if (size <= 0) {
+					sink.complete();
+					return;
+				}
+				size = Math.min(size, this.mappingSize);
+				MappedByteBuffer mapped = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, size);
+				this.position += size;
+				this.remaining -= size;
+				sink.next(this.dataBufferFactory.wrap(mapped));
+			}
+			catch (IOException ex) {
+				sink.error(ex);
+			}
+		}
+	}
+
+
 	private static class ReadCompletionHandler implements CompletionHandler<Integer, ReadCompletionHandler.Attachment> {
 
 		private final AsynchronousFileChannel channel;
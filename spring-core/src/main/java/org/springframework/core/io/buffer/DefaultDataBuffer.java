@@ -58,7 +58,7 @@ public class DefaultDataBuffer implements DataBuffer {
 	private int writePosition;
 
 
-	private DefaultDataBuffer(DefaultDataBufferFactory dataBufferFactory, ByteBuffer byteBuffer) {
+	DefaultDataBuffer(DefaultDataBufferFactory dataBufferFactory, ByteBuffer byteBuffer) {
 		Assert.notNull(dataBufferFactory, "DefaultDataBufferFactory must not be null");
 		Assert.notNull(byteBuffer, "ByteBuffer must not be null");
 		this.dataBufferFactory = dataBufferFactory;
@@ -90,7 +90,7 @@ public class DefaultDataBuffer implements DataBuffer {
 		return this.byteBuffer;
 	}
 
-	private void setNativeBuffer(ByteBuffer byteBuffer) {
+	void setNativeBuffer(ByteBuffer byteBuffer) {
 		this.byteBuffer = byteBuffer;
 		this.capacity = byteBuffer.remaining();
 	}
@@ -193,16 +193,17 @@ public class DefaultDataBuffer implements DataBuffer {
 
 		if (newCapacity > oldCapacity) {
 			ByteBuffer oldBuffer = this.byteBuffer;
-			ByteBuffer newBuffer = allocate(newCapacity, oldBuffer.isDirect());
+			ByteBuffer newBuffer = allocateNativeBuffer(newCapacity, oldBuffer.isDirect());
 			oldBuffer.position(0).limit(oldBuffer.capacity());
 			newBuffer.position(0).limit(oldBuffer.capacity());
 			newBuffer.put(oldBuffer);
 			newBuffer.clear();
 			setNativeBuffer(newBuffer);
+			releaseNativeBuffer(oldBuffer);
 		}
 		else if (newCapacity < oldCapacity) {
 			ByteBuffer oldBuffer = this.byteBuffer;
-			ByteBuffer newBuffer = allocate(newCapacity, oldBuffer.isDirect());
+			ByteBuffer newBuffer = allocateNativeBuffer(newCapacity, oldBuffer.isDirect());
 			if (readPosition < newCapacity) {
 				if (writePosition > newCapacity) {
 					writePosition = newCapacity;
@@ -218,6 +219,7 @@ public class DefaultDataBuffer implements DataBuffer {
 				writePosition(newCapacity);
 			}
 			setNativeBuffer(newBuffer);
+			releaseNativeBuffer(oldBuffer);
 		}
 	}
 
@@ -234,6 +236,37 @@ public class DefaultDataBuffer implements DataBuffer {
 		return (direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
 	}
 
+	/**
+	 * Allocate a new native buffer of the given capacity when this buffer's
+	 * capacity changes. Overridden by pooled subclasses.
+	 */
+	ByteBuffer allocateNativeBuffer(int capacity, boolean direct) {
+		return allocate(capacity, direct);
+	}
+
+	/**
+	 * Template method invoked once the given native buffer has been replaced,
+	 * after its contents have been copied. Overridden by pooled subclasses.
+	 */
+	void releaseNativeBuffer(ByteBuffer byteBuffer) {
+	}
+
+	/**
+	 * Create a buffer for the given slice of this buffer's memory.
+	 * Overridden by pooled subclasses.
+	 */
+	DefaultDataBuffer createSlicedBuffer(ByteBuffer slice, int length) {
+		return new SlicedDefaultDataBuffer(slice, this.dataBufferFactory, length);
+	}
+
+	/**
+	 * Create a buffer for the given part of this buffer's memory, as split off
+	 * by {@link #split(int)}. Overridden by pooled subclasses.
+	 */
+	DefaultDataBuffer createSplitBuffer(ByteBuffer split) {
+		return new DefaultDataBuffer(this.dataBufferFactory, split);
+	}
+
 	@Override
 	public byte getByte(int index) {
 		assertIndex(index >= 0, "index %d must be >= 0", index);
@@ -345,7 +378,7 @@ public class DefaultDataBuffer implements DataBuffer {
 			this.byteBuffer.position(index);
 			ByteBuffer slice = this.byteBuffer.slice();
 			slice.limit(length);
-			return new SlicedDefaultDataBuffer(slice, this.dataBufferFactory, length);
+			return createSlicedBuffer(slice, length);
 		}
 		finally {
 			this.byteBuffer.position(oldPosition);
@@ -361,7 +394,7 @@ public class DefaultDataBuffer implements DataBuffer {
 			.limit(index)
 			.slice();
 
-		DefaultDataBuffer result = new DefaultDataBuffer(this.dataBufferFactory, split);
+		DefaultDataBuffer result = createSplitBuffer(split);
 		result.writePosition = Math.min(this.writePosition, index);
 		result.readPosition = Math.min(this.readPosition, index);
 
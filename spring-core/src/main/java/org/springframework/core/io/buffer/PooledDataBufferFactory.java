@@ -0,0 +1,466 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Pooling variant of {@link DefaultDataBufferFactory}, allocating buffers
+ * which implement the {@link PooledDataBuffer} reference counting contract
+ * and whose memory is returned to the pool once they have been
+ * {@linkplain DataBufferUtils#release(DataBuffer) released}.
+ *
+ * <p>The pool is organized in power-of-two size classes, from 256 bytes up to
+ * a configurable maximum capacity (64 KB by default). Requests for larger
+ * buffers are served by unpooled {@link DefaultDataBuffer} instances. Small
+ * size classes are carved out of larger slabs of memory. Released buffers are
+ * kept in a bounded pool per size class which is shared by all threads, and
+ * handed out in last-in-first-out order for the memory to be warm in the CPU
+ * caches. No state is kept per thread, so the pooled memory can be reclaimed
+ * along with the factory itself.
+ *
+ * <p>This factory is intended for servers without a pooling buffer allocator
+ * of their own, e.g. through {@code setDataBufferFactory} on the reactive
+ * {@code ServletHttpHandlerAdapter} or {@code UndertowHttpHandlerAdapter}.
+ * Note that buffers must not be used after their release, since their memory
+ * may have been handed out to another buffer already. With
+ * {@link #setLeakDetection leak detection} switched on, buffers that become
+ * unreachable without having been released are reported in the log.
+ *
+ * @author agent
+ * @since 6.1
+ * @see NettyDataBufferFactory
+ */
+public class PooledDataBufferFactory extends DefaultDataBufferFactory {
+
+	/**
+	 * The default maximum capacity of pooled buffers: 64 KB.
+	 */
+	public static final int DEFAULT_MAX_POOLED_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default maximum number of buffers in the shared pool per size class.
+	 */
+	public static final int DEFAULT_MAX_POOLED_BUFFERS_PER_SIZE_CLASS = 256;
+
+	private static final int MIN_CAPACITY_SHIFT = 8;
+
+	private static final int SLAB_SIZE = 64 * 1024;
+
+	private static final Log logger = LogFactory.getLog(PooledDataBufferFactory.class);
+
+
+	private final SizeClass[] sizeClasses;
+
+	private final int maxPooledCapacity;
+
+	private volatile boolean leakDetection;
+
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} for heap buffers with default settings.
+	 */
+	public PooledDataBufferFactory() {
+		this(false);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} with default settings.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PooledDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_MAX_POOLED_BUFFERS_PER_SIZE_CLASS);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 * @param maxPooledCapacity the maximum capacity of pooled buffers, rounded
+	 * up to the next power of two; larger buffers are not pooled
+	 * @param maxPooledBuffersPerSizeClass the maximum number of released buffers
+	 * to keep in the pool for each size class
+	 */
+	public PooledDataBufferFactory(boolean preferDirect, int maxPooledCapacity, int maxPooledBuffersPerSizeClass) {
+
+		super(preferDirect, DEFAULT_INITIAL_CAPACITY);
+		Assert.isTrue(maxPooledCapacity > 0, "'maxPooledCapacity' must be larger than 0");
+		Assert.isTrue(maxPooledBuffersPerSizeClass >= 0, "'maxPooledBuffersPerSizeClass' must not be negative");
+		int sizeClassCount = Math.max(sizeClassIndex(maxPooledCapacity), 0) + 1;
+		this.sizeClasses = new SizeClass[sizeClassCount];
+		for (int i = 0; i < sizeClassCount; i++) {
+			this.sizeClasses[i] = new SizeClass(1 << (i + MIN_CAPACITY_SHIFT), maxPooledBuffersPerSizeClass);
+		}
+		this.maxPooledCapacity = this.sizeClasses[sizeClassCount - 1].capacity;
+	}
+
+
+	/**
+	 * Set whether to track allocated buffers for leaks, logging a warning
+	 * (including the allocation stack trace) for every buffer that becomes
+	 * unreachable without having been released. The memory of such a buffer
+	 * is returned to the pool at that point.
+	 * <p>Default is {@code false}. Leak detection comes with considerable
+	 * overhead per allocation and is therefore meant for testing purposes.
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+	}
+
+	/**
+	 * Return whether leak detection is switched on.
+	 */
+	public boolean isLeakDetection() {
+		return this.leakDetection;
+	}
+
+
+	@Override
+	public DefaultDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must not be negative");
+		if (initialCapacity > this.maxPooledCapacity) {
+			return super.allocateBuffer(initialCapacity);
+		}
+		Chunk chunk = allocateChunk(initialCapacity);
+		return new PooledDefaultDataBuffer(this, chunk, chunk.slice(initialCapacity));
+	}
+
+	/**
+	 * Obtain a chunk of memory of at least the given capacity,
+	 * from the pool if possible.
+	 */
+	Chunk allocateChunk(int capacity) {
+		if (capacity > this.maxPooledCapacity) {
+			ByteBuffer memory = (isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+			return new Chunk(memory, null);
+		}
+		SizeClass sizeClass = this.sizeClasses[Math.max(sizeClassIndex(capacity), 0)];
+		ByteBuffer memory = sizeClass.poll();
+		if (memory == null) {
+			memory = sizeClass.allocate(isDirect());
+		}
+		return new Chunk(memory, sizeClass);
+	}
+
+	private static int sizeClassIndex(int capacity) {
+		int shift = (capacity <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(capacity - 1));
+		return shift - MIN_CAPACITY_SHIFT;
+	}
+
+	@Override
+	public String toString() {
+		return "PooledDataBufferFactory (preferDirect=" + isDirect() +
+				", maxPooledCapacity=" + this.maxPooledCapacity + ")";
+	}
+
+
+	/**
+	 * Bounded pool of released buffers of the same capacity.
+	 */
+	static final class SizeClass {
+
+		final int capacity;
+
+		private final int maxPooledBuffers;
+
+		private final Deque<ByteBuffer> buffers = new ConcurrentLinkedDeque<>();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		SizeClass(int capacity, int maxPooledBuffers) {
+			this.capacity = capacity;
+			this.maxPooledBuffers = maxPooledBuffers;
+		}
+
+		@Nullable
+		ByteBuffer poll() {
+			ByteBuffer buffer = this.buffers.pollFirst();
+			if (buffer != null) {
+				this.size.decrementAndGet();
+			}
+			return buffer;
+		}
+
+		void offer(ByteBuffer buffer) {
+			buffer.clear();
+			if (this.size.incrementAndGet() <= this.maxPooledBuffers) {
+				this.buffers.offerFirst(buffer);
+			}
+			else {
+				this.size.decrementAndGet();
+			}
+		}
+
+		/**
+		 * Allocate new memory for this size class, carving small buffers
+		 * out of a larger slab and pooling the remainder of it.
+		 */
+		ByteBuffer allocate(boolean direct) {
+			int count = Math.max(SLAB_SIZE / this.capacity, 1);
+			int slabSize = count * this.capacity;
+			ByteBuffer slab = (direct ? ByteBuffer.allocateDirect(slabSize) : ByteBuffer.allocate(slabSize));
+			if (count == 1) {
+				return slab;
+			}
+			for (int i = 1; i < count; i++) {
+				offer(slab.duplicate().position(i * this.capacity).limit((i + 1) * this.capacity).slice());
+			}
+			return slab.duplicate().position(0).limit(this.capacity).slice();
+		}
+	}
+
+
+	/**
+	 * Chunk of memory referenced by one or more buffers, for example after a
+	 * {@link DataBuffer#split split}, and returned to its size class once the
+	 * last of those buffers has been released.
+	 */
+	static final class Chunk {
+
+		final ByteBuffer memory;
+
+		@Nullable
+		private final SizeClass sizeClass;
+
+		private final AtomicInteger references = new AtomicInteger(1);
+
+		Chunk(ByteBuffer memory, @Nullable SizeClass sizeClass) {
+			this.memory = memory;
+			this.sizeClass = sizeClass;
+		}
+
+		ByteBuffer slice(int capacity) {
+			return this.memory.duplicate().clear().limit(capacity).slice();
+		}
+
+		void retain() {
+			this.references.incrementAndGet();
+		}
+
+		void release() {
+			if (this.references.decrementAndGet() == 0 && this.sizeClass != null) {
+				this.sizeClass.offer(this.memory);
+			}
+		}
+	}
+
+
+	/**
+	 * Reference count and memory of a {@link PooledDefaultDataBuffer}, kept
+	 * separately from the buffer itself for the purpose of leak detection.
+	 */
+	private static final class BufferState implements Runnable {
+
+		final AtomicInteger refCount = new AtomicInteger(1);
+
+		volatile Chunk chunk;
+
+		@Nullable
+		volatile Object hint;
+
+		@Nullable
+		final Throwable allocationTrace;
+
+		BufferState(Chunk chunk, boolean leakDetection) {
+			this.chunk = chunk;
+			this.allocationTrace = (leakDetection ? new Throwable("Buffer allocated here") : null);
+		}
+
+		/**
+		 * Invoked for leak detection once the buffer has become unreachable.
+		 */
+		@Override
+		public void run() {
+			if (this.refCount.getAndSet(0) > 0) {
+				if (logger.isWarnEnabled()) {
+					Object hint = this.hint;
+					logger.warn("DataBuffer was garbage-collected without being released" +
+							(hint != null ? " (last hint: " + hint + ")" : ""), this.allocationTrace);
+				}
+				this.chunk.release();
+			}
+		}
+	}
+
+
+	/**
+	 * {@link DefaultDataBuffer} variant backed by a pooled chunk of memory.
+	 */
+	private static class PooledDefaultDataBuffer extends DefaultDataBuffer implements PooledDataBuffer {
+
+		private final PooledDataBufferFactory factory;
+
+		private final BufferState state;
+
+		@Nullable
+		private final Cleaner.Cleanable cleanable;
+
+		@Nullable
+		private Chunk allocatedChunk;
+
+		PooledDefaultDataBuffer(PooledDataBufferFactory factory, Chunk chunk, ByteBuffer byteBuffer) {
+			super(factory, byteBuffer);
+			this.factory = factory;
+			boolean leakDetection = factory.isLeakDetection();
+			this.state = new BufferState(chunk, leakDetection);
+			this.cleanable = (leakDetection ? LeakDetectionHolder.cleaner.register(this, this.state) : null);
+		}
+
+		@Override
+		public boolean isAllocated() {
+			return (this.state.refCount.get() > 0);
+		}
+
+		@Override
+		public PooledDataBuffer retain() {
+			int refCount;
+			do {
+				refCount = this.state.refCount.get();
+				if (refCount <= 0) {
+					throw new IllegalStateException("DataBuffer has been released already");
+				}
+			}
+			while (!this.state.refCount.compareAndSet(refCount, refCount + 1));
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer touch(Object hint) {
+			this.state.hint = hint;
+			return this;
+		}
+
+		@Override
+		public boolean release() {
+			int refCount = this.state.refCount.decrementAndGet();
+			if (refCount > 0) {
+				return false;
+			}
+			if (refCount < 0) {
+				this.state.refCount.incrementAndGet();
+				throw new IllegalStateException("DataBuffer has been released already");
+			}
+			readPosition(0);
+			writePosition(0);
+			setNativeBuffer(ByteBuffer.allocate(0));
+			this.state.chunk.release();
+			if (this.cleanable != null) {
+				this.cleanable.clean();
+			}
+			return true;
+		}
+
+		@Override
+		ByteBuffer allocateNativeBuffer(int capacity, boolean direct) {
+			if (!isAllocated()) {
+				throw new IllegalStateException("DataBuffer has been released already");
+			}
+			Chunk chunk = this.factory.allocateChunk(capacity);
+			this.allocatedChunk = chunk;
+			return chunk.slice(capacity);
+		}
+
+		@Override
+		void releaseNativeBuffer(ByteBuffer byteBuffer) {
+			Chunk chunk = this.allocatedChunk;
+			if (chunk != null) {
+				Chunk oldChunk = this.state.chunk;
+				this.state.chunk = chunk;
+				this.allocatedChunk = null;
+				oldChunk.release();
+			}
+		}
+
+		@Override
+		DefaultDataBuffer createSlicedBuffer(ByteBuffer slice, int length) {
+			return new PooledSlicedDataBuffer(this, slice, length);
+		}
+
+		@Override
+		DefaultDataBuffer createSplitBuffer(ByteBuffer split) {
+			Chunk chunk = this.state.chunk;
+			chunk.retain();
+			return new PooledDefaultDataBuffer(this.factory, chunk, split);
+		}
+	}
+
+
+	/**
+	 * Slice of a {@link PooledDefaultDataBuffer}, sharing its memory
+	 * as well as its reference count.
+	 */
+	private static final class PooledSlicedDataBuffer extends DefaultDataBuffer implements PooledDataBuffer {
+
+		private final PooledDefaultDataBuffer parent;
+
+		PooledSlicedDataBuffer(PooledDefaultDataBuffer parent, ByteBuffer slice, int length) {
+			super(parent.factory, slice);
+			this.parent = parent;
+			writePosition(length);
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public DefaultDataBuffer capacity(int newCapacity) {
+			throw new UnsupportedOperationException("Changing the capacity of a sliced buffer is not supported");
+		}
+
+		@Override
+		public boolean isAllocated() {
+			return this.parent.isAllocated();
+		}
+
+		@Override
+		public PooledDataBuffer retain() {
+			this.parent.retain();
+			return this;
+		}
+
+		@Override
+		public PooledDataBuffer touch(Object hint) {
+			this.parent.touch(hint);
+			return this;
+		}
+
+		@Override
+		public boolean release() {
+			return this.parent.release();
+		}
+	}
+
+
+	/**
+	 * Holder for the {@link Cleaner} used for leak detection,
+	 * lazily creating its thread on first use.
+	 */
+	private static final class LeakDetectionHolder {
+
+		static final Cleaner cleaner = Cleaner.create();
+	}
+
+}
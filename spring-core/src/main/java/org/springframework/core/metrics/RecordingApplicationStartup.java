@@ -0,0 +1,385 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ApplicationStartup} implementation which keeps the ended
+ * {@link StartupStep steps} in memory for later analysis.
+ *
+ * <p>Steps are nested per thread: the parent of a step is the step that was
+ * most recently started and not yet ended on the same thread. Since the
+ * creation of a bean's dependencies happens within the creation of the bean
+ * itself, nested {@code "spring.beans.instantiate"} steps reflect the actual
+ * dependency edges between the beans created during startup.
+ *
+ * <p>The recorded steps can be exported in the
+ * <a href="https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU">Chrome
+ * Trace Event format</a> through {@link #writeChromeTrace(Appendable)}, e.g. for
+ * display in {@code chrome://tracing} or <a href="https://ui.perfetto.dev">Perfetto</a>.
+ * {@link #getCriticalPath(String)} determines the chain of nested steps which
+ * dominates a given phase, e.g. {@code "spring.beans.pre-instantiate-singletons"}.
+ *
+ * <p>Once this is configured on the application context as soon as it's been
+ * created, the recorded steps can be retrieved after the context refresh.
+ * Note that this is meant for diagnostic purposes during development; use
+ * {@link #RecordingApplicationStartup(int)} to bound the number of recorded steps.
+ *
+ * @author agent
+ * @since 6.1
+ * @see #getRecordedSteps()
+ * @see #getCriticalPath(String)
+ * @see #writeChromeTrace(Appendable)
+ */
+public class RecordingApplicationStartup implements ApplicationStartup {
+
+	private final int capacity;
+
+	private final long startTime = System.nanoTime();
+
+	private final AtomicLong currentSequenceId = new AtomicLong();
+
+	private final ThreadLocal<RecordingStartupStep> currentStep = new ThreadLocal<>();
+
+	private final Queue<RecordedStep> recordedSteps = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger recordedCount = new AtomicInteger();
+
+
+	/**
+	 * Create a new {@code RecordingApplicationStartup} without a limit
+	 * on the number of recorded steps.
+	 */
+	public RecordingApplicationStartup() {
+		this(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Create a new {@code RecordingApplicationStartup} which records
+	 * up to the given number of steps, ignoring any further steps.
+	 * @param capacity the maximum number of steps to record
+	 */
+	public RecordingApplicationStartup(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		this.capacity = capacity;
+	}
+
+
+	@Override
+	public StartupStep start(String name) {
+		Assert.notNull(name, "Name must not be null");
+		RecordingStartupStep parent = this.currentStep.get();
+		RecordingStartupStep step = new RecordingStartupStep(
+				this.currentSequenceId.incrementAndGet(), name, parent, System.nanoTime());
+		this.currentStep.set(step);
+		return step;
+	}
+
+	private void record(RecordingStartupStep step, long endTime) {
+		if (this.currentStep.get() == step) {
+			if (step.parent != null) {
+				this.currentStep.set(step.parent);
+			}
+			else {
+				this.currentStep.remove();
+			}
+		}
+		if (this.recordedCount.incrementAndGet() <= this.capacity) {
+			this.recordedSteps.add(new RecordedStep(step.id, (step.parent != null ? step.parent.id : null),
+					step.name, step.threadId, step.startTime - this.startTime, endTime - step.startTime,
+					Collections.unmodifiableMap(step.tags)));
+		}
+	}
+
+
+	/**
+	 * Return the steps recorded so far, in the order of their start time.
+	 * <p>Steps which have not been ended yet are not included.
+	 */
+	public List<RecordedStep> getRecordedSteps() {
+		List<RecordedStep> steps = new ArrayList<>(this.recordedSteps);
+		steps.sort(Comparator.comparingLong(RecordedStep::startTime).thenComparingLong(RecordedStep::id));
+		return steps;
+	}
+
+	/**
+	 * Return the critical path through the longest recorded step with the given
+	 * name, e.g. {@code "spring.beans.pre-instantiate-singletons"}.
+	 * <p>Starting with that step, the path repeatedly descends into the longest
+	 * nested step. Steps on other threads without a parent step on their own
+	 * thread, started within the time window of the given step, are considered
+	 * as nested steps as well: this covers work dispatched to a bootstrap executor.
+	 * The {@link RecordedStep#selfTime() self time} of each step on the path
+	 * indicates the time not spent in nested steps on the same thread.
+	 * @param stepName the name of the step to analyze
+	 * @return the list of steps on the critical path, starting with the given
+	 * step (or an empty list if no step with that name has been recorded)
+	 */
+	public List<RecordedStep> getCriticalPath(String stepName) {
+		Assert.notNull(stepName, "Step name must not be null");
+		List<RecordedStep> steps = getRecordedSteps();
+		RecordedStep root = null;
+		for (RecordedStep step : steps) {
+			if (step.name().equals(stepName) && (root == null || step.duration() > root.duration())) {
+				root = step;
+			}
+		}
+		if (root == null) {
+			return Collections.emptyList();
+		}
+
+		Map<Long, List<RecordedStep>> children = new LinkedHashMap<>();
+		List<RecordedStep> detachedSteps = new ArrayList<>();
+		for (RecordedStep step : steps) {
+			if (step.parentId() != null) {
+				children.computeIfAbsent(step.parentId(), id -> new ArrayList<>()).add(step);
+			}
+			else if (step.threadId() != root.threadId() && step.startTime() >= root.startTime() &&
+					step.startTime() <= root.endTime()) {
+				detachedSteps.add(step);
+			}
+		}
+
+		List<RecordedStep> path = new ArrayList<>();
+		RecordedStep current = root;
+		while (current != null) {
+			List<RecordedStep> candidates = new ArrayList<>(children.getOrDefault(current.id(), Collections.emptyList()));
+			if (current == root) {
+				candidates.addAll(detachedSteps);
+			}
+			long childTime = 0;
+			RecordedStep next = null;
+			for (RecordedStep candidate : candidates) {
+				if (candidate.threadId() == current.threadId()) {
+					childTime += candidate.duration();
+				}
+				if (next == null || candidate.duration() > next.duration()) {
+					next = candidate;
+				}
+			}
+			path.add(current.withSelfTime(Math.max(current.duration() - childTime, 0)));
+			current = next;
+		}
+		return path;
+	}
+
+	/**
+	 * Write the recorded steps as JSON in the Chrome Trace Event format,
+	 * with one complete event per step and the step id, parent step id
+	 * and tags as event arguments.
+	 * @param out the target to write to
+	 * @throws IOException in case of I/O errors
+	 */
+	public void writeChromeTrace(Appendable out) throws IOException {
+		Assert.notNull(out, "Appendable must not be null");
+		out.append("{\"traceEvents\":[");
+		Iterator<RecordedStep> it = getRecordedSteps().iterator();
+		while (it.hasNext()) {
+			RecordedStep step = it.next();
+			out.append("\n{\"name\":");
+			appendJsonString(out, step.name());
+			out.append(",\"cat\":\"spring\",\"ph\":\"X\",\"pid\":1,\"tid\":").append(Long.toString(step.threadId()));
+			out.append(",\"ts\":").append(Long.toString(TimeUnit.NANOSECONDS.toMicros(step.startTime())));
+			out.append(",\"dur\":").append(Long.toString(TimeUnit.NANOSECONDS.toMicros(step.duration())));
+			out.append(",\"args\":{\"id\":").append(Long.toString(step.id()));
+			if (step.parentId() != null) {
+				out.append(",\"parentId\":").append(Long.toString(step.parentId()));
+			}
+			for (Map.Entry<String, String> tag : step.tags().entrySet()) {
+				out.append(',');
+				appendJsonString(out, tag.getKey());
+				out.append(':');
+				appendJsonString(out, tag.getValue());
+			}
+			out.append("}}");
+			if (it.hasNext()) {
+				out.append(',');
+			}
+		}
+		out.append("\n],\"displayTimeUnit\":\"ms\"}\n");
+	}
+
+	private static void appendJsonString(Appendable out, String value) throws IOException {
+		out.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			switch (ch) {
+				case '"' -> out.append("\\\"");
+				case '\\' -> out.append("\\\\");
+				case '\n' -> out.append("\\n");
+				case '\r' -> out.append("\\r");
+				case '\t' -> out.append("\\t");
+				default -> {
+					if (ch < 0x20) {
+						out.append(String.format("\\u%04x", (int) ch));
+					}
+					else {
+						out.append(ch);
+					}
+				}
+			}
+		}
+		out.append('"');
+	}
+
+
+	/**
+	 * A step recorded by {@link RecordingApplicationStartup}.
+	 * @param id the unique id of the step
+	 * @param parentId the id of the parent step on the same thread, if any
+	 * @param name the name of the step
+	 * @param threadId the id of the thread that started the step
+	 * @param startTime the start time in nanoseconds, relative to the
+	 * creation of the {@code RecordingApplicationStartup}
+	 * @param duration the duration of the step in nanoseconds
+	 * @param selfTime the time in nanoseconds spent in the step itself
+	 * as opposed to its nested steps: only determined for the steps
+	 * returned from {@link #getCriticalPath}, otherwise -1
+	 * @param tags the tags of the step
+	 */
+	public record RecordedStep(long id, @Nullable Long parentId, String name, long threadId,
+			long startTime, long duration, long selfTime, Map<String, String> tags) {
+
+		RecordedStep(long id, @Nullable Long parentId, String name, long threadId,
+				long startTime, long duration, Map<String, String> tags) {
+
+			this(id, parentId, name, threadId, startTime, duration, -1, tags);
+		}
+
+		/**
+		 * Return the end time in nanoseconds, relative to the
+		 * creation of the {@code RecordingApplicationStartup}.
+		 */
+		public long endTime() {
+			return this.startTime + this.duration;
+		}
+
+		RecordedStep withSelfTime(long selfTime) {
+			return new RecordedStep(this.id, this.parentId, this.name, this.threadId,
+					this.startTime, this.duration, selfTime, this.tags);
+		}
+	}
+
+
+	/**
+	 * {@link StartupStep} implementation which hands itself over to the
+	 * {@link RecordingApplicationStartup} for recording once ended.
+	 */
+	private class RecordingStartupStep implements StartupStep {
+
+		private final long id;
+
+		private final String name;
+
+		@Nullable
+		private final RecordingStartupStep parent;
+
+		private final long threadId = Thread.currentThread().getId();
+
+		private final long startTime;
+
+		private final Map<String, String> tags = new LinkedHashMap<>(4);
+
+		private volatile boolean ended;
+
+		RecordingStartupStep(long id, String name, @Nullable RecordingStartupStep parent, long startTime) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+			this.startTime = startTime;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public long getId() {
+			return this.id;
+		}
+
+		@Override
+		@Nullable
+		public Long getParentId() {
+			return (this.parent != null ? this.parent.id : null);
+		}
+
+		@Override
+		public StartupStep tag(String key, String value) {
+			Assert.notNull(key, "Tag key must not be null");
+			Assert.notNull(value, "Tag value must not be null");
+			Assert.state(!this.ended, "StartupStep has already ended");
+			this.tags.put(key, value);
+			return this;
+		}
+
+		@Override
+		public StartupStep tag(String key, Supplier<String> value) {
+			Assert.notNull(value, "Tag value supplier must not be null");
+			return tag(key, value.get());
+		}
+
+		@Override
+		public Tags getTags() {
+			List<Tag> tags = new ArrayList<>(this.tags.size());
+			this.tags.forEach((key, value) -> tags.add(new RecordedTag(key, value)));
+			return Collections.unmodifiableList(tags)::iterator;
+		}
+
+		@Override
+		public void end() {
+			long endTime = System.nanoTime();
+			if (!this.ended) {
+				this.ended = true;
+				record(this, endTime);
+			}
+		}
+	}
+
+
+	private record RecordedTag(String key, String value) implements StartupStep.Tag {
+
+		@Override
+		public String getKey() {
+			return this.key;
+		}
+
+		@Override
+		public String getValue() {
+			return this.value;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,20 @@
 package org.springframework.core.task;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -33,8 +43,21 @@ import org.springframework.util.concurrent.ListenableFutureTask;
  * {@link TaskExecutor} implementation that fires up a new Thread for each task,
  * executing it asynchronously.
  *
- * <p>Supports limiting concurrent threads through the "concurrencyLimit"
- * bean property. By default, the number of concurrent threads is unlimited.
+ * <p>Supports a graceful shutdown through {@link #setTaskTerminationTimeout},
+ * at the expense of task tracking overhead per execution thread at runtime.
+ * Supports limiting concurrent threads through {@link #setConcurrencyLimit}.
+ * By default, the number of concurrent task executions is unlimited.
+ * Once a concurrency limit has been reached, submitting threads wait for a
+ * free slot; this can be bounded through {@link #setQueueCapacity} and
+ * {@link #setQueueTimeout}, with tasks beyond those bounds either rejected
+ * or executed in the submitting thread (see {@link #setCallerRunsWhenLimitReached}).
+ * Running tasks may be interrupted after a {@link #setTaskTimeout task timeout}.
+ * Active, queued, rejected and timed-out task counts as well as queue wait
+ * times are exposed for monitoring purposes, e.g. {@link #getActiveCount()}.
+ *
+ * <p>On JDK 21, this executor may also run its tasks on virtual threads,
+ * see {@link #setVirtualThreads}. This is a natural fit for a large number
+ * of blocking I/O-bound tasks which would otherwise require pool sizing.
  *
  * <p><b>NOTE: This implementation does not reuse threads!</b> Consider a
  * thread-pooling TaskExecutor implementation instead, in particular for
@@ -42,13 +65,17 @@ import org.springframework.util.concurrent.ListenableFutureTask;
  *
  * @author Juergen Hoeller
  * @since 2.0
+ * @see #setVirtualThreads
+ * @see #setTaskTerminationTimeout
  * @see #setConcurrencyLimit
+ * @see #setQueueCapacity
  * @see SyncTaskExecutor
+ * @see VirtualThreadTaskExecutor
  * @see org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor
  */
 @SuppressWarnings({"serial", "deprecation"})
 public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
-		implements AsyncListenableTaskExecutor, Serializable {
+		implements AsyncListenableTaskExecutor, Serializable, AutoCloseable {
 
 	/**
 	 * Permit any number of concurrent invocations: that is, don't throttle concurrency.
@@ -66,12 +93,41 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	/** Internal concurrency throttle used by this executor. */
 	private final ConcurrencyThrottleAdapter concurrencyThrottle = new ConcurrencyThrottleAdapter();
 
+	@Nullable
+	private VirtualThreadDelegate virtualThreadDelegate;
+
 	@Nullable
 	private ThreadFactory threadFactory;
 
 	@Nullable
 	private TaskDecorator taskDecorator;
 
+	private long taskTerminationTimeout;
+
+	@Nullable
+	private Set<Thread> activeThreads;
+
+	private long queueTimeout = -1;
+
+	private boolean callerRunsWhenLimitReached = false;
+
+	private long taskTimeout;
+
+	@Nullable
+	private volatile ScheduledThreadPoolExecutor timeoutScheduler;
+
+	private final AtomicInteger activeCount = new AtomicInteger();
+
+	private final LongAdder rejectedCount = new LongAdder();
+
+	private final LongAdder timedOutCount = new LongAdder();
+
+	private final LongAdder totalWaitTime = new LongAdder();
+
+	private final AtomicLong maxWaitTime = new AtomicLong();
+
+	private volatile boolean active = true;
+
 
 	/**
 	 * Create a new SimpleAsyncTaskExecutor with default thread name prefix.
@@ -97,6 +153,22 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	}
 
 
+	/**
+	 * Switch this executor to virtual threads. Requires Java 21 or higher.
+	 * <p>The default is {@code false}, indicating platform threads.
+	 * Set this flag to {@code true} in order to create virtual threads instead.
+	 * <p>Thread naming applies to virtual threads as well, based on the
+	 * {@link #setThreadNamePrefix "threadNamePrefix"}, whereas other
+	 * {@code CustomizableThreadCreator} settings such as priority, daemon flag
+	 * and thread group are not applicable to virtual threads.
+	 * @throws UnsupportedOperationException if not running on JDK 21+
+	 * @since 6.1
+	 * @see VirtualThreadTaskExecutor
+	 */
+	public void setVirtualThreads(boolean virtual) {
+		this.virtualThreadDelegate = (virtual ? new VirtualThreadDelegate() : null);
+	}
+
 	/**
 	 * Specify an external factory to use for creating new Threads,
 	 * instead of relying on the local properties of this executor.
@@ -136,6 +208,39 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 		this.taskDecorator = taskDecorator;
 	}
 
+	/**
+	 * Specify a timeout (in milliseconds) for task termination when closing
+	 * this executor. The default is 0, not waiting for task termination at all.
+	 * <p>Note that a concrete >0 timeout specified here will lead to the
+	 * wrapping of every submitted task into a task-tracking runnable which
+	 * involves considerable overhead in case of a high number of tasks.
+	 * However, for a modest level of submissions with longer-running
+	 * tasks, this is feasible in order to arrive at a graceful shutdown.
+	 * <p>Note that {@code SimpleAsyncTaskExecutor} does not participate in
+	 * a coordinated lifecycle stop but rather just awaits task termination
+	 * on {@link #close()}.
+	 * @param timeout the timeout in milliseconds
+	 * @since 6.1
+	 * @see #close()
+	 */
+	public void setTaskTerminationTimeout(long timeout) {
+		Assert.isTrue(timeout >= 0, "Timeout value must be >=0");
+		this.taskTerminationTimeout = timeout;
+		this.activeThreads = (timeout > 0 ? Collections.newSetFromMap(new ConcurrentHashMap<>()) : null);
+	}
+
+	/**
+	 * Return whether this executor is still active, i.e. not closed yet,
+	 * and therefore accepts further task submissions. Otherwise, it is
+	 * either in the task termination phase or entirely shut down already.
+	 * @since 6.1
+	 * @see #setTaskTerminationTimeout
+	 * @see #close()
+	 */
+	public boolean isActive() {
+		return this.active;
+	}
+
 	/**
 	 * Set the maximum number of parallel accesses allowed.
 	 * -1 indicates no concurrency limit at all.
@@ -167,6 +272,126 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 		return this.concurrencyThrottle.isThrottleActive();
 	}
 
+	/**
+	 * Set the maximum number of tasks allowed to wait for a free slot once
+	 * the {@link #setConcurrencyLimit concurrency limit} has been reached.
+	 * The submitting threads block while their tasks are waiting.
+	 * <p>Default is {@code Integer.MAX_VALUE}, i.e. an unbounded number of
+	 * waiting tasks. A value of 0 indicates that tasks are not allowed to wait
+	 * at all, applying the overflow policy right away when the limit has been
+	 * reached: see {@link #setCallerRunsWhenLimitReached}.
+	 * @since 6.1
+	 * @see #setQueueTimeout
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		this.concurrencyThrottle.setQueueCapacity(queueCapacity);
+	}
+
+	/**
+	 * Return the maximum number of tasks allowed to wait for a free slot.
+	 * @since 6.1
+	 */
+	public final int getQueueCapacity() {
+		return this.concurrencyThrottle.getQueueCapacity();
+	}
+
+	/**
+	 * Set the maximum time (in milliseconds) that a task may wait for a free
+	 * slot once the {@link #setConcurrencyLimit concurrency limit} has been
+	 * reached, applying the overflow policy afterwards.
+	 * <p>Default is -1, waiting indefinitely. A specific start timeout passed
+	 * into {@link #execute(Runnable, long)} takes precedence over this setting.
+	 * @since 6.1
+	 * @see #setCallerRunsWhenLimitReached
+	 */
+	public void setQueueTimeout(long queueTimeout) {
+		this.queueTimeout = queueTimeout;
+	}
+
+	/**
+	 * Specify whether to run a task in the submitting thread when it cannot be
+	 * admitted within the configured {@link #setQueueCapacity queue capacity}
+	 * and {@link #setQueueTimeout queue timeout}, slowing down the submitter.
+	 * <p>Default is {@code false}, rejecting such a task with a
+	 * {@link TaskRejectedException}.
+	 * @since 6.1
+	 */
+	public void setCallerRunsWhenLimitReached(boolean callerRunsWhenLimitReached) {
+		this.callerRunsWhenLimitReached = callerRunsWhenLimitReached;
+	}
+
+	/**
+	 * Specify a timeout (in milliseconds) for the execution of each task,
+	 * interrupting the executing thread once the timeout has elapsed.
+	 * The default is 0, not applying any execution timeout.
+	 * <p>Note that tasks need to react to thread interruption in order
+	 * to actually stop, e.g. in blocking I/O or while waiting for locks.
+	 * Tasks run in the submitting thread (see {@link #setCallerRunsWhenLimitReached})
+	 * are not subject to this timeout.
+	 * @param timeout the timeout in milliseconds
+	 * @since 6.1
+	 * @see #getTimedOutCount()
+	 */
+	public void setTaskTimeout(long timeout) {
+		Assert.isTrue(timeout >= 0, "Timeout value must be >=0");
+		this.taskTimeout = timeout;
+	}
+
+	/**
+	 * Return the number of currently executing tasks,
+	 * independent from any {@link #setConcurrencyLimit concurrency limit}.
+	 * @since 6.1
+	 */
+	public int getActiveCount() {
+		return this.activeCount.get();
+	}
+
+	/**
+	 * Return the number of tasks currently waiting for a free slot.
+	 * @since 6.1
+	 * @see #setQueueCapacity
+	 */
+	public int getQueueSize() {
+		return this.concurrencyThrottle.getWaitingCount();
+	}
+
+	/**
+	 * Return the total number of tasks which could not be admitted within the
+	 * concurrency limit, either rejected or run in the submitting thread.
+	 * @since 6.1
+	 * @see #setCallerRunsWhenLimitReached
+	 */
+	public long getRejectedCount() {
+		return this.rejectedCount.sum();
+	}
+
+	/**
+	 * Return the total number of tasks which have been interrupted
+	 * after exceeding the {@link #setTaskTimeout task timeout}.
+	 * @since 6.1
+	 */
+	public long getTimedOutCount() {
+		return this.timedOutCount.sum();
+	}
+
+	/**
+	 * Return the accumulated time (in milliseconds) that submitted tasks
+	 * have been waiting for a free slot within the concurrency limit.
+	 * @since 6.1
+	 */
+	public long getTotalWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.totalWaitTime.sum());
+	}
+
+	/**
+	 * Return the maximum time (in milliseconds) that a submitted task
+	 * has been waiting for a free slot within the concurrency limit.
+	 * @since 6.1
+	 */
+	public long getMaxWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.maxWaitTime.get());
+	}
+
 
 	/**
 	 * Executes the given task, within a concurrency throttle
@@ -184,7 +409,9 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	 * if configured (through the superclass's settings).
 	 * <p>Executes urgent tasks (with 'immediate' timeout) directly,
 	 * bypassing the concurrency throttle (if active). All other
-	 * tasks are subject to throttling.
+	 * tasks are subject to throttling, waiting for the given start
+	 * timeout at the most (unless {@link #TIMEOUT_INDEFINITE}, falling
+	 * back to the configured {@link #setQueueTimeout queue timeout}).
 	 * @see #TIMEOUT_IMMEDIATE
 	 * @see #doExecute(Runnable)
 	 */
@@ -192,13 +419,43 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	@Override
 	public void execute(Runnable task, long startTimeout) {
 		Assert.notNull(task, "Runnable must not be null");
+		if (!isActive()) {
+			throw new TaskRejectedException(getClass().getSimpleName() + " has been closed already");
+		}
 		Runnable taskToUse = (this.taskDecorator != null ? this.taskDecorator.decorate(task) : task);
 		if (isThrottleActive() && startTimeout > TIMEOUT_IMMEDIATE) {
-			this.concurrencyThrottle.beforeAccess();
-			doExecute(new ConcurrencyThrottlingRunnable(taskToUse));
+			long timeout = (startTimeout < TIMEOUT_INDEFINITE ? startTimeout : this.queueTimeout);
+			long startTime = System.nanoTime();
+			boolean admitted = this.concurrencyThrottle.tryBeforeAccess(timeout);
+			long waitTime = System.nanoTime() - startTime;
+			this.totalWaitTime.add(waitTime);
+			this.maxWaitTime.accumulateAndGet(waitTime, Math::max);
+			if (admitted) {
+				try {
+					doExecute(new TaskExecutionRunnable(taskToUse, true));
+				}
+				catch (Throwable ex) {
+					this.concurrencyThrottle.afterAccess();
+					throw ex;
+				}
+			}
+			else {
+				this.rejectedCount.increment();
+				if (this.callerRunsWhenLimitReached) {
+					taskToUse.run();
+				}
+				else if (timeout >= 0 && TimeUnit.NANOSECONDS.toMillis(waitTime) >= timeout) {
+					throw new TaskRejectedException("Concurrency limit of " + getConcurrencyLimit() +
+							" reached and task not started within timeout of " + timeout + " ms: " + task);
+				}
+				else {
+					throw new TaskRejectedException("Concurrency limit of " + getConcurrencyLimit() +
+							" reached and queue capacity of " + getQueueCapacity() + " exhausted: " + task);
+				}
+			}
 		}
 		else {
-			doExecute(taskToUse);
+			doExecute(new TaskExecutionRunnable(taskToUse, false));
 		}
 	}
 
@@ -238,13 +495,94 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	 * Template method for the actual execution of a task.
 	 * <p>The default implementation creates a new Thread and starts it.
 	 * @param task the Runnable to execute
-	 * @see #setThreadFactory
-	 * @see #createThread
+	 * @see #newThread
 	 * @see java.lang.Thread#start()
 	 */
 	protected void doExecute(Runnable task) {
-		Thread thread = (this.threadFactory != null ? this.threadFactory.newThread(task) : createThread(task));
-		thread.start();
+		newThread(task).start();
+	}
+
+	/**
+	 * Create a new Thread for the given task.
+	 * @param task the Runnable to create a Thread for
+	 * @return the new Thread instance
+	 * @since 6.1
+	 * @see #setVirtualThreads
+	 * @see #setThreadFactory
+	 * @see #createThread
+	 */
+	protected Thread newThread(Runnable task) {
+		Runnable taskToUse = (this.activeThreads != null ? new TaskTrackingRunnable(task) : task);
+		if (this.virtualThreadDelegate != null) {
+			return this.virtualThreadDelegate.newVirtualThread(nextThreadName(), taskToUse);
+		}
+		else {
+			return (this.threadFactory != null ? this.threadFactory.newThread(taskToUse) : createThread(taskToUse));
+		}
+	}
+
+	/**
+	 * This close method tracks the termination of active threads if a concrete
+	 * {@link #setTaskTerminationTimeout task termination timeout} has been set.
+	 * Otherwise, it is not necessary to close this executor.
+	 * @since 6.1
+	 */
+	@Override
+	public void close() {
+		if (this.active) {
+			this.active = false;
+			Set<Thread> threads = this.activeThreads;
+			if (threads != null) {
+				synchronized (threads) {
+					try {
+						if (!threads.isEmpty()) {
+							threads.wait(this.taskTerminationTimeout);
+						}
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+			ScheduledThreadPoolExecutor scheduler = this.timeoutScheduler;
+			if (scheduler != null) {
+				scheduler.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Schedule the interruption of the given task's thread
+	 * after the configured {@link #setTaskTimeout task timeout}.
+	 * @return the scheduled timeout, or {@code null} if none
+	 */
+	@Nullable
+	private ScheduledFuture<?> scheduleTimeout(TaskExecutionRunnable task) {
+		if (this.taskTimeout <= 0) {
+			return null;
+		}
+		ScheduledThreadPoolExecutor scheduler = this.timeoutScheduler;
+		if (scheduler == null) {
+			synchronized (this.activeCount) {
+				scheduler = this.timeoutScheduler;
+				if (scheduler == null) {
+					scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+						Thread thread = new Thread(runnable, getThreadNamePrefix() + "timeout");
+						thread.setDaemon(true);
+						return thread;
+					});
+					scheduler.setRemoveOnCancelPolicy(true);
+					this.timeoutScheduler = scheduler;
+				}
+			}
+		}
+		try {
+			return scheduler.schedule(task::timeout, this.taskTimeout, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ex) {
+			// Executor closed in the meantime: no timeout enforcement anymore
+			return null;
+		}
 	}
 
 
@@ -260,6 +598,11 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 			super.beforeAccess();
 		}
 
+		@Override
+		protected boolean tryBeforeAccess(long timeout) {
+			return super.tryBeforeAccess(timeout);
+		}
+
 		@Override
 		protected void afterAccess() {
 			super.afterAccess();
@@ -268,24 +611,92 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 
 
 	/**
-	 * This Runnable calls {@code afterAccess()} after the
-	 * target Runnable has finished its execution.
+	 * This Runnable tracks the active task count and applies the task timeout,
+	 * calling {@code afterAccess()} after the target Runnable has finished its
+	 * execution if it has been admitted through the concurrency throttle.
 	 */
-	private class ConcurrencyThrottlingRunnable implements Runnable {
+	private class TaskExecutionRunnable implements Runnable {
 
 		private final Runnable target;
 
-		public ConcurrencyThrottlingRunnable(Runnable target) {
+		private final boolean throttled;
+
+		@Nullable
+		private Thread thread;
+
+		public TaskExecutionRunnable(Runnable target, boolean throttled) {
 			this.target = target;
+			this.throttled = throttled;
 		}
 
 		@Override
 		public void run() {
+			activeCount.incrementAndGet();
+			ScheduledFuture<?> timeout = null;
 			try {
+				synchronized (this) {
+					this.thread = Thread.currentThread();
+				}
+				timeout = scheduleTimeout(this);
 				this.target.run();
 			}
 			finally {
-				concurrencyThrottle.afterAccess();
+				synchronized (this) {
+					this.thread = null;
+				}
+				if (timeout != null) {
+					timeout.cancel(false);
+				}
+				activeCount.decrementAndGet();
+				if (this.throttled) {
+					concurrencyThrottle.afterAccess();
+				}
+			}
+		}
+
+		synchronized void timeout() {
+			if (this.thread != null) {
+				timedOutCount.increment();
+				this.thread.interrupt();
+			}
+		}
+	}
+
+
+	/**
+	 * Decorates a target task with active thread tracking.
+	 */
+	private class TaskTrackingRunnable implements Runnable {
+
+		private final Runnable task;
+
+		public TaskTrackingRunnable(Runnable task) {
+			Assert.notNull(task, "Task must not be null");
+			this.task = task;
+		}
+
+		@Override
+		public void run() {
+			Set<Thread> threads = activeThreads;
+			Thread thread = null;
+			if (threads != null) {
+				thread = Thread.currentThread();
+				threads.add(thread);
+			}
+			try {
+				this.task.run();
+			}
+			finally {
+				if (threads != null) {
+					threads.remove(thread);
+					if (!isActive()) {
+						synchronized (threads) {
+							if (threads.isEmpty()) {
+								threads.notify();
+							}
+						}
+					}
+				}
 			}
 		}
 	}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.task;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Internal delegate for virtual thread handling on JDK 21.
+ *
+ * <p>Binds to the {@code Thread.ofVirtual()} builder API through method
+ * handles, since this codebase is compiled against a JDK 17 baseline.
+ * Instantiation fails with an {@link UnsupportedOperationException}
+ * when running on a JDK without virtual thread support.
+ *
+ * @author agent
+ * @since 6.1
+ * @see VirtualThreadTaskExecutor
+ */
+final class VirtualThreadDelegate {
+
+	@Nullable
+	private static final MethodHandle ofVirtualHandle;
+
+	@Nullable
+	private static final MethodHandle nameHandle;
+
+	@Nullable
+	private static final MethodHandle namePrefixHandle;
+
+	@Nullable
+	private static final MethodHandle factoryHandle;
+
+	@Nullable
+	private static final MethodHandle unstartedHandle;
+
+	static {
+		MethodHandle ofVirtual = null;
+		MethodHandle name = null;
+		MethodHandle namePrefix = null;
+		MethodHandle factory = null;
+		MethodHandle unstarted = null;
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+			ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+			name = lookup.findVirtual(builderClass, "name", MethodType.methodType(builderClass, String.class));
+			namePrefix = lookup.findVirtual(builderClass, "name",
+					MethodType.methodType(builderClass, String.class, long.class));
+			factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+			unstarted = lookup.findVirtual(builderClass, "unstarted",
+					MethodType.methodType(Thread.class, Runnable.class));
+		}
+		catch (Throwable ex) {
+			// Not running on JDK 21+ -> no virtual thread support
+			ofVirtual = null;
+		}
+		ofVirtualHandle = ofVirtual;
+		nameHandle = name;
+		namePrefixHandle = namePrefix;
+		factoryHandle = factory;
+		unstartedHandle = unstarted;
+	}
+
+
+	public VirtualThreadDelegate() {
+		if (!isSupported()) {
+			throw new UnsupportedOperationException("Virtual threads not supported on JDK <21");
+		}
+	}
+
+
+	/**
+	 * Determine whether virtual threads are supported on the current JDK.
+	 */
+	public static boolean isSupported() {
+		return (ofVirtualHandle != null);
+	}
+
+	/**
+	 * Build a factory for virtual threads with default naming.
+	 */
+	public ThreadFactory virtualThreadFactory() {
+		try {
+			return (ThreadFactory) factoryHandle.invoke(ofVirtualHandle.invoke());
+		}
+		catch (Throwable ex) {
+			throw new IllegalStateException("Failed to create virtual thread factory", ex);
+		}
+	}
+
+	/**
+	 * Build a factory for virtual threads, with each thread named after
+	 * the given prefix plus an increasing counter.
+	 * @param threadNamePrefix the prefix to use for thread names
+	 */
+	public ThreadFactory virtualThreadFactory(String threadNamePrefix) {
+		try {
+			Object builder = namePrefixHandle.invoke(ofVirtualHandle.invoke(), threadNamePrefix, 0L);
+			return (ThreadFactory) factoryHandle.invoke(builder);
+		}
+		catch (Throwable ex) {
+			throw new IllegalStateException("Failed to create virtual thread factory", ex);
+		}
+	}
+
+	/**
+	 * Create a new unstarted virtual thread for the given task.
+	 * @param name the name of the thread
+	 * @param task the task to run on the thread
+	 */
+	public Thread newVirtualThread(String name, Runnable task) {
+		try {
+			Object builder = nameHandle.invoke(ofVirtualHandle.invoke(), name);
+			return (Thread) unstartedHandle.invoke(builder, task);
+		}
+		catch (Throwable ex) {
+			throw new IllegalStateException("Failed to create virtual thread", ex);
+		}
+	}
+
+}
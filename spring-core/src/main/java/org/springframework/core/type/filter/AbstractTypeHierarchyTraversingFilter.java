@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,24 @@ public abstract class AbstractTypeHierarchyTraversingFilter implements TypeFilte
 	}
 
 
+	/**
+	 * Return whether this filter also matches based on the superclasses
+	 * of a candidate class.
+	 * @since 6.1
+	 */
+	public final boolean isConsiderInherited() {
+		return this.considerInherited;
+	}
+
+	/**
+	 * Return whether this filter also matches based on the interfaces
+	 * of a candidate class.
+	 * @since 6.1
+	 */
+	public final boolean isConsiderInterfaces() {
+		return this.considerInterfaces;
+	}
+
 	@Override
 	public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory)
 			throws IOException {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -94,6 +94,14 @@ public class AnnotationTypeFilter extends AbstractTypeHierarchyTraversingFilter
 		return this.annotationType;
 	}
 
+	/**
+	 * Return whether this filter also matches on meta-annotations.
+	 * @since 6.1
+	 */
+	public final boolean isConsiderMetaAnnotations() {
+		return this.considerMetaAnnotations;
+	}
+
 	@Override
 	protected boolean matchSelf(MetadataReader metadataReader) {
 		AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.util;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -35,6 +36,11 @@ import org.apache.commons.logging.LogFactory;
  * ("unbounded concurrency"). Subclasses may override this default;
  * check the javadoc of the concrete class that you're using.
  *
+ * <p>Once the concurrency limit has been reached, further access attempts
+ * wait for a permit to become available. The number of waiting threads
+ * can be bounded through {@link #setQueueCapacity}, and subclasses may
+ * wait for a limited time only through {@link #tryBeforeAccess(long)}.
+ *
  * @author Juergen Hoeller
  * @since 1.2.5
  * @see #setConcurrencyLimit
@@ -66,6 +72,10 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 
 	private int concurrencyCount = 0;
 
+	private int queueCapacity = Integer.MAX_VALUE;
+
+	private int waitingCount = 0;
+
 
 	/**
 	 * Set the maximum number of concurrent access attempts allowed.
@@ -87,6 +97,52 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 		return this.concurrencyLimit;
 	}
 
+	/**
+	 * Set the maximum number of threads allowed to wait for access
+	 * once the concurrency limit has been reached.
+	 * <p>Default is {@code Integer.MAX_VALUE}, i.e. an unbounded number of
+	 * waiting threads. A value of 0 indicates that no thread is allowed to
+	 * wait at all, rejecting access attempts right away when the limit
+	 * has been reached.
+	 * @since 6.1
+	 * @see #setConcurrencyLimit
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity >= 0, "Queue capacity must not be negative");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Return the maximum number of threads allowed to wait for access.
+	 * @since 6.1
+	 */
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	/**
+	 * Return the current number of concurrent accesses.
+	 * <p>Only tracked while a concurrency limit is active.
+	 * @since 6.1
+	 * @see #isThrottleActive()
+	 */
+	public int getConcurrencyCount() {
+		synchronized (this.monitor) {
+			return this.concurrencyCount;
+		}
+	}
+
+	/**
+	 * Return the current number of threads waiting for access.
+	 * @since 6.1
+	 * @see #setQueueCapacity
+	 */
+	public int getWaitingCount() {
+		synchronized (this.monitor) {
+			return this.waitingCount;
+		}
+	}
+
 	/**
 	 * Return whether this throttle is currently active.
 	 * @return {@code true} if the concurrency limit for this instance is active
@@ -103,6 +159,26 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 	 * @see #afterAccess()
 	 */
 	protected void beforeAccess() {
+		if (!tryBeforeAccess(-1)) {
+			throw new IllegalStateException("Concurrency limit " + this.concurrencyLimit +
+					" reached and no more waiting threads allowed - queue capacity set to " + this.queueCapacity);
+		}
+	}
+
+	/**
+	 * To be invoked before the main execution logic of concrete subclasses,
+	 * waiting for access for the given amount of time at the most.
+	 * <p>This implementation applies the concurrency throttle, also
+	 * taking the {@link #setQueueCapacity queue capacity} into account.
+	 * @param timeout the maximum time to wait for access (in milliseconds),
+	 * or a negative value for waiting indefinitely
+	 * @return {@code true} if access has been granted, or {@code false} if
+	 * the queue capacity has been exhausted or the timeout has elapsed
+	 * (in which case {@link #afterAccess()} must not be invoked)
+	 * @since 6.1
+	 * @see #afterAccess()
+	 */
+	protected boolean tryBeforeAccess(long timeout) {
 		if (this.concurrencyLimit == NO_CONCURRENCY) {
 			throw new IllegalStateException(
 					"Currently no invocations allowed - concurrency limit set to NO_CONCURRENCY");
@@ -110,23 +186,53 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 		if (this.concurrencyLimit > 0) {
 			boolean debug = logger.isDebugEnabled();
 			synchronized (this.monitor) {
-				boolean interrupted = false;
-				while (this.concurrencyCount >= this.concurrencyLimit) {
-					if (interrupted) {
-						throw new IllegalStateException("Thread was interrupted while waiting for invocation access, " +
-								"but concurrency limit still does not allow for entering");
-					}
-					if (debug) {
-						logger.debug("Concurrency count " + this.concurrencyCount +
-								" has reached limit " + this.concurrencyLimit + " - blocking");
+				if (this.concurrencyCount >= this.concurrencyLimit) {
+					if (this.waitingCount >= this.queueCapacity) {
+						if (debug) {
+							logger.debug("Concurrency count " + this.concurrencyCount + " has reached limit " +
+									this.concurrencyLimit + " and queue capacity " + this.queueCapacity +
+									" is exhausted - rejecting");
+						}
+						return false;
 					}
+					long deadline = (timeout >= 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0);
+					this.waitingCount++;
 					try {
-						this.monitor.wait();
+						boolean interrupted = false;
+						while (this.concurrencyCount >= this.concurrencyLimit) {
+							if (interrupted) {
+								throw new IllegalStateException("Thread was interrupted while waiting for invocation access, " +
+										"but concurrency limit still does not allow for entering");
+							}
+							long waitMillis = 0;
+							if (timeout >= 0) {
+								long remaining = deadline - System.nanoTime();
+								if (remaining <= 0) {
+									if (debug) {
+										logger.debug("Concurrency count " + this.concurrencyCount +
+												" still at limit " + this.concurrencyLimit + " after " + timeout + " ms - giving up");
+									}
+									return false;
+								}
+								// Round up to at least 1 ms since a wait time of 0 means indefinitely
+								waitMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(remaining), 1);
+							}
+							if (debug) {
+								logger.debug("Concurrency count " + this.concurrencyCount +
+										" has reached limit " + this.concurrencyLimit + " - blocking");
+							}
+							try {
+								this.monitor.wait(waitMillis);
+							}
+							catch (InterruptedException ex) {
+								// Re-interrupt current thread, to allow other threads to react.
+								Thread.currentThread().interrupt();
+								interrupted = true;
+							}
+						}
 					}
-					catch (InterruptedException ex) {
-						// Re-interrupt current thread, to allow other threads to react.
-						Thread.currentThread().interrupt();
-						interrupted = true;
+					finally {
+						this.waitingCount--;
 					}
 				}
 				if (debug) {
@@ -135,6 +241,7 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 				this.concurrencyCount++;
 			}
 		}
+		return true;
 	}
 
 	/**
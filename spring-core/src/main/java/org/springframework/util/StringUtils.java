@@ -270,8 +270,9 @@ public abstract class StringUtils {
 	 * @see java.lang.Character#isWhitespace
 	 */
 	public static String trimAllWhitespace(String str) {
-		if (str == null) {
-			return null;
+		if (str == null || !containsWhitespace(str)) {
+			// Immutable String without whitespace: no need to copy it
+			return str;
 		}
 		return trimAllWhitespace((CharSequence) str).toString();
 	}
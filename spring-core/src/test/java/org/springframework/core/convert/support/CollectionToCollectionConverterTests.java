@@ -107,6 +107,21 @@ class CollectionToCollectionConverterTests {
 		assertThat(result.isEmpty()).isTrue();
 	}
 
+	@Test
+	void mixedElementTypes() throws Exception {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		conversionService.addConverterFactory(new NumberToNumberConverterFactory());
+		List<Object> list = Arrays.asList("9", 37L, null, 12, "23");
+		TypeDescriptor sourceType = TypeDescriptor.forObject(list);
+		TypeDescriptor targetType = new TypeDescriptor(getClass().getField("scalarListTarget"));
+		assertThat(conversionService.convert(list, sourceType, targetType)).isEqualTo(Arrays.asList(9, 37, null, 12, 23));
+
+		List<Object> invalid = Arrays.asList("9", new Object());
+		assertThatExceptionOfType(ConversionFailedException.class).isThrownBy(() ->
+				conversionService.convert(invalid, sourceType, targetType))
+			.withCauseInstanceOf(ConverterNotFoundException.class);
+	}
+
 	@Test
 	void collectionToObjectInteraction() throws Exception {
 		List<List<String>> list = new ArrayList<>();
@@ -28,10 +28,13 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.TypeDescriptor;
@@ -42,6 +45,7 @@ import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.core.io.DescriptiveResource;
 import org.springframework.core.io.Resource;
 import org.springframework.lang.Nullable;
+import org.springframework.util.NumberUtils;
 import org.springframework.util.StringUtils;
 
 import static java.util.Comparator.naturalOrder;
@@ -410,6 +414,88 @@ class GenericConversionServiceTests {
 		assertThat(conversionService.canConvert(String.class, Color.class)).isFalse();
 	}
 
+	@Test
+	void convertAfterConverterRegistrationChange() {
+		conversionService.addConverter(String.class, Integer.class, Integer::valueOf);
+		assertThat(conversionService.convert("3", Integer.class)).isEqualTo(3);
+		conversionService.addConverter(String.class, Integer.class, source -> source.length());
+		assertThat(conversionService.convert("3", Integer.class)).isEqualTo(1);
+		conversionService.removeConvertible(String.class, Integer.class);
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() ->
+				conversionService.convert("3", Integer.class));
+	}
+
+	@Test
+	void converterFactoryResolvesConverterOncePerTargetType() {
+		AtomicInteger converterLookups = new AtomicInteger();
+		conversionService.addConverterFactory(new ConverterFactory<String, Number>() {
+			@Override
+			public <T extends Number> Converter<String, T> getConverter(Class<T> targetType) {
+				converterLookups.incrementAndGet();
+				return source -> NumberUtils.parseNumber(source, targetType);
+			}
+		});
+		assertThat(conversionService.convert("1", Integer.class)).isEqualTo(1);
+		int lookups = converterLookups.get();
+		assertThat(conversionService.convert("2", Integer.class)).isEqualTo(2);
+		assertThat(converterLookups.get()).isEqualTo(lookups);
+		assertThat(conversionService.convert("4", Long.class)).isEqualTo(4L);
+		assertThat(converterLookups.get()).isGreaterThan(lookups);
+	}
+
+	@Test
+	void converterFactoryResolvesConverterOncePerTypeDescriptorPair() {
+		AtomicInteger converterLookups = new AtomicInteger();
+		conversionService.addConverterFactory(new ConverterFactory<String, Number>() {
+			@Override
+			public <T extends Number> Converter<String, T> getConverter(Class<T> targetType) {
+				converterLookups.incrementAndGet();
+				return source -> NumberUtils.parseNumber(source, targetType);
+			}
+		});
+		TypeDescriptor sourceType = TypeDescriptor.valueOf(String.class);
+		TypeDescriptor targetType = TypeDescriptor.valueOf(Integer.class);
+		assertThat(conversionService.convert("1", sourceType, targetType)).isEqualTo(1);
+		int lookups = converterLookups.get();
+		assertThat(conversionService.convert("2", sourceType, targetType)).isEqualTo(2);
+		assertThat(conversionService.convert("3", TypeDescriptor.valueOf(String.class), targetType)).isEqualTo(3);
+		assertThat(converterLookups.get()).isEqualTo(lookups);
+		assertThat(conversionService.convert(null, sourceType, targetType)).isNull();
+	}
+
+	@Test
+	void overriddenGetConverterConsultedForEveryConversion() {
+		AtomicInteger converterLookups = new AtomicInteger();
+		GenericConversionService conversionService = new GenericConversionService() {
+			@Override
+			protected GenericConverter getConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+				converterLookups.incrementAndGet();
+				return super.getConverter(sourceType, targetType);
+			}
+		};
+		conversionService.addConverter(String.class, Integer.class, Integer::valueOf);
+		assertThat(conversionService.convert("1", Integer.class)).isEqualTo(1);
+		assertThat(conversionService.convert("2", Integer.class)).isEqualTo(2);
+		assertThat(conversionService.convert("3", TypeDescriptor.valueOf(String.class),
+				TypeDescriptor.valueOf(Integer.class))).isEqualTo(3);
+		assertThat(converterLookups.get()).isEqualTo(3);
+	}
+
+	@Test
+	void convertsWithActualTypeDescriptorsForEqualCacheKeys() {
+		DefaultConversionService.addDefaultConverters(conversionService);
+		TypeDescriptor sourceType = TypeDescriptor.valueOf(String.class);
+		TypeDescriptor integerOptional = new TypeDescriptor(
+				ResolvableType.forClassWithGenerics(Optional.class, Integer.class), null, null);
+		TypeDescriptor stringOptional = new TypeDescriptor(
+				ResolvableType.forClassWithGenerics(Optional.class, String.class), null, null);
+		assertThat(integerOptional).isEqualTo(stringOptional);
+
+		assertThat(conversionService.convert("42", sourceType, integerOptional)).isEqualTo(Optional.of(42));
+		assertThat(conversionService.convert("42", sourceType, stringOptional)).isEqualTo(Optional.of("42"));
+		assertThat(conversionService.convert("42", sourceType, integerOptional)).isEqualTo(Optional.of(42));
+	}
+
 	@Test
 	void conditionalConverter() {
 		MyConditionalConverter converter = new MyConditionalConverter();
@@ -252,6 +252,47 @@ class DataBufferUtilsTests extends AbstractDataBufferAllocatingTests {
 				.verify(Duration.ofSeconds(5));
 	}
 
+	@ParameterizedDataBufferAllocatingTest
+	void readMappedPath(DataBufferFactory bufferFactory) throws Exception {
+		super.bufferFactory = bufferFactory;
+
+		Flux<DataBuffer> flux = DataBufferUtils.readMapped(this.resource.getFile().toPath(), super.bufferFactory, 3);
+
+		verifyReadData(flux);
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void readMappedPathRegion(DataBufferFactory bufferFactory) throws Exception {
+		super.bufferFactory = bufferFactory;
+
+		Flux<DataBuffer> flux = DataBufferUtils.readMapped(this.resource.getFile().toPath(), 4, 7, super.bufferFactory, 4);
+
+		StepVerifier.create(flux)
+				.consumeNextWith(stringConsumer("arba"))
+				.consumeNextWith(stringConsumer("zqu"))
+				.expectComplete()
+				.verify(Duration.ofSeconds(3));
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void readMappedResource(DataBufferFactory bufferFactory) throws Exception {
+		super.bufferFactory = bufferFactory;
+
+		Flux<DataBuffer> flux = DataBufferUtils.readMapped(this.resource, super.bufferFactory, 3);
+
+		verifyReadData(flux);
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void readMappedNonFileResource(DataBufferFactory bufferFactory) throws Exception {
+		super.bufferFactory = bufferFactory;
+
+		Resource resource = new ByteArrayResource("foobarbazqux".getBytes());
+		Flux<DataBuffer> flux = DataBufferUtils.readMapped(resource, super.bufferFactory, 3);
+
+		verifyReadData(flux);
+	}
+
 	private void verifyReadData(Flux<DataBuffer> buffers) {
 		StepVerifier.create(buffers)
 				.consumeNextWith(stringConsumer("foo"))
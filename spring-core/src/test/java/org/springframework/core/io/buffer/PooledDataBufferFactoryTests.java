@@ -0,0 +1,153 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PooledDataBufferFactory}.
+ *
+ * @author agent
+ */
+class PooledDataBufferFactoryTests {
+
+	private final PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory();
+
+
+	@Test
+	void allocateWithRequestedCapacity() {
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+
+		assertThat(buffer).isInstanceOf(PooledDataBuffer.class);
+		assertThat(buffer.capacity()).isEqualTo(100);
+		assertThat(buffer.readableByteCount()).isZero();
+		DataBufferUtils.release(buffer);
+	}
+
+	@Test
+	void reuseMemoryAfterRelease() {
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		buffer.write("foo", StandardCharsets.UTF_8);
+		int offset = buffer.getNativeBuffer().arrayOffset();
+		DataBufferUtils.release(buffer);
+
+		DefaultDataBuffer buffer2 = this.bufferFactory.allocateBuffer(200);
+		assertThat(buffer2.getNativeBuffer().arrayOffset()).isEqualTo(offset);
+		assertThat(buffer2.readableByteCount()).isZero();
+		DataBufferUtils.release(buffer2);
+	}
+
+	@Test
+	void reuseMemoryReleasedOnOtherThread() throws Exception {
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		int offset = buffer.getNativeBuffer().arrayOffset();
+		Thread thread = new Thread(() -> DataBufferUtils.release(buffer));
+		thread.start();
+		thread.join();
+
+		DefaultDataBuffer buffer2 = this.bufferFactory.allocateBuffer(100);
+		assertThat(buffer2.getNativeBuffer().arrayOffset()).isEqualTo(offset);
+		DataBufferUtils.release(buffer2);
+	}
+
+	@Test
+	void poolIsBoundedPerSizeClass() {
+		PooledDataBufferFactory factory = new PooledDataBufferFactory(false, 64 * 1024, 1);
+		DefaultDataBuffer buffer = factory.allocateBuffer(64 * 1024);
+		DefaultDataBuffer buffer2 = factory.allocateBuffer(64 * 1024);
+		ByteBuffer memory = buffer.getNativeBuffer();
+		ByteBuffer memory2 = buffer2.getNativeBuffer();
+		DataBufferUtils.release(buffer);
+		DataBufferUtils.release(buffer2);
+
+		DefaultDataBuffer buffer3 = factory.allocateBuffer(64 * 1024);
+		DefaultDataBuffer buffer4 = factory.allocateBuffer(64 * 1024);
+		assertThat(buffer3.getNativeBuffer().array()).isSameAs(memory.array());
+		assertThat(buffer4.getNativeBuffer().array())
+				.isNotSameAs(memory.array()).isNotSameAs(memory2.array());
+		DataBufferUtils.release(buffer3);
+		DataBufferUtils.release(buffer4);
+	}
+
+	@Test
+	void splitKeepsMemoryUntilAllPartsReleased() {
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		buffer.write("foobar", StandardCharsets.UTF_8);
+		int offset = buffer.getNativeBuffer().arrayOffset();
+		DataBuffer split = buffer.split(3);
+		assertThat(split).isInstanceOf(PooledDataBuffer.class);
+		DataBufferUtils.release(buffer);
+
+		DefaultDataBuffer buffer2 = this.bufferFactory.allocateBuffer(100);
+		assertThat(buffer2.getNativeBuffer().arrayOffset()).isNotEqualTo(offset);
+		assertThat(split.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+		DataBufferUtils.release(split);
+
+		DefaultDataBuffer buffer3 = this.bufferFactory.allocateBuffer(100);
+		assertThat(buffer3.getNativeBuffer().arrayOffset()).isEqualTo(offset);
+		DataBufferUtils.release(buffer2);
+		DataBufferUtils.release(buffer3);
+	}
+
+	@Test
+	void growBeyondSizeClass() {
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.write(new byte[1000]);
+
+		assertThat(buffer.readableByteCount()).isEqualTo(1000);
+		assertThat(buffer.capacity()).isGreaterThanOrEqualTo(1000);
+		assertThat(((PooledDataBuffer) buffer).release()).isTrue();
+	}
+
+	@Test
+	void allocateBeyondMaxPooledCapacity() {
+		PooledDataBufferFactory factory = new PooledDataBufferFactory(false, 1024, 16);
+		DataBuffer buffer = factory.allocateBuffer(2048);
+
+		assertThat(buffer).isNotInstanceOf(PooledDataBuffer.class);
+		assertThat(buffer.capacity()).isEqualTo(2048);
+	}
+
+	@Test
+	void useAfterRelease() {
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.write((byte) 'a');
+		DataBufferUtils.release(buffer);
+
+		assertThat(((PooledDataBuffer) buffer).isAllocated()).isFalse();
+		assertThat(buffer.capacity()).isZero();
+		assertThatIllegalStateException().isThrownBy(() -> buffer.write(new byte[10]));
+	}
+
+	@Test
+	void directBuffers() {
+		PooledDataBufferFactory factory = new PooledDataBufferFactory(true);
+		DefaultDataBuffer buffer = factory.allocateBuffer(100);
+		ByteBuffer nativeBuffer = buffer.getNativeBuffer();
+
+		assertThat(factory.isDirect()).isTrue();
+		assertThat(nativeBuffer.isDirect()).isTrue();
+		DataBufferUtils.release(buffer);
+	}
+
+}
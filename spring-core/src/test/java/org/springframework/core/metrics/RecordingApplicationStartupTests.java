@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.metrics.RecordingApplicationStartup.RecordedStep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link RecordingApplicationStartup}.
+ *
+ * @author agent
+ */
+class RecordingApplicationStartupTests {
+
+	private final RecordingApplicationStartup startup = new RecordingApplicationStartup();
+
+
+	@Test
+	void nestedStepsOnSameThread() {
+		StartupStep outer = this.startup.start("outer");
+		StartupStep inner = this.startup.start("inner").tag("beanName", "myBean");
+		inner.end();
+		StartupStep sibling = this.startup.start("sibling");
+		sibling.end();
+		outer.end();
+
+		assertThat(outer.getParentId()).isNull();
+		assertThat(inner.getParentId()).isEqualTo(outer.getId());
+		assertThat(sibling.getParentId()).isEqualTo(outer.getId());
+		assertThat(inner.getTags()).singleElement().satisfies(tag -> {
+			assertThat(tag.getKey()).isEqualTo("beanName");
+			assertThat(tag.getValue()).isEqualTo("myBean");
+		});
+		assertThatIllegalStateException().isThrownBy(() -> inner.tag("late", "value"));
+
+		List<RecordedStep> steps = this.startup.getRecordedSteps();
+		assertThat(steps).extracting(RecordedStep::name).containsExactly("outer", "inner", "sibling");
+		assertThat(steps.get(1).tags()).containsEntry("beanName", "myBean");
+		assertThat(steps.get(0).duration()).isGreaterThanOrEqualTo(steps.get(1).duration());
+		assertThat(this.startup.start("next").getParentId()).isNull();
+	}
+
+	@Test
+	void nestedStepsOnOtherThread() throws Exception {
+		StartupStep outer = this.startup.start("outer");
+		Thread thread = new Thread(() -> this.startup.start("worker").end());
+		thread.start();
+		thread.join();
+		outer.end();
+
+		List<RecordedStep> steps = this.startup.getRecordedSteps();
+		assertThat(steps).extracting(RecordedStep::name).containsExactly("outer", "worker");
+		assertThat(steps.get(1).parentId()).isNull();
+		assertThat(steps.get(1).threadId()).isNotEqualTo(steps.get(0).threadId());
+		assertThat(this.startup.getCriticalPath("outer")).extracting(RecordedStep::name)
+				.containsExactly("outer", "worker");
+	}
+
+	@Test
+	void criticalPathDescendsIntoLongestStep() throws Exception {
+		StartupStep root = this.startup.start("root");
+		StartupStep shortStep = this.startup.start("short");
+		shortStep.end();
+		StartupStep longStep = this.startup.start("long");
+		StartupStep nested = this.startup.start("nested");
+		Thread.sleep(20);
+		nested.end();
+		longStep.end();
+		root.end();
+
+		List<RecordedStep> path = this.startup.getCriticalPath("root");
+		assertThat(path).extracting(RecordedStep::name).containsExactly("root", "long", "nested");
+		assertThat(path).allSatisfy(step -> assertThat(step.selfTime()).isBetween(0L, step.duration()));
+		assertThat(path.get(2).selfTime()).isEqualTo(path.get(2).duration());
+		assertThat(this.startup.getCriticalPath("unknown")).isEmpty();
+	}
+
+	@Test
+	void capacityLimitsRecordedSteps() {
+		RecordingApplicationStartup startup = new RecordingApplicationStartup(2);
+		startup.start("first").end();
+		startup.start("second").end();
+		startup.start("third").end();
+		assertThat(startup.getRecordedSteps()).extracting(RecordedStep::name).containsExactly("first", "second");
+	}
+
+	@Test
+	void writeChromeTrace() throws Exception {
+		StartupStep outer = this.startup.start("outer");
+		this.startup.start("inner").tag("beanName", "my\"Bean").end();
+		outer.end();
+
+		StringBuilder out = new StringBuilder();
+		this.startup.writeChromeTrace(out);
+		String json = out.toString();
+		assertThat(json).startsWith("{\"traceEvents\":[").endsWith("],\"displayTimeUnit\":\"ms\"}\n");
+		assertThat(json).contains("\"name\":\"outer\"", "\"name\":\"inner\"", "\"ph\":\"X\"",
+				"\"parentId\":" + outer.getId(), "\"beanName\":\"my\\\"Bean\"");
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,17 @@
 
 package org.springframework.core.task;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.util.ConcurrencyThrottleSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
@@ -71,6 +77,120 @@ class SimpleAsyncTaskExecutorTests {
 				new SimpleAsyncTaskExecutor().execute(null));
 	}
 
+	@Test
+	void closeAwaitsTaskTermination() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean completed = new AtomicBoolean();
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+		executor.setTaskTerminationTimeout(5000);
+		executor.execute(() -> {
+			started.countDown();
+			try {
+				Thread.sleep(100);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			completed.set(true);
+		});
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		executor.close();
+		assertThat(executor.isActive()).isFalse();
+		assertThat(completed).isTrue();
+	}
+
+	@Test
+	void rejectsTasksAfterClose() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+		executor.close();
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				executor.execute(new NoOpRunnable()));
+	}
+
+	@Test
+	void rejectsTasksWhenQueueCapacityExhausted() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+		executor.setConcurrencyLimit(1);
+		executor.setQueueCapacity(0);
+		executor.execute(() -> awaitQuietly(latch));
+		assertThat(executor.getActiveCount()).isEqualTo(1);
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				executor.execute(new NoOpRunnable()));
+		assertThat(executor.getRejectedCount()).isEqualTo(1);
+		latch.countDown();
+	}
+
+	@Test
+	void rejectsTasksWhenQueueTimeoutElapsed() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+		executor.setConcurrencyLimit(1);
+		executor.setQueueTimeout(10);
+		executor.execute(() -> awaitQuietly(latch));
+		assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() ->
+				executor.execute(new NoOpRunnable()));
+		assertThat(executor.getRejectedCount()).isEqualTo(1);
+		assertThat(executor.getMaxWaitTime()).isGreaterThanOrEqualTo(10);
+		latch.countDown();
+	}
+
+	@Test
+	void runsTasksInCallerThreadWhenLimitReached() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+		executor.setConcurrencyLimit(1);
+		executor.setQueueCapacity(0);
+		executor.setCallerRunsWhenLimitReached(true);
+		executor.execute(() -> awaitQuietly(latch));
+		Thread caller = Thread.currentThread();
+		AtomicBoolean ranInCaller = new AtomicBoolean();
+		executor.execute(() -> ranInCaller.set(Thread.currentThread() == caller));
+		assertThat(ranInCaller).isTrue();
+		assertThat(executor.getRejectedCount()).isEqualTo(1);
+		latch.countDown();
+	}
+
+	@Test
+	void tracksActiveCountWithoutConcurrencyLimit() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(1);
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+		Future<?> future = executor.submit(() -> {
+			started.countDown();
+			awaitQuietly(latch);
+		});
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(executor.getActiveCount()).isEqualTo(1);
+		latch.countDown();
+		future.get(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void interruptsTasksExceedingTaskTimeout() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+		executor.setTaskTimeout(10);
+		AtomicBoolean interrupted = new AtomicBoolean();
+		Future<?> future = executor.submit(() -> {
+			awaitQuietly(latch);
+			interrupted.set(Thread.currentThread().isInterrupted());
+		});
+		future.get(1, TimeUnit.SECONDS);
+		assertThat(interrupted).isTrue();
+		assertThat(executor.getTimedOutCount()).isEqualTo(1);
+		executor.close();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	private void executeAndWait(SimpleAsyncTaskExecutor executor, Runnable task, Object monitor) {
 		synchronized (monitor) {
 			executor.execute(task);
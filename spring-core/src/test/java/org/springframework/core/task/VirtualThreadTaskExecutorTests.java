@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.task;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author agent
+ * @since 6.1
+ */
+class VirtualThreadTaskExecutorTests {
+
+	@Test
+	@EnabledForJreRange(max = JRE.JAVA_20)
+	void virtualThreadsNotSupported() {
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(VirtualThreadTaskExecutor::new);
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() ->
+				new SimpleAsyncTaskExecutor().setVirtualThreads(true));
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.OTHER)
+	void virtualThreadsWithoutName() throws Exception {
+		VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor();
+		Future<String> future = executor.submit(() -> Thread.currentThread().getName());
+		assertThat(future.get(1, TimeUnit.SECONDS)).isEmpty();
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.OTHER)
+	void virtualThreadsWithNamePrefix() throws Exception {
+		VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("test-");
+		assertThat(executor.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS)).isEqualTo("test-0");
+		assertThat(executor.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS)).isEqualTo("test-1");
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.OTHER)
+	void simpleWithVirtualThreadFlag() throws Exception {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("test-");
+		executor.setVirtualThreads(true);
+		Future<String> future = executor.submit(() -> Thread.currentThread().getName());
+		assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo("test-1");
+		executor.close();
+	}
+
+}
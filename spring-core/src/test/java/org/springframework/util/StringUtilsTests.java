@@ -97,6 +97,8 @@ class StringUtilsTests {
 		assertThat(StringUtils.trimAllWhitespace(" a ")).isEqualTo("a");
 		assertThat(StringUtils.trimAllWhitespace(" a b ")).isEqualTo("ab");
 		assertThat(StringUtils.trimAllWhitespace(" a b  c ")).isEqualTo("abc");
+		String noWhitespace = "abc";
+		assertThat(StringUtils.trimAllWhitespace(noWhitespace)).isSameAs(noWhitespace);
 	}
 
 	@Test
@@ -50,6 +50,7 @@ import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.core.io.buffer.Netty5DataBufferFactory;
 import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.core.io.buffer.PooledDataBufferFactory;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -226,7 +227,12 @@ public abstract class AbstractDataBufferAllocatingTests {
 			arguments(named("DefaultDataBufferFactory - preferDirect = true",
 					new DefaultDataBufferFactory(true))),
 			arguments(named("DefaultDataBufferFactory - preferDirect = false",
-					new DefaultDataBufferFactory(false)))
+					new DefaultDataBufferFactory(false))),
+			// Pooled
+			arguments(named("PooledDataBufferFactory - preferDirect = true",
+					new PooledDataBufferFactory(true))),
+			arguments(named("PooledDataBufferFactory - preferDirect = false",
+					new PooledDataBufferFactory(false)))
 		);
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.expression.spel;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -28,7 +29,9 @@ import org.openjdk.jmh.annotations.State;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelCompiler;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 /**
@@ -103,4 +106,142 @@ public class SpelBenchmark {
 		return data.expression.getValue(data.context);
 	}
 
+	@State(Scope.Benchmark)
+	public static class InterpretedAccessBenchmarkData {
+
+		public ItemHolder holder = new ItemHolder();
+
+		public EvaluationContext standardContext = new StandardEvaluationContext(this.holder);
+
+		public EvaluationContext simpleContext = SimpleEvaluationContext.forReadWriteDataBinding().build();
+
+		public Expression propertyReadExpression;
+
+		public Expression propertyWriteExpression;
+
+		public Expression methodInvocationExpression;
+
+		public InterpretedAccessBenchmarkData() {
+			ExpressionParser parser = new SpelExpressionParser();
+			this.propertyReadExpression = parser.parseExpression("items[1].name");
+			this.propertyWriteExpression = parser.parseExpression("number");
+			this.methodInvocationExpression = parser.parseExpression("name.substring(1, 2)");
+		}
+	}
+
+	@Benchmark
+	public Object interpretedPropertyRead(InterpretedAccessBenchmarkData data) {
+		return data.propertyReadExpression.getValue(data.standardContext);
+	}
+
+	@Benchmark
+	public Object interpretedPropertyReadWithSimpleContext(InterpretedAccessBenchmarkData data) {
+		return data.propertyReadExpression.getValue(data.simpleContext, data.holder);
+	}
+
+	@Benchmark
+	public void interpretedPropertyWrite(InterpretedAccessBenchmarkData data) {
+		data.propertyWriteExpression.setValue(data.standardContext, 5);
+	}
+
+	@Benchmark
+	public void interpretedPropertyWriteWithSimpleContext(InterpretedAccessBenchmarkData data) {
+		data.propertyWriteExpression.setValue(data.simpleContext, data.holder, 5);
+	}
+
+	@Benchmark
+	public Object interpretedMethodInvocation(InterpretedAccessBenchmarkData data) {
+		return data.methodInvocationExpression.getValue(data.standardContext);
+	}
+
+	@State(Scope.Benchmark)
+	public static class CompiledBenchmarkData {
+
+		public EvaluationContext context;
+
+		public Expression selectionExpression;
+
+		public Expression projectionExpression;
+
+		public Expression matchesExpression;
+
+		public Expression betweenExpression;
+
+		public Expression inlineMapExpression;
+
+		public CompiledBenchmarkData() {
+			this.context = new StandardEvaluationContext(new ItemHolder());
+			ExpressionParser parser = new SpelExpressionParser();
+			this.selectionExpression = compile(parser.parseExpression("items.?[number > 1]"));
+			this.projectionExpression = compile(parser.parseExpression("items.![name]"));
+			this.matchesExpression = compile(parser.parseExpression("name matches '[a-c]+'"));
+			this.betweenExpression = compile(parser.parseExpression("number between {1, 5}"));
+			this.inlineMapExpression = compile(parser.parseExpression("{name:name, number:number}"));
+		}
+
+		private Expression compile(Expression expression) {
+			expression.getValue(this.context);
+			if (!SpelCompiler.compile(expression)) {
+				throw new IllegalStateException("Failed to compile " + expression.getExpressionString());
+			}
+			return expression;
+		}
+	}
+
+	@Benchmark
+	public Object compiledSelection(CompiledBenchmarkData data) {
+		return data.selectionExpression.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object compiledProjection(CompiledBenchmarkData data) {
+		return data.projectionExpression.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object compiledMatches(CompiledBenchmarkData data) {
+		return data.matchesExpression.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object compiledBetween(CompiledBenchmarkData data) {
+		return data.betweenExpression.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object compiledInlineMap(CompiledBenchmarkData data) {
+		return data.inlineMapExpression.getValue(data.context);
+	}
+
+
+	public static class Item {
+
+		private final String name;
+
+		private final int number;
+
+		public Item(String name, int number) {
+			this.name = name;
+			this.number = number;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public int getNumber() {
+			return this.number;
+		}
+	}
+
+
+	public static class ItemHolder {
+
+		public List<Item> items = List.of(new Item("a", 1), new Item("b", 2), new Item("c", 3));
+
+		public String name = "abc";
+
+		public int number = 3;
+	}
+
 }
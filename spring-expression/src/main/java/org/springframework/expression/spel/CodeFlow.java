@@ -85,9 +85,17 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the target and the evaluation context).
 	 */
-	private int nextFreeVariableId = 1;
+	private int nextFreeVariableId = 3;
+
+	/**
+	 * The variable holding the current target, i.e. the first argument passed to
+	 * CompiledExpression.getValue(target, context) or the current element while
+	 * evaluating selection or projection criteria.
+	 */
+	private int targetVariableId = 1;
 
 
 	/**
@@ -105,11 +113,27 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * Push the byte code to load the target (i.e. what was passed as the first argument
-	 * to CompiledExpression.getValue(target, context))
+	 * to CompiledExpression.getValue(target, context), or the current element while
+	 * evaluating selection or projection criteria)
 	 * @param mv the method visitor into which the load instruction should be inserted
+	 * @see #switchTargetVariable(int)
 	 */
 	public void loadTarget(MethodVisitor mv) {
-		mv.visitVarInsn(ALOAD, 1);
+		mv.visitVarInsn(ALOAD, this.targetVariableId);
+	}
+
+	/**
+	 * Switch the target loaded by {@link #loadTarget} to the given local variable,
+	 * for example holding the current element while generating the code for the
+	 * criteria of a selection or projection.
+	 * @param variableId the local variable holding the new target
+	 * @return the previous target variable, to be restored afterwards
+	 * @since 6.1
+	 */
+	public int switchTargetVariable(int variableId) {
+		int previousVariableId = this.targetVariableId;
+		this.targetVariableId = variableId;
+		return previousVariableId;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.expression.spel;
 
 import org.springframework.core.SpringProperties;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Configuration object for the SpEL expression parser.
@@ -146,4 +147,25 @@ public class SpelParserConfiguration {
 		return this.maximumAutoGrowSize;
 	}
 
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof SpelParserConfiguration otherConfig)) {
+			return false;
+		}
+		return (this.compilerMode == otherConfig.compilerMode &&
+				ObjectUtils.nullSafeEquals(this.compilerClassLoader, otherConfig.compilerClassLoader) &&
+				this.autoGrowNullReferences == otherConfig.autoGrowNullReferences &&
+				this.autoGrowCollections == otherConfig.autoGrowCollections &&
+				this.maximumAutoGrowSize == otherConfig.maximumAutoGrowSize);
+	}
+
+	@Override
+	public int hashCode() {
+		return (this.compilerMode.hashCode() * 29 + ObjectUtils.nullSafeHashCode(this.compilerClassLoader));
+	}
+
 }
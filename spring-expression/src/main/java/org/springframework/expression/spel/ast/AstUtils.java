@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -72,4 +72,26 @@ public abstract class AstUtils {
 		return resolvers;
 	}
 
+	/**
+	 * Determine whether the given node or any of its descendants refers to the
+	 * {@code #index} variable which selections and projections expose for the
+	 * current element. Such references cannot be compiled since compiled code
+	 * looks up variables in the evaluation context rather than in the scope
+	 * of the current element.
+	 * @param node the node to check
+	 * @return {@code true} if {@code #index} is referenced
+	 * @since 6.1
+	 */
+	static boolean referencesIndexVariable(SpelNodeImpl node) {
+		if (node instanceof VariableReference && "#index".equals(node.toStringAST())) {
+			return true;
+		}
+		for (SpelNodeImpl child : node.children) {
+			if (referencesIndexVariable(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,12 @@
 
 package org.springframework.expression.spel.ast;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.AccessException;
 import org.springframework.expression.BeanResolver;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -52,7 +54,11 @@ public class BeanReference extends SpelNodeImpl {
 		}
 
 		try {
-			return new TypedValue(beanResolver.resolve(state.getEvaluationContext(), this.beanName));
+			TypedValue result = new TypedValue(beanResolver.resolve(state.getEvaluationContext(), this.beanName));
+			// The actual bean class might be a runtime-generated proxy class which is not
+			// visible to the compiled expression: subsequent member access casts as needed.
+			this.exitTypeDescriptor = "Ljava/lang/Object";
+			return result;
 		}
 		catch (AccessException ex) {
 			throw new SpelEvaluationException(getStartPosition(), ex, SpelMessage.EXCEPTION_DURING_BEAN_RESOLUTION,
@@ -75,4 +81,23 @@ public class BeanReference extends SpelNodeImpl {
 		return sb.toString();
 	}
 
+	@Override
+	public boolean isCompilable() {
+		return (this.exitTypeDescriptor != null);
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		String evaluationContextClassName = "org/springframework/expression/EvaluationContext";
+		String beanResolverClassName = "org/springframework/expression/BeanResolver";
+		cf.loadEvaluationContext(mv);
+		mv.visitMethodInsn(INVOKEINTERFACE, evaluationContextClassName, "getBeanResolver",
+				"()L" + beanResolverClassName + ";", true);
+		cf.loadEvaluationContext(mv);
+		mv.visitLdcInsn(this.beanName);
+		mv.visitMethodInsn(INVOKEINTERFACE, beanResolverClassName, "resolve",
+				"(L" + evaluationContextClassName + ";Ljava/lang/String;)Ljava/lang/Object;", true);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
 }
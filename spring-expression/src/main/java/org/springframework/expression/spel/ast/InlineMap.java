@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,8 +20,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelNode;
 import org.springframework.lang.Nullable;
@@ -162,4 +164,89 @@ public class InlineMap extends SpelNodeImpl {
 		return (Map<Object, Object>) this.constant.getValue();
 	}
 
+	@Override
+	public boolean isCompilable() {
+		if (isConstant()) {
+			return true;
+		}
+		for (int c = 0, max = getChildCount(); c < max; c++) {
+			SpelNodeImpl child = this.children[c];
+			if (!(c % 2 == 0 && child instanceof PropertyOrFieldReference) && !child.isCompilable()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		if (isConstant()) {
+			String constantFieldName = "inlineMap$" + cf.nextFieldId();
+			String className = cf.getClassName();
+
+			cf.registerNewField((cw, cflow) ->
+					cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, constantFieldName, "Ljava/util/Map;", null, null));
+
+			cf.registerNewClinit((mVisitor, cflow) -> {
+				generateMapCode(mVisitor, cflow, className, constantFieldName);
+				mVisitor.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableMap",
+						"(Ljava/util/Map;)Ljava/util/Map;", false);
+				mVisitor.visitFieldInsn(PUTSTATIC, className, constantFieldName, "Ljava/util/Map;");
+			});
+
+			mv.visitFieldInsn(GETSTATIC, className, constantFieldName, "Ljava/util/Map;");
+		}
+		else {
+			generateMapCode(mv, cf, cf.getClassName(), null);
+		}
+		cf.pushDescriptor("Ljava/util/Map");
+	}
+
+	/**
+	 * Generate the code for building a new {@code LinkedHashMap} with all entries
+	 * of this inline map, leaving the map on the stack.
+	 * <p>Nested constant lists and maps get built directly within the same code
+	 * (e.g. a static initializer) rather than registering further static fields.
+	 */
+	private void generateMapCode(MethodVisitor mv, CodeFlow cf, String className, @Nullable String constantFieldName) {
+		mv.visitTypeInsn(NEW, "java/util/LinkedHashMap");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/LinkedHashMap", "<init>", "()V", false);
+		for (int c = 0, max = getChildCount(); c < max; c++) {
+			mv.visitInsn(DUP);
+			SpelNodeImpl keyChild = this.children[c++];
+			if (keyChild instanceof PropertyOrFieldReference reference) {
+				mv.visitLdcInsn(reference.getName());
+			}
+			else {
+				generateEntryCode(keyChild, mv, cf, className, constantFieldName);
+			}
+			generateEntryCode(this.children[c], mv, cf, className, constantFieldName);
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+					"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+			mv.visitInsn(POP);
+		}
+	}
+
+	private void generateEntryCode(SpelNodeImpl child, MethodVisitor mv, CodeFlow cf,
+			String className, @Nullable String constantFieldName) {
+
+		if (constantFieldName != null && child instanceof InlineList inlineList) {
+			inlineList.generateClinitCode(className, constantFieldName, mv, cf, true);
+			mv.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableList",
+					"(Ljava/util/List;)Ljava/util/List;", false);
+		}
+		else if (constantFieldName != null && child instanceof InlineMap inlineMap) {
+			inlineMap.generateMapCode(mv, cf, className, constantFieldName);
+			mv.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableMap",
+					"(Ljava/util/Map;)Ljava/util/Map;", false);
+		}
+		else {
+			cf.enterCompilationScope();
+			child.generateCode(mv, cf);
+			CodeFlow.insertBoxIfNecessary(mv, cf.lastDescriptor());
+			cf.exitCompilationScope();
+		}
+	}
+
 }
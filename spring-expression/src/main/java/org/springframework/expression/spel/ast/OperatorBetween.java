@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,16 @@ package org.springframework.expression.spel.ast;
 
 import java.util.List;
 
+import org.springframework.asm.MethodVisitor;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypeComparator;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
 import org.springframework.expression.spel.support.BooleanTypedValue;
+import org.springframework.lang.Nullable;
 
 /**
  * Represents the between operator. The left operand to between must be a single value and
@@ -62,7 +66,13 @@ public class OperatorBetween extends Operator {
 		Object high = list.get(1);
 		TypeComparator comp = state.getTypeComparator();
 		try {
-			return BooleanTypedValue.forValue(comp.compare(left, low) >= 0 && comp.compare(left, high) <= 0);
+			boolean result = (comp.compare(left, low) >= 0 && comp.compare(left, high) <= 0);
+			if (getRightOperand() instanceof InlineList inlineList && inlineList.getChildCount() == 2) {
+				// Can only generate bytecode where the bounds are specified inline,
+				// since their expressions get compiled individually
+				this.exitTypeDescriptor = "Z";
+			}
+			return BooleanTypedValue.forValue(result);
 		}
 		catch (SpelEvaluationException ex) {
 			ex.setPosition(getStartPosition());
@@ -70,4 +80,52 @@ public class OperatorBetween extends Operator {
 		}
 	}
 
+	@Override
+	public boolean isCompilable() {
+		if (this.exitTypeDescriptor == null || !getLeftOperand().isCompilable()) {
+			return false;
+		}
+		SpelNodeImpl bounds = getRightOperand();
+		return (bounds.children[0].isCompilable() && bounds.children[1].isCompilable());
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		cf.loadEvaluationContext(mv);
+		generateOperandCode(getLeftOperand(), mv, cf);
+		SpelNodeImpl bounds = getRightOperand();
+		generateOperandCode(bounds.children[0], mv, cf);
+		generateOperandCode(bounds.children[1], mv, cf);
+		String operatorClassName = OperatorBetween.class.getName().replace('.', '/');
+		String evaluationContextClassName = EvaluationContext.class.getName().replace('.', '/');
+		mv.visitMethodInsn(INVOKESTATIC, operatorClassName, "betweenCheck",
+				"(L" + evaluationContextClassName + ";Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)Z", false);
+		cf.pushDescriptor("Z");
+	}
+
+	private static void generateOperandCode(SpelNodeImpl operand, MethodVisitor mv, CodeFlow cf) {
+		cf.enterCompilationScope();
+		operand.generateCode(mv, cf);
+		CodeFlow.insertBoxIfNecessary(mv, cf.lastDescriptor());
+		cf.exitCompilationScope();
+	}
+
+	/**
+	 * Check whether the given value is within the given bounds (inclusive),
+	 * using the {@link TypeComparator} of the given evaluation context.
+	 * <p>This method is called from compiled expression code, which is why it
+	 * needs to be declared as {@code public static} here.
+	 * @param context the current evaluation context
+	 * @param value the value to check
+	 * @param low the lower bound
+	 * @param high the upper bound
+	 * @since 6.1
+	 */
+	public static boolean betweenCheck(EvaluationContext context,
+			@Nullable Object value, @Nullable Object low, @Nullable Object high) {
+
+		TypeComparator comp = context.getTypeComparator();
+		return (comp.compare(value, low) >= 0 && comp.compare(value, high) <= 0);
+	}
+
 }
@@ -22,11 +22,14 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
 import org.springframework.expression.spel.support.BooleanTypedValue;
+import org.springframework.lang.Nullable;
 
 /**
  * Implements the matches operator. Matches takes two operands:
@@ -105,7 +108,13 @@ public class OperatorMatches extends Operator {
 				this.patternCache.putIfAbsent(regex, pattern);
 			}
 			Matcher matcher = pattern.matcher(new MatcherInput(input, new AccessCount()));
-			return BooleanTypedValue.forValue(matcher.matches());
+			boolean result = matcher.matches();
+			if (rightOp instanceof StringLiteral && "Ljava/lang/String".equals(leftOp.exitTypeDescriptor)) {
+				// Can only generate bytecode for a constant regex which is known to be valid,
+				// with a String operand which does not require any type conversion
+				this.exitTypeDescriptor = "Z";
+			}
+			return BooleanTypedValue.forValue(result);
 		}
 		catch (PatternSyntaxException ex) {
 			throw new SpelEvaluationException(
@@ -117,6 +126,38 @@ public class OperatorMatches extends Operator {
 		}
 	}
 
+	@Override
+	public boolean isCompilable() {
+		return (this.exitTypeDescriptor != null && getLeftOperand().isCompilable() &&
+				getRightOperand() instanceof StringLiteral);
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		String regex = (String) ((StringLiteral) getRightOperand()).getLiteralValue().getValue();
+		String patternFieldName = "pattern$" + cf.nextFieldId();
+		String className = cf.getClassName();
+
+		cf.registerNewField((cw, cflow) ->
+				cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, patternFieldName, "Ljava/util/regex/Pattern;", null, null));
+
+		cf.registerNewClinit((mVisitor, cflow) -> {
+			mVisitor.visitLdcInsn(regex);
+			mVisitor.visitMethodInsn(INVOKESTATIC, "java/util/regex/Pattern", "compile",
+					"(Ljava/lang/String;)Ljava/util/regex/Pattern;", false);
+			mVisitor.visitFieldInsn(PUTSTATIC, className, patternFieldName, "Ljava/util/regex/Pattern;");
+		});
+
+		mv.visitFieldInsn(GETSTATIC, className, patternFieldName, "Ljava/util/regex/Pattern;");
+		cf.enterCompilationScope();
+		getLeftOperand().generateCode(mv, cf);
+		cf.exitCompilationScope();
+		String operatorClassName = OperatorMatches.class.getName().replace('.', '/');
+		mv.visitMethodInsn(INVOKESTATIC, operatorClassName, "matchesPattern",
+				"(Ljava/util/regex/Pattern;Ljava/lang/String;)Z", false);
+		cf.pushDescriptor("Z");
+	}
+
 	private void checkRegexLength(String regex) {
 		if (regex.length() > MAX_REGEX_LENGTH) {
 			throw new SpelEvaluationException(getStartPosition(),
@@ -125,6 +166,31 @@ public class OperatorMatches extends Operator {
 	}
 
 
+	/**
+	 * Check whether the given input matches the given pattern, applying the same
+	 * safeguard against excessive backtracking as for interpreted evaluation.
+	 * <p>This method is called from compiled expression code, which is why it
+	 * needs to be declared as {@code public static} here.
+	 * @param pattern the pattern to match
+	 * @param input the input to match against the pattern
+	 * @return {@code true} if the input matches the pattern
+	 * @throws SpelEvaluationException if the input is {@code null}
+	 * or the pattern is flawed
+	 * @since 6.1
+	 */
+	public static boolean matchesPattern(Pattern pattern, @Nullable String input) {
+		if (input == null) {
+			throw new SpelEvaluationException(SpelMessage.INVALID_FIRST_OPERAND_FOR_MATCHES_OPERATOR, (Object) null);
+		}
+		try {
+			return pattern.matcher(new MatcherInput(input, new AccessCount())).matches();
+		}
+		catch (IllegalStateException ex) {
+			throw new SpelEvaluationException(ex, SpelMessage.FLAWED_PATTERN, pattern.pattern());
+		}
+	}
+
+
 	private static class AccessCount {
 
 		private int count;
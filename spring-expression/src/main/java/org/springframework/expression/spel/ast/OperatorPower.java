@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,13 @@ package org.springframework.expression.spel.ast;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Operation;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
+import org.springframework.util.Assert;
 import org.springframework.util.NumberUtils;
 
 /**
@@ -34,6 +37,9 @@ import org.springframework.util.NumberUtils;
  */
 public class OperatorPower extends Operator {
 
+	private char operandTypeDescriptor;
+
+
 	public OperatorPower(int startPos, int endPos, SpelNodeImpl... operands) {
 		super("^", startPos, endPos, operands);
 	}
@@ -57,14 +63,24 @@ public class OperatorPower extends Operator {
 				return new TypedValue(leftBigInteger.pow(rightNumber.intValue()));
 			}
 			else if (leftNumber instanceof Double || rightNumber instanceof Double) {
+				this.operandTypeDescriptor = 'D';
+				this.exitTypeDescriptor = "D";
 				return new TypedValue(Math.pow(leftNumber.doubleValue(), rightNumber.doubleValue()));
 			}
 			else if (leftNumber instanceof Float || rightNumber instanceof Float) {
+				this.operandTypeDescriptor = 'F';
+				this.exitTypeDescriptor = "D";
 				return new TypedValue(Math.pow(leftNumber.floatValue(), rightNumber.floatValue()));
 			}
 
 			double d = Math.pow(leftNumber.doubleValue(), rightNumber.doubleValue());
-			if (d > Integer.MAX_VALUE || leftNumber instanceof Long || rightNumber instanceof Long) {
+			if (leftNumber instanceof Long || rightNumber instanceof Long) {
+				// Only a long operand leads to a long result independent of the operand values
+				this.operandTypeDescriptor = 'D';
+				this.exitTypeDescriptor = "J";
+				return new TypedValue((long) d);
+			}
+			if (d > Integer.MAX_VALUE) {
 				return new TypedValue((long) d);
 			}
 			else {
@@ -75,4 +91,36 @@ public class OperatorPower extends Operator {
 		return state.operate(Operation.POWER, leftOperand, rightOperand);
 	}
 
+	@Override
+	public boolean isCompilable() {
+		return (this.exitTypeDescriptor != null &&
+				getLeftOperand().isCompilable() && getRightOperand().isCompilable() &&
+				CodeFlow.isPrimitiveOrUnboxableSupportedNumber(getLeftOperand().exitTypeDescriptor) &&
+				CodeFlow.isPrimitiveOrUnboxableSupportedNumber(getRightOperand().exitTypeDescriptor));
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		String exitDesc = this.exitTypeDescriptor;
+		Assert.state(exitDesc != null, "No exit type descriptor");
+		char operandDesc = this.operandTypeDescriptor;
+		generateOperandCode(getLeftOperand(), operandDesc, mv, cf);
+		generateOperandCode(getRightOperand(), operandDesc, mv, cf);
+		mv.visitMethodInsn(INVOKESTATIC, "java/lang/Math", "pow", "(DD)D", false);
+		if (exitDesc.equals("J")) {
+			mv.visitInsn(D2L);
+		}
+		cf.pushDescriptor(exitDesc);
+	}
+
+	private static void generateOperandCode(SpelNodeImpl operand, char operandDesc, MethodVisitor mv, CodeFlow cf) {
+		cf.enterCompilationScope();
+		operand.generateCode(mv, cf);
+		cf.exitCompilationScope();
+		CodeFlow.insertNumericUnboxOrPrimitiveTypeCoercion(mv, operand.exitTypeDescriptor, operandDesc);
+		if (operandDesc == 'F') {
+			mv.visitInsn(F2D);
+		}
+	}
+
 }
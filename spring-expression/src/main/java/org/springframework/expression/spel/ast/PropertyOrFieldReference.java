@@ -180,6 +180,16 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 		}
 
 		PropertyAccessor accessorToUse = this.cachedReadAccessor;
+		if (accessorToUse instanceof ReflectivePropertyAccessor.OptimalPropertyAccessor optimalAccessor &&
+				optimalAccessor.isReusableIn(evalContext) && optimalAccessor.isApplicableTo(targetObject)) {
+			// Still the same member: any exception comes from the getter itself, no retry
+			try {
+				return optimalAccessor.read(evalContext, targetObject, name);
+			}
+			catch (Exception ex) {
+				throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_DURING_PROPERTY_READ, name, ex.getMessage());
+			}
+		}
 		if (accessorToUse != null) {
 			if (evalContext.getPropertyAccessors().contains(accessorToUse)) {
 				try {
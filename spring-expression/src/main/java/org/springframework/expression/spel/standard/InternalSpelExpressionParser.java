@@ -134,12 +134,36 @@ class InternalSpelExpressionParser extends TemplateAwareExpressionParser {
 	protected SpelExpression doParseExpression(String expressionString, @Nullable ParserContext context)
 			throws ParseException {
 
+		return parseTokens(expressionString, tokenize(expressionString));
+	}
+
+	/**
+	 * Tokenize the given expression string.
+	 * <p>The resulting tokens are not modified by parsing and may therefore be
+	 * parsed again through {@link #parseTokens}, building a new AST each time.
+	 * @since 6.1
+	 */
+	List<Token> tokenize(String expressionString) throws ParseException {
 		checkExpressionLength(expressionString);
 
+		try {
+			return new Tokenizer(expressionString).process();
+		}
+		catch (InternalParseException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Build a new expression from the given tokens.
+	 * @param expressionString the expression string that the tokens were obtained from
+	 * @param tokens the tokens, as returned from {@link #tokenize}
+	 * @since 6.1
+	 */
+	SpelExpression parseTokens(String expressionString, List<Token> tokens) throws ParseException {
 		try {
 			this.expressionString = expressionString;
-			Tokenizer tokenizer = new Tokenizer(expressionString);
-			this.tokenStream = tokenizer.process();
+			this.tokenStream = tokens;
 			this.tokenStreamLength = this.tokenStream.size();
 			this.tokenStreamPointer = 0;
 			this.constructedNodes.clear();
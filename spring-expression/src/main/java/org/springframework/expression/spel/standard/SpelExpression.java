@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package org.springframework.expression.spel.standard;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.core.convert.TypeDescriptor;
@@ -78,6 +81,17 @@ public class SpelExpression implements Expression {
 	// give up trying to compile it when it just doesn't seem to be possible.
 	private final AtomicInteger failedAttempts = new AtomicInteger();
 
+	// Executor for compiling the expression off the evaluating thread in MIXED mode
+	@Nullable
+	private volatile Executor compilationExecutor;
+
+	// Whether a compilation attempt is currently pending on the compilation executor
+	private final AtomicBoolean compilationScheduled = new AtomicBoolean();
+
+	// Statistics to report evaluations to, for an expression returned by a SpelExpressionCache
+	@Nullable
+	private SpelExpressionCache.EvaluationCounter evaluationCounter;
+
 
 	/**
 	 * Construct an expression, only used by the parser.
@@ -111,6 +125,34 @@ public class SpelExpression implements Expression {
 
 	// implementing Expression
 
+	/**
+	 * Set an executor for compiling this expression in the background once it
+	 * has been interpreted often enough in {@link SpelCompilerMode#MIXED} mode,
+	 * instead of compiling it on the evaluating thread.
+	 * @since 6.1
+	 * @see SpelExpressionCache#setCompilationExecutor
+	 */
+	void setCompilationExecutor(@Nullable Executor compilationExecutor) {
+		this.compilationExecutor = compilationExecutor;
+	}
+
+	/**
+	 * Set the statistics that evaluations of this expression get counted in.
+	 * @since 6.1
+	 * @see SpelExpressionCache#getStatistics()
+	 */
+	void setEvaluationCounter(@Nullable SpelExpressionCache.EvaluationCounter evaluationCounter) {
+		this.evaluationCounter = evaluationCounter;
+	}
+
+	/**
+	 * Determine whether this expression is currently in compiled form.
+	 * @since 6.1
+	 */
+	boolean isCompiled() {
+		return (this.compiledAst != null);
+	}
+
 	@Override
 	public String getExpressionString() {
 		return this.expression;
@@ -123,7 +165,9 @@ public class SpelExpression implements Expression {
 		if (compiledAst != null) {
 			try {
 				EvaluationContext context = getEvaluationContext();
-				return compiledAst.getValue(context.getRootObject().getValue(), context);
+				Object result = compiledAst.getValue(context.getRootObject().getValue(), context);
+				countCompiledEvaluation();
+				return result;
 			}
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
@@ -153,6 +197,7 @@ public class SpelExpression implements Expression {
 			try {
 				EvaluationContext context = getEvaluationContext();
 				Object result = compiledAst.getValue(context.getRootObject().getValue(), context);
+				countCompiledEvaluation();
 				if (expectedResultType == null) {
 					return (T) result;
 				}
@@ -187,7 +232,9 @@ public class SpelExpression implements Expression {
 		CompiledExpression compiledAst = this.compiledAst;
 		if (compiledAst != null) {
 			try {
-				return compiledAst.getValue(rootObject, getEvaluationContext());
+				Object result = compiledAst.getValue(rootObject, getEvaluationContext());
+				countCompiledEvaluation();
+				return result;
 			}
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
@@ -217,6 +264,7 @@ public class SpelExpression implements Expression {
 		if (compiledAst != null) {
 			try {
 				Object result = compiledAst.getValue(rootObject, getEvaluationContext());
+				countCompiledEvaluation();
 				if (expectedResultType == null) {
 					return (T)result;
 				}
@@ -254,7 +302,9 @@ public class SpelExpression implements Expression {
 		CompiledExpression compiledAst = this.compiledAst;
 		if (compiledAst != null) {
 			try {
-				return compiledAst.getValue(context.getRootObject().getValue(), context);
+				Object result = compiledAst.getValue(context.getRootObject().getValue(), context);
+				countCompiledEvaluation();
+				return result;
 			}
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
@@ -285,6 +335,7 @@ public class SpelExpression implements Expression {
 		if (compiledAst != null) {
 			try {
 				Object result = compiledAst.getValue(context.getRootObject().getValue(), context);
+				countCompiledEvaluation();
 				if (expectedResultType != null) {
 					return ExpressionUtils.convertTypedValue(context, new TypedValue(result), expectedResultType);
 				}
@@ -319,7 +370,9 @@ public class SpelExpression implements Expression {
 		CompiledExpression compiledAst = this.compiledAst;
 		if (compiledAst != null) {
 			try {
-				return compiledAst.getValue(rootObject, context);
+				Object result = compiledAst.getValue(rootObject, context);
+				countCompiledEvaluation();
+				return result;
 			}
 			catch (Throwable ex) {
 				// If running in mixed mode, revert to interpreted
@@ -352,6 +405,7 @@ public class SpelExpression implements Expression {
 		if (compiledAst != null) {
 			try {
 				Object result = compiledAst.getValue(rootObject, context);
+				countCompiledEvaluation();
 				if (expectedResultType != null) {
 					return ExpressionUtils.convertTypedValue(context, new TypedValue(result), expectedResultType);
 				}
@@ -485,6 +539,10 @@ public class SpelExpression implements Expression {
 	 */
 	private void checkCompile(ExpressionState expressionState) {
 		this.interpretedCount.incrementAndGet();
+		SpelExpressionCache.EvaluationCounter evaluationCounter = this.evaluationCounter;
+		if (evaluationCounter != null) {
+			evaluationCounter.interpreted.increment();
+		}
 		SpelCompilerMode compilerMode = expressionState.getConfiguration().getCompilerMode();
 		if (compilerMode != SpelCompilerMode.OFF) {
 			if (compilerMode == SpelCompilerMode.IMMEDIATE) {
@@ -495,12 +553,52 @@ public class SpelExpression implements Expression {
 			else {
 				// compilerMode = SpelCompilerMode.MIXED
 				if (this.interpretedCount.get() > INTERPRETED_COUNT_THRESHOLD) {
-					compileExpression();
+					Executor executor = this.compilationExecutor;
+					if (executor != null) {
+						scheduleCompilation(executor);
+					}
+					else {
+						compileExpression();
+					}
 				}
 			}
 		}
 	}
 
+	/**
+	 * Record a compiled evaluation in the statistics of the expression cache, if any.
+	 */
+	private void countCompiledEvaluation() {
+		SpelExpressionCache.EvaluationCounter evaluationCounter = this.evaluationCounter;
+		if (evaluationCounter != null) {
+			evaluationCounter.compiled.increment();
+		}
+	}
+
+	/**
+	 * Compile the expression on the given executor, unless a compilation attempt
+	 * is pending already. Evaluation remains interpreted in the meantime.
+	 * @param executor the executor to compile on
+	 */
+	private void scheduleCompilation(Executor executor) {
+		if (this.compilationScheduled.compareAndSet(false, true)) {
+			try {
+				executor.execute(() -> {
+					try {
+						compileExpression();
+					}
+					finally {
+						this.compilationScheduled.set(false);
+					}
+				});
+			}
+			catch (RejectedExecutionException ex) {
+				// Try again on next evaluation
+				this.compilationScheduled.set(false);
+			}
+		}
+	}
+
 	/**
 	 * Perform expression compilation. This will only succeed once exit descriptors for
 	 * all nodes have been determined. If the compilation fails and has failed more than
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel.standard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded cache of parsed SpEL expressions, keyed by expression string,
+ * {@link SpelParserConfiguration parser configuration} and
+ * {@link ParserContext template settings}.
+ *
+ * <p>Only the token stream of an expression is cached, since it is immutable:
+ * every lookup builds a new {@link SpelExpression} with its own AST from it.
+ * The AST nodes cache accessors and exit type descriptors for the types that
+ * they get evaluated against, and the compiled form is derived from those,
+ * so each call site warms up towards compilation in
+ * {@link SpelCompilerMode#MIXED} mode on its own, based on the types that it
+ * actually evaluates against. Callers are therefore expected to hold on to the
+ * returned expression rather than looking it up for every evaluation. With a
+ * {@linkplain #setCompilationExecutor compilation executor}, hot expressions
+ * get compiled in the background rather than on the evaluating thread.
+ *
+ * <p>{@linkplain #getStatistics() Statistics} cover lookups as well as the
+ * evaluations of returned expressions, in interpreted and in compiled form.
+ *
+ * @author agent
+ * @since 6.1
+ * @see #getSharedInstance()
+ */
+public class SpelExpressionCache {
+
+	/** Default maximum number of cached expressions: {@value}. */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	@Nullable
+	private static volatile SpelExpressionCache sharedInstance;
+
+
+	// Tokenized expressions, each lookup parses a new AST from them
+	private final ConcurrentLruCache<CacheKey, TokenizedExpression> cache;
+
+	@Nullable
+	private volatile Executor compilationExecutor;
+
+	private final LongAdder requestCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final EvaluationCounter evaluationCounter = new EvaluationCounter();
+
+
+	/**
+	 * Create a new {@code SpelExpressionCache} with the
+	 * {@linkplain #DEFAULT_CAPACITY default capacity}.
+	 */
+	public SpelExpressionCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new {@code SpelExpressionCache} with the given capacity.
+	 * @param capacity the maximum number of cached expressions
+	 */
+	public SpelExpressionCache(int capacity) {
+		this.cache = new ConcurrentLruCache<>(capacity, this::parse);
+	}
+
+
+	/**
+	 * Set an executor for compiling hot expressions in the background.
+	 * <p>This applies to expressions returned in {@link SpelCompilerMode#MIXED} mode
+	 * from then on: once such an expression has been interpreted often enough,
+	 * its compilation gets handed off to the given executor while evaluation
+	 * continues in interpreted form. By default, compilation happens on the
+	 * evaluating thread, as for any non-cached expression.
+	 */
+	public void setCompilationExecutor(@Nullable Executor compilationExecutor) {
+		this.compilationExecutor = compilationExecutor;
+	}
+
+
+	/**
+	 * Return a new expression for the given expression string, parsed from the
+	 * cached tokens or with the configuration of the given parser if not cached yet.
+	 * @param parser the parser whose configuration to parse with,
+	 * also determining the configuration that the expression is cached for
+	 * @param expressionString the raw expression string to parse
+	 * @return a new expression for the caller to hold on to
+	 * @throws ParseException if the expression could not be parsed
+	 */
+	public Expression getExpression(SpelExpressionParser parser, String expressionString) throws ParseException {
+		return getExpression(parser, expressionString, null);
+	}
+
+	/**
+	 * Return a new expression for the given expression string, parsed from the
+	 * cached tokens or with the configuration of the given parser if not cached yet.
+	 * <p>Subclasses of {@link SpelExpressionParser} may apply custom parsing
+	 * and therefore do not participate in caching, and neither do parsers with a
+	 * compiler class loader that is not visible to this cache: their expressions
+	 * are parsed on every call.
+	 * @param parser the parser whose configuration to parse with,
+	 * also determining the configuration that the expression is cached for
+	 * @param expressionString the raw expression string to parse
+	 * @param context a context for influencing the expression parsing routine
+	 * (may be {@code null} for a non-template expression)
+	 * @return a new expression for the caller to hold on to
+	 * @throws ParseException if the expression could not be parsed
+	 */
+	public Expression getExpression(SpelExpressionParser parser, String expressionString,
+			@Nullable ParserContext context) throws ParseException {
+
+		Assert.notNull(parser, "SpelExpressionParser must not be null");
+		Assert.notNull(expressionString, "Expression string must not be null");
+		SpelParserConfiguration configuration = parser.getConfiguration();
+		if (parser.getClass() != SpelExpressionParser.class || !isCacheSafe(configuration.getCompilerClassLoader())) {
+			return (context != null ? parser.parseExpression(expressionString, context) :
+					parser.parseExpression(expressionString));
+		}
+
+		String templatePrefix = null;
+		String templateSuffix = null;
+		if (context != null && context.isTemplate()) {
+			templatePrefix = context.getExpressionPrefix();
+			templateSuffix = context.getExpressionSuffix();
+		}
+		this.requestCount.increment();
+		TokenizedExpression tokenized =
+				this.cache.get(new CacheKey(expressionString, configuration, templatePrefix, templateSuffix));
+		return buildExpression(tokenized, configuration);
+	}
+
+	/**
+	 * Return the number of currently cached expressions.
+	 */
+	public int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Remove all cached expressions and reset the statistics.
+	 */
+	public void clear() {
+		this.cache.clear();
+		this.requestCount.reset();
+		this.missCount.reset();
+		this.evaluationCounter.interpreted.reset();
+		this.evaluationCounter.compiled.reset();
+	}
+
+	/**
+	 * Return a snapshot of the cache statistics.
+	 */
+	public Statistics getStatistics() {
+		long missCount = this.missCount.sum();
+		long hitCount = Math.max(this.requestCount.sum() - missCount, 0);
+		return new Statistics(hitCount, missCount,
+				this.evaluationCounter.interpreted.sum(), this.evaluationCounter.compiled.sum());
+	}
+
+
+	private TokenizedExpression parse(CacheKey key) {
+		// Local parser and context instances: not retained by the cache
+		List<TokenizedPart> spelParts = new ArrayList<>();
+		InternalSpelExpressionParser parser = new InternalSpelExpressionParser(key.configuration()) {
+			@Override
+			protected SpelExpression doParseExpression(String expressionString, @Nullable ParserContext context) {
+				List<Token> tokens = tokenize(expressionString);
+				SpelExpression expression = parseTokens(expressionString, tokens);
+				spelParts.add(new TokenizedPart(expressionString, tokens));
+				return expression;
+			}
+		};
+		Expression expression = (key.templatePrefix() != null && key.templateSuffix() != null ?
+				parser.parseExpression(key.expressionString(),
+						new TemplateParserContext(key.templatePrefix(), key.templateSuffix())) :
+				parser.parseExpression(key.expressionString()));
+
+		// Keep literal parts as they are, SpEL parts in tokenized form only
+		Expression[] parsedParts = (expression instanceof CompositeStringExpression compositeExpression ?
+				compositeExpression.getExpressions() : new Expression[] {expression});
+		Object[] parts = new Object[parsedParts.length];
+		int spelIndex = 0;
+		for (int i = 0; i < parsedParts.length; i++) {
+			parts[i] = (parsedParts[i] instanceof LiteralExpression ? parsedParts[i] : spelParts.get(spelIndex++));
+		}
+		this.missCount.increment();
+		return new TokenizedExpression(key.expressionString(), parts);
+	}
+
+	/**
+	 * Build a new expression from the given tokenized expression,
+	 * with a new AST for each of its SpEL parts.
+	 */
+	private Expression buildExpression(TokenizedExpression tokenized, SpelParserConfiguration configuration) {
+		InternalSpelExpressionParser parser = new InternalSpelExpressionParser(configuration);
+		Object[] parts = tokenized.parts();
+		if (parts.length == 1) {
+			return buildPart(parts[0], parser, configuration);
+		}
+		Expression[] expressions = new Expression[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			expressions[i] = buildPart(parts[i], parser, configuration);
+		}
+		return new CompositeStringExpression(tokenized.expressionString(), expressions);
+	}
+
+	private Expression buildPart(Object part, InternalSpelExpressionParser parser,
+			SpelParserConfiguration configuration) {
+
+		if (!(part instanceof TokenizedPart tokenizedPart)) {
+			// LiteralExpression: immutable
+			return (Expression) part;
+		}
+		SpelExpression expression = parser.parseTokens(tokenizedPart.expressionString(), tokenizedPart.tokens());
+		expression.setEvaluationCounter(this.evaluationCounter);
+		Executor executor = this.compilationExecutor;
+		if (executor != null && configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
+			expression.setCompilationExecutor(executor);
+		}
+		return expression;
+	}
+
+	/**
+	 * Determine whether the given compiler class loader is the class loader
+	 * of this cache or a parent of it, i.e. does not get pinned by the cache.
+	 */
+	private static boolean isCacheSafe(@Nullable ClassLoader compilerClassLoader) {
+		if (compilerClassLoader == null) {
+			return true;
+		}
+		ClassLoader cacheClassLoader = SpelExpressionCache.class.getClassLoader();
+		while (cacheClassLoader != null) {
+			if (cacheClassLoader == compilerClassLoader) {
+				return true;
+			}
+			cacheClassLoader = cacheClassLoader.getParent();
+		}
+		return false;
+	}
+
+
+	/**
+	 * Return a shared default {@code SpelExpressionCache} instance,
+	 * lazily building it once needed.
+	 * @return the shared {@code SpelExpressionCache} instance (never {@code null})
+	 */
+	public static SpelExpressionCache getSharedInstance() {
+		SpelExpressionCache cache = sharedInstance;
+		if (cache == null) {
+			synchronized (SpelExpressionCache.class) {
+				cache = sharedInstance;
+				if (cache == null) {
+					cache = new SpelExpressionCache();
+					sharedInstance = cache;
+				}
+			}
+		}
+		return cache;
+	}
+
+
+	/**
+	 * Statistics for a {@link SpelExpressionCache}, as counted on lookup and on
+	 * evaluation of the returned expressions.
+	 * @param hitCount the number of lookups served from cached tokens
+	 * @param missCount the number of lookups that required parsing
+	 * @param interpretedHitCount the number of evaluations of returned
+	 * expressions in interpreted form
+	 * @param compiledHitCount the number of evaluations of returned
+	 * expressions in compiled form
+	 */
+	public record Statistics(long hitCount, long missCount, long interpretedHitCount, long compiledHitCount) {
+
+		/**
+		 * Return the ratio of evaluations in compiled form to all evaluations
+		 * of returned expressions, or {@code 0.0} if there were none.
+		 */
+		public double compiledHitRate() {
+			long evaluationCount = this.interpretedHitCount + this.compiledHitCount;
+			return (evaluationCount > 0 ? (double) this.compiledHitCount / evaluationCount : 0.0);
+		}
+	}
+
+
+	/**
+	 * Counter for the evaluations of expressions returned from a cache.
+	 */
+	static final class EvaluationCounter {
+
+		final LongAdder interpreted = new LongAdder();
+
+		final LongAdder compiled = new LongAdder();
+	}
+
+
+	/**
+	 * Tokenized form of a parsed expression, with a {@link LiteralExpression}
+	 * or a {@link TokenizedPart} for each part of a template expression,
+	 * or a single part otherwise.
+	 */
+	private record TokenizedExpression(String expressionString, Object[] parts) {
+	}
+
+
+	/**
+	 * Tokens of a SpEL expression or of a SpEL part of a template expression.
+	 */
+	private record TokenizedPart(String expressionString, List<Token> tokens) {
+	}
+
+
+	/**
+	 * Cache key for an expression string parsed with a specific configuration
+	 * and, for a template expression, specific prefix and suffix.
+	 */
+	private record CacheKey(String expressionString, SpelParserConfiguration configuration,
+			@Nullable String templatePrefix, @Nullable String templateSuffix) {
+	}
+
+}
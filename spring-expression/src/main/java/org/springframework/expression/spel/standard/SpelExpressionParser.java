@@ -53,6 +53,14 @@ public class SpelExpressionParser extends TemplateAwareExpressionParser {
 	}
 
 
+	/**
+	 * Return the configuration that this parser applies to parsed expressions.
+	 * @since 6.1
+	 */
+	SpelParserConfiguration getConfiguration() {
+		return this.configuration;
+	}
+
 	public SpelExpression parseRaw(String expressionString) throws ParseException {
 		Assert.hasText(expressionString, "'expressionString' must not be null or blank");
 		return doParseExpression(expressionString, null);
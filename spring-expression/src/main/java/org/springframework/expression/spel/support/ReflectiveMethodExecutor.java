@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,10 @@
 
 package org.springframework.expression.spel.support;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
@@ -32,16 +36,35 @@ import org.springframework.util.ReflectionUtils;
 /**
  * {@link MethodExecutor} that works via reflection.
  *
+ * <p>As of 6.1, the method is invoked through a {@link MethodHandle} which is
+ * bound on first invocation and kept by the executor instance, falling back to
+ * reflective invocation for methods that cannot be bound and for targets or
+ * arguments that do not match the method signature, so that such mismatches
+ * still surface as stale executors.
+ *
  * @author Andy Clement
  * @author Juergen Hoeller
  * @since 3.0
  */
 public class ReflectiveMethodExecutor implements MethodExecutor {
 
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	// Marker for methods that cannot be bound to a MethodHandle
+	private static final MethodHandle NO_HANDLE = MethodHandles.constant(Object.class, null);
+
+
 	private final Method originalMethod;
 
 	private final Method methodToInvoke;
 
+	private final Class<?>[] parameterTypes;
+
+	private final TypeDescriptor returnTypeDescriptor;
+
+	@Nullable
+	private volatile MethodHandle methodHandle;
+
 	@Nullable
 	private final Integer varargsPosition;
 
@@ -70,6 +93,8 @@ public class ReflectiveMethodExecutor implements MethodExecutor {
 	public ReflectiveMethodExecutor(Method method, @Nullable Class<?> targetClass) {
 		this.originalMethod = method;
 		this.methodToInvoke = ClassUtils.getInterfaceMethodIfPossible(method, targetClass);
+		this.parameterTypes = method.getParameterTypes();
+		this.returnTypeDescriptor = new TypeDescriptor(new MethodParameter(method, -1));
 		if (method.isVarArgs()) {
 			this.varargsPosition = method.getParameterCount() - 1;
 		}
@@ -135,13 +160,82 @@ public class ReflectiveMethodExecutor implements MethodExecutor {
 				arguments = ReflectionHelper.setupArgumentsForVarargsInvocation(
 						this.originalMethod.getParameterTypes(), arguments);
 			}
-			ReflectionUtils.makeAccessible(this.methodToInvoke);
-			Object value = this.methodToInvoke.invoke(target, arguments);
-			return new TypedValue(value, new TypeDescriptor(new MethodParameter(this.originalMethod, -1)).narrow(value));
+			Object value = invoke(target, arguments);
+			return new TypedValue(value, this.returnTypeDescriptor.narrow(value));
 		}
 		catch (Exception ex) {
 			throw new AccessException("Problem invoking method: " + this.methodToInvoke, ex);
 		}
 	}
 
+	/**
+	 * Invoke the method, preferably through its bound {@code MethodHandle}.
+	 * Exceptions thrown by the method get wrapped in an
+	 * {@link InvocationTargetException}, as with reflective invocation.
+	 */
+	@Nullable
+	private Object invoke(Object target, Object[] arguments) throws Exception {
+		Method method = this.methodToInvoke;
+		MethodHandle handle = (isApplicable(target, arguments) ? getMethodHandle() : NO_HANDLE);
+		if (handle != NO_HANDLE) {
+			try {
+				return (Object) handle.invokeExact(target, arguments);
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		ReflectionUtils.makeAccessible(method);
+		return method.invoke(target, arguments);
+	}
+
+	private MethodHandle getMethodHandle() {
+		MethodHandle handle = this.methodHandle;
+		if (handle == null) {
+			handle = unreflect(this.methodToInvoke);
+			this.methodHandle = handle;
+		}
+		return handle;
+	}
+
+	/**
+	 * Determine whether the given target and arguments match the signature of
+	 * the method. Mismatches are left to reflective invocation, for the
+	 * {@link IllegalArgumentException} that marks this executor as stale.
+	 */
+	private boolean isApplicable(@Nullable Object target, Object[] arguments) {
+		Method method = this.methodToInvoke;
+		if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(target)) {
+			return false;
+		}
+		if (arguments.length != this.parameterTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < arguments.length; i++) {
+			if (!ClassUtils.isAssignableValue(this.parameterTypes[i], arguments[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Bind the given method to a {@code MethodHandle} which takes the target and
+	 * an argument array, ignoring the target for a static method.
+	 * @return the adapted handle, or {@link #NO_HANDLE} if the method cannot be bound
+	 */
+	private static MethodHandle unreflect(Method method) {
+		try {
+			ReflectionUtils.makeAccessible(method);
+			MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			return NO_HANDLE;
+		}
+	}
+
 }
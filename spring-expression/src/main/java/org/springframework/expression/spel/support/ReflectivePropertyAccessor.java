@@ -16,8 +16,12 @@
 
 package org.springframework.expression.spel.support;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -51,6 +55,12 @@ import org.springframework.util.StringUtils;
  * <p>A property can be referenced through a public getter method (when being read)
  * or a public setter method (when being written), and also as a public field.
  *
+ * <p>As of 6.1, resolved getters, setters and fields are invoked through
+ * {@link MethodHandle MethodHandles}, falling back to reflective invocation for
+ * members that cannot be bound. The handles are kept along with the resolved
+ * members in the caches of each accessor instance, so they do not retain
+ * any classes beyond the lifetime of the accessor.
+ *
  * @author Andy Clement
  * @author Juergen Hoeller
  * @author Phillip Webb
@@ -66,11 +76,18 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 
 	private static final Set<Class<?>> BOOLEAN_TYPES = Set.of(Boolean.class, Boolean.TYPE);
 
+	private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	// Marker for members that cannot be bound to a MethodHandle
+	private static final MethodHandle NO_HANDLE = MethodHandles.constant(Object.class, null);
+
 	private final boolean allowWrite;
 
 	private final Map<PropertyCacheKey, InvokerPair> readerCache = new ConcurrentHashMap<>(64);
 
-	private final Map<PropertyCacheKey, Member> writerCache = new ConcurrentHashMap<>(64);
+	private final Map<PropertyCacheKey, InvokerPair> writerCache = new ConcurrentHashMap<>(64);
 
 	private final Map<PropertyCacheKey, TypeDescriptor> typeDescriptorCache = new ConcurrentHashMap<>(64);
 
@@ -181,8 +198,7 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 			}
 			if (method != null) {
 				try {
-					ReflectionUtils.makeAccessible(method);
-					Object value = method.invoke(target);
+					Object value = invokeReader(invoker, target);
 					return new TypedValue(value, invoker.typeDescriptor.narrow(value));
 				}
 				catch (Exception ex) {
@@ -203,8 +219,7 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 			}
 			if (field != null) {
 				try {
-					ReflectionUtils.makeAccessible(field);
-					Object value = field.get(target);
+					Object value = invokeReader(invoker, target);
 					return new TypedValue(value, invoker.typeDescriptor.narrow(value));
 				}
 				catch (Exception ex) {
@@ -234,15 +249,16 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 			Property property = new Property(type, null, method);
 			TypeDescriptor typeDescriptor = new TypeDescriptor(property);
 			method = ClassUtils.getInterfaceMethodIfPossible(method, type);
-			this.writerCache.put(cacheKey, method);
+			this.writerCache.put(cacheKey, new InvokerPair(method, typeDescriptor));
 			this.typeDescriptorCache.put(cacheKey, typeDescriptor);
 			return true;
 		}
 		else {
 			Field field = findField(name, type, target);
 			if (field != null) {
-				this.writerCache.put(cacheKey, field);
-				this.typeDescriptorCache.put(cacheKey, new TypeDescriptor(field));
+				TypeDescriptor typeDescriptor = new TypeDescriptor(field);
+				this.writerCache.put(cacheKey, new InvokerPair(field, typeDescriptor));
+				this.typeDescriptorCache.put(cacheKey, typeDescriptor);
 				return true;
 			}
 		}
@@ -262,65 +278,36 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 		Assert.state(target != null, "Target must not be null");
 		Class<?> type = (target instanceof Class<?> clazz ? clazz : target.getClass());
 
-		Object possiblyConvertedNewValue = newValue;
-		TypeDescriptor typeDescriptor = getTypeDescriptor(context, target, name);
-		if (typeDescriptor != null) {
-			try {
-				possiblyConvertedNewValue = context.getTypeConverter().convertValue(
-						newValue, TypeDescriptor.forObject(newValue), typeDescriptor);
-			}
-			catch (EvaluationException evaluationException) {
-				throw new AccessException("Type conversion failure", evaluationException);
+		PropertyCacheKey cacheKey = new PropertyCacheKey(type, name, target instanceof Class);
+		InvokerPair writer = this.writerCache.get(cacheKey);
+		if (writer == null) {
+			if (!canWrite(context, target, name)) {
+				throw new AccessException("Neither setter method nor field found for property '" + name + "'");
 			}
+			writer = this.writerCache.get(cacheKey);
+			Assert.state(writer != null, "No writer cached after successful canWrite check");
 		}
 
-		PropertyCacheKey cacheKey = new PropertyCacheKey(type, name, target instanceof Class);
-		Member cachedMember = this.writerCache.get(cacheKey);
-
-		if (cachedMember == null || cachedMember instanceof Method) {
-			Method method = (Method) cachedMember;
-			if (method == null) {
-				method = findSetterForProperty(name, type, target);
-				if (method != null) {
-					method = ClassUtils.getInterfaceMethodIfPossible(method, type);
-					cachedMember = method;
-					this.writerCache.put(cacheKey, cachedMember);
-				}
-			}
-			if (method != null) {
-				try {
-					ReflectionUtils.makeAccessible(method);
-					method.invoke(target, possiblyConvertedNewValue);
-					return;
-				}
-				catch (Exception ex) {
-					throw new AccessException("Unable to access property '" + name + "' through setter method", ex);
-				}
-			}
+		Object possiblyConvertedNewValue;
+		try {
+			possiblyConvertedNewValue = context.getTypeConverter().convertValue(
+					newValue, TypeDescriptor.forObject(newValue), writer.typeDescriptor);
+		}
+		catch (EvaluationException evaluationException) {
+			throw new AccessException("Type conversion failure", evaluationException);
 		}
 
-		if (cachedMember == null || cachedMember instanceof Field) {
-			Field field = (Field) cachedMember;
-			if (field == null) {
-				field = findField(name, type, target);
-				if (field != null) {
-					cachedMember = field;
-					this.writerCache.put(cacheKey, cachedMember);
-				}
+		try {
+			invokeWriter(writer, target, possiblyConvertedNewValue);
+		}
+		catch (Exception ex) {
+			if (writer.member instanceof Method) {
+				throw new AccessException("Unable to access property '" + name + "' through setter method", ex);
 			}
-			if (field != null) {
-				try {
-					ReflectionUtils.makeAccessible(field);
-					field.set(target, possiblyConvertedNewValue);
-					return;
-				}
-				catch (Exception ex) {
-					throw new AccessException("Unable to access field '" + name + "'", ex);
-				}
+			else {
+				throw new AccessException("Unable to access field '" + name + "'", ex);
 			}
 		}
-
-		throw new AccessException("Neither setter method nor field found for property '" + name + "'");
 	}
 
 
@@ -400,8 +387,9 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 
 		Method[] methods = getSortedMethods(clazz);
 		for (String methodSuffix : methodSuffixes) {
+			String methodName = prefix + methodSuffix;
 			for (Method method : methods) {
-				if (isCandidateForProperty(method, clazz) && method.getName().equals(prefix + methodSuffix) &&
+				if (method.getName().equals(methodName) && isCandidateForProperty(method, clazz) &&
 						method.getParameterCount() == numberOfParams &&
 						(!mustBeStatic || Modifier.isStatic(method.getModifiers())) &&
 						(requiredReturnTypes.isEmpty() || requiredReturnTypes.contains(method.getReturnType()))) {
@@ -498,6 +486,100 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 		return null;
 	}
 
+	/**
+	 * Read the value of the given getter method or field, preferably through its
+	 * bound {@code MethodHandle}. Exceptions thrown by a getter method get wrapped
+	 * in an {@link InvocationTargetException}, as with reflective invocation.
+	 */
+	@Nullable
+	private static Object invokeReader(InvokerPair invoker, @Nullable Object target) throws Exception {
+		Member member = invoker.member;
+		MethodHandle handle = (isReceiver(member, target) ? invoker.getHandle(false) : NO_HANDLE);
+		if (handle != NO_HANDLE) {
+			try {
+				return (Object) handle.invokeExact(target);
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		if (member instanceof Method method) {
+			ReflectionUtils.makeAccessible(method);
+			return method.invoke(target);
+		}
+		else {
+			Field field = (Field) member;
+			ReflectionUtils.makeAccessible(field);
+			return field.get(target);
+		}
+	}
+
+	/**
+	 * Write the given value through the given setter method or field, preferably
+	 * through its bound {@code MethodHandle}. Exceptions thrown by a setter method
+	 * get wrapped in an {@link InvocationTargetException}, as with reflective invocation.
+	 */
+	private static void invokeWriter(InvokerPair invoker, Object target, @Nullable Object value) throws Exception {
+		Member member = invoker.member;
+		Class<?> valueType = (member instanceof Method method ? method.getParameterTypes()[0] : ((Field) member).getType());
+		MethodHandle handle = (isReceiver(member, target) && ClassUtils.isAssignableValue(valueType, value) ?
+				invoker.getHandle(true) : NO_HANDLE);
+		if (handle != NO_HANDLE) {
+			try {
+				handle.invokeExact(target, value);
+				return;
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		if (member instanceof Method method) {
+			ReflectionUtils.makeAccessible(method);
+			method.invoke(target, value);
+		}
+		else {
+			Field field = (Field) member;
+			ReflectionUtils.makeAccessible(field);
+			field.set(target, value);
+		}
+	}
+
+	/**
+	 * Determine whether the given target is a valid receiver for the given member.
+	 * Invalid receivers are left to reflective invocation for consistent exceptions.
+	 */
+	private static boolean isReceiver(Member member, @Nullable Object target) {
+		return (Modifier.isStatic(member.getModifiers()) || member.getDeclaringClass().isInstance(target));
+	}
+
+	/**
+	 * Bind the given getter/setter method or field to a {@code MethodHandle} with a
+	 * generic reader or writer signature, taking any target for static members.
+	 * @return the adapted handle, or {@link #NO_HANDLE} if the member cannot be bound
+	 */
+	private static MethodHandle unreflect(Member member, boolean writer) {
+		try {
+			MethodHandle handle;
+			if (member instanceof Method method) {
+				ReflectionUtils.makeAccessible(method);
+				handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+			}
+			else {
+				Field field = (Field) member;
+				ReflectionUtils.makeAccessible(field);
+				handle = (writer ? MethodHandles.lookup().unreflectSetter(field) :
+						MethodHandles.lookup().unreflectGetter(field));
+			}
+			if (Modifier.isStatic(member.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asType(writer ? WRITER_TYPE : READER_TYPE);
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			return NO_HANDLE;
+		}
+	}
+
 	/**
 	 * Attempt to create an optimized property accessor tailored for a property of a
 	 * particular name on a particular class. The general ReflectivePropertyAccessor
@@ -535,7 +617,7 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 				}
 			}
 			if (method != null) {
-				return new OptimalPropertyAccessor(invocationTarget);
+				return new OptimalPropertyAccessor(this, cacheKey, invocationTarget);
 			}
 		}
 
@@ -550,7 +632,7 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 				}
 			}
 			if (field != null) {
-				return new OptimalPropertyAccessor(invocationTarget);
+				return new OptimalPropertyAccessor(this, cacheKey, invocationTarget);
 			}
 		}
 
@@ -560,7 +642,8 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 
 	/**
 	 * Captures the member (method/field) to call reflectively to access a property value
-	 * and the type descriptor for the value returned by the reflective call.
+	 * and the type descriptor for the value returned by the reflective call, along with
+	 * a {@code MethodHandle} for the member which gets bound on first invocation.
 	 */
 	private static class InvokerPair {
 
@@ -568,10 +651,28 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 
 		final TypeDescriptor typeDescriptor;
 
+		@Nullable
+		private volatile MethodHandle handle;
+
 		public InvokerPair(Member member, TypeDescriptor typeDescriptor) {
 			this.member = member;
 			this.typeDescriptor = typeDescriptor;
 		}
+
+		/**
+		 * Return the handle for reading or writing through the member.
+		 * <p>An invoker pair is cached for either reading or writing,
+		 * so a single handle suffices.
+		 * @return the bound handle, or {@code NO_HANDLE} if the member cannot be bound
+		 */
+		MethodHandle getHandle(boolean writer) {
+			MethodHandle handle = this.handle;
+			if (handle == null) {
+				handle = unreflect(this.member, writer);
+				this.handle = handle;
+			}
+			return handle;
+		}
 	}
 
 
@@ -640,9 +741,43 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 
 		private final TypeDescriptor typeDescriptor;
 
-		OptimalPropertyAccessor(InvokerPair target) {
+		private final InvokerPair invoker;
+
+		private final ReflectivePropertyAccessor sourceAccessor;
+
+		private final Class<?> targetType;
+
+		private final boolean targetIsClass;
+
+		OptimalPropertyAccessor(ReflectivePropertyAccessor sourceAccessor, PropertyCacheKey cacheKey, InvokerPair target) {
 			this.member = target.member;
 			this.typeDescriptor = target.typeDescriptor;
+			this.invoker = target;
+			this.sourceAccessor = sourceAccessor;
+			this.targetType = cacheKey.clazz;
+			this.targetIsClass = cacheKey.targetIsClass;
+		}
+
+		/**
+		 * Determine whether this optimal accessor may be reused in the given
+		 * evaluation context, i.e. whether the context still contains the
+		 * {@code ReflectivePropertyAccessor} that this accessor was derived from.
+		 * <p>Note that a reused accessor only reads from targets of the type that
+		 * it was created for: see {@link #isApplicableTo}.
+		 * @since 6.1
+		 */
+		public boolean isReusableIn(EvaluationContext context) {
+			return context.getPropertyAccessors().contains(this.sourceAccessor);
+		}
+
+		/**
+		 * Determine whether this optimal accessor can read from the given target,
+		 * i.e. whether the target is of the type that this accessor was created for.
+		 * @since 6.1
+		 */
+		public boolean isApplicableTo(@Nullable Object target) {
+			return (target != null &&
+					(this.targetIsClass ? target == this.targetType : target.getClass() == this.targetType));
 		}
 
 		@Override
@@ -676,24 +811,20 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 
 		@Override
 		public TypedValue read(EvaluationContext context, @Nullable Object target, String name) throws AccessException {
-			if (this.member instanceof Method method) {
-				try {
-					ReflectionUtils.makeAccessible(method);
-					Object value = method.invoke(target);
-					return new TypedValue(value, this.typeDescriptor.narrow(value));
-				}
-				catch (Exception ex) {
-					throw new AccessException("Unable to access property '" + name + "' through getter method", ex);
-				}
+			if (!isApplicableTo(target)) {
+				throw new AccessException("Optimal accessor for property '" + name + "' on " +
+						this.targetType.getName() + " not applicable to target of type " +
+						(target != null ? target.getClass().getName() : "null"));
 			}
-			else {
-				Field field = (Field) this.member;
-				try {
-					ReflectionUtils.makeAccessible(field);
-					Object value = field.get(target);
-					return new TypedValue(value, this.typeDescriptor.narrow(value));
+			try {
+				Object value = invokeReader(this.invoker, target);
+				return new TypedValue(value, this.typeDescriptor.narrow(value));
+			}
+			catch (Exception ex) {
+				if (this.member instanceof Method) {
+					throw new AccessException("Unable to access property '" + name + "' through getter method", ex);
 				}
-				catch (Exception ex) {
+				else {
 					throw new AccessException("Unable to access field '" + name + "'", ex);
 				}
 			}
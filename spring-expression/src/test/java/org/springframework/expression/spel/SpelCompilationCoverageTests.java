@@ -108,19 +108,20 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 	 * FunctionReference
 	 * InlineList
 	 * OpModulus
+	 * InlineMap
+	 * BeanReference
+	 * OpBetween
+	 * OpMatches
+	 * OpPower
+	 * Projection
+	 * Selection
 	 *
 	 * Not yet compiled (some may never need to be):
 	 * Assign
-	 * BeanReference
 	 * Identifier
 	 * OpDec
-	 * OpBetween
-	 * OpMatches
-	 * OpPower
 	 * OpInc
-	 * Projection
 	 * QualifiedId
-	 * Selection
 	 */
 
 
@@ -447,6 +448,145 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertThat(o).isEqualTo("op");
 	}
 
+	@Test
+	void inlineMap() {
+		expression = parser.parseExpression("{a:1, b:'x', c:{1,2}}");
+		Object o = expression.getValue();
+		assertThat(o).hasToString("{a=1, b=x, c=[1, 2]}");
+		assertCanCompile(expression);
+		o = expression.getValue();
+		assertThat(o).hasToString("{a=1, b=x, c=[1, 2]}");
+		assertThat(o).isSameAs(expression.getValue());
+
+		expression = parser.parseExpression("{a:name, b:{x:number}}['b']['x']");
+		ItemHolder holder = new ItemHolder();
+		assertThat(expression.getValue(holder)).isEqualTo(1);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo(1);
+	}
+
+	@Test
+	void selection() {
+		ItemHolder holder = new ItemHolder();
+		expression = parser.parseExpression("items.?[number > 1]");
+		assertThat(expression.getValue(holder)).asList().extracting("name").containsExactly("b", "c");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).asList().extracting("name").containsExactly("b", "c");
+
+		expression = parser.parseExpression("items.^[number > 1].name");
+		assertThat(expression.getValue(holder)).isEqualTo("b");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo("b");
+
+		expression = parser.parseExpression("items.$[number > 1].name");
+		assertThat(expression.getValue(holder)).isEqualTo("c");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo("c");
+
+		expression = parser.parseExpression("items?.?[name == #root.name]");
+		assertThat(expression.getValue(holder)).asList().extracting("name").containsExactly("a");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).asList().extracting("name").containsExactly("a");
+		holder.items = null;
+		assertThat(expression.getValue(holder)).isNull();
+
+		// Cannot compile selection criteria referencing #index
+		expression = parser.parseExpression("{1,2,3}.?[#index > 0]");
+		expression.getValue();
+		assertCantCompile(expression);
+	}
+
+	@Test
+	void projection() {
+		ItemHolder holder = new ItemHolder();
+		expression = parser.parseExpression("items.![name]");
+		assertThat(expression.getValue(holder)).asList().containsExactly("a", "b", "c");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).asList().containsExactly("a", "b", "c");
+
+		expression = parser.parseExpression("items.?[number > 1].![number * 2]");
+		assertThat(expression.getValue(holder)).asList().containsExactly(4, 6);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).asList().containsExactly(4, 6);
+
+		expression = parser.parseExpression("items?.![name]");
+		assertThat(expression.getValue(holder)).asList().containsExactly("a", "b", "c");
+		assertCanCompile(expression);
+		holder.items = null;
+		assertThat(expression.getValue(holder)).isNull();
+	}
+
+	@Test
+	void operatorMatches() {
+		expression = parser.parseExpression("name matches '[a-c]'");
+		ItemHolder holder = new ItemHolder();
+		assertThat(expression.getValue(holder)).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo(true);
+		holder.name = "z";
+		assertThat(expression.getValue(holder)).isEqualTo(false);
+
+		// Pattern only known at runtime
+		expression = parser.parseExpression("name matches name");
+		expression.getValue(holder);
+		assertCantCompile(expression);
+	}
+
+	@Test
+	void operatorBetween() {
+		expression = parser.parseExpression("number between {1, 2}");
+		ItemHolder holder = new ItemHolder();
+		assertThat(expression.getValue(holder)).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo(true);
+		holder.number = 3;
+		assertThat(expression.getValue(holder)).isEqualTo(false);
+
+		expression = parser.parseExpression("'efg' between {'abc', name}");
+		holder.name = "xyz";
+		assertThat(expression.getValue(holder)).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(holder)).isEqualTo(true);
+	}
+
+	@Test
+	void operatorPower() {
+		expression = parser.parseExpression("2.0d ^ 3");
+		assertThat(expression.getValue()).isEqualTo(8.0d);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(8.0d);
+
+		expression = parser.parseExpression("1.5f ^ 2");
+		assertThat(expression.getValue()).isEqualTo(2.25d);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(2.25d);
+
+		expression = parser.parseExpression("3L ^ 2");
+		assertThat(expression.getValue()).isEqualTo(9L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(9L);
+
+		// Integer results may widen to long or BigInteger at runtime
+		expression = parser.parseExpression("3 ^ 2");
+		assertThat(expression.getValue()).isEqualTo(9);
+		assertCantCompile(expression);
+	}
+
+	@Test
+	void beanReference() {
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setBeanResolver((ctx, beanName) -> beanName.toUpperCase());
+		expression = parser.parseExpression("@foo");
+		assertThat(expression.getValue(context)).isEqualTo("FOO");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo("FOO");
+
+		expression = parser.parseExpression("@foo.toLowerCase()");
+		assertThat(expression.getValue(context)).isEqualTo("foo");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo("foo");
+	}
+
 	@Test
 	void intLiteral() throws Exception {
 		expression = parser.parseExpression("42");
@@ -6193,6 +6333,36 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		public Long someLong = 3L;
 	}
 
+	public static class Item {
+
+		private final String name;
+
+		private final int number;
+
+		public Item(String name, int number) {
+			this.name = name;
+			this.number = number;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public int getNumber() {
+			return this.number;
+		}
+	}
+
+
+	public static class ItemHolder {
+
+		public List<Item> items = List.of(new Item("a", 1), new Item("b", 2), new Item("c", 3));
+
+		public String name = "a";
+
+		public int number = 1;
+	}
+
 
 	public class Reg {
 
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel.standard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SpelExpressionCache}.
+ *
+ * @author agent
+ * @since 6.1
+ */
+class SpelExpressionCacheTests {
+
+	private final SpelExpressionCache cache = new SpelExpressionCache();
+
+
+	@Test
+	void sharesTokensForEquivalentConfiguration() {
+		SpelExpressionParser parser1 = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+		SpelExpressionParser parser2 = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+		SpelExpressionParser parser3 = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.OFF, null));
+
+		SpelExpression expression = (SpelExpression) this.cache.getExpression(parser1, "1 + 1");
+		SpelExpression sameConfiguration = (SpelExpression) this.cache.getExpression(parser2, "1 + 1");
+		assertThat(sameConfiguration).isNotSameAs(expression);
+		assertThat(sameConfiguration.getAST()).isNotSameAs(expression.getAST());
+		assertThat(sameConfiguration.toStringAST()).isEqualTo(expression.toStringAST());
+		this.cache.getExpression(parser3, "1 + 1");
+		this.cache.getExpression(parser1, "1 + 2");
+		assertThat(this.cache.size()).isEqualTo(3);
+
+		SpelExpressionCache.Statistics statistics = this.cache.getStatistics();
+		assertThat(statistics.hitCount()).isEqualTo(1);
+		assertThat(statistics.missCount()).isEqualTo(3);
+
+		this.cache.clear();
+		assertThat(this.cache.size()).isZero();
+		assertThat(this.cache.getStatistics().missCount()).isZero();
+	}
+
+	@Test
+	void distinguishesTemplateSettings() {
+		SpelExpressionParser parser = new SpelExpressionParser();
+		Expression template = this.cache.getExpression(parser, "#{1 + 1}", new TemplateParserContext());
+		this.cache.getExpression(parser, "#{1 + 1}", new TemplateParserContext());
+		assertThat(this.cache.getStatistics().hitCount()).isEqualTo(1);
+		assertThat(this.cache.getExpression(parser, "#{1 + 1}", new TemplateParserContext("${", "}")).getValue())
+				.isEqualTo("#{1 + 1}");
+		assertThat(this.cache.getStatistics().missCount()).isEqualTo(2);
+		assertThat(template.getValue()).isEqualTo(2);
+
+		Expression literal = this.cache.getExpression(parser, "1 + 1", new TemplateParserContext());
+		assertThat(this.cache.getExpression(parser, "1 + 1")).isNotSameAs(literal);
+		assertThat(literal.getValue()).isEqualTo("1 + 1");
+	}
+
+	@Test
+	void keepsCompilationStatePerCallSite() {
+		SpelExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null));
+		SpelExpression expression = (SpelExpression) this.cache.getExpression(parser, "#root.length()");
+		IntStream.rangeClosed(1, 3).forEach(i -> assertThat(expression.getValue("abc")).isEqualTo(3));
+		assertThat(expression.isCompiled()).isTrue();
+
+		SpelExpression other = (SpelExpression) this.cache.getExpression(parser, "#root.length()");
+		assertThat(other.isCompiled()).isFalse();
+		assertThat(other.getValue(new StringBuilder("abcd"))).isEqualTo(4);
+		assertThat(expression.isCompiled()).isTrue();
+		assertThat(expression.getValue("ab")).isEqualTo(2);
+	}
+
+	@Test
+	void evaluatesCachedExpressionAgainstUnrelatedRootTypesInterpreted() {
+		SpelExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.OFF, null));
+		SpelExpression personExpression = (SpelExpression) this.cache.getExpression(parser, "id");
+		SpelExpression orderExpression = (SpelExpression) this.cache.getExpression(parser, "id");
+		assertThat(personExpression.getAST()).isNotSameAs(orderExpression.getAST());
+
+		IntStream.rangeClosed(1, 3).forEach(i -> {
+			assertThat(personExpression.getValue(new Person(42))).isEqualTo(42);
+			assertThat(orderExpression.getValue(new Order("A-42"))).isEqualTo("A-42");
+		});
+		assertThat(personExpression.isCompiled()).isFalse();
+		assertThat(orderExpression.isCompiled()).isFalse();
+	}
+
+	@Test
+	void evaluatesCachedExpressionAgainstUnrelatedRootTypesCompiled() {
+		SpelExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null));
+		SpelExpression personExpression = (SpelExpression) this.cache.getExpression(parser, "id");
+		SpelExpression orderExpression = (SpelExpression) this.cache.getExpression(parser, "id");
+
+		// Interleaved: each expression gets compiled after the other one got evaluated
+		assertThat(personExpression.getValue(new Person(42))).isEqualTo(42);
+		assertThat(orderExpression.getValue(new Order("A-42"))).isEqualTo("A-42");
+		assertThat(personExpression.compileExpression()).isTrue();
+		assertThat(orderExpression.compileExpression()).isTrue();
+
+		IntStream.rangeClosed(1, 3).forEach(i -> {
+			assertThat(personExpression.getValue(new Person(i))).isEqualTo(i);
+			assertThat(orderExpression.getValue(new Order("A-" + i))).isEqualTo("A-" + i);
+		});
+		assertThat(personExpression.isCompiled()).isTrue();
+		assertThat(orderExpression.isCompiled()).isTrue();
+	}
+
+	@Test
+	void countsInterpretedAndCompiledEvaluations() {
+		SpelExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null));
+		Expression expression = this.cache.getExpression(parser, "#root.length()");
+		IntStream.rangeClosed(1, 4).forEach(i -> assertThat(expression.getValue("abc")).isEqualTo(3));
+
+		SpelExpressionCache.Statistics statistics = this.cache.getStatistics();
+		assertThat(statistics.interpretedHitCount()).isEqualTo(2);
+		assertThat(statistics.compiledHitCount()).isEqualTo(2);
+		assertThat(statistics.compiledHitRate()).isEqualTo(0.5);
+
+		this.cache.clear();
+		assertThat(this.cache.getStatistics().compiledHitCount()).isZero();
+	}
+
+	@Test
+	void compilesInBackground() {
+		List<Runnable> tasks = new ArrayList<>();
+		this.cache.setCompilationExecutor(tasks::add);
+		SpelExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+		SpelExpression expression = (SpelExpression) this.cache.getExpression(parser, "'abc'.length()");
+
+		IntStream.rangeClosed(1, 200).forEach(i -> assertThat(expression.getValue()).isEqualTo(3));
+		assertThat(expression.isCompiled()).isFalse();
+		assertThat(tasks).hasSize(1);
+
+		tasks.get(0).run();
+		assertThat(expression.isCompiled()).isTrue();
+		assertThat(expression.getValue()).isEqualTo(3);
+	}
+
+	@Test
+	void compilesTemplatePartsInBackground() {
+		List<Runnable> tasks = new ArrayList<>();
+		this.cache.setCompilationExecutor(tasks::add);
+		SpelExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+		Expression expression = this.cache.getExpression(parser, "x#{'abc'.length()}y", new TemplateParserContext());
+
+		IntStream.rangeClosed(1, 200).forEach(i -> assertThat(expression.getValue()).isEqualTo("x3y"));
+		assertThat(tasks).hasSize(1);
+		tasks.get(0).run();
+		assertThat(((CompositeStringExpression) expression).getExpressions())
+				.filteredOn(SpelExpression.class::isInstance)
+				.allSatisfy(part -> assertThat(((SpelExpression) part).isCompiled()).isTrue());
+	}
+
+
+
+	public static class Person {
+
+		private final int id;
+
+		public Person(int id) {
+			this.id = id;
+		}
+
+		public int getId() {
+			return this.id;
+		}
+	}
+
+
+	public static class Order {
+
+		private final String id;
+
+		public Order(String id) {
+			this.id = id;
+		}
+
+		public String getId() {
+			return this.id;
+		}
+	}
+
+}
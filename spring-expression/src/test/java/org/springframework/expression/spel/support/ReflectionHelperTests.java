@@ -18,6 +18,7 @@ package org.springframework.expression.spel.support;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
@@ -27,13 +28,16 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.expression.AccessException;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.MethodExecutor;
 import org.springframework.expression.MethodResolver;
 import org.springframework.expression.ParseException;
 import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypedValue;
 import org.springframework.expression.spel.AbstractExpressionTests;
+import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelUtilities;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.support.ReflectionHelper.ArgumentsMatchKind;
@@ -366,6 +370,77 @@ class ReflectionHelperTests extends AbstractExpressionTests {
 				field.write(ctx, tester, "field", null));
 	}
 
+	@Test
+	void optimalReflectivePropertyAccessorReuse() throws Exception {
+		ReflectivePropertyAccessor reflective = new ReflectivePropertyAccessor();
+		Tester tester = new Tester();
+		tester.setProperty("hello");
+		StandardEvaluationContext ctx = new StandardEvaluationContext(tester);
+		ctx.setPropertyAccessors(List.of(reflective));
+
+		ReflectivePropertyAccessor.OptimalPropertyAccessor property =
+				(ReflectivePropertyAccessor.OptimalPropertyAccessor) reflective.createOptimalAccessor(ctx, tester, "property");
+		assertThat(property.isReusableIn(ctx)).isTrue();
+		assertThat(property.isReusableIn(new StandardEvaluationContext())).isFalse();
+		assertThat(property.isApplicableTo(new Tester())).isTrue();
+		assertThat(property.isApplicableTo("hello")).isFalse();
+		assertThat(property.isApplicableTo(null)).isFalse();
+		assertThat(property.read(ctx, new Tester(), "property").getValue()).isNull();
+		assertThatExceptionOfType(AccessException.class).isThrownBy(() ->
+				property.read(ctx, "hello", "property"));
+	}
+
+	@Test
+	void failingGetterInvokedOncePerEvaluation() {
+		FailingGetterTester tester = new FailingGetterTester();
+		StandardEvaluationContext ctx = new StandardEvaluationContext(tester);
+		Expression expression = parser.parseExpression("failing");
+
+		assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() -> expression.getValue(ctx));
+		assertThat(tester.readCount).isEqualTo(1);
+		assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() -> expression.getValue(ctx));
+		assertThat(tester.readCount).isEqualTo(2);
+	}
+
+	@Test
+	void reflectivePropertyAccessorWithStaticFieldAndFailingSetter() throws Exception {
+		ReflectivePropertyAccessor reflective = new ReflectivePropertyAccessor();
+		EvaluationContext ctx = new StandardEvaluationContext();
+
+		try {
+			reflective.write(ctx, StaticTester.class, "counter", "5");
+			assertThat(reflective.read(ctx, StaticTester.class, "counter").getValue()).isEqualTo(5);
+			assertThat(StaticTester.counter).isEqualTo(5);
+		}
+		finally {
+			StaticTester.counter = 0;
+		}
+
+		assertThatExceptionOfType(AccessException.class)
+				.isThrownBy(() -> reflective.write(ctx, new Tester(), "failing", "value"))
+				.withRootCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void reflectiveMethodExecutorDistinguishesFailingMethodFromStaleTarget() throws Exception {
+		EvaluationContext ctx = new StandardEvaluationContext();
+		ReflectiveMethodExecutor setter = new ReflectiveMethodExecutor(
+				Tester.class.getMethod("setFailing", String.class));
+		ReflectiveMethodExecutor getter = new ReflectiveMethodExecutor(
+				Tester.class.getMethod("getProperty"));
+		Tester tester = new Tester();
+		tester.setProperty("hello");
+
+		assertThat(getter.execute(ctx, tester).getValue()).isEqualTo("hello");
+		assertThatExceptionOfType(AccessException.class)
+				.isThrownBy(() -> setter.execute(ctx, tester, "value"))
+				.withCauseInstanceOf(InvocationTargetException.class)
+				.withRootCauseInstanceOf(IllegalStateException.class);
+		assertThatExceptionOfType(AccessException.class)
+				.isThrownBy(() -> getter.execute(ctx, "hello"))
+				.withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
 	@Test
 	void reflectiveMethodResolverForJdkProxies() throws Exception {
 		Object proxy = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Runnable.class }, (p, m, args) -> null);
@@ -510,6 +585,25 @@ class ReflectionHelperTests extends AbstractExpressionTests {
 		public String getpEBS() { return pEBS; }
 
 		public void setpEBS(String pEBS) { this.pEBS = pEBS; }
+
+		public void setFailing(String value) { throw new IllegalStateException(value); }
+	}
+
+
+	static class StaticTester {
+
+		public static int counter;
+	}
+
+
+	static class FailingGetterTester {
+
+		int readCount;
+
+		public String getFailing() {
+			this.readCount++;
+			throw new IllegalStateException("failing");
+		}
 	}
 
 }
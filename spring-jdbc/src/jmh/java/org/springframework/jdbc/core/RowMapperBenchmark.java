@@ -0,0 +1,163 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Benchmarks for {@link BeanPropertyRowMapper} and {@link DataClassRowMapper},
+ * compared to a hand-written {@link RowMapper} for the same query.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RowMapperBenchmark {
+
+	private static final String QUERY = "select id, name, age, balance from person";
+
+
+	@Benchmark
+	public void handWrittenRowMapper(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.jdbcTemplate.query(QUERY, (rs, rowNum) -> {
+			Person person = new Person();
+			person.setId(rs.getLong(1));
+			person.setName(rs.getString(2));
+			person.setAge(rs.getInt(3));
+			person.setBalance(rs.getBigDecimal(4));
+			return person;
+		}));
+	}
+
+	@Benchmark
+	public void beanPropertyRowMapper(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.jdbcTemplate.query(QUERY, state.beanPropertyRowMapper));
+	}
+
+	@Benchmark
+	public void dataClassRowMapper(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.jdbcTemplate.query(QUERY, state.dataClassRowMapper));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"1000", "100000"})
+		int rowCount;
+
+		EmbeddedDatabase database;
+
+		JdbcTemplate jdbcTemplate;
+
+		BeanPropertyRowMapper<Person> beanPropertyRowMapper = new BeanPropertyRowMapper<>(Person.class);
+
+		DataClassRowMapper<PersonRecord> dataClassRowMapper = new DataClassRowMapper<>(PersonRecord.class);
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+					.generateUniqueName(true).build();
+			this.jdbcTemplate = new JdbcTemplate(this.database);
+			this.jdbcTemplate.execute("create table person (id bigint primary key, " +
+					"name varchar(50), age integer, balance decimal(10,2))");
+			this.jdbcTemplate.batchUpdate("insert into person values (?, ?, ?, ?)", new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					ps.setLong(1, i);
+					ps.setString(2, "name" + i);
+					ps.setInt(3, i % 100);
+					ps.setBigDecimal(4, BigDecimal.valueOf(i, 2));
+				}
+				@Override
+				public int getBatchSize() {
+					return rowCount;
+				}
+			});
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.database.shutdown();
+		}
+	}
+
+
+	public static class Person {
+
+		private long id;
+
+		private String name;
+
+		private int age;
+
+		private BigDecimal balance;
+
+		public long getId() {
+			return this.id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public BigDecimal getBalance() {
+			return this.balance;
+		}
+
+		public void setBalance(BigDecimal balance) {
+			this.balance = balance;
+		}
+	}
+
+
+	public record PersonRecord(long id, String name, int age, BigDecimal balance) {
+	}
+
+}
@@ -16,12 +16,23 @@
 
 package org.springframework.jdbc.core;
 
+import java.beans.PropertyChangeEvent;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -32,9 +43,11 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.MethodInvocationException;
 import org.springframework.beans.NotWritablePropertyException;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.DataRetrievalFailureException;
@@ -43,6 +56,7 @@ import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -77,9 +91,14 @@ import org.springframework.util.StringUtils;
  * &mdash; for example, a Java {@code record} or a Kotlin {@code data} class &mdash;
  * use {@link DataClassRowMapper} instead.
  *
- * <p>Please note that this class is designed to provide convenience rather than
- * high performance. For best performance, consider using a custom {@code RowMapper}
- * implementation.
+ * <p>The column-to-property mapping is resolved once per {@code ResultSet} from
+ * its meta-data and reused for all of its rows, as well as for subsequent result
+ * sets with the same columns. Column values which match the target property type
+ * exactly are passed to the setter method directly, with the {@link BeanWrapper}
+ * only involved for values which need type conversion.
+ * Nevertheless, please note that this class is designed to provide convenience
+ * rather than high performance. For best performance, consider using a custom
+ * {@code RowMapper} implementation.
  *
  * @author Thomas Risberg
  * @author Juergen Hoeller
@@ -90,6 +109,9 @@ import org.springframework.util.StringUtils;
  */
 public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 
+	/** Maximum number of cached mappings for distinct result set layouts. */
+	static final int MAX_CACHED_LAYOUTS = 16;
+
 	/** Logger available to subclasses. */
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -119,6 +141,12 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	@Nullable
 	private Set<String> mappedPropertyNames;
 
+	/** Column mappings per result set layout. */
+	private final MappingCache<ColumnMapping> columnMappings = new MappingCache<>();
+
+	/** Whether {@link #initBeanWrapper} has been overridden in a subclass. */
+	private final boolean customBeanWrapperInitialization = isInitBeanWrapperOverridden();
+
 
 	/**
 	 * Create a new {@code BeanPropertyRowMapper} for bean-style configuration.
@@ -205,6 +233,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	public void setPrimitivesDefaultedForNullValue(boolean primitivesDefaultedForNullValue) {
 		this.primitivesDefaultedForNullValue = primitivesDefaultedForNullValue;
+		clearMappingCache();
 	}
 
 	/**
@@ -225,6 +254,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	public void setConversionService(@Nullable ConversionService conversionService) {
 		this.conversionService = conversionService;
+		clearMappingCache();
 	}
 
 	/**
@@ -260,6 +290,14 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		}
 	}
 
+	/**
+	 * Clear the cached mappings for result set layouts, to be resolved again
+	 * against the current configuration.
+	 */
+	void clearMappingCache() {
+		this.columnMappings.clear();
+	}
+
 	/**
 	 * Remove the specified property from the mapped properties.
 	 * @param propertyName the property name (as used by property descriptors)
@@ -324,50 +362,42 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		T mappedObject = constructMappedInstance(rs, bw);
 		bw.setBeanInstance(mappedObject);
 
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
-		Set<String> populatedProperties = (isCheckFullyPopulated() ? new HashSet<>() : null);
-
-		for (int index = 1; index <= columnCount; index++) {
-			String column = JdbcUtils.lookupColumnName(rsmd, index);
-			String property = lowerCaseName(StringUtils.delete(column, " "));
-			PropertyDescriptor pd = (this.mappedProperties != null ? this.mappedProperties.get(property) : null);
-			if (pd != null) {
+		ColumnMapping mapping = this.columnMappings.getMapping(rs, this::resolveColumnMapping);
+		for (int i = 0; i < mapping.columnIndexes.length; i++) {
+			int index = mapping.columnIndexes[i];
+			PropertyDescriptor pd = mapping.properties[i];
+			try {
+				Object value = getColumnValue(rs, index, pd);
+				MethodHandle writeHandle = mapping.writeHandles[i];
+				if (writeHandle != null && isDirectlyAssignable(value, pd.getPropertyType())) {
+					setPropertyValueDirectly(mappedObject, pd, writeHandle, value);
+					continue;
+				}
 				try {
-					Object value = getColumnValue(rs, index, pd);
-					if (rowNumber == 0 && logger.isDebugEnabled()) {
-						logger.debug("Mapping column '" + column + "' to property '" + pd.getName() +
-								"' of type '" + ClassUtils.getQualifiedName(pd.getPropertyType()) + "'");
-					}
-					try {
-						bw.setPropertyValue(pd.getName(), value);
-					}
-					catch (TypeMismatchException ex) {
-						if (value == null && this.primitivesDefaultedForNullValue) {
-							if (logger.isDebugEnabled()) {
-								String propertyType = ClassUtils.getQualifiedName(pd.getPropertyType());
-								logger.debug("""
-										Ignoring intercepted TypeMismatchException for row %d and column '%s' \
-										with null value when setting property '%s' of type '%s' on object: %s"
-										""".formatted(rowNumber, column, pd.getName(), propertyType, mappedObject), ex);
-							}
-						}
-						else {
-							throw ex;
+					bw.setPropertyValue(pd.getName(), value);
+				}
+				catch (TypeMismatchException ex) {
+					if (value == null && this.primitivesDefaultedForNullValue) {
+						if (logger.isDebugEnabled()) {
+							String propertyType = ClassUtils.getQualifiedName(pd.getPropertyType());
+							logger.debug("""
+									Ignoring intercepted TypeMismatchException for row %d and column '%s' \
+									with null value when setting property '%s' of type '%s' on object: %s"
+									""".formatted(rowNumber, mapping.columnNames[i], pd.getName(), propertyType, mappedObject), ex);
 						}
 					}
-					if (populatedProperties != null) {
-						populatedProperties.add(pd.getName());
+					else {
+						throw ex;
 					}
 				}
-				catch (NotWritablePropertyException ex) {
-					throw new DataRetrievalFailureException(
-							"Unable to map column '" + column + "' to property '" + pd.getName() + "'", ex);
-				}
+			}
+			catch (NotWritablePropertyException ex) {
+				throw new DataRetrievalFailureException(
+						"Unable to map column '" + mapping.columnNames[i] + "' to property '" + pd.getName() + "'", ex);
 			}
 		}
 
-		if (populatedProperties != null && !populatedProperties.equals(this.mappedPropertyNames)) {
+		if (isCheckFullyPopulated() && !mapping.fullyPopulated) {
 			throw new InvalidDataAccessApiUsageException("Given ResultSet does not contain all properties " +
 					"necessary to populate object of " + this.mappedClass + ": " + this.mappedPropertyNames);
 		}
@@ -375,6 +405,110 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return mappedObject;
 	}
 
+	private ColumnMapping resolveColumnMapping(ResultSet rs, ColumnLayout layout) {
+		int columnCount = layout.columnNames.length;
+		List<Integer> columnIndexes = new ArrayList<>(columnCount);
+		List<String> columnNames = new ArrayList<>(columnCount);
+		List<PropertyDescriptor> properties = new ArrayList<>(columnCount);
+		Set<String> populatedProperties = new HashSet<>();
+
+		for (int index = 1; index <= columnCount; index++) {
+			String column = layout.columnNames[index - 1];
+			String property = lowerCaseName(StringUtils.delete(column, " "));
+			PropertyDescriptor pd = (this.mappedProperties != null ? this.mappedProperties.get(property) : null);
+			if (pd != null) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Mapping column '" + column + "' to property '" + pd.getName() +
+							"' of type '" + ClassUtils.getQualifiedName(pd.getPropertyType()) + "'");
+				}
+				columnIndexes.add(index);
+				columnNames.add(column);
+				properties.add(pd);
+				populatedProperties.add(pd.getName());
+			}
+		}
+
+		int size = properties.size();
+		ColumnMapping mapping = new ColumnMapping(size, populatedProperties.equals(this.mappedPropertyNames));
+		for (int i = 0; i < size; i++) {
+			PropertyDescriptor pd = properties.get(i);
+			mapping.columnIndexes[i] = columnIndexes.get(i);
+			mapping.columnNames[i] = columnNames.get(i);
+			mapping.properties[i] = pd;
+			Method writeMethod = pd.getWriteMethod();
+			if (writeMethod != null && isDirectlyWritable(pd.getPropertyType())) {
+				mapping.writeHandles[i] = createWriteHandle(writeMethod);
+			}
+		}
+		return mapping;
+	}
+
+	/**
+	 * Determine whether values for the given target type may bypass the
+	 * BeanWrapper, i.e. whether the target type is a simple value type and
+	 * neither custom BeanWrapper initialization nor a custom ConversionService
+	 * could apply to a value of that exact type.
+	 * @param targetType the type of the property or constructor parameter
+	 * @see #isDirectlyAssignable
+	 */
+	boolean isDirectlyWritable(Class<?> targetType) {
+		if (!BeanUtils.isSimpleValueType(targetType)) {
+			return false;
+		}
+		ConversionService cs = getConversionService();
+		if (cs != null && cs != DefaultConversionService.getSharedInstance()) {
+			return false;
+		}
+		return !this.customBeanWrapperInitialization;
+	}
+
+	private boolean isInitBeanWrapperOverridden() {
+		Method initMethod = ReflectionUtils.findMethod(getClass(), "initBeanWrapper", BeanWrapper.class);
+		return (initMethod == null || initMethod.getDeclaringClass() != BeanPropertyRowMapper.class);
+	}
+
+	/**
+	 * Create a method handle for the given write method, adapted to
+	 * {@code (Object, Object)void} for an invocation with any column value.
+	 */
+	@Nullable
+	private static MethodHandle createWriteHandle(Method writeMethod) {
+		try {
+			ReflectionUtils.makeAccessible(writeMethod);
+			return MethodHandles.lookup().unreflect(writeMethod).asType(
+					MethodType.methodType(void.class, Object.class, Object.class));
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			// Not accessible: fall back to the BeanWrapper for this property
+			return null;
+		}
+	}
+
+	/**
+	 * Determine whether the given column value can be passed to a target of
+	 * the given type as-is, that is, whether it is {@code null} for a
+	 * non-primitive type or an instance of exactly the (boxed) target type.
+	 * @param value the column value
+	 * @param targetType the type of the property or constructor parameter
+	 * @see #isDirectlyWritable
+	 */
+	static boolean isDirectlyAssignable(@Nullable Object value, Class<?> targetType) {
+		return (value != null ? value.getClass() == ClassUtils.resolvePrimitiveIfNecessary(targetType) :
+				!targetType.isPrimitive());
+	}
+
+	private static void setPropertyValueDirectly(Object mappedObject, PropertyDescriptor pd,
+			MethodHandle writeHandle, @Nullable Object value) {
+
+		try {
+			writeHandle.invokeExact(mappedObject, value);
+		}
+		catch (Throwable ex) {
+			PropertyChangeEvent pce = new PropertyChangeEvent(mappedObject, pd.getName(), null, value);
+			throw new MethodInvocationException(pce, ex);
+		}
+	}
+
 	/**
 	 * Construct an instance of the mapped class for the current row.
 	 * @param rs the ResultSet to map (pre-initialized for the current row)
@@ -466,4 +600,155 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Callback for resolving a mapping for the given result set layout.
+	 * @param <M> the type of mapping
+	 */
+	@FunctionalInterface
+	interface MappingResolver<M> {
+
+		M resolve(ResultSet rs, ColumnLayout layout) throws SQLException;
+	}
+
+
+	/**
+	 * Cache of mappings per result set layout, remembering the mapping for the
+	 * {@code ResultSet} most recently mapped by the current thread: the meta-data
+	 * of a result set only needs to be read for its first row, with subsequent
+	 * rows of the same result set identified by reference, also when the row
+	 * mapper is shared between threads. Holds a bounded number of layouts,
+	 * evicting the least recently used one once {@link #MAX_CACHED_LAYOUTS}
+	 * is exceeded.
+	 * @param <M> the type of mapping
+	 */
+	static final class MappingCache<M> {
+
+		private final Map<ColumnLayout, M> mappings = Collections.synchronizedMap(
+				new LinkedHashMap<>(MAX_CACHED_LAYOUTS, 0.75f, true) {
+					@Override
+					protected boolean removeEldestEntry(Map.Entry<ColumnLayout, M> eldest) {
+						return size() > MAX_CACHED_LAYOUTS;
+					}
+				});
+
+		private volatile ThreadLocal<ResultSetMapping<M>> currentMapping = createCurrentMapping();
+
+		/**
+		 * Return the mapping for the given result set, resolving it on the first
+		 * row of a result set with a layout that has not been mapped before.
+		 */
+		M getMapping(ResultSet rs, MappingResolver<M> resolver) throws SQLException {
+			ThreadLocal<ResultSetMapping<M>> currentMapping = this.currentMapping;
+			ResultSetMapping<M> resultSetMapping = currentMapping.get();
+			if (resultSetMapping != null && resultSetMapping.resultSet().get() == rs) {
+				M mapping = resultSetMapping.mapping().get();
+				if (mapping != null) {
+					return mapping;
+				}
+			}
+			ColumnLayout layout = ColumnLayout.of(rs.getMetaData());
+			M mapping = this.mappings.get(layout);
+			if (mapping == null) {
+				mapping = resolver.resolve(rs, layout);
+				this.mappings.put(layout, mapping);
+			}
+			// Weakly referenced: not keeping the result set or the mapping around
+			// in the thread once the result set has been processed
+			currentMapping.set(new ResultSetMapping<>(new WeakReference<>(rs), new WeakReference<>(mapping)));
+			return mapping;
+		}
+
+		/**
+		 * Remove all cached mappings, including the current mapping of each thread.
+		 */
+		void clear() {
+			this.currentMapping = createCurrentMapping();
+			this.mappings.clear();
+		}
+
+		int size() {
+			return this.mappings.size();
+		}
+
+		private static <M> ThreadLocal<ResultSetMapping<M>> createCurrentMapping() {
+			return new NamedThreadLocal<>("Current ResultSet mapping");
+		}
+	}
+
+
+	private record ResultSetMapping<M>(WeakReference<ResultSet> resultSet, WeakReference<M> mapping) {
+	}
+
+
+	/**
+	 * The layout of a result set as exposed by its meta-data: column labels
+	 * and JDBC types. Used as a key for caching column mappings, independent
+	 * from specific {@code ResultSet} instances.
+	 */
+	static final class ColumnLayout {
+
+		final String[] columnNames;
+
+		final int[] columnTypes;
+
+		private final int hashCode;
+
+		private ColumnLayout(String[] columnNames, int[] columnTypes) {
+			this.columnNames = columnNames;
+			this.columnTypes = columnTypes;
+			this.hashCode = Arrays.hashCode(columnNames) * 31 + Arrays.hashCode(columnTypes);
+		}
+
+		static ColumnLayout of(ResultSetMetaData rsmd) throws SQLException {
+			int columnCount = rsmd.getColumnCount();
+			String[] columnNames = new String[columnCount];
+			int[] columnTypes = new int[columnCount];
+			for (int i = 0; i < columnCount; i++) {
+				columnNames[i] = JdbcUtils.lookupColumnName(rsmd, i + 1);
+				columnTypes[i] = rsmd.getColumnType(i + 1);
+			}
+			return new ColumnLayout(columnNames, columnTypes);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof ColumnLayout that &&
+					Arrays.equals(this.columnTypes, that.columnTypes) &&
+					Arrays.equals(this.columnNames, that.columnNames)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+
+	/**
+	 * Resolved mapping between the columns of a specific result set layout
+	 * and the corresponding bean properties, reused for all rows of that layout.
+	 */
+	private static final class ColumnMapping {
+
+		final int[] columnIndexes;
+
+		final String[] columnNames;
+
+		final PropertyDescriptor[] properties;
+
+		// Write method handles for properties that may be written without conversion
+		final MethodHandle[] writeHandles;
+
+		final boolean fullyPopulated;
+
+		ColumnMapping(int size, boolean fullyPopulated) {
+			this.columnIndexes = new int[size];
+			this.columnNames = new String[size];
+			this.properties = new PropertyDescriptor[size];
+			this.writeHandles = new MethodHandle[size];
+			this.fullyPopulated = fullyPopulated;
+		}
+	}
+
 }
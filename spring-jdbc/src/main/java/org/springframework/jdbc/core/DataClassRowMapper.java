@@ -69,6 +69,9 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 	@Nullable
 	private TypeDescriptor[] constructorParameterTypes;
 
+	/** Constructor argument mappings per result set layout. */
+	private final MappingCache<ArgumentMapping> argumentMappings = new MappingCache<>();
+
 
 	/**
 	 * Create a new {@code DataClassRowMapper} for bean-style configuration.
@@ -105,27 +108,25 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		}
 	}
 
+	@Override
+	void clearMappingCache() {
+		super.clearMappingCache();
+		this.argumentMappings.clear();
+	}
+
 	@Override
 	protected T constructMappedInstance(ResultSet rs, TypeConverter tc) throws SQLException  {
 		Assert.state(this.mappedConstructor != null, "Mapped constructor was not initialized");
 
 		Object[] args;
 		if (this.constructorParameterNames != null && this.constructorParameterTypes != null) {
+			ArgumentMapping mapping = this.argumentMappings.getMapping(rs, this::resolveArgumentMapping);
 			args = new Object[this.constructorParameterNames.length];
 			for (int i = 0; i < args.length; i++) {
-				String name = this.constructorParameterNames[i];
-				int index;
-				try {
-					// Try direct name match first
-					index = rs.findColumn(lowerCaseName(name));
-				}
-				catch (SQLException ex) {
-					// Try underscored name match instead
-					index = rs.findColumn(underscoreName(name));
-				}
 				TypeDescriptor td = this.constructorParameterTypes[i];
-				Object value = getColumnValue(rs, index, td.getType());
-				args[i] = tc.convertIfNecessary(value, td.getType(), td);
+				Object value = getColumnValue(rs, mapping.columnIndexes[i], td.getType());
+				args[i] = (mapping.directArguments[i] && isDirectlyAssignable(value, td.getType()) ? value :
+						tc.convertIfNecessary(value, td.getType(), td));
 			}
 		}
 		else {
@@ -135,6 +136,31 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		return BeanUtils.instantiateClass(this.mappedConstructor, args);
 	}
 
+	/**
+	 * Resolve the column indexes for the constructor parameters,
+	 * for all rows of result sets with the given layout.
+	 */
+	private ArgumentMapping resolveArgumentMapping(ResultSet rs, ColumnLayout layout) throws SQLException {
+		Assert.state(this.constructorParameterNames != null && this.constructorParameterTypes != null,
+				"Constructor parameters were not initialized");
+		ArgumentMapping mapping = new ArgumentMapping(this.constructorParameterNames.length);
+		for (int i = 0; i < this.constructorParameterNames.length; i++) {
+			String name = this.constructorParameterNames[i];
+			int index;
+			try {
+				// Try direct name match first
+				index = rs.findColumn(lowerCaseName(name));
+			}
+			catch (SQLException ex) {
+				// Try underscored name match instead
+				index = rs.findColumn(underscoreName(name));
+			}
+			mapping.columnIndexes[i] = index;
+			mapping.directArguments[i] = isDirectlyWritable(this.constructorParameterTypes[i].getType());
+		}
+		return mapping;
+	}
+
 
 	/**
 	 * Static factory method to create a new {@code DataClassRowMapper}.
@@ -161,4 +187,21 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Resolved column indexes for the constructor parameters,
+	 * reused for all rows of a specific result set layout.
+	 */
+	private static final class ArgumentMapping {
+
+		final int[] columnIndexes;
+
+		final boolean[] directArguments;
+
+		ArgumentMapping(int size) {
+			this.columnIndexes = new int[size];
+			this.directArguments = new boolean[size];
+		}
+	}
+
 }
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * The default implementation of {@link JdbcClient},
+ * as created by the static factory methods.
+ *
+ * @author agent
+ * @since 6.1
+ * @see JdbcClient#create(DataSource)
+ * @see JdbcClient#create(JdbcOperations)
+ * @see JdbcClient#create(NamedParameterJdbcOperations)
+ */
+final class DefaultJdbcClient implements JdbcClient {
+
+	/**
+	 * Maximum number of entries for the parsed SQL cache shared between
+	 * {@code JdbcClient} instances: 4096.
+	 */
+	static final int SHARED_CACHE_LIMIT = 4096;
+
+	/** Cache of original SQL String to ParsedSql representation, shared between instances. */
+	private static final ConcurrentLruCache<String, ParsedSql> sharedParsedSqlCache =
+			new ConcurrentLruCache<>(SHARED_CACHE_LIMIT, NamedParameterUtils::parseSqlStatement);
+
+
+	private final JdbcOperations classicOps;
+
+	private final NamedParameterJdbcOperations namedParamOps;
+
+	private final Map<Class<?>, RowMapper<?>> rowMapperCache = new ConcurrentReferenceHashMap<>();
+
+
+	public DefaultJdbcClient(DataSource dataSource) {
+		this(new JdbcTemplate(dataSource));
+	}
+
+	public DefaultJdbcClient(JdbcOperations jdbcTemplate) {
+		Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
+		this.classicOps = jdbcTemplate;
+		this.namedParamOps = new SharedCacheNamedParameterJdbcTemplate(jdbcTemplate);
+	}
+
+	public DefaultJdbcClient(NamedParameterJdbcOperations jdbcTemplate) {
+		Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
+		this.classicOps = jdbcTemplate.getJdbcOperations();
+		this.namedParamOps = jdbcTemplate;
+	}
+
+
+	@Override
+	public StatementSpec sql(String sql) {
+		return new DefaultStatementSpec(sql);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> RowMapper<T> getRowMapper(Class<T> mappedClass) {
+		return (RowMapper<T>) this.rowMapperCache.computeIfAbsent(mappedClass, key ->
+				BeanUtils.isSimpleProperty(mappedClass) ? new SingleColumnRowMapper<>(mappedClass) :
+						new DataClassRowMapper<>(mappedClass));
+	}
+
+
+	private class DefaultStatementSpec implements StatementSpec {
+
+		private final String sql;
+
+		private final List<Object> indexedParams = new ArrayList<>();
+
+		private final MapSqlParameterSource namedParams = new MapSqlParameterSource();
+
+		private SqlParameterSource namedParamSource = this.namedParams;
+
+		public DefaultStatementSpec(String sql) {
+			Assert.hasText(sql, "SQL must not be empty");
+			this.sql = sql;
+		}
+
+		@Override
+		public StatementSpec param(@Nullable Object value) {
+			this.indexedParams.add(value);
+			return this;
+		}
+
+		@Override
+		public StatementSpec param(int jdbcIndex, @Nullable Object value) {
+			if (jdbcIndex < 1) {
+				throw new IllegalArgumentException("Invalid JDBC index: needs to start at 1");
+			}
+			int index = jdbcIndex - 1;
+			int size = this.indexedParams.size();
+			if (index < size) {
+				this.indexedParams.set(index, value);
+			}
+			else {
+				for (int i = size; i < index; i++) {
+					this.indexedParams.add(null);
+				}
+				this.indexedParams.add(value);
+			}
+			return this;
+		}
+
+		@Override
+		public StatementSpec param(int jdbcIndex, @Nullable Object value, int sqlType) {
+			return param(jdbcIndex, new SqlParameterValue(sqlType, value));
+		}
+
+		@Override
+		public StatementSpec param(String name, @Nullable Object value) {
+			this.namedParams.addValue(name, value);
+			return this;
+		}
+
+		@Override
+		public StatementSpec param(String name, @Nullable Object value, int sqlType) {
+			this.namedParams.addValue(name, value, sqlType);
+			return this;
+		}
+
+		@Override
+		public StatementSpec params(Object... values) {
+			this.indexedParams.addAll(Arrays.asList(values));
+			return this;
+		}
+
+		@Override
+		public StatementSpec params(List<?> values) {
+			this.indexedParams.addAll(values);
+			return this;
+		}
+
+		@Override
+		public StatementSpec params(Map<String, ?> paramMap) {
+			this.namedParams.addValues(paramMap);
+			return this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public StatementSpec paramSource(Object namedParamObject) {
+			this.namedParamSource = (namedParamObject instanceof Map<?, ?> map ?
+					new MapSqlParameterSource((Map<String, ?>) map) :
+					new BeanPropertySqlParameterSource(namedParamObject));
+			return this;
+		}
+
+		@Override
+		public StatementSpec paramSource(SqlParameterSource namedParamSource) {
+			this.namedParamSource = namedParamSource;
+			return this;
+		}
+
+		@Override
+		public ResultQuerySpec query() {
+			return (useNamedParams() ?
+					new NamedParamResultQuerySpec() :
+					new IndexedParamResultQuerySpec());
+		}
+
+		@Override
+		public <T> MappedQuerySpec<T> query(Class<T> mappedClass) {
+			return query(getRowMapper(mappedClass));
+		}
+
+		@Override
+		public <T> MappedQuerySpec<T> query(RowMapper<T> rowMapper) {
+			return (useNamedParams() ?
+					new NamedParamMappedQuerySpec<>(rowMapper) :
+					new IndexedParamMappedQuerySpec<>(rowMapper));
+		}
+
+		@Override
+		public void query(RowCallbackHandler rch) {
+			if (useNamedParams()) {
+				namedParamOps.query(this.sql, this.namedParamSource, rch);
+			}
+			else {
+				classicOps.query(this.sql, newPreparedStatementSetter(), rch);
+			}
+		}
+
+		@Override
+		@Nullable
+		public <T> T query(ResultSetExtractor<T> rse) {
+			return (useNamedParams() ?
+					namedParamOps.query(this.sql, this.namedParamSource, rse) :
+					classicOps.query(this.sql, newPreparedStatementSetter(), rse));
+		}
+
+		@Override
+		public int update() {
+			return (useNamedParams() ?
+					namedParamOps.update(this.sql, this.namedParamSource) :
+					classicOps.update(this.sql, newPreparedStatementSetter()));
+		}
+
+		@Override
+		public int update(KeyHolder generatedKeyHolder) {
+			return (useNamedParams() ?
+					namedParamOps.update(this.sql, this.namedParamSource, generatedKeyHolder) :
+					classicOps.update(getPreparedStatementCreatorFactory(null)
+							.newPreparedStatementCreator(this.indexedParams), generatedKeyHolder));
+		}
+
+		@Override
+		public int update(KeyHolder generatedKeyHolder, String... keyColumnNames) {
+			return (useNamedParams() ?
+					namedParamOps.update(this.sql, this.namedParamSource, generatedKeyHolder, keyColumnNames) :
+					classicOps.update(getPreparedStatementCreatorFactory(keyColumnNames)
+							.newPreparedStatementCreator(this.indexedParams), generatedKeyHolder));
+		}
+
+		private boolean useNamedParams() {
+			boolean hasNamedParams = (!this.namedParams.getValues().isEmpty() || this.namedParamSource != this.namedParams);
+			if (hasNamedParams && !this.indexedParams.isEmpty()) {
+				throw new IllegalStateException("Configure either named or indexed parameters with JdbcClient");
+			}
+			return hasNamedParams;
+		}
+
+		private ArgumentPreparedStatementSetter newPreparedStatementSetter() {
+			return new ArgumentPreparedStatementSetter(this.indexedParams.toArray());
+		}
+
+		private PreparedStatementCreatorFactory getPreparedStatementCreatorFactory(@Nullable String[] keyColumnNames) {
+			// Anonymous declared parameters of unknown type: SqlParameterValues carry their own type
+			int[] sqlTypes = new int[this.indexedParams.size()];
+			Arrays.fill(sqlTypes, SqlTypeValue.TYPE_UNKNOWN);
+			PreparedStatementCreatorFactory pscf = new PreparedStatementCreatorFactory(this.sql, sqlTypes);
+			if (keyColumnNames != null) {
+				pscf.setGeneratedKeysColumnNames(keyColumnNames);
+			}
+			else {
+				pscf.setReturnGeneratedKeys(true);
+			}
+			return pscf;
+		}
+
+
+		private class IndexedParamResultQuerySpec implements ResultQuerySpec {
+
+			@Override
+			public SqlRowSet rowSet() {
+				return classicOps.queryForRowSet(sql, indexedParams.toArray());
+			}
+
+			@Override
+			public List<Map<String, Object>> listOfRows() {
+				return classicOps.queryForList(sql, indexedParams.toArray());
+			}
+
+			@Override
+			public Map<String, Object> singleRow() {
+				return classicOps.queryForMap(sql, indexedParams.toArray());
+			}
+
+			@Override
+			public List<Object> singleColumn() {
+				return classicOps.queryForList(sql, Object.class, indexedParams.toArray());
+			}
+		}
+
+
+		private class NamedParamResultQuerySpec implements ResultQuerySpec {
+
+			@Override
+			public SqlRowSet rowSet() {
+				return namedParamOps.queryForRowSet(sql, namedParamSource);
+			}
+
+			@Override
+			public List<Map<String, Object>> listOfRows() {
+				return namedParamOps.queryForList(sql, namedParamSource);
+			}
+
+			@Override
+			public Map<String, Object> singleRow() {
+				return namedParamOps.queryForMap(sql, namedParamSource);
+			}
+
+			@Override
+			public List<Object> singleColumn() {
+				return namedParamOps.queryForList(sql, namedParamSource, Object.class);
+			}
+		}
+
+
+		private class IndexedParamMappedQuerySpec<T> implements MappedQuerySpec<T> {
+
+			private final RowMapper<T> rowMapper;
+
+			public IndexedParamMappedQuerySpec(RowMapper<T> rowMapper) {
+				this.rowMapper = rowMapper;
+			}
+
+			@Override
+			public Stream<T> stream() {
+				return classicOps.queryForStream(sql, newPreparedStatementSetter(), this.rowMapper);
+			}
+
+			@Override
+			public List<T> list() {
+				return classicOps.query(sql, newPreparedStatementSetter(), this.rowMapper);
+			}
+		}
+
+
+		private class NamedParamMappedQuerySpec<T> implements MappedQuerySpec<T> {
+
+			private final RowMapper<T> rowMapper;
+
+			public NamedParamMappedQuerySpec(RowMapper<T> rowMapper) {
+				this.rowMapper = rowMapper;
+			}
+
+			@Override
+			public Stream<T> stream() {
+				return namedParamOps.queryForStream(sql, namedParamSource, this.rowMapper);
+			}
+
+			@Override
+			public List<T> list() {
+				return namedParamOps.query(sql, namedParamSource, this.rowMapper);
+			}
+		}
+	}
+
+
+	/**
+	 * {@link NamedParameterJdbcTemplate} variant which parses SQL statements
+	 * through the cache shared between {@code JdbcClient} instances, rather
+	 * than through a cache of its own.
+	 */
+	private static class SharedCacheNamedParameterJdbcTemplate extends NamedParameterJdbcTemplate {
+
+		public SharedCacheNamedParameterJdbcTemplate(JdbcOperations classicJdbcTemplate) {
+			super(classicJdbcTemplate);
+		}
+
+		@Override
+		protected ParsedSql getParsedSql(String sql) {
+			return sharedParsedSqlCache.get(sql);
+		}
+	}
+
+}
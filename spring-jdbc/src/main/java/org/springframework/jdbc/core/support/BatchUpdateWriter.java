@@ -0,0 +1,432 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.support;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Streaming batch writer which applies a parameterized SQL statement to an
+ * unbounded {@link Iterator} or {@link Stream} of items, flushing the pending
+ * batch whenever a row count or an estimated byte size threshold is reached.
+ *
+ * <p>In contrast to
+ * {@link JdbcOperations#batchUpdate(String, java.util.Collection, int, ParameterizedPreparedStatementSetter)},
+ * the items do not have to be materialized upfront and the update counts of
+ * the individual batches (chunks) are not retained: they are reported to an
+ * optional {@link ProgressListener} per chunk and summed up in the returned
+ * {@link Result}. At most {@code concurrency} chunks are held in memory at
+ * any given time.
+ *
+ * <p>By default, all chunks are executed one after the other on the calling
+ * thread, participating in any transaction that the given {@link JdbcOperations}
+ * instance is bound to. With a {@link #setConcurrency concurrency} higher than 1,
+ * chunks are executed in parallel on the configured {@link TaskExecutor}, each
+ * chunk on its own connection obtained from the underlying {@code DataSource}:
+ * this is only appropriate for non-transactional bulk loads where every chunk
+ * may be committed independently.
+ *
+ * @author agent
+ * @since 6.1
+ * @param <T> the item type
+ * @see JdbcOperations#batchUpdate(String, BatchPreparedStatementSetter)
+ */
+public class BatchUpdateWriter<T> {
+
+	/**
+	 * Default number of items per chunk: 1000.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final JdbcOperations jdbcOperations;
+
+	private final String sql;
+
+	private final ParameterizedPreparedStatementSetter<T> pss;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private long maxBatchBytes = -1;
+
+	@Nullable
+	private ToLongFunction<? super T> itemSizeEstimator;
+
+	private int concurrency = 1;
+
+	@Nullable
+	private TaskExecutor taskExecutor;
+
+	private boolean continueOnError = false;
+
+	@Nullable
+	private ProgressListener progressListener;
+
+
+	/**
+	 * Create a new {@code BatchUpdateWriter} for the given statement.
+	 * @param jdbcOperations the JdbcOperations instance to execute batches with
+	 * @param sql the SQL statement to execute for every item
+	 * @param pss the setter which applies the values of an item to the statement
+	 */
+	public BatchUpdateWriter(JdbcOperations jdbcOperations, String sql, ParameterizedPreparedStatementSetter<T> pss) {
+		Assert.notNull(jdbcOperations, "JdbcOperations must not be null");
+		Assert.hasText(sql, "SQL must not be empty");
+		Assert.notNull(pss, "ParameterizedPreparedStatementSetter must not be null");
+		this.jdbcOperations = jdbcOperations;
+		this.sql = sql;
+		this.pss = pss;
+	}
+
+
+	/**
+	 * Set the maximum number of items per chunk.
+	 * <p>Default is {@link #DEFAULT_BATCH_SIZE}.
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the maximum estimated size of a chunk in bytes, flushing the pending
+	 * chunk as soon as the sum of the estimated item sizes reaches this threshold.
+	 * <p>Default is -1, indicating no size limit. Only applies in combination
+	 * with an {@link #setItemSizeEstimator item size estimator}.
+	 */
+	public void setMaxBatchBytes(long maxBatchBytes) {
+		this.maxBatchBytes = maxBatchBytes;
+	}
+
+	/**
+	 * Set a function estimating the size of an item in bytes,
+	 * to be checked against the {@link #setMaxBatchBytes} threshold.
+	 */
+	public void setItemSizeEstimator(@Nullable ToLongFunction<? super T> itemSizeEstimator) {
+		this.itemSizeEstimator = itemSizeEstimator;
+	}
+
+	/**
+	 * Set the maximum number of chunks to execute in parallel,
+	 * each on its own connection.
+	 * <p>Default is 1, executing all chunks on the calling thread.
+	 * @see #setTaskExecutor
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than 0");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Set the {@link TaskExecutor} to execute chunks on if the
+	 * {@link #setConcurrency concurrency} is higher than 1.
+	 * <p>Default is a {@link SimpleAsyncTaskExecutor}.
+	 */
+	public void setTaskExecutor(@Nullable TaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set whether to continue with further chunks after a chunk failed.
+	 * <p>Default is {@code false}, stopping after the first failed chunk
+	 * (once any chunks in progress have completed) and rethrowing its
+	 * exception. Switch this flag to {@code true} in order to process all
+	 * items, with failed chunks reported to the {@link ProgressListener}
+	 * and counted in the returned {@link Result}.
+	 */
+	public void setContinueOnError(boolean continueOnError) {
+		this.continueOnError = continueOnError;
+	}
+
+	/**
+	 * Set a listener to be notified about the completion or failure of each chunk.
+	 * <p>With a {@link #setConcurrency concurrency} higher than 1, the listener
+	 * may get invoked concurrently and out of chunk order.
+	 */
+	public void setProgressListener(@Nullable ProgressListener progressListener) {
+		this.progressListener = progressListener;
+	}
+
+
+	/**
+	 * Write all items of the given stream, closing the stream when done.
+	 * @param items the items to write
+	 * @return the result summary
+	 * @throws DataAccessException in case of a failed chunk,
+	 * unless {@link #setContinueOnError continueOnError} has been set
+	 */
+	public Result write(Stream<? extends T> items) throws DataAccessException {
+		try (items) {
+			return write(items.iterator());
+		}
+	}
+
+	/**
+	 * Write all items of the given iterator.
+	 * @param items the items to write
+	 * @return the result summary
+	 * @throws DataAccessException in case of a failed chunk,
+	 * unless {@link #setContinueOnError continueOnError} has been set
+	 */
+	public Result write(Iterator<? extends T> items) throws DataAccessException {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing SQL batch update [" + this.sql + "] with a batch size of " + this.batchSize +
+					(this.concurrency > 1 ? " and a concurrency of " + this.concurrency : ""));
+		}
+		WriteState state = new WriteState();
+		Throwable writeFailure = null;
+		try {
+			List<T> chunk = new ArrayList<>();
+			long chunkBytes = 0;
+			int chunkIndex = 0;
+			while (items.hasNext() && state.failure.get() == null) {
+				T item = items.next();
+				chunk.add(item);
+				if (this.itemSizeEstimator != null) {
+					chunkBytes += this.itemSizeEstimator.applyAsLong(item);
+				}
+				if (chunk.size() >= this.batchSize ||
+						(this.maxBatchBytes > 0 && chunkBytes >= this.maxBatchBytes)) {
+					submitChunk(chunkIndex++, chunk, state);
+					chunk = new ArrayList<>();
+					chunkBytes = 0;
+				}
+			}
+			if (!chunk.isEmpty() && state.failure.get() == null) {
+				submitChunk(chunkIndex, chunk, state);
+			}
+		}
+		catch (Throwable ex) {
+			writeFailure = ex;
+			throw ex;
+		}
+		finally {
+			try {
+				state.awaitCompletion();
+			}
+			catch (IllegalStateException ex) {
+				if (writeFailure == null) {
+					throw ex;
+				}
+				writeFailure.addSuppressed(ex);
+			}
+			finally {
+				if (this.pss instanceof ParameterDisposer parameterDisposer) {
+					parameterDisposer.cleanupParameters();
+				}
+			}
+		}
+
+		Throwable failure = state.failure.get();
+		if (failure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (failure instanceof Error error) {
+			throw error;
+		}
+		return new Result(state.itemCount.get(), state.chunkCount.get(),
+				state.rowsAffected.get(), state.failedChunkCount.get());
+	}
+
+	private void submitChunk(int chunkIndex, List<T> chunk, WriteState state) {
+		TaskExecutor taskExecutor = state.taskExecutor;
+		if (taskExecutor == null) {
+			executeChunk(chunkIndex, chunk, state);
+			return;
+		}
+		state.acquirePermit();
+		try {
+			taskExecutor.execute(() -> {
+				try {
+					executeChunk(chunkIndex, chunk, state);
+				}
+				finally {
+					state.permits.release();
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			state.permits.release();
+			throw ex;
+		}
+	}
+
+	private void executeChunk(int chunkIndex, List<T> chunk, WriteState state) {
+		try {
+			doExecuteChunk(chunkIndex, chunk, state);
+		}
+		catch (Throwable ex) {
+			// Unexpected failure, e.g. from the ParameterizedPreparedStatementSetter
+			// or the ProgressListener: to be rethrown by the calling thread.
+			state.failure.compareAndSet(null, ex);
+		}
+	}
+
+	private void doExecuteChunk(int chunkIndex, List<T> chunk, WriteState state) {
+		if (logger.isTraceEnabled()) {
+			logger.trace("Sending SQL batch update #" + (chunkIndex + 1) + " with " + chunk.size() + " items");
+		}
+		try {
+			int[] updateCounts = this.jdbcOperations.batchUpdate(this.sql, new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					pss.setValues(ps, chunk.get(i));
+				}
+				@Override
+				public int getBatchSize() {
+					return chunk.size();
+				}
+			});
+			long rows = 0;
+			for (int updateCount : updateCounts) {
+				if (updateCount > 0) {
+					rows += updateCount;
+				}
+			}
+			state.itemCount.addAndGet(chunk.size());
+			state.chunkCount.incrementAndGet();
+			state.rowsAffected.addAndGet(rows);
+			if (this.progressListener != null) {
+				this.progressListener.chunkCompleted(chunkIndex, chunk.size(), updateCounts);
+			}
+		}
+		catch (DataAccessException ex) {
+			state.itemCount.addAndGet(chunk.size());
+			state.chunkCount.incrementAndGet();
+			state.failedChunkCount.incrementAndGet();
+			if (this.progressListener != null) {
+				this.progressListener.chunkFailed(chunkIndex, chunk.size(), ex);
+			}
+			if (!this.continueOnError) {
+				state.failure.compareAndSet(null, ex);
+			}
+			else if (logger.isDebugEnabled()) {
+				logger.debug("SQL batch update #" + (chunkIndex + 1) + " failed - continuing", ex);
+			}
+		}
+	}
+
+
+	/**
+	 * Callback interface for progress notifications per chunk.
+	 */
+	public interface ProgressListener {
+
+		/**
+		 * Notification that a chunk has been executed successfully.
+		 * @param chunkIndex the index of the chunk, starting from 0
+		 * @param itemCount the number of items in the chunk
+		 * @param updateCounts the update counts for the items in the chunk
+		 * (may also contain special JDBC-defined negative values such as
+		 * {@link java.sql.Statement#SUCCESS_NO_INFO})
+		 */
+		default void chunkCompleted(int chunkIndex, int itemCount, int[] updateCounts) {
+		}
+
+		/**
+		 * Notification that the execution of a chunk failed.
+		 * @param chunkIndex the index of the chunk, starting from 0
+		 * @param itemCount the number of items in the chunk
+		 * @param ex the exception thrown for the chunk
+		 */
+		default void chunkFailed(int chunkIndex, int itemCount, DataAccessException ex) {
+		}
+	}
+
+
+	/**
+	 * Summary of a {@link #write} operation.
+	 * @param itemCount the total number of items processed
+	 * @param chunkCount the total number of chunks executed
+	 * @param rowsAffected the total number of rows reported as affected
+	 * (not including special JDBC-defined negative update counts)
+	 * @param failedChunkCount the number of failed chunks
+	 */
+	public record Result(long itemCount, long chunkCount, long rowsAffected, long failedChunkCount) {
+	}
+
+
+	/**
+	 * Mutable state for a single {@link #write} operation.
+	 */
+	private class WriteState {
+
+		final AtomicLong itemCount = new AtomicLong();
+
+		final AtomicLong chunkCount = new AtomicLong();
+
+		final AtomicLong rowsAffected = new AtomicLong();
+
+		final AtomicLong failedChunkCount = new AtomicLong();
+
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		final Semaphore permits = new Semaphore(concurrency);
+
+		@Nullable
+		final TaskExecutor taskExecutor = (concurrency == 1 ? null :
+				BatchUpdateWriter.this.taskExecutor != null ? BatchUpdateWriter.this.taskExecutor :
+						new SimpleAsyncTaskExecutor("batch-update-"));
+
+		void acquirePermit() {
+			try {
+				this.permits.acquire();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for SQL batch update to complete", ex);
+			}
+		}
+
+		void awaitCompletion() {
+			if (this.taskExecutor != null) {
+				try {
+					this.permits.acquire(concurrency);
+					this.permits.release(concurrency);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while waiting for SQL batch update to complete", ex);
+				}
+			}
+		}
+	}
+
+}
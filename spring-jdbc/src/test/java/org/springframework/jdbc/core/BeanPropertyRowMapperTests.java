@@ -16,11 +16,24 @@
 
 package org.springframework.jdbc.core;
 
+import java.beans.PropertyEditorSupport;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.jdbc.core.test.ConcretePerson;
 import org.springframework.jdbc.core.test.DatePerson;
@@ -32,6 +45,9 @@ import org.springframework.jdbc.core.test.SpacePerson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link BeanPropertyRowMapper}.
@@ -79,6 +95,116 @@ class BeanPropertyRowMapperTests extends AbstractRowMapperTests {
 		mock.verifyClosed();
 	}
 
+	@Test
+	void mappingWithCustomBeanWrapperInitialization() throws Exception {
+		Mock mock = new Mock();
+		BeanPropertyRowMapper<ConcretePerson> mapper = new BeanPropertyRowMapper<>(ConcretePerson.class) {
+			@Override
+			protected void initBeanWrapper(BeanWrapper bw) {
+				super.initBeanWrapper(bw);
+				bw.registerCustomEditor(String.class, new PropertyEditorSupport() {
+					@Override
+					public void setValue(Object value) {
+						super.setValue(value instanceof String str ? str.toUpperCase() : value);
+					}
+				});
+			}
+		};
+		ConcretePerson person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people", mapper);
+		assertThat(person.getName()).isEqualTo("BUBBA");
+		assertThat(person.getAge()).isEqualTo(22L);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void mappingWithConversionServiceChangedAfterFirstQuery() throws Exception {
+		BeanPropertyRowMapper<ConcretePerson> mapper = new BeanPropertyRowMapper<>(ConcretePerson.class);
+		ConcretePerson person = new Mock().getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people", mapper);
+		verifyPerson(person);
+
+		DefaultConversionService conversionService = new DefaultConversionService();
+		conversionService.addConverter(String.class, String.class, String::toUpperCase);
+		mapper.setConversionService(conversionService);
+		person = new Mock().getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people", mapper);
+		assertThat(person.getName()).isEqualTo("BUBBA");
+		assertThat(person.getAge()).isEqualTo(22L);
+	}
+
+	@Test
+	void mappingWithSameMapperForDifferentColumnLayouts() throws Exception {
+		BeanPropertyRowMapper<ConcretePerson> mapper = new BeanPropertyRowMapper<>(ConcretePerson.class);
+		ConcretePerson person = new Mock().getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people", mapper);
+		verifyPerson(person);
+
+		person = new Mock(MockType.THREE).getJdbcTemplate().queryForObject(
+				"select last_name as \"Last Name\", age, birth_date, balance from people", mapper);
+		assertThat(person.getName()).isNull();
+		assertThat(person.getAge()).isEqualTo(22L);
+	}
+
+	@Test
+	void mappingMultipleRowsReadsMetaDataOnce() throws Exception {
+		Mock mock = new Mock();
+		given(mock.getResultSet().next()).willReturn(true, true, true, false);
+		List<ConcretePerson> people = mock.getJdbcTemplate().query(
+				"select name, age, birth_date, balance from people",
+				new BeanPropertyRowMapper<>(ConcretePerson.class));
+		assertThat(people).hasSize(3);
+		people.forEach(this::verifyPerson);
+		verify(mock.getResultSet()).getMetaData();
+		mock.verifyClosed();
+	}
+
+	@Test
+	void mappingCacheEvictsLeastRecentlyUsedLayout() throws Exception {
+		BeanPropertyRowMapper.MappingCache<String> cache = new BeanPropertyRowMapper.MappingCache<>();
+		AtomicInteger resolutions = new AtomicInteger();
+		BeanPropertyRowMapper.MappingResolver<String> resolver = (rs, layout) -> {
+			resolutions.incrementAndGet();
+			return layout.columnNames[0];
+		};
+
+		assertThat(cache.getMapping(resultSetWithColumn("column0"), resolver)).isEqualTo("column0");
+		for (int i = 1; i <= BeanPropertyRowMapper.MAX_CACHED_LAYOUTS; i++) {
+			assertThat(cache.getMapping(resultSetWithColumn("column" + i), resolver)).isEqualTo("column" + i);
+			// Keep the first layout recently used
+			cache.getMapping(resultSetWithColumn("column0"), resolver);
+		}
+		assertThat(cache.size()).isEqualTo(BeanPropertyRowMapper.MAX_CACHED_LAYOUTS);
+		assertThat(resolutions.get()).isEqualTo(BeanPropertyRowMapper.MAX_CACHED_LAYOUTS + 1);
+
+		// Least recently used layout got evicted, first layout still cached
+		cache.getMapping(resultSetWithColumn("column1"), resolver);
+		assertThat(resolutions.get()).isEqualTo(BeanPropertyRowMapper.MAX_CACHED_LAYOUTS + 2);
+		cache.getMapping(resultSetWithColumn("column0"), resolver);
+		assertThat(resolutions.get()).isEqualTo(BeanPropertyRowMapper.MAX_CACHED_LAYOUTS + 2);
+	}
+
+	@Test
+	void mappingCacheReadsMetaDataOncePerResultSetAcrossThreads() throws Exception {
+		BeanPropertyRowMapper.MappingCache<String> cache = new BeanPropertyRowMapper.MappingCache<>();
+		BeanPropertyRowMapper.MappingResolver<String> resolver = (rs, layout) -> layout.columnNames[0];
+		ResultSet rs1 = resultSetWithColumn("column1");
+		ResultSet rs2 = resultSetWithColumn("column2");
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<?> rows1 = executor.submit(() -> mapRowsInLockstep(cache, rs1, "column1", resolver, barrier));
+			Future<?> rows2 = executor.submit(() -> mapRowsInLockstep(cache, rs2, "column2", resolver, barrier));
+			rows1.get();
+			rows2.get();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		verify(rs1).getMetaData();
+		verify(rs2).getMetaData();
+	}
+
 	@Test
 	void mappingWithNoUnpopulatedFieldsFound() throws Exception {
 		Mock mock = new Mock();
@@ -179,4 +305,24 @@ class BeanPropertyRowMapperTests extends AbstractRowMapperTests {
 		assertThat(mapper.underscoreName(input)).isEqualTo(expected);
 	}
 
+	private static Void mapRowsInLockstep(BeanPropertyRowMapper.MappingCache<String> cache, ResultSet rs,
+			String column, BeanPropertyRowMapper.MappingResolver<String> resolver, CyclicBarrier barrier)
+			throws Exception {
+
+		for (int row = 0; row < 10; row++) {
+			assertThat(cache.getMapping(rs, resolver)).isEqualTo(column);
+			barrier.await();
+		}
+		return null;
+	}
+
+	private static ResultSet resultSetWithColumn(String column) throws SQLException {
+		ResultSetMetaData resultSetMetaData = mock();
+		given(resultSetMetaData.getColumnCount()).willReturn(1);
+		given(resultSetMetaData.getColumnLabel(1)).willReturn(column);
+		ResultSet resultSet = mock();
+		given(resultSet.getMetaData()).willReturn(resultSetMetaData);
+		return resultSet;
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springframework.jdbc.core;
 
 import java.math.BigDecimal;
 import java.util.Date;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +27,9 @@ import org.springframework.jdbc.core.test.ConstructorPersonWithGenerics;
 import org.springframework.jdbc.core.test.ConstructorPersonWithSetters;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link DataClassRowMapper}.
@@ -47,6 +51,20 @@ class DataClassRowMapperTests extends AbstractRowMapperTests {
 		mock.verifyClosed();
 	}
 
+	@Test
+	void staticQueryWithDataClassForMultipleRows() throws Exception {
+		Mock mock = new Mock();
+		given(mock.getResultSet().next()).willReturn(true, true, true, false);
+		List<ConstructorPerson> people = mock.getJdbcTemplate().query(
+				"select name, age, birth_date, balance from people",
+				new DataClassRowMapper<>(ConstructorPerson.class));
+		assertThat(people).hasSize(3);
+		people.forEach(this::verifyPerson);
+		// Once for constructor arguments, once for remaining properties
+		verify(mock.getResultSet(), times(2)).getMetaData();
+		mock.verifyClosed();
+	}
+
 	@Test
 	void staticQueryWithDataClassAndGenerics() throws Exception {
 		Mock mock = new Mock();
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link JdbcClient} query and update execution.
+ *
+ * @author agent
+ */
+class JdbcClientQueryTests {
+
+	private Connection connection = mock();
+
+	private DataSource dataSource = mock();
+
+	private PreparedStatement preparedStatement = mock();
+
+	private ResultSet resultSet = mock();
+
+	private ResultSetMetaData resultSetMetaData = mock();
+
+	private JdbcClient client = JdbcClient.create(dataSource);
+
+
+	@BeforeEach
+	void setup() throws Exception {
+		given(dataSource.getConnection()).willReturn(connection);
+		given(resultSetMetaData.getColumnCount()).willReturn(1);
+		given(resultSetMetaData.getColumnLabel(1)).willReturn("age");
+		given(connection.prepareStatement(anyString())).willReturn(preparedStatement);
+		given(preparedStatement.executeQuery()).willReturn(resultSet);
+		given(resultSet.getMetaData()).willReturn(resultSetMetaData);
+	}
+
+
+	@Test
+	void queryForListWithIndexedParam() throws Exception {
+		given(resultSet.next()).willReturn(true, true, false);
+		given(resultSet.getObject(1)).willReturn(11, 12);
+
+		List<Map<String, Object>> li = client.sql("SELECT AGE FROM CUSTMR WHERE ID < ?")
+				.param(1, 3).query().listOfRows();
+
+		assertThat(li).hasSize(2);
+		assertThat(li.get(0)).containsEntry("age", 11);
+		assertThat(li.get(1)).containsEntry("age", 12);
+		verify(connection).prepareStatement("SELECT AGE FROM CUSTMR WHERE ID < ?");
+		verify(preparedStatement).setObject(1, 3);
+		verifyClose();
+	}
+
+	@Test
+	void queryForListWithNamedParam() throws Exception {
+		given(resultSet.next()).willReturn(true, true, false);
+		given(resultSet.getObject(1)).willReturn(11, 12);
+
+		List<Map<String, Object>> li = client.sql("SELECT AGE FROM CUSTMR WHERE ID < :id")
+				.param("id", 3).query().listOfRows();
+
+		assertThat(li).hasSize(2);
+		assertThat(li.get(0)).containsEntry("age", 11);
+		assertThat(li.get(1)).containsEntry("age", 12);
+		verify(connection).prepareStatement("SELECT AGE FROM CUSTMR WHERE ID < ?");
+		verify(preparedStatement).setObject(1, 3);
+		verifyClose();
+	}
+
+	@Test
+	void querySingleValueWithIndexedParam() throws Exception {
+		given(resultSet.next()).willReturn(true, false);
+		given(resultSet.getObject(1)).willReturn(22);
+
+		Object value = client.sql("SELECT AGE FROM CUSTMR WHERE ID = ?")
+				.param(3).query().singleValue();
+
+		assertThat(value).isEqualTo(22);
+		verify(preparedStatement).setObject(1, 3);
+		verifyClose();
+	}
+
+	@Test
+	void queryForMappedClassWithNamedParam() throws Exception {
+		given(resultSet.next()).willReturn(true, false);
+		given(resultSet.getInt(1)).willReturn(22);
+
+		Integer value = client.sql("SELECT AGE FROM CUSTMR WHERE ID = :id")
+				.param("id", 3).query(Integer.class).single();
+
+		assertThat(value).isEqualTo(22);
+		verify(connection).prepareStatement("SELECT AGE FROM CUSTMR WHERE ID = ?");
+		verify(preparedStatement).setObject(1, 3);
+		verifyClose();
+	}
+
+	@Test
+	void queryOptionalWithNoResult() throws Exception {
+		given(resultSet.next()).willReturn(false);
+
+		Optional<Integer> value = client.sql("SELECT AGE FROM CUSTMR WHERE ID = ?")
+				.param(3).query((rs, rowNum) -> rs.getInt(1)).optional();
+
+		assertThat(value).isEmpty();
+		verifyClose();
+	}
+
+	@Test
+	void querySingleWithTooManyResults() throws Exception {
+		given(resultSet.next()).willReturn(true, true, false);
+		given(resultSet.getInt(1)).willReturn(11, 12);
+
+		assertThatExceptionOfType(IncorrectResultSizeDataAccessException.class).isThrownBy(() ->
+				client.sql("SELECT AGE FROM CUSTMR WHERE ID < ?")
+						.param(3).query((rs, rowNum) -> rs.getInt(1)).single());
+		verifyClose();
+	}
+
+	@Test
+	void queryForStreamWithNamedParam() throws Exception {
+		given(resultSet.next()).willReturn(true, true, false);
+		given(resultSet.getInt(1)).willReturn(11, 12);
+
+		try (Stream<Integer> stream = client.sql("SELECT AGE FROM CUSTMR WHERE ID < :id")
+				.param("id", 3).query((rs, rowNum) -> rs.getInt(1)).stream()) {
+			assertThat(stream).containsExactly(11, 12);
+		}
+		verify(preparedStatement).setObject(1, 3);
+		verifyClose();
+	}
+
+	@Test
+	void updateWithIndexedParams() throws Exception {
+		given(preparedStatement.executeUpdate()).willReturn(1);
+
+		int rowsAffected = client.sql("UPDATE CUSTMR SET NAME = ? WHERE ID = ?")
+				.params("rod", 3).update();
+
+		assertThat(rowsAffected).isEqualTo(1);
+		verify(preparedStatement).setString(1, "rod");
+		verify(preparedStatement).setObject(2, 3);
+		verify(preparedStatement).close();
+		verify(connection).close();
+	}
+
+	@Test
+	void updateWithNamedParamMap() throws Exception {
+		given(preparedStatement.executeUpdate()).willReturn(1);
+
+		int rowsAffected = client.sql("UPDATE CUSTMR SET NAME = :name WHERE ID = :id")
+				.params(Map.of("name", "rod", "id", 3)).update();
+
+		assertThat(rowsAffected).isEqualTo(1);
+		verify(connection).prepareStatement("UPDATE CUSTMR SET NAME = ? WHERE ID = ?");
+		verify(preparedStatement).setString(1, "rod");
+		verify(preparedStatement).setObject(2, 3);
+		verify(preparedStatement).close();
+		verify(connection).close();
+	}
+
+	@Test
+	void mixedIndexedAndNamedParams() {
+		assertThatIllegalStateException().isThrownBy(() ->
+				client.sql("SELECT AGE FROM CUSTMR WHERE ID = :id AND NAME = ?")
+						.param("id", 3).param("rod").update());
+	}
+
+
+	private void verifyClose() throws Exception {
+		verify(resultSet).close();
+		verify(preparedStatement).close();
+		verify(connection).close();
+	}
+
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.support;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link BatchUpdateWriter}.
+ *
+ * @author agent
+ */
+class BatchUpdateWriterTests {
+
+	private static final String SQL = "INSERT INTO NOVEL (ID) VALUES (?)";
+
+	private final JdbcOperations jdbcOperations = mock();
+
+	private final PreparedStatement preparedStatement = mock();
+
+	private final List<List<Integer>> chunks = new CopyOnWriteArrayList<>();
+
+
+	private void givenBatchUpdate(int failingChunkSize) {
+		given(this.jdbcOperations.batchUpdate(eq(SQL), any(BatchPreparedStatementSetter.class))).willAnswer(invocation -> {
+			BatchPreparedStatementSetter pss = invocation.getArgument(1);
+			List<Integer> chunk = new ArrayList<>();
+			for (int i = 0; i < pss.getBatchSize(); i++) {
+				pss.setValues(this.preparedStatement, i);
+				chunk.add(i);
+			}
+			this.chunks.add(chunk);
+			if (chunk.size() == failingChunkSize) {
+				throw new DataIntegrityViolationException("Duplicate key");
+			}
+			int[] updateCounts = new int[chunk.size()];
+			Arrays.fill(updateCounts, 1);
+			return updateCounts;
+		});
+	}
+
+
+	@Test
+	void writeInChunksOfBatchSize() throws Exception {
+		givenBatchUpdate(-1);
+		List<Integer> completed = new ArrayList<>();
+		BatchUpdateWriter<Integer> writer = new BatchUpdateWriter<>(this.jdbcOperations, SQL,
+				(ps, item) -> ps.setInt(1, item));
+		writer.setBatchSize(4);
+		writer.setProgressListener(new BatchUpdateWriter.ProgressListener() {
+			@Override
+			public void chunkCompleted(int chunkIndex, int itemCount, int[] updateCounts) {
+				completed.add(itemCount);
+			}
+		});
+
+		BatchUpdateWriter.Result result = writer.write(IntStream.range(0, 10).boxed());
+
+		assertThat(result.itemCount()).isEqualTo(10);
+		assertThat(result.chunkCount()).isEqualTo(3);
+		assertThat(result.rowsAffected()).isEqualTo(10);
+		assertThat(result.failedChunkCount()).isZero();
+		assertThat(completed).containsExactly(4, 4, 2);
+		verify(this.preparedStatement).setInt(1, 0);
+		verify(this.preparedStatement).setInt(1, 9);
+	}
+
+	@Test
+	void writeInChunksOfMaxBatchBytes() {
+		givenBatchUpdate(-1);
+		BatchUpdateWriter<Integer> writer = new BatchUpdateWriter<>(this.jdbcOperations, SQL,
+				(ps, item) -> ps.setInt(1, item));
+		writer.setMaxBatchBytes(24);
+		writer.setItemSizeEstimator(item -> 8);
+
+		BatchUpdateWriter.Result result = writer.write(IntStream.range(0, 7).boxed().iterator());
+
+		assertThat(result.itemCount()).isEqualTo(7);
+		assertThat(result.chunkCount()).isEqualTo(3);
+		assertThat(this.chunks).extracting(List::size).containsExactly(3, 3, 1);
+	}
+
+	@Test
+	void writeStopsAfterFailedChunk() {
+		givenBatchUpdate(2);
+		BatchUpdateWriter<Integer> writer = new BatchUpdateWriter<>(this.jdbcOperations, SQL,
+				(ps, item) -> ps.setInt(1, item));
+		writer.setBatchSize(2);
+
+		assertThatExceptionOfType(DataIntegrityViolationException.class).isThrownBy(() ->
+				writer.write(IntStream.range(0, 10).boxed()));
+		assertThat(this.chunks).hasSize(1);
+	}
+
+	@Test
+	void writeContinuesOnError() {
+		givenBatchUpdate(3);
+		List<Integer> failed = new ArrayList<>();
+		BatchUpdateWriter<Integer> writer = new BatchUpdateWriter<>(this.jdbcOperations, SQL,
+				(ps, item) -> ps.setInt(1, item));
+		writer.setBatchSize(3);
+		writer.setContinueOnError(true);
+		writer.setProgressListener(new BatchUpdateWriter.ProgressListener() {
+			@Override
+			public void chunkFailed(int chunkIndex, int itemCount, DataAccessException ex) {
+				failed.add(chunkIndex);
+			}
+		});
+
+		BatchUpdateWriter.Result result = writer.write(IntStream.range(0, 7).boxed());
+
+		assertThat(result.itemCount()).isEqualTo(7);
+		assertThat(result.chunkCount()).isEqualTo(3);
+		assertThat(result.rowsAffected()).isEqualTo(1);
+		assertThat(result.failedChunkCount()).isEqualTo(2);
+		assertThat(failed).containsExactly(0, 1);
+	}
+
+	@Test
+	void writeWithConcurrency() {
+		givenBatchUpdate(-1);
+		BatchUpdateWriter<Integer> writer = new BatchUpdateWriter<>(this.jdbcOperations, SQL,
+				(ps, item) -> ps.setInt(1, item));
+		writer.setBatchSize(10);
+		writer.setConcurrency(4);
+		writer.setTaskExecutor(new SimpleAsyncTaskExecutor());
+
+		BatchUpdateWriter.Result result = writer.write(IntStream.range(0, 1000).boxed());
+
+		assertThat(result.itemCount()).isEqualTo(1000);
+		assertThat(result.chunkCount()).isEqualTo(100);
+		assertThat(result.rowsAffected()).isEqualTo(1000);
+		assertThat(this.chunks).hasSize(100);
+	}
+
+	@Test
+	void writeWithConcurrencyRethrowsUnexpectedException() {
+		givenBatchUpdate(-1);
+		BatchUpdateWriter<Integer> writer = new BatchUpdateWriter<>(this.jdbcOperations, SQL,
+				(ps, item) -> {
+					if (item == 42) {
+						throw new IllegalArgumentException("Unsupported item");
+					}
+					ps.setInt(1, item);
+				});
+		writer.setBatchSize(10);
+		writer.setConcurrency(4);
+		writer.setTaskExecutor(new SimpleAsyncTaskExecutor());
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> writer.write(IntStream.range(0, 1000).boxed()))
+				.withMessage("Unsupported item");
+	}
+
+	@Test
+	void writeKeepsOriginalExceptionWhenInterruptedWhileAwaitingCompletion() {
+		givenBatchUpdate(-1);
+		BatchUpdateWriter<Integer> writer = new BatchUpdateWriter<>(this.jdbcOperations, SQL,
+				(ps, item) -> ps.setInt(1, item));
+		writer.setBatchSize(10);
+		writer.setConcurrency(2);
+		writer.setTaskExecutor(task -> {
+			Thread.currentThread().interrupt();
+			throw new TaskRejectedException("Rejected");
+		});
+
+		try {
+			assertThatExceptionOfType(TaskRejectedException.class)
+					.isThrownBy(() -> writer.write(IntStream.range(0, 100).boxed()))
+					.satisfies(ex -> assertThat(ex.getSuppressed())
+							.singleElement().isInstanceOf(IllegalStateException.class));
+		}
+		finally {
+			Thread.interrupted();
+		}
+	}
+
+}
@@ -30,10 +30,10 @@ import java.util.function.BiConsumer;
 
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypedValue;
 import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.standard.SpelExpressionCache;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.lang.Nullable;
@@ -82,7 +82,7 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	private volatile boolean selectorHeaderInUse;
 
-	private final ExpressionParser expressionParser = new SpelExpressionParser();
+	private final SpelExpressionParser expressionParser = new SpelExpressionParser();
 
 	private final DestinationCache destinationCache = new DestinationCache();
 
@@ -169,7 +169,7 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		}
 		Expression expression = null;
 		try {
-			expression = this.expressionParser.parseExpression(selector);
+			expression = SpelExpressionCache.getSharedInstance().getExpression(this.expressionParser, selector);
 			this.selectorHeaderInUse = true;
 			if (logger.isTraceEnabled()) {
 				logger.trace("Subscription selector: [" + selector + "]");
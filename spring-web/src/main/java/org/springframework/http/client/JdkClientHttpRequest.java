@@ -0,0 +1,313 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.lang.Nullable;
+import org.springframework.util.FastByteArrayOutputStream;
+import org.springframework.util.StreamUtils;
+
+/**
+ * {@link ClientHttpRequest} implementation based on the Java {@link HttpClient}.
+ * Supports a buffered body via {@link #getBody()} as well as a streaming body
+ * via {@link #setBody}.
+ *
+ * <p>Created via the {@link JdkClientHttpRequestFactory}.
+ *
+ * @author agent
+ * @since 6.1
+ */
+class JdkClientHttpRequest extends AbstractClientHttpRequest implements StreamingHttpOutputMessage {
+
+	/**
+	 * Headers which are restricted by the {@code HttpClient} and
+	 * therefore need to be skipped when building the native request.
+	 */
+	private static final Set<String> DISALLOWED_HEADERS;
+
+	static {
+		Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		headers.add("connection");
+		headers.add("content-length");
+		headers.add("expect");
+		headers.add("host");
+		headers.add("upgrade");
+		DISALLOWED_HEADERS = headers;
+	}
+
+	private static final int CHUNK_SIZE = 8192;
+
+
+	private final HttpClient httpClient;
+
+	private final HttpMethod method;
+
+	private final URI uri;
+
+	private final Executor executor;
+
+	@Nullable
+	private final Duration timeout;
+
+	@Nullable
+	private FastByteArrayOutputStream bufferedBody;
+
+	@Nullable
+	private Body streamingBody;
+
+
+	public JdkClientHttpRequest(HttpClient httpClient, URI uri, HttpMethod method, Executor executor,
+			@Nullable Duration readTimeout) {
+
+		this.httpClient = httpClient;
+		this.uri = uri;
+		this.method = method;
+		this.executor = executor;
+		this.timeout = readTimeout;
+	}
+
+
+	@Override
+	public HttpMethod getMethod() {
+		return this.method;
+	}
+
+	@Override
+	public URI getURI() {
+		return this.uri;
+	}
+
+	@Override
+	public void setBody(Body body) {
+		assertNotExecuted();
+		this.streamingBody = body;
+	}
+
+	@Override
+	protected OutputStream getBodyInternal(HttpHeaders headers) {
+		FastByteArrayOutputStream bufferedBody = this.bufferedBody;
+		if (bufferedBody == null) {
+			bufferedBody = new FastByteArrayOutputStream(1024);
+			this.bufferedBody = bufferedBody;
+		}
+		return bufferedBody;
+	}
+
+	@Override
+	protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+		HttpRequest request = buildRequest(headers);
+		try {
+			HttpResponse<InputStream> response =
+					this.httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+			return new JdkClientHttpResponse(response);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Request was interrupted: " + ex.getMessage(), ex);
+		}
+	}
+
+	private HttpRequest buildRequest(HttpHeaders headers) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder().uri(this.uri);
+		if (this.timeout != null) {
+			builder.timeout(this.timeout);
+		}
+		headers.forEach((headerName, headerValues) -> {
+			if (!DISALLOWED_HEADERS.contains(headerName)) {
+				for (String headerValue : headerValues) {
+					builder.header(headerName, headerValue);
+				}
+			}
+		});
+		builder.method(this.method.name(), bodyPublisher(headers));
+		return builder.build();
+	}
+
+	private HttpRequest.BodyPublisher bodyPublisher(HttpHeaders headers) {
+		if (this.streamingBody != null) {
+			long contentLength = headers.getContentLength();
+			if (contentLength == 0) {
+				return HttpRequest.BodyPublishers.noBody();
+			}
+			Flow.Publisher<ByteBuffer> publisher = new OutputStreamPublisher(this.streamingBody, this.executor);
+			return (contentLength > 0 ?
+					HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength) :
+					HttpRequest.BodyPublishers.fromPublisher(publisher));
+		}
+		else if (this.bufferedBody != null && this.bufferedBody.size() > 0) {
+			return HttpRequest.BodyPublishers.ofByteArray(this.bufferedBody.toByteArrayUnsafe());
+		}
+		else {
+			return HttpRequest.BodyPublishers.noBody();
+		}
+	}
+
+
+	/**
+	 * {@link Flow.Publisher} that writes a streaming {@link Body} to an
+	 * {@link OutputStream} on the given executor, emitting each written chunk
+	 * as a {@link ByteBuffer} in line with the subscriber's demand. The writing
+	 * thread blocks while there is no demand, providing backpressure without
+	 * buffering the entire body in memory.
+	 */
+	private static class OutputStreamPublisher implements Flow.Publisher<ByteBuffer> {
+
+		private final Body body;
+
+		private final Executor executor;
+
+		public OutputStreamPublisher(Body body, Executor executor) {
+			this.body = body;
+			this.executor = executor;
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+			OutputStreamSubscription subscription = new OutputStreamSubscription(subscriber);
+			subscriber.onSubscribe(subscription);
+			try {
+				this.executor.execute(() -> subscription.writeBody(this.body));
+			}
+			catch (Throwable ex) {
+				subscriber.onError(ex);
+			}
+		}
+	}
+
+
+	private static class OutputStreamSubscription extends OutputStream implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super ByteBuffer> subscriber;
+
+		private final Object monitor = new Object();
+
+		private long demand;
+
+		private boolean cancelled;
+
+		@Nullable
+		private Throwable demandError;
+
+		public OutputStreamSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		public void writeBody(Body body) {
+			try (OutputStream outputStream = new BufferedOutputStream(this, CHUNK_SIZE)) {
+				body.writeTo(StreamUtils.nonClosing(outputStream));
+			}
+			catch (Throwable ex) {
+				Throwable demandError;
+				synchronized (this.monitor) {
+					demandError = this.demandError;
+				}
+				if (demandError != null) {
+					this.subscriber.onError(demandError);
+				}
+				else if (!isCancelled()) {
+					this.subscriber.onError(ex);
+				}
+				return;
+			}
+			if (!isCancelled()) {
+				this.subscriber.onComplete();
+			}
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] {(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return;
+			}
+			awaitDemand();
+			ByteBuffer buffer = ByteBuffer.allocate(len);
+			buffer.put(b, off, len);
+			buffer.flip();
+			this.subscriber.onNext(buffer);
+		}
+
+		private void awaitDemand() throws IOException {
+			synchronized (this.monitor) {
+				while (this.demand <= 0 && !this.cancelled) {
+					try {
+						this.monitor.wait();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						throw new IOException("Interrupted while waiting for request body demand", ex);
+					}
+				}
+				if (this.cancelled) {
+					throw new IOException("Request body subscription has been cancelled");
+				}
+				this.demand--;
+			}
+		}
+
+		private boolean isCancelled() {
+			synchronized (this.monitor) {
+				return this.cancelled;
+			}
+		}
+
+		@Override
+		public void request(long n) {
+			synchronized (this.monitor) {
+				if (n <= 0) {
+					// Signalled from the writing thread, see writeBody
+					this.demandError = new IllegalArgumentException("Demand must be positive: " + n);
+					this.cancelled = true;
+					this.monitor.notifyAll();
+					return;
+				}
+				this.demand = (this.demand + n < 0 ? Long.MAX_VALUE : this.demand + n);
+				this.monitor.notifyAll();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			synchronized (this.monitor) {
+				this.cancelled = true;
+				this.monitor.notifyAll();
+			}
+		}
+	}
+
+}
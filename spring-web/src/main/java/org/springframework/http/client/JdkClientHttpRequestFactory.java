@@ -0,0 +1,117 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ClientHttpRequestFactory} implementation based on the Java
+ * {@link HttpClient}, supporting HTTP/2 with connection reuse as
+ * provided by the underlying client.
+ *
+ * <p>Request bodies can be buffered through {@link ClientHttpRequest#getBody()}
+ * or streamed through {@link org.springframework.http.StreamingHttpOutputMessage#setBody},
+ * in which case the body is written on the given {@link Executor} while
+ * the {@code HttpClient} consumes it. On JDK 21, consider an executor
+ * based on virtual threads, e.g. a {@link SimpleAsyncTaskExecutor} with
+ * {@link SimpleAsyncTaskExecutor#setVirtualThreads virtualThreads} enabled.
+ *
+ * @author agent
+ * @since 6.1
+ * @see java.net.http.HttpClient
+ * @see org.springframework.http.client.reactive.JdkClientHttpConnector
+ */
+public class JdkClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+	private final HttpClient httpClient;
+
+	private final Executor executor;
+
+	@Nullable
+	private Duration readTimeout;
+
+
+	/**
+	 * Create a new instance of the {@code JdkClientHttpRequestFactory}
+	 * with a default {@link HttpClient}.
+	 */
+	public JdkClientHttpRequestFactory() {
+		this(HttpClient.newHttpClient());
+	}
+
+	/**
+	 * Create a new instance of the {@code JdkClientHttpRequestFactory} based on
+	 * the given {@link HttpClient}. Streaming request bodies are written on
+	 * the executor of the client, if configured, or on a new thread otherwise.
+	 * @param httpClient the client to base on
+	 */
+	public JdkClientHttpRequestFactory(HttpClient httpClient) {
+		Assert.notNull(httpClient, "HttpClient is required");
+		this.httpClient = httpClient;
+		this.executor = httpClient.executor().orElseGet(() -> new SimpleAsyncTaskExecutor("JdkClientHttpRequest-"));
+	}
+
+	/**
+	 * Create a new instance of the {@code JdkClientHttpRequestFactory} based on
+	 * the given {@link HttpClient} and {@link Executor}.
+	 * @param httpClient the client to base on
+	 * @param executor the executor to use for writing streaming request bodies
+	 */
+	public JdkClientHttpRequestFactory(HttpClient httpClient, Executor executor) {
+		Assert.notNull(httpClient, "HttpClient is required");
+		Assert.notNull(executor, "Executor must not be null");
+		this.httpClient = httpClient;
+		this.executor = executor;
+	}
+
+
+	/**
+	 * Set the underlying {@code HttpClient}'s read timeout (in milliseconds),
+	 * applied as the timeout of each {@link java.net.http.HttpRequest}.
+	 * <p>Default is the system's default timeout.
+	 * @see java.net.http.HttpRequest.Builder#timeout
+	 */
+	public void setReadTimeout(int readTimeout) {
+		this.readTimeout = Duration.ofMillis(readTimeout);
+	}
+
+	/**
+	 * Set the underlying {@code HttpClient}'s read timeout as a {@code Duration},
+	 * applied as the timeout of each {@link java.net.http.HttpRequest}.
+	 * <p>Default is the system's default timeout.
+	 * @see java.net.http.HttpRequest.Builder#timeout
+	 */
+	public void setReadTimeout(Duration readTimeout) {
+		Assert.notNull(readTimeout, "ReadTimeout must not be null");
+		this.readTimeout = readTimeout;
+	}
+
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+		return new JdkClientHttpRequest(this.httpClient, uri, httpMethod, this.executor, this.readTimeout);
+	}
+
+}
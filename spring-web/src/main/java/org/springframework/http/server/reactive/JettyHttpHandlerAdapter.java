@@ -34,6 +34,7 @@ import org.eclipse.jetty.server.Response;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.MultiValueMap;
@@ -42,6 +43,9 @@ import org.springframework.util.MultiValueMap;
  * {@link ServletHttpHandlerAdapter} extension that uses Jetty APIs for writing
  * to the response with {@link ByteBuffer}.
  *
+ * <p>As of 6.1, responses also implement {@link ZeroCopyHttpOutputMessage},
+ * writing memory-mapped file regions to the response.
+ *
  * @author Violeta Georgieva
  * @author Brian Clozel
  * @author Juergen Hoeller
@@ -124,7 +128,8 @@ public class JettyHttpHandlerAdapter extends ServletHttpHandlerAdapter {
 	}
 
 
-	private static final class Jetty11ServerHttpResponse extends ServletServerHttpResponse {
+	private static final class Jetty11ServerHttpResponse extends ServletServerHttpResponse
+			implements ZeroCopyHttpOutputMessage {
 
 		Jetty11ServerHttpResponse(HttpServletResponse response, AsyncContext asyncContext,
 				DataBufferFactory bufferFactory, int bufferSize, ServletServerHttpRequest request)
@@ -175,7 +180,8 @@ public class JettyHttpHandlerAdapter extends ServletHttpHandlerAdapter {
 	}
 
 
-	private static final class Jetty12ServerHttpResponse extends ServletServerHttpResponse {
+	private static final class Jetty12ServerHttpResponse extends ServletServerHttpResponse
+			implements ZeroCopyHttpOutputMessage {
 
 		Jetty12ServerHttpResponse(HttpServletResponse response, AsyncContext asyncContext,
 				DataBufferFactory bufferFactory, int bufferSize, ServletServerHttpRequest request)
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,7 +18,11 @@ package org.springframework.http.server.reactive;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 import jakarta.servlet.AsyncContext;
@@ -29,6 +33,8 @@ import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletResponse;
 import org.reactivestreams.Processor;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
@@ -43,12 +49,24 @@ import org.springframework.util.Assert;
 /**
  * Adapt {@link ServerHttpResponse} to the Servlet {@link HttpServletResponse}.
  *
+ * <p>As of 6.1, file regions can be written through {@link #writeWith(Path, long, long)},
+ * handing memory-mapped {@link ByteBuffer} views of the file to
+ * {@link #writeToOutputStream}. Container-specific subclasses which write
+ * {@code ByteBuffer}s without copying them expose this as
+ * {@link org.springframework.http.ZeroCopyHttpOutputMessage}.
+ *
  * @author Rossen Stoyanchev
  * @author Juergen Hoeller
  * @since 5.0
  */
 class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 
+	/**
+	 * Maximum size of a file region to map into memory at once.
+	 */
+	private static final long MAX_MAPPED_REGION_SIZE = 4 * 1024 * 1024;
+
+
 	private final HttpServletResponse response;
 
 	private final ServletOutputStream outputStream;
@@ -61,6 +79,9 @@ class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 	@Nullable
 	private volatile ResponseBodyProcessor bodyProcessor;
 
+	@Nullable
+	private volatile FileRegionTransfer fileRegionTransfer;
+
 	private volatile boolean flushOnNext;
 
 	private final ServletServerHttpRequest request;
@@ -190,6 +211,34 @@ class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 		return this.asyncListener;
 	}
 
+	/**
+	 * Write the given region of a file to the response, suspending whenever the
+	 * {@code ServletOutputStream} is not ready. The region is mapped into memory
+	 * and written in chunks of the configured buffer size.
+	 * <p>Matches {@link org.springframework.http.ZeroCopyHttpOutputMessage#writeWith(Path, long, long)}
+	 * for subclasses implementing that interface.
+	 * @param file the file to transfer
+	 * @param position the position within the file from which the transfer is to begin
+	 * @param count the number of bytes to be transferred
+	 * @return a publisher that indicates completion or error
+	 * @since 6.1
+	 */
+	public Mono<Void> writeWith(Path file, long position, long count) {
+		return doCommit(() ->
+				Mono.create(sink -> {
+					try {
+						FileChannel source = FileChannel.open(file, StandardOpenOption.READ);
+						FileRegionTransfer transfer = new FileRegionTransfer(source, position, count, sink);
+						sink.onDispose(transfer::dispose);
+						this.fileRegionTransfer = transfer;
+						transfer.transfer();
+					}
+					catch (IOException ex) {
+						sink.error(ex);
+					}
+				}));
+	}
+
 	@Override
 	protected Processor<? super Publisher<? extends DataBuffer>, Void> createBodyFlushProcessor() {
 		ResponseBodyFlushProcessor processor = new ResponseBodyFlushProcessor();
@@ -263,6 +312,10 @@ class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 		}
 
 		public void handleError(Throwable ex) {
+			FileRegionTransfer transfer = fileRegionTransfer;
+			if (transfer != null) {
+				transfer.error(ex);
+			}
 			ResponseBodyFlushProcessor flushProcessor = bodyFlushProcessor;
 			ResponseBodyProcessor processor = bodyProcessor;
 			if (flushProcessor != null) {
@@ -301,6 +354,11 @@ class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 
 		@Override
 		public void onWritePossible() {
+			FileRegionTransfer transfer = fileRegionTransfer;
+			if (transfer != null) {
+				transfer.transfer();
+				return;
+			}
 			ResponseBodyProcessor processor = bodyProcessor;
 			if (processor != null) {
 				processor.onWritePossible();
@@ -412,4 +470,117 @@ class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 		}
 	}
 
+
+
+	/**
+	 * Transfers a file region to the response, suspending whenever the
+	 * {@code ServletOutputStream} is not ready and resuming from
+	 * {@link WriteListener#onWritePossible()}.
+	 * <p>The initial transfer on the subscribing thread may overlap with
+	 * {@code onWritePossible} on a container thread: all transfer state is
+	 * therefore guarded by the monitor of this object.
+	 */
+	private class FileRegionTransfer {
+
+		private final FileChannel source;
+
+		private final MonoSink<Void> sink;
+
+		private long position;
+
+		private long count;
+
+		@Nullable
+		private ByteBuffer region;
+
+		private boolean done;
+
+
+		public FileRegionTransfer(FileChannel source, long position, long count, MonoSink<Void> sink) {
+			this.source = source;
+			this.sink = sink;
+			this.position = position;
+			this.count = count;
+		}
+
+		public void transfer() {
+			IOException failure = null;
+			synchronized (this) {
+				if (this.done) {
+					return;
+				}
+				try {
+					this.count = Math.min(this.count, Math.max(this.source.size() - this.position, 0));
+					while (this.count > 0) {
+						if (!isWritePossible()) {
+							return;
+						}
+						ByteBuffer region = this.region;
+						if (region == null || !region.hasRemaining()) {
+							long size = Math.min(this.count, MAX_MAPPED_REGION_SIZE);
+							region = this.source.map(FileChannel.MapMode.READ_ONLY, this.position, size);
+							this.region = region;
+						}
+						int length = Math.min(region.remaining(), bufferSize);
+						ByteBuffer chunk = region.slice(region.position(), length);
+						DataBuffer dataBuffer = bufferFactory().wrap(chunk);
+						int written;
+						try {
+							written = writeToOutputStream(dataBuffer);
+						}
+						finally {
+							DataBufferUtils.release(dataBuffer);
+						}
+						region.position(region.position() + written);
+						this.position += written;
+						this.count -= written;
+						if (written < length) {
+							return;
+						}
+					}
+					complete();
+				}
+				catch (IOException ex) {
+					complete();
+					failure = ex;
+				}
+			}
+			if (failure != null) {
+				this.sink.error(failure);
+			}
+			else {
+				this.sink.success();
+			}
+		}
+
+		public void error(Throwable ex) {
+			synchronized (this) {
+				if (this.done) {
+					return;
+				}
+				complete();
+			}
+			this.sink.error(ex);
+		}
+
+		public void dispose() {
+			synchronized (this) {
+				complete();
+			}
+			try {
+				this.source.close();
+			}
+			catch (IOException ignore) {
+			}
+		}
+
+		private void complete() {
+			this.done = true;
+			this.region = null;
+			if (fileRegionTransfer == this) {
+				fileRegionTransfer = null;
+			}
+		}
+	}
+
 }
@@ -37,6 +37,7 @@ import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
 import org.springframework.util.Assert;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ReflectionUtils;
@@ -45,6 +46,9 @@ import org.springframework.util.ReflectionUtils;
  * {@link ServletHttpHandlerAdapter} extension that uses Tomcat APIs for reading
  * from the request and writing to the response with {@link ByteBuffer}.
  *
+ * <p>As of 6.1, responses also implement {@link ZeroCopyHttpOutputMessage},
+ * writing memory-mapped file regions to the response.
+ *
  * @author Violeta Georgieva
  * @author Brian Clozel
  * @author Sam Brannen
@@ -162,7 +166,8 @@ public class TomcatHttpHandlerAdapter extends ServletHttpHandlerAdapter {
 	}
 
 
-	private static final class TomcatServerHttpResponse extends ServletServerHttpResponse {
+	private static final class TomcatServerHttpResponse extends ServletServerHttpResponse
+			implements ZeroCopyHttpOutputMessage {
 
 		private static final Field COYOTE_RESPONSE_FIELD;
 
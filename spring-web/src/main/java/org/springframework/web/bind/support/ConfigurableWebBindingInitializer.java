@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,6 +44,8 @@ public class ConfigurableWebBindingInitializer implements WebBindingInitializer
 
 	private boolean directFieldAccess = false;
 
+	private boolean compiledPropertyAccess = false;
+
 	@Nullable
 	private MessageCodesResolver messageCodesResolver;
 
@@ -99,6 +101,25 @@ public class ConfigurableWebBindingInitializer implements WebBindingInitializer
 		return this.directFieldAccess;
 	}
 
+	/**
+	 * Set whether a binder should access bean properties through accessor functions
+	 * compiled once per bean class, rather than through reflective invocation.
+	 * <p>Default is "false". Only applies to bean property access.
+	 * @since 6.1
+	 * @see org.springframework.validation.DataBinder#setCompiledPropertyAccess
+	 */
+	public void setCompiledPropertyAccess(boolean compiledPropertyAccess) {
+		this.compiledPropertyAccess = compiledPropertyAccess;
+	}
+
+	/**
+	 * Return whether a binder accesses bean properties through compiled accessor functions.
+	 * @since 6.1
+	 */
+	public boolean isCompiledPropertyAccess() {
+		return this.compiledPropertyAccess;
+	}
+
 	/**
 	 * Set the strategy to use for resolving errors into message codes.
 	 * Applies the given strategy to all data binders used by this controller.
@@ -194,6 +215,7 @@ public class ConfigurableWebBindingInitializer implements WebBindingInitializer
 	@Override
 	public void initBinder(WebDataBinder binder) {
 		binder.setAutoGrowNestedPaths(this.autoGrowNestedPaths);
+		binder.setCompiledPropertyAccess(this.compiledPropertyAccess);
 		if (this.directFieldAccess) {
 			binder.initDirectFieldAccess();
 		}
@@ -0,0 +1,667 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.client;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInitializer;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.http.client.observation.ClientHttpObservationDocumentation;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.util.UriBuilder;
+import org.springframework.web.util.UriBuilderFactory;
+
+/**
+ * Default implementation of {@link RestClient}.
+ *
+ * @author agent
+ * @since 6.1
+ * @see RestClient#create()
+ * @see RestClient#create(String)
+ * @see RestClient#builder()
+ */
+final class DefaultRestClient implements RestClient {
+
+	private static final Log logger = LogFactory.getLog(DefaultRestClient.class);
+
+	private static final ClientRequestObservationConvention DEFAULT_OBSERVATION_CONVENTION =
+			new DefaultClientRequestObservationConvention();
+
+
+	private final ClientHttpRequestFactory clientRequestFactory;
+
+	@Nullable
+	private volatile ClientHttpRequestFactory interceptingRequestFactory;
+
+	@Nullable
+	private final List<ClientHttpRequestInitializer> initializers;
+
+	@Nullable
+	private final List<ClientHttpRequestInterceptor> interceptors;
+
+	private final UriBuilderFactory uriBuilderFactory;
+
+	@Nullable
+	private final HttpHeaders defaultHeaders;
+
+	@Nullable
+	private final Consumer<RequestHeadersSpec<?>> defaultRequest;
+
+	private final List<StatusHandler> defaultStatusHandlers;
+
+	private final StatusHandler defaultStatusHandler;
+
+	private final List<HttpMessageConverter<?>> messageConverters;
+
+	private final ObservationRegistry observationRegistry;
+
+	@Nullable
+	private final ClientRequestObservationConvention observationConvention;
+
+	private final DefaultRestClientBuilder builder;
+
+
+	DefaultRestClient(ClientHttpRequestFactory clientRequestFactory,
+			@Nullable List<ClientHttpRequestInterceptor> interceptors,
+			@Nullable List<ClientHttpRequestInitializer> initializers,
+			UriBuilderFactory uriBuilderFactory,
+			@Nullable HttpHeaders defaultHeaders,
+			@Nullable Consumer<RequestHeadersSpec<?>> defaultRequest,
+			@Nullable List<StatusHandler> statusHandlers,
+			List<HttpMessageConverter<?>> messageConverters,
+			ObservationRegistry observationRegistry,
+			@Nullable ClientRequestObservationConvention observationConvention,
+			DefaultRestClientBuilder builder) {
+
+		this.clientRequestFactory = clientRequestFactory;
+		this.initializers = initializers;
+		this.interceptors = interceptors;
+		this.uriBuilderFactory = uriBuilderFactory;
+		this.defaultHeaders = defaultHeaders;
+		this.defaultRequest = defaultRequest;
+		this.defaultStatusHandlers = (statusHandlers != null ? new ArrayList<>(statusHandlers) : new ArrayList<>());
+		this.defaultStatusHandler = StatusHandler.defaultHandler(messageConverters);
+		this.messageConverters = messageConverters;
+		this.observationRegistry = observationRegistry;
+		this.observationConvention = observationConvention;
+		this.builder = builder;
+	}
+
+
+	@Override
+	public RequestHeadersUriSpec<?> get() {
+		return methodInternal(HttpMethod.GET);
+	}
+
+	@Override
+	public RequestHeadersUriSpec<?> head() {
+		return methodInternal(HttpMethod.HEAD);
+	}
+
+	@Override
+	public RequestBodyUriSpec post() {
+		return methodInternal(HttpMethod.POST);
+	}
+
+	@Override
+	public RequestBodyUriSpec put() {
+		return methodInternal(HttpMethod.PUT);
+	}
+
+	@Override
+	public RequestBodyUriSpec patch() {
+		return methodInternal(HttpMethod.PATCH);
+	}
+
+	@Override
+	public RequestHeadersUriSpec<?> delete() {
+		return methodInternal(HttpMethod.DELETE);
+	}
+
+	@Override
+	public RequestHeadersUriSpec<?> options() {
+		return methodInternal(HttpMethod.OPTIONS);
+	}
+
+	@Override
+	public RequestBodyUriSpec method(HttpMethod method) {
+		Assert.notNull(method, "HttpMethod must not be null");
+		return methodInternal(method);
+	}
+
+	private RequestBodyUriSpec methodInternal(HttpMethod httpMethod) {
+		DefaultRequestBodyUriSpec spec = new DefaultRequestBodyUriSpec(httpMethod);
+		if (this.defaultRequest != null) {
+			this.defaultRequest.accept(spec);
+		}
+		return spec;
+	}
+
+	@Override
+	public Builder mutate() {
+		return new DefaultRestClientBuilder(this.builder);
+	}
+
+
+	private ClientHttpRequestFactory getRequestFactory() {
+		if (CollectionUtils.isEmpty(this.interceptors)) {
+			return this.clientRequestFactory;
+		}
+		ClientHttpRequestFactory factory = this.interceptingRequestFactory;
+		if (factory == null) {
+			factory = new InterceptingClientHttpRequestFactory(this.clientRequestFactory, this.interceptors);
+			this.interceptingRequestFactory = factory;
+		}
+		return factory;
+	}
+
+	@Nullable
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private <T> T readWithMessageConverters(ClientHttpResponse clientResponse, Type bodyType) {
+		try {
+			return (T) new HttpMessageConverterExtractor(bodyType, this.messageConverters, logger)
+					.extractData(clientResponse);
+		}
+		catch (IOException ex) {
+			throw new RestClientException("Error while extracting response for type [" + bodyType + "]", ex);
+		}
+	}
+
+	private static ResourceAccessException createResourceAccessException(URI url, HttpMethod method, IOException ex) {
+		String resource = url.toString();
+		resource = (url.getRawQuery() != null ? resource.substring(0, resource.indexOf('?')) : resource);
+		return new ResourceAccessException("I/O error on " + method.name() +
+				" request for \"" + resource + "\": " + ex.getMessage(), ex);
+	}
+
+
+	private class DefaultRequestBodyUriSpec implements RequestBodyUriSpec {
+
+		private final HttpMethod httpMethod;
+
+		@Nullable
+		private URI uri;
+
+		@Nullable
+		private String uriTemplate;
+
+		@Nullable
+		private HttpHeaders headers;
+
+		@Nullable
+		private InternalBody body;
+
+		@Nullable
+		private List<ClientHttpRequestInterceptor> requestInterceptors;
+
+		@Nullable
+		private Consumer<ClientHttpRequest> httpRequestConsumer;
+
+		public DefaultRequestBodyUriSpec(HttpMethod httpMethod) {
+			this.httpMethod = httpMethod;
+		}
+
+		@Override
+		public RequestBodySpec uri(String uriTemplate, Object... uriVariables) {
+			this.uriTemplate = uriTemplate;
+			return uri(DefaultRestClient.this.uriBuilderFactory.expand(uriTemplate, uriVariables));
+		}
+
+		@Override
+		public RequestBodySpec uri(String uriTemplate, Map<String, ?> uriVariables) {
+			this.uriTemplate = uriTemplate;
+			return uri(DefaultRestClient.this.uriBuilderFactory.expand(uriTemplate, uriVariables));
+		}
+
+		@Override
+		public RequestBodySpec uri(String uriTemplate, Function<UriBuilder, URI> uriFunction) {
+			this.uriTemplate = uriTemplate;
+			return uri(uriFunction.apply(DefaultRestClient.this.uriBuilderFactory.uriString(uriTemplate)));
+		}
+
+		@Override
+		public RequestBodySpec uri(Function<UriBuilder, URI> uriFunction) {
+			return uri(uriFunction.apply(DefaultRestClient.this.uriBuilderFactory.builder()));
+		}
+
+		@Override
+		public RequestBodySpec uri(URI uri) {
+			this.uri = uri;
+			return this;
+		}
+
+		private HttpHeaders getHeaders() {
+			if (this.headers == null) {
+				this.headers = new HttpHeaders();
+			}
+			return this.headers;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec header(String headerName, String... headerValues) {
+			for (String headerValue : headerValues) {
+				getHeaders().add(headerName, headerValue);
+			}
+			return this;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec headers(Consumer<HttpHeaders> headersConsumer) {
+			headersConsumer.accept(getHeaders());
+			return this;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec accept(MediaType... acceptableMediaTypes) {
+			getHeaders().setAccept(Arrays.asList(acceptableMediaTypes));
+			return this;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec acceptCharset(Charset... acceptableCharsets) {
+			getHeaders().setAcceptCharset(Arrays.asList(acceptableCharsets));
+			return this;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec contentType(MediaType contentType) {
+			getHeaders().setContentType(contentType);
+			return this;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec contentLength(long contentLength) {
+			getHeaders().setContentLength(contentLength);
+			return this;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec ifModifiedSince(ZonedDateTime ifModifiedSince) {
+			getHeaders().setIfModifiedSince(ifModifiedSince);
+			return this;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec ifNoneMatch(String... ifNoneMatches) {
+			getHeaders().setIfNoneMatch(Arrays.asList(ifNoneMatches));
+			return this;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec interceptor(ClientHttpRequestInterceptor interceptor) {
+			Assert.notNull(interceptor, "ClientHttpRequestInterceptor must not be null");
+			if (this.requestInterceptors == null) {
+				this.requestInterceptors = new ArrayList<>(2);
+			}
+			this.requestInterceptors.add(interceptor);
+			return this;
+		}
+
+		@Override
+		public DefaultRequestBodyUriSpec httpRequest(Consumer<ClientHttpRequest> requestConsumer) {
+			this.httpRequestConsumer = (this.httpRequestConsumer != null ?
+					this.httpRequestConsumer.andThen(requestConsumer) : requestConsumer);
+			return this;
+		}
+
+		@Override
+		public RequestBodySpec body(Object body) {
+			this.body = clientHttpRequest -> writeWithMessageConverters(body, body.getClass(), clientHttpRequest);
+			return this;
+		}
+
+		@Override
+		public <T> RequestBodySpec body(T body, ParameterizedTypeReference<T> bodyType) {
+			this.body = clientHttpRequest -> writeWithMessageConverters(body, bodyType.getType(), clientHttpRequest);
+			return this;
+		}
+
+		@Override
+		public RequestBodySpec body(StreamingHttpOutputMessage.Body body) {
+			this.body = request -> {
+				if (request instanceof StreamingHttpOutputMessage streamingMessage) {
+					streamingMessage.setBody(body);
+				}
+				else {
+					body.writeTo(request.getBody());
+				}
+			};
+			return this;
+		}
+
+		@SuppressWarnings({"rawtypes", "unchecked"})
+		private void writeWithMessageConverters(Object body, Type bodyType, ClientHttpRequest clientRequest)
+				throws IOException {
+
+			MediaType contentType = clientRequest.getHeaders().getContentType();
+			Class<?> bodyClass = body.getClass();
+
+			for (HttpMessageConverter messageConverter : DefaultRestClient.this.messageConverters) {
+				if (messageConverter instanceof GenericHttpMessageConverter genericMessageConverter) {
+					if (genericMessageConverter.canWrite(bodyType, bodyClass, contentType)) {
+						logBody(body, contentType, genericMessageConverter);
+						genericMessageConverter.write(body, bodyType, contentType, clientRequest);
+						return;
+					}
+				}
+				if (messageConverter.canWrite(bodyClass, contentType)) {
+					logBody(body, contentType, messageConverter);
+					messageConverter.write(body, contentType, clientRequest);
+					return;
+				}
+			}
+
+			String message = "No HttpMessageConverter for " + bodyClass.getName();
+			if (contentType != null) {
+				message += " and content type \"" + contentType + "\"";
+			}
+			throw new RestClientException(message);
+		}
+
+		private void logBody(Object body, @Nullable MediaType mediaType, HttpMessageConverter<?> converter) {
+			if (logger.isDebugEnabled()) {
+				StringBuilder msg = new StringBuilder("Writing [");
+				msg.append(body);
+				msg.append("] ");
+				if (mediaType != null) {
+					msg.append("as \"");
+					msg.append(mediaType);
+					msg.append("\" ");
+				}
+				msg.append("with ");
+				msg.append(converter.getClass().getName());
+				logger.debug(msg.toString());
+			}
+		}
+
+		@Override
+		public ResponseSpec retrieve() {
+			return new DefaultResponseSpec(this);
+		}
+
+		@Override
+		@Nullable
+		public <T> T exchange(ExchangeFunction<T> exchangeFunction, boolean close) {
+			return exchangeInternal(exchangeFunction, close);
+		}
+
+		@Nullable
+		private <T> T exchangeInternal(ExchangeFunction<T> exchangeFunction, boolean close) {
+			Assert.notNull(exchangeFunction, "ExchangeFunction must not be null");
+
+			URI uri = initUri();
+			HttpHeaders headers = initHeaders();
+			ClientHttpResponse clientResponse = null;
+			Observation observation = null;
+			try {
+				ClientHttpRequest clientRequest = createRequest(uri);
+				clientRequest.getHeaders().addAll(headers);
+				ClientRequestObservationContext observationContext = new ClientRequestObservationContext(clientRequest);
+				observationContext.setUriTemplate(this.uriTemplate);
+				observation = ClientHttpObservationDocumentation.HTTP_CLIENT_EXCHANGES.observation(
+						DefaultRestClient.this.observationConvention, DEFAULT_OBSERVATION_CONVENTION,
+						() -> observationContext, DefaultRestClient.this.observationRegistry).start();
+				if (this.httpRequestConsumer != null) {
+					this.httpRequestConsumer.accept(clientRequest);
+				}
+				if (this.body != null) {
+					this.body.writeTo(clientRequest);
+				}
+				clientResponse = clientRequest.execute();
+				observationContext.setResponse(clientResponse);
+				ConvertibleClientHttpResponse convertibleWrapper = new DefaultConvertibleClientHttpResponse(clientResponse);
+				return exchangeFunction.exchange(clientRequest, convertibleWrapper);
+			}
+			catch (IOException ex) {
+				ResourceAccessException resourceAccessException = createResourceAccessException(uri, this.httpMethod, ex);
+				if (observation != null) {
+					observation.error(resourceAccessException);
+				}
+				throw resourceAccessException;
+			}
+			catch (Throwable error) {
+				if (observation != null) {
+					observation.error(error);
+				}
+				throw error;
+			}
+			finally {
+				if (close && clientResponse != null) {
+					clientResponse.close();
+				}
+				if (observation != null) {
+					observation.stop();
+				}
+			}
+		}
+
+		private URI initUri() {
+			return (this.uri != null ? this.uri : DefaultRestClient.this.uriBuilderFactory.expand(""));
+		}
+
+		private HttpHeaders initHeaders() {
+			HttpHeaders defaultHeaders = DefaultRestClient.this.defaultHeaders;
+			if (CollectionUtils.isEmpty(this.headers)) {
+				return (defaultHeaders != null ? defaultHeaders : new HttpHeaders());
+			}
+			else if (CollectionUtils.isEmpty(defaultHeaders)) {
+				return this.headers;
+			}
+			else {
+				HttpHeaders result = new HttpHeaders();
+				result.putAll(defaultHeaders);
+				result.putAll(this.headers);
+				return result;
+			}
+		}
+
+		private ClientHttpRequest createRequest(URI uri) throws IOException {
+			ClientHttpRequestFactory factory = getRequestFactory();
+			if (this.requestInterceptors != null) {
+				// Per-request interceptors: applied after the client-level ones
+				factory = new InterceptingClientHttpRequestFactory(factory, this.requestInterceptors);
+			}
+			ClientHttpRequest request = factory.createRequest(uri, this.httpMethod);
+			if (DefaultRestClient.this.initializers != null) {
+				DefaultRestClient.this.initializers.forEach(initializer -> initializer.initialize(request));
+			}
+			return request;
+		}
+	}
+
+
+	private class DefaultResponseSpec implements ResponseSpec {
+
+		private final DefaultRequestBodyUriSpec requestSpec;
+
+		@Nullable
+		private List<StatusHandler> statusHandlers;
+
+		DefaultResponseSpec(DefaultRequestBodyUriSpec requestSpec) {
+			this.requestSpec = requestSpec;
+		}
+
+		@Override
+		public ResponseSpec onStatus(Predicate<HttpStatusCode> statusPredicate, ErrorHandler errorHandler) {
+			Assert.notNull(statusPredicate, "StatusPredicate must not be null");
+			Assert.notNull(errorHandler, "ErrorHandler must not be null");
+			return onStatusInternal(StatusHandler.of(statusPredicate, errorHandler));
+		}
+
+		@Override
+		public ResponseSpec onStatus(ResponseErrorHandler errorHandler) {
+			Assert.notNull(errorHandler, "ResponseErrorHandler must not be null");
+			return onStatusInternal(StatusHandler.fromErrorHandler(errorHandler));
+		}
+
+		private ResponseSpec onStatusInternal(StatusHandler statusHandler) {
+			if (this.statusHandlers == null) {
+				this.statusHandlers = new ArrayList<>(2);
+			}
+			this.statusHandlers.add(statusHandler);
+			return this;
+		}
+
+		@Override
+		@Nullable
+		public <T> T body(Class<T> bodyType) {
+			return readBody(bodyType);
+		}
+
+		@Override
+		@Nullable
+		public <T> T body(ParameterizedTypeReference<T> bodyType) {
+			return readBody(bodyType.getType());
+		}
+
+		@Override
+		public <T> ResponseEntity<T> toEntity(Class<T> bodyType) {
+			return toEntityInternal(bodyType);
+		}
+
+		@Override
+		public <T> ResponseEntity<T> toEntity(ParameterizedTypeReference<T> bodyType) {
+			return toEntityInternal(bodyType.getType());
+		}
+
+		@Override
+		public ResponseEntity<Void> toBodilessEntity() {
+			ResponseEntity<Void> entity = this.requestSpec.exchangeInternal((request, response) -> {
+				applyStatusHandlers(request, response);
+				return ResponseEntity.status(response.getStatusCode())
+						.headers(response.getHeaders())
+						.build();
+			}, true);
+			Assert.state(entity != null, "No ResponseEntity");
+			return entity;
+		}
+
+		@Nullable
+		private <T> T readBody(Type bodyType) {
+			return this.requestSpec.exchangeInternal((request, response) -> {
+				applyStatusHandlers(request, response);
+				return readWithMessageConverters(response, bodyType);
+			}, true);
+		}
+
+		private <T> ResponseEntity<T> toEntityInternal(Type bodyType) {
+			ResponseEntity<T> entity = this.requestSpec.exchangeInternal((request, response) -> {
+				applyStatusHandlers(request, response);
+				T body = readWithMessageConverters(response, bodyType);
+				return ResponseEntity.status(response.getStatusCode())
+						.headers(response.getHeaders())
+						.body(body);
+			}, true);
+			Assert.state(entity != null, "No ResponseEntity");
+			return entity;
+		}
+
+		/**
+		 * Apply the first matching status handler, consulting handlers
+		 * registered for this response, then the client's default handlers,
+		 * and finally the {@link StatusHandler#defaultHandler default} one.
+		 */
+		private void applyStatusHandlers(HttpRequest request, ClientHttpResponse response) throws IOException {
+			if (this.statusHandlers != null && applyFirstMatching(this.statusHandlers, request, response)) {
+				return;
+			}
+			if (applyFirstMatching(DefaultRestClient.this.defaultStatusHandlers, request, response)) {
+				return;
+			}
+			StatusHandler defaultStatusHandler = DefaultRestClient.this.defaultStatusHandler;
+			if (defaultStatusHandler.test(response)) {
+				defaultStatusHandler.handle(request, response);
+			}
+		}
+
+		private static boolean applyFirstMatching(List<StatusHandler> statusHandlers, HttpRequest request,
+				ClientHttpResponse response) throws IOException {
+
+			for (StatusHandler statusHandler : statusHandlers) {
+				if (statusHandler.test(response)) {
+					statusHandler.handle(request, response);
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+
+	private class DefaultConvertibleClientHttpResponse extends ClientHttpResponseDecorator
+			implements RequestHeadersSpec.ConvertibleClientHttpResponse {
+
+		public DefaultConvertibleClientHttpResponse(ClientHttpResponse delegate) {
+			super(delegate);
+		}
+
+		@Override
+		@Nullable
+		public <T> T bodyTo(Class<T> bodyType) {
+			return readWithMessageConverters(getDelegate(), bodyType);
+		}
+
+		@Override
+		@Nullable
+		public <T> T bodyTo(ParameterizedTypeReference<T> bodyType) {
+			return readWithMessageConverters(getDelegate(), bodyType.getType());
+		}
+	}
+
+
+	@FunctionalInterface
+	private interface InternalBody {
+
+		void writeTo(ClientHttpRequest request) throws IOException;
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.client;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.Assert;
+
+/**
+ * Used by {@link DefaultRestClient} and {@link DefaultRestClientBuilder}
+ * to hold a predicate and an error handler, forming an ordered chain of
+ * status handlers that is consulted after each exchange.
+ *
+ * @author agent
+ * @since 6.1
+ */
+final class StatusHandler {
+
+	private final ResponsePredicate predicate;
+
+	private final RestClient.ResponseSpec.ErrorHandler errorHandler;
+
+
+	private StatusHandler(ResponsePredicate predicate, RestClient.ResponseSpec.ErrorHandler errorHandler) {
+		this.predicate = predicate;
+		this.errorHandler = errorHandler;
+	}
+
+
+	/**
+	 * Create a {@code StatusHandler} that applies the given error handler
+	 * to responses whose status code matches the given predicate.
+	 */
+	public static StatusHandler of(Predicate<HttpStatusCode> predicate,
+			RestClient.ResponseSpec.ErrorHandler errorHandler) {
+
+		Assert.notNull(predicate, "Predicate must not be null");
+		Assert.notNull(errorHandler, "ErrorHandler must not be null");
+
+		return new StatusHandler(response -> predicate.test(response.getStatusCode()), errorHandler);
+	}
+
+	/**
+	 * Create a {@code StatusHandler} that adapts the given {@link ResponseErrorHandler}.
+	 */
+	public static StatusHandler fromErrorHandler(ResponseErrorHandler errorHandler) {
+		Assert.notNull(errorHandler, "ResponseErrorHandler must not be null");
+
+		return new StatusHandler(errorHandler::hasError,
+				(request, response) -> errorHandler.handleError(request.getURI(), request.getMethod(), response));
+	}
+
+	/**
+	 * Create the fallback {@code StatusHandler} that raises a
+	 * {@link RestClientResponseException} for 4xx and 5xx responses,
+	 * as the {@link DefaultResponseErrorHandler} does for {@link RestTemplate}.
+	 */
+	public static StatusHandler defaultHandler(List<HttpMessageConverter<?>> messageConverters) {
+		DefaultResponseErrorHandler errorHandler = new DefaultResponseErrorHandler();
+		errorHandler.setMessageConverters(messageConverters);
+		return fromErrorHandler(errorHandler);
+	}
+
+
+	/**
+	 * Test whether this handler applies to the given response.
+	 */
+	public boolean test(ClientHttpResponse response) throws IOException {
+		return this.predicate.test(response);
+	}
+
+	/**
+	 * Handle the given response.
+	 */
+	public void handle(HttpRequest request, ClientHttpResponse response) throws IOException {
+		this.errorHandler.handle(request, response);
+	}
+
+
+	@FunctionalInterface
+	private interface ResponsePredicate {
+
+		boolean test(ClientHttpResponse response) throws IOException;
+	}
+
+}
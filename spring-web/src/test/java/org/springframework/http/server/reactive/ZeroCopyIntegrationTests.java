@@ -30,11 +30,8 @@ import org.springframework.http.ZeroCopyHttpOutputMessage;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.testfixture.http.server.reactive.bootstrap.AbstractHttpHandlerIntegrationTests;
 import org.springframework.web.testfixture.http.server.reactive.bootstrap.HttpServer;
-import org.springframework.web.testfixture.http.server.reactive.bootstrap.ReactorHttpServer;
-import org.springframework.web.testfixture.http.server.reactive.bootstrap.UndertowHttpServer;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * @author Arjen Poutsma
@@ -43,6 +40,10 @@ class ZeroCopyIntegrationTests extends AbstractHttpHandlerIntegrationTests {
 
 	private static final Resource springLogoResource = new ClassPathResource("/org/springframework/web/spring.png");
 
+	private static final int REGION_POSITION = 100;
+
+	private static final int REGION_COUNT = 500;
+
 	private final ZeroCopyHandler handler = new ZeroCopyHandler();
 
 
@@ -54,9 +55,6 @@ class ZeroCopyIntegrationTests extends AbstractHttpHandlerIntegrationTests {
 
 	@ParameterizedHttpServerTest
 	void zeroCopy(HttpServer httpServer) throws Exception {
-		assumeTrue(httpServer instanceof ReactorHttpServer || httpServer instanceof UndertowHttpServer,
-			"Zero-copy does not support Servlet");
-
 		startServer(httpServer);
 
 		URI url = URI.create("http://localhost:" + port);
@@ -70,6 +68,21 @@ class ZeroCopyIntegrationTests extends AbstractHttpHandlerIntegrationTests {
 		assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_PNG);
 	}
 
+	@ParameterizedHttpServerTest
+	void zeroCopyRegion(HttpServer httpServer) throws Exception {
+		startServer(httpServer);
+
+		URI url = URI.create("http://localhost:" + port + "/region");
+		RequestEntity<?> request = RequestEntity.get(url).build();
+		@SuppressWarnings("resource")
+		ResponseEntity<byte[]> response = new RestTemplate().exchange(request, byte[].class);
+
+		byte[] expected = new byte[REGION_COUNT];
+		System.arraycopy(springLogoResource.getContentAsByteArray(), REGION_POSITION, expected, 0, REGION_COUNT);
+		assertThat(response.getHeaders().getContentLength()).isEqualTo(REGION_COUNT);
+		assertThat(response.getBody()).isEqualTo(expected);
+	}
+
 
 	private static class ZeroCopyHandler implements HttpHandler {
 
@@ -78,6 +91,10 @@ class ZeroCopyIntegrationTests extends AbstractHttpHandlerIntegrationTests {
 			try {
 				ZeroCopyHttpOutputMessage zeroCopyResponse = (ZeroCopyHttpOutputMessage) response;
 				File logoFile = springLogoResource.getFile();
+				if (request.getPath().value().equals("/region")) {
+					zeroCopyResponse.getHeaders().setContentLength(REGION_COUNT);
+					return zeroCopyResponse.writeWith(logoFile, REGION_POSITION, REGION_COUNT);
+				}
 				zeroCopyResponse.getHeaders().setContentType(MediaType.IMAGE_PNG);
 				zeroCopyResponse.getHeaders().setContentLength(logoFile.length());
 				return zeroCopyResponse.writeWith(logoFile, 0, logoFile.length());
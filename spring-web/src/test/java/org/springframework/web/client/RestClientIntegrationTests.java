@@ -0,0 +1,224 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.client;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Named.named;
+
+/**
+ * Integration tests for {@link RestClient}.
+ *
+ * @author agent
+ */
+class RestClientIntegrationTests extends AbstractMockWebServerTests {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.METHOD)
+	@ParameterizedTest(name = "[{index}] {0}")
+	@MethodSource("clientHttpRequestFactories")
+	@interface ParameterizedRestClientTest {
+	}
+
+	static Stream<Named<ClientHttpRequestFactory>> clientHttpRequestFactories() {
+		return Stream.of(
+			named("JDK HttpURLConnection", new SimpleClientHttpRequestFactory()),
+			named("JDK HttpClient", new JdkClientHttpRequestFactory()),
+			named("HttpComponents", new HttpComponentsClientHttpRequestFactory())
+		);
+	}
+
+
+	private RestClient restClient;
+
+
+	private void setUpClient(ClientHttpRequestFactory requestFactory) {
+		this.restClient = RestClient.builder()
+				.baseUrl(this.baseUrl)
+				.requestFactory(requestFactory)
+				.build();
+	}
+
+
+	@ParameterizedRestClientTest
+	void retrieveBody(ClientHttpRequestFactory requestFactory) {
+		setUpClient(requestFactory);
+
+		String body = this.restClient.get().uri("/get").retrieve().body(String.class);
+
+		assertThat(body).isEqualTo(helloWorld);
+	}
+
+	@ParameterizedRestClientTest
+	void retrieveEntity(ClientHttpRequestFactory requestFactory) {
+		setUpClient(requestFactory);
+
+		ResponseEntity<String> entity = this.restClient.get().uri("/get").retrieve().toEntity(String.class);
+
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(entity.getHeaders().getContentType()).isEqualTo(textContentType);
+		assertThat(entity.getBody()).isEqualTo(helloWorld);
+	}
+
+	@ParameterizedRestClientTest
+	void retrieveNoBody(ClientHttpRequestFactory requestFactory) {
+		setUpClient(requestFactory);
+
+		String body = this.restClient.get().uri("/get/nothing").retrieve().body(String.class);
+
+		assertThat(body).isNull();
+	}
+
+	@ParameterizedRestClientTest
+	void retrieveWithUriVariable(ClientHttpRequestFactory requestFactory) {
+		setUpClient(requestFactory);
+
+		String body = this.restClient.get().uri("/uri/{name}", "foo").retrieve().body(String.class);
+
+		assertThat(body).isEqualTo("/uri/foo");
+	}
+
+	@ParameterizedRestClientTest
+	void postObject(ClientHttpRequestFactory requestFactory) {
+		setUpClient(requestFactory);
+
+		ResponseEntity<String> entity = this.restClient.post().uri("/post")
+				.contentType(textContentType)
+				.body(helloWorld)
+				.retrieve()
+				.toEntity(String.class);
+
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(entity.getHeaders().getLocation()).hasToString(this.baseUrl + "/post/1");
+		assertThat(entity.getBody()).isEqualTo(helloWorld);
+	}
+
+	@ParameterizedRestClientTest
+	void postStreamingBody(ClientHttpRequestFactory requestFactory) {
+		setUpClient(requestFactory);
+		byte[] bytes = helloWorld.getBytes(StandardCharsets.UTF_8);
+
+		ResponseEntity<Void> entity = this.restClient.post().uri("/post")
+				.contentType(textContentType)
+				.contentLength(bytes.length)
+				.body(outputStream -> outputStream.write(bytes))
+				.retrieve()
+				.toBodilessEntity();
+
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(entity.getHeaders().getLocation()).hasToString(this.baseUrl + "/post/1");
+	}
+
+	@ParameterizedRestClientTest
+	void exchangeStreamingResponse(ClientHttpRequestFactory requestFactory) {
+		setUpClient(requestFactory);
+
+		String body = this.restClient.get().uri("/get")
+				.exchange((request, response) -> StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+
+		assertThat(body).isEqualTo(helloWorld);
+	}
+
+	@ParameterizedRestClientTest
+	void defaultStatusHandling(ClientHttpRequestFactory requestFactory) {
+		setUpClient(requestFactory);
+
+		assertThatExceptionOfType(HttpClientErrorException.NotFound.class).isThrownBy(() ->
+				this.restClient.get().uri("/status/notfound").retrieve().toBodilessEntity());
+		assertThatExceptionOfType(HttpServerErrorException.InternalServerError.class).isThrownBy(() ->
+				this.restClient.get().uri("/status/server").retrieve().toBodilessEntity());
+	}
+
+	@ParameterizedRestClientTest
+	void statusHandlerChain(ClientHttpRequestFactory requestFactory) {
+		this.restClient = RestClient.builder()
+				.baseUrl(this.baseUrl)
+				.requestFactory(requestFactory)
+				.defaultStatusHandler(HttpStatusCode::is4xxClientError, (request, response) -> {
+					throw new IllegalStateException("Client error");
+				})
+				.build();
+
+		assertThatIllegalStateException().isThrownBy(() ->
+				this.restClient.get().uri("/status/badrequest").retrieve().toBodilessEntity())
+				.withMessage("Client error");
+
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				this.restClient.get().uri("/status/badrequest").retrieve()
+						.onStatus(HttpStatus.BAD_REQUEST::equals, (request, response) -> {
+							throw new IllegalArgumentException("Bad request");
+						})
+						.toBodilessEntity())
+				.withMessage("Bad request");
+
+		ResponseEntity<Void> entity = this.restClient.get().uri("/status/notfound").retrieve()
+				.onStatus(HttpStatus.NOT_FOUND::equals, (request, response) -> {})
+				.toBodilessEntity();
+		assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+	}
+
+	@ParameterizedRestClientTest
+	void requestInterceptors(ClientHttpRequestFactory requestFactory) {
+		AtomicInteger clientCount = new AtomicInteger();
+		AtomicInteger requestCount = new AtomicInteger();
+		this.restClient = RestClient.builder()
+				.baseUrl(this.baseUrl)
+				.requestFactory(requestFactory)
+				.requestInterceptor((request, body, execution) -> {
+					clientCount.incrementAndGet();
+					return execution.execute(request, body);
+				})
+				.build();
+
+		String body = this.restClient.get().uri("/get")
+				.interceptor((request, bytes, execution) -> {
+					requestCount.incrementAndGet();
+					return execution.execute(request, bytes);
+				})
+				.retrieve()
+				.body(String.class);
+		this.restClient.get().uri("/get").retrieve().toBodilessEntity();
+
+		assertThat(body).isEqualTo(helloWorld);
+		assertThat(clientCount).hasValue(2);
+		assertThat(requestCount).hasValue(1);
+	}
+
+}